@@ -41,6 +41,7 @@ import org.apache.commons.configuration2.event.BaseEventSource;
 import org.apache.commons.configuration2.event.ConfigurationErrorEvent;
 import org.apache.commons.configuration2.event.ConfigurationEvent;
 import org.apache.commons.configuration2.event.EventListener;
+import org.apache.commons.configuration2.event.EventType;
 import org.apache.commons.configuration2.ex.ConversionException;
 import org.apache.commons.configuration2.interpol.ConfigurationInterpolator;
 import org.apache.commons.configuration2.interpol.InterpolatorSpecification;
@@ -595,6 +596,23 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
         return findConfigurationLookup(ci, this);
     }
 
+    /**
+     * {@inheritDoc} This implementation notifies the {@code ConfigurationInterpolator} about changes of properties, so that
+     * cached interpolation results depending on the affected property are discarded. If a {@code DefaultConversionHandler}
+     * with an enabled cache is used, its cache is cleared as well.
+     */
+    @Override
+    protected <T extends ConfigurationEvent> void fireEvent(final EventType<T> type, final String propName, final Object propValue, final boolean before) {
+        if (!before) {
+            invalidateInterpolationCache(propName);
+            final ConversionHandler handler = getConversionHandler();
+            if (handler instanceof DefaultConversionHandler && ((DefaultConversionHandler) handler).isCacheEnabled()) {
+                ((DefaultConversionHandler) handler).clearCache();
+            }
+        }
+        super.fireEvent(type, propName, propValue, before);
+    }
+
     @Override
     public <T> T get(final Class<T> cls, final String key) {
         return convert(cls, key, null, true);
@@ -1162,6 +1180,23 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
         this.log = log != null ? log : ConfigurationLogger.newDummyLogger();
     }
 
+    /**
+     * Notifies the {@code ConfigurationInterpolator} of this configuration that the property with the given key has been
+     * changed, so that cached interpolation results depending on this property are discarded. A <strong>null</strong> key
+     * discards all cached results. This method is called for all change events and when a write lock obtained via
+     * {@link #lock(LockMode)} is released. Derived classes whose keys cannot be compared literally with variable names can
+     * override it to discard all cached results.
+     *
+     * @param key The key of the changed property (can be <strong>null</strong>)
+     * @since 2.16.0
+     */
+    protected void invalidateInterpolationCache(final String key) {
+        final ConfigurationInterpolator ci = getInterpolator();
+        if (ci != null && ci.isCacheEnabled()) {
+            ci.invalidateCache(key);
+        }
+    }
+
     /**
      * Creates a default {@code ConfigurationInterpolator} which is initialized with all default {@code Lookup} objects.
      * This method is called by the constructor. It ensures that default interpolation works for every new configuration
@@ -1560,7 +1595,9 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
     /**
      * {@inheritDoc} This implementation delegates to {@code endRead()} or {@code endWrite()}, depending on the
      * {@code LockMode} argument. Subclasses can override these protected methods to perform additional steps when a
-     * configuration's lock is released.
+     * configuration's lock is released. While an explicit write lock is held, the content of this configuration can be
+     * changed without firing events, for instance when data is loaded from a file; therefore, all cached interpolation
+     * results are discarded when a write lock is released.
      *
      * @throws NullPointerException if the argument is <strong>null</strong>.
      */
@@ -1571,6 +1608,7 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
             endRead();
             break;
         case WRITE:
+            invalidateInterpolationCache(null);
             endWrite();
             break;
         default:
@@ -17,25 +17,34 @@
 
 package org.apache.commons.configuration2;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.configuration2.event.ConfigurationEvent;
+import org.apache.commons.configuration2.event.EventType;
 import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
 import org.apache.commons.configuration2.sync.NoOpSynchronizer;
 import org.apache.commons.configuration2.tree.ConfigurationNodeVisitorAdapter;
 import org.apache.commons.configuration2.tree.DefaultExpressionEngine;
 import org.apache.commons.configuration2.tree.ExpressionEngine;
+import org.apache.commons.configuration2.tree.ImmutableNode;
 import org.apache.commons.configuration2.tree.NodeAddData;
 import org.apache.commons.configuration2.tree.NodeHandler;
 import org.apache.commons.configuration2.tree.NodeKeyResolver;
@@ -147,6 +156,14 @@ import org.apache.commons.configuration2.tree.QueryResult;
  * Direct manipulations of a configuration's node structure circumvent many internal mechanisms and thus can cause
  * undesired effects. For concrete subclasses dealing with specific node structures, this situation may be different.
  * </p>
+ * <p>
+ * Determining the keys of a hierarchical configuration requires a traversal of its node structure. For structures of
+ * {@link ImmutableNode} objects, {@code getKeys()} returns an iterator which traverses the nodes on demand; so the keys
+ * do not have to be collected before the first one is returned. Applications which query the keys frequently can enable
+ * a key index using {@link #setKeyIndexEnabled(boolean)}. The index stores all keys of the current node structure and
+ * the results of {@code getKeys(String)} for the prefixes passed to this method. It is discarded when the node structure
+ * changes.
+ * </p>
  *
  * @param <T> The type of the nodes managed by this hierarchical configuration
  * @since 2.0
@@ -154,6 +171,115 @@ import org.apache.commons.configuration2.tree.QueryResult;
 public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfiguration
     implements Cloneable, NodeKeyResolver<T>, HierarchicalConfiguration<T> {
 
+    /**
+     * An iterator over the keys defined in a node hierarchy. The keys are the same and have the same order as the ones
+     * collected by a {@link DefinedKeysVisitor}; however, the nodes are traversed on demand while iterating.
+     *
+     * @param <T> The type of the nodes
+     */
+    private static final class DefinedKeysIterator<T> implements Iterator<String> {
+
+        /** The node handler. */
+        private final NodeHandler<T> handler;
+
+        /** The expression engine for generating keys. */
+        private final ExpressionEngine engine;
+
+        /** A stack with iterators over the children of the nodes on the current path. */
+        private final Deque<Iterator<T>> childIterators;
+
+        /** A stack with the keys of the nodes on the current path. */
+        private final Deque<String> parentKeys;
+
+        /** The keys of the current node which have not yet been returned. */
+        private final Deque<String> pendingKeys;
+
+        /** The keys returned so far; used to skip duplicates. */
+        private final Set<String> returnedKeys;
+
+        /** The next key to be returned; <strong>null</strong> at the end of the iteration. */
+        private String nextKey;
+
+        /**
+         * Creates a new instance of {@code DefinedKeysIterator} for the given root node.
+         *
+         * @param root The root node
+         * @param handler The node handler
+         * @param engine The expression engine
+         */
+        DefinedKeysIterator(final T root, final NodeHandler<T> handler, final ExpressionEngine engine) {
+            this.handler = handler;
+            this.engine = engine;
+            childIterators = new ArrayDeque<>();
+            parentKeys = new ArrayDeque<>();
+            pendingKeys = new ArrayDeque<>();
+            returnedKeys = new HashSet<>();
+            visit(root, null);
+            nextKey = fetchNextKey();
+        }
+
+        /**
+         * Traverses the nodes until the next key is found which has not been returned before.
+         *
+         * @return The next key or <strong>null</strong> if there are no more keys
+         */
+        private String fetchNextKey() {
+            for (;;) {
+                while (!pendingKeys.isEmpty()) {
+                    final String key = pendingKeys.poll();
+                    if (returnedKeys.add(key)) {
+                        return key;
+                    }
+                }
+                final Iterator<T> children = childIterators.peek();
+                if (children == null) {
+                    return null;
+                }
+                if (children.hasNext()) {
+                    visit(children.next(), parentKeys.peek());
+                } else {
+                    childIterators.pop();
+                    parentKeys.pop();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextKey != null;
+        }
+
+        @Override
+        public String next() {
+            if (nextKey == null) {
+                throw new NoSuchElementException();
+            }
+            final String key = nextKey;
+            nextKey = fetchNextKey();
+            return key;
+        }
+
+        /**
+         * Visits a node. The keys of the node and its attributes are recorded, and the iteration over its children is
+         * prepared.
+         *
+         * @param node The node
+         * @param parentKey The key of the parent node
+         */
+        private void visit(final T node, final String parentKey) {
+            final String key = engine.nodeKey(node, parentKey, handler);
+            if (handler.getValue(node) != null) {
+                pendingKeys.add(key);
+            }
+            handler.getAttributes(node).forEach(attr -> pendingKeys.add(engine.attributeKey(key, attr)));
+            final List<T> children = handler.getChildren(node);
+            if (!children.isEmpty()) {
+                childIterators.push(children.iterator());
+                parentKeys.push(key);
+            }
+        }
+    }
+
     /**
      * A specialized visitor that fills a list with keys that are defined in a node hierarchy.
      */
@@ -267,12 +393,59 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
         }
     }
 
+    /**
+     * A class storing the keys defined for a specific root node.
+     */
+    private static final class KeyIndex {
+
+        /** The root node for which the keys were determined. */
+        private final Object root;
+
+        /** The expression engine used for generating the keys. */
+        private final ExpressionEngine engine;
+
+        /** All keys in the order returned by {@code getKeys()}. */
+        private final String[] keys;
+
+        /** The keys returned by {@code getKeys(String)} for the prefixes queried so far. */
+        private final Map<String, String[]> prefixKeys;
+
+        /**
+         * Creates a new instance of {@code KeyIndex}.
+         *
+         * @param root The root node
+         * @param engine The expression engine
+         * @param keys The keys defined for this root node
+         */
+        KeyIndex(final Object root, final ExpressionEngine engine, final Collection<String> keys) {
+            this.root = root;
+            this.engine = engine;
+            this.keys = keys.toArray(new String[0]);
+            prefixKeys = new ConcurrentHashMap<>();
+        }
+    }
+
+    /** The maximum number of prefixes whose keys are stored in the key index. */
+    private static final int MAX_INDEXED_PREFIXES = 1024;
+
     /** The model for managing the data stored in this configuration. */
     private NodeModel<T> nodeModel;
 
     /** Stores the expression engine for this instance. */
     private ExpressionEngine expressionEngine;
 
+    /**
+     * The model receiving the updates of the batch executed by the current thread; the model is <strong>null</strong> if
+     * the current thread does not run a batch.
+     */
+    private ThreadLocal<NodeModel<T>> batchModel = new ThreadLocal<>();
+
+    /** A flag whether the key index is enabled. */
+    private volatile boolean keyIndexEnabled;
+
+    /** The current key index; it may be outdated. */
+    private volatile KeyIndex keyIndex;
+
     /**
      * Creates a new instance of {@code AbstractHierarchicalConfiguration} and sets the {@code NodeModel} to be used.
      *
@@ -315,7 +488,7 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
      * @since 2.0
      */
     protected void addNodesInternal(final String key, final Collection<? extends T> nodes) {
-        getModel().addNodes(key, nodes, this);
+        getUpdateModel().addNodes(key, nodes, this);
     }
 
     /**
@@ -348,7 +521,47 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
      * @param values The values to be added for this property
      */
     private void addPropertyToModel(final String key, final Iterable<?> values) {
-        getModel().addProperty(key, values, this);
+        getUpdateModel().addProperty(key, values, this);
+    }
+
+    /**
+     * Performs multiple updates as a batch. The passed in action is invoked with this configuration. All updates it
+     * performs, i.e. adding, setting, or clearing properties and nodes, are passed to the node model as a unit using
+     * {@link NodeModel#updateBatch(Consumer)}. For an {@link org.apache.commons.configuration2.tree.InMemoryNodeModel}, this
+     * means that the changes are applied on a single transaction, which is much more efficient than a sequence of single
+     * updates for large configurations, and that they become visible at once. Instead of events for the single updates,
+     * one event of type {@link ConfigurationEvent#BATCH_UPDATE} is sent before and after the batch.
+     * <p>
+     * Note that read operations performed by the action do not see the updates of the batch. If the action throws an
+     * exception, the configuration remains unchanged. The action may be invoked again if the node model is updated
+     * concurrently by another party; so it should not have other side effects. Nested calls of this method become part
+     * of the outer batch. The batch is bound to the calling thread: updates performed concurrently by other threads are
+     * not part of the batch, but are applied directly to the node model as usual.
+     * </p>
+     *
+     * @param action The action performing the updates
+     * @since 2.16.0
+     */
+    public void batch(final Consumer<? super HierarchicalConfiguration<T>> action) {
+        beginWrite(false);
+        try {
+            if (batchModel.get() != null) {
+                action.accept(this);
+                return;
+            }
+            fireEvent(ConfigurationEvent.BATCH_UPDATE, null, null, true);
+            getModel().updateBatch(model -> {
+                batchModel.set(model);
+                try {
+                    action.accept(this);
+                } finally {
+                    batchModel.remove();
+                }
+            });
+            fireEvent(ConfigurationEvent.BATCH_UPDATE, null, null, false);
+        } finally {
+            endWrite();
+        }
     }
 
     /**
@@ -357,7 +570,7 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
      */
     @Override
     protected void clearInternal() {
-        getModel().clear(this);
+        getUpdateModel().clear(this);
     }
 
     /**
@@ -368,7 +581,7 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
      */
     @Override
     protected void clearPropertyDirect(final String key) {
-        getModel().clearProperty(key, this);
+        getUpdateModel().clearProperty(key, this);
     }
 
     /**
@@ -397,7 +610,7 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
      * @since 2.0
      */
     protected Object clearTreeInternal(final String key) {
-        return getModel().clearTree(key, this);
+        return getUpdateModel().clearTree(key, this);
     }
 
     /**
@@ -417,6 +630,7 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
                 copy.cloneInterpolator(this);
                 copy.setSynchronizer(ConfigurationUtils.cloneSynchronizer(getSynchronizer()));
                 copy.nodeModel = cloneNodeModel();
+                copy.batchModel = new ThreadLocal<>();
                 return copy;
             } catch (final CloneNotSupportedException cex) {
                 // should not happen
@@ -468,6 +682,18 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
         return resolveKey(nodeHandler.getRootNode(), key, nodeHandler);
     }
 
+    /**
+     * {@inheritDoc} This implementation suppresses the events of single updates performed by the batch of the current
+     * thread. It also discards the key index.
+     */
+    @Override
+    protected <E extends ConfigurationEvent> void fireEvent(final EventType<E> type, final String propName, final Object propValue, final boolean before) {
+        keyIndex = null;
+        if (batchModel.get() == null) {
+            super.fireEvent(type, propName, propValue, before);
+        }
+    }
+
     /**
      * Gets the expression engine used by this configuration. This method will never return <strong>null</strong>; if no specific
      * expression engine was set, the default expression engine will be returned.
@@ -480,15 +706,44 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
         return expressionEngine != null ? expressionEngine : DefaultExpressionEngine.INSTANCE;
     }
 
+    /**
+     * Gets the key index for the current node structure. If the current index was created for a different root node or
+     * expression engine, a new one is created.
+     *
+     * @return The key index
+     */
+    private KeyIndex fetchKeyIndex() {
+        final NodeHandler<T> nodeHandler = getModel().getNodeHandler();
+        final T root = nodeHandler.getRootNode();
+        final ExpressionEngine engine = getExpressionEngine();
+        final KeyIndex index = keyIndex;
+        if (index != null && index.root == root && index.engine == engine) {
+            return index;
+        }
+        final KeyIndex newIndex = new KeyIndex(root, engine, visitDefinedKeys(root, nodeHandler).getKeyList());
+        keyIndex = newIndex;
+        return newIndex;
+    }
+
     /**
      * Gets an iterator with all keys defined in this configuration. Note that the keys returned by this method will not
-     * contain any indices. This means that some structure will be lost.
+     * contain any indices. This means that some structure will be lost. If the key index is enabled, the keys are
+     * obtained from the index. Otherwise, for a structure of {@link ImmutableNode} objects, the nodes are traversed while
+     * iterating; so changes on the configuration performed after this method was called are not visible to the iterator.
      *
      * @return An iterator with the defined keys in this configuration
      */
     @Override
     protected Iterator<String> getKeysInternal() {
-        return visitDefinedKeys().getKeyList().iterator();
+        if (isKeyIndexEnabled()) {
+            return Arrays.asList(fetchKeyIndex().keys).iterator();
+        }
+        final NodeHandler<T> nodeHandler = getModel().getNodeHandler();
+        final T root = nodeHandler.getRootNode();
+        if (root instanceof ImmutableNode) {
+            return new DefinedKeysIterator<>(root, nodeHandler, getExpressionEngine());
+        }
+        return visitDefinedKeys(root, nodeHandler).getKeyList().iterator();
     }
 
     /**
@@ -509,7 +764,8 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
      * Gets an iterator with all keys defined in this configuration that start with the given prefix. The returned keys
      * will not contain any indices. This implementation tries to locate a node whose key is the same as the passed in
      * prefix. Then the subtree of this node is traversed, and the keys of all nodes encountered (including attributes) are
-     * added to the result set.
+     * added to the result set. If the key index is enabled, the keys found for a prefix are stored in the index; so
+     * further calls with the same prefix just iterate over these keys.
      *
      * @param prefix The prefix of the keys to start with
      * @param delimiter The prefix delimiter (unused)
@@ -518,6 +774,54 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
      */
     @Override
     protected Iterator<String> getKeysInternal(final String prefix, final String delimiter) {
+        if (!isKeyIndexEnabled() || prefix == null) {
+            return visitKeysWithPrefix(prefix).iterator();
+        }
+        final KeyIndex index = fetchKeyIndex();
+        String[] keys = index.prefixKeys.get(prefix);
+        if (keys == null) {
+            keys = visitKeysWithPrefix(prefix).toArray(new String[0]);
+            if (index.prefixKeys.size() >= MAX_INDEXED_PREFIXES) {
+                index.prefixKeys.clear();
+            }
+            index.prefixKeys.put(prefix, keys);
+        }
+        return Arrays.asList(keys).iterator();
+    }
+
+    /**
+     * Returns a flag whether the key index is enabled.
+     *
+     * @return <strong>true</strong> if the key index is enabled; <strong>false</strong> otherwise
+     * @since 2.16.0
+     */
+    public boolean isKeyIndexEnabled() {
+        return keyIndexEnabled;
+    }
+
+    /**
+     * Enables or disables the key index. If enabled, the keys of this configuration are determined once for the current
+     * node structure and then stored, together with the keys found for the prefixes passed to {@code getKeys(String)}.
+     * So repeated calls of {@code getKeys()} or {@code getKeys(String)} just iterate over the stored keys. The index is
+     * discarded when this configuration or its node structure is changed. Because the index requires memory for all keys,
+     * it is disabled by default.
+     *
+     * @param keyIndexEnabled The flag whether the key index is enabled
+     * @since 2.16.0
+     */
+    public void setKeyIndexEnabled(final boolean keyIndexEnabled) {
+        this.keyIndexEnabled = keyIndexEnabled;
+        keyIndex = null;
+    }
+
+    /**
+     * Collects the keys defined in this configuration that start with the given prefix. This is the implementation of
+     * {@link #getKeysInternal(String, String)}.
+     *
+     * @param prefix The prefix of the keys to start with
+     * @return A set with the found keys
+     */
+    private Set<String> visitKeysWithPrefix(final String prefix) {
         final DefinedKeysVisitor visitor = new DefinedKeysVisitor(prefix);
         if (containsKey(prefix)) {
             // explicitly add the prefix
@@ -534,7 +838,7 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
             }
         });
 
-        return visitor.getKeyList().iterator();
+        return visitor.getKeyList();
     }
 
     /**
@@ -623,6 +927,27 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
         return nodeHandler.nodeName(nodeHandler.getRootNode());
     }
 
+    /**
+     * Gets the {@code NodeModel} to which update operations are delegated. This is the model of this configuration or the
+     * model of the batch currently executed by the calling thread.
+     *
+     * @return The model for update operations
+     */
+    private NodeModel<T> getUpdateModel() {
+        final NodeModel<T> model = batchModel.get();
+        return model != null ? model : getModel();
+    }
+
+    /**
+     * {@inheritDoc} The keys of a hierarchical configuration are interpreted by the expression engine; they can contain
+     * indices or other constructs, so the key of a changed property cannot be compared literally with the variable names
+     * cached results depend on. Therefore, this implementation discards all cached results.
+     */
+    @Override
+    protected void invalidateInterpolationCache(final String key) {
+        super.invalidateInterpolationCache(null);
+    }
+
     /**
      * Checks if this configuration is empty. Empty means that there are no keys with any values, though there can be some
      * (empty) nodes.
@@ -703,7 +1028,7 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
      */
     @Override
     public NodeUpdateData<T> resolveUpdateKey(final T root, final String key, final Object newValue, final NodeHandler<T> handler) {
-        final Iterator<QueryResult<T>> itNodes = fetchNodeList(key).iterator();
+        final Iterator<QueryResult<T>> itNodes = resolveKey(root, key, handler).iterator();
         final Iterator<?> itValues = getListDelimiterHandler().parse(newValue).iterator();
         final Map<QueryResult<T>, Object> changedValues = new HashMap<>();
         Collection<Object> additionalValues = null;
@@ -749,17 +1074,21 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
      */
     @Override
     protected void setPropertyInternal(final String key, final Object value) {
-        getModel().setProperty(key, value, this);
+        getUpdateModel().setProperty(key, value, this);
     }
 
     /**
      * {@inheritDoc} This implementation is slightly more efficient than the default implementation. It does not iterate
      * over the key set, but directly queries its size after it has been constructed. Note that constructing the key set is
-     * still an O(n) operation.
+     * still an O(n) operation, unless the key index is enabled.
      */
     @Override
     protected int sizeInternal() {
-        return visitDefinedKeys().getKeyList().size();
+        if (isKeyIndexEnabled()) {
+            return fetchKeyIndex().keys.length;
+        }
+        final NodeHandler<T> nodeHandler = getModel().getNodeHandler();
+        return visitDefinedKeys(nodeHandler.getRootNode(), nodeHandler).getKeyList().size();
     }
 
     @Override
@@ -779,14 +1108,15 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
     }
 
     /**
-     * Creates a {@code DefinedKeysVisitor} and visits all defined keys with it.
+     * Creates a {@code DefinedKeysVisitor} and visits all defined keys below the given root node with it.
      *
+     * @param root The root node
+     * @param nodeHandler The node handler
      * @return The visitor after all keys have been visited
      */
-    private DefinedKeysVisitor visitDefinedKeys() {
+    private DefinedKeysVisitor visitDefinedKeys(final T root, final NodeHandler<T> nodeHandler) {
         final DefinedKeysVisitor visitor = new DefinedKeysVisitor();
-        final NodeHandler<T> nodeHandler = getModel().getNodeHandler();
-        NodeTreeWalker.INSTANCE.walkDFS(nodeHandler.getRootNode(), visitor, nodeHandler);
+        NodeTreeWalker.INSTANCE.walkDFS(root, visitor, nodeHandler);
         return visitor;
     }
 }
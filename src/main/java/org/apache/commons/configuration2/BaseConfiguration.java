@@ -32,14 +32,27 @@ import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
  *
  * This class extends normal Java properties by adding the possibility to use the same key many times concatenating the
  * value strings instead of overwriting them.
+ *
+ * <p>
+ * Per default, the properties are stored in a {@code LinkedHashMap}. For configurations with a large number of keys,
+ * a compact storage mode can be enabled via {@link #setCompactStorage(boolean)}. Keys and values are then stored in
+ * arrays indexed by an open addressing hash table, which requires considerably less memory than the entry objects of a
+ * {@code LinkedHashMap}; lists for keys with multiple values are created with a minimum capacity.
+ * </p>
  */
 public class BaseConfiguration extends AbstractConfiguration implements Cloneable {
 
+    /** The initial capacity of lists for keys with multiple values in compact storage mode. */
+    private static final int COMPACT_LIST_CAPACITY = 2;
+
     /**
      * Stores the configuration key-value pairs.
      */
     private Map<String, Object> store = new LinkedHashMap<>();
 
+    /** A flag whether the compact storage mode is enabled. */
+    private boolean compactStorage;
+
     /**
      * Constructs a new instance.
      */
@@ -66,7 +79,7 @@ public class BaseConfiguration extends AbstractConfiguration implements Cloneabl
             valueList.add(value);
         } else {
             // the previous value is replaced by a list containing the previous value and the new value
-            final List<Object> list = new ArrayList<>();
+            final List<Object> list = compactStorage ? new ArrayList<>(COMPACT_LIST_CAPACITY) : new ArrayList<>();
             list.add(previousValue);
             list.add(value);
             store.put(key, list);
@@ -171,6 +184,17 @@ public class BaseConfiguration extends AbstractConfiguration implements Cloneabl
         return store.get(key);
     }
 
+    /**
+     * Tests whether the compact storage mode is enabled.
+     *
+     * @return <strong>true</strong> if properties are stored in compact form, <strong>false</strong> otherwise
+     * @see #setCompactStorage(boolean)
+     * @since 2.16.0
+     */
+    public boolean isCompactStorage() {
+        return syncRead(() -> compactStorage, false);
+    }
+
     /**
      * Check if the configuration is empty
      *
@@ -181,6 +205,23 @@ public class BaseConfiguration extends AbstractConfiguration implements Cloneabl
         return store.isEmpty();
     }
 
+    /**
+     * Enables or disables the compact storage mode. The properties already contained in this configuration are copied
+     * into the new data structure. The compact storage mode reduces the memory footprint of configurations with many
+     * keys; access times are comparable to the default mode. Keys must not be <strong>null</strong> in compact mode.
+     *
+     * @param compactStorage a flag whether properties should be stored in compact form
+     * @since 2.16.0
+     */
+    public void setCompactStorage(final boolean compactStorage) {
+        syncWrite(() -> {
+            if (this.compactStorage != compactStorage) {
+                this.compactStorage = compactStorage;
+                store = compactStorage ? new CompactPropertyMap(store) : new LinkedHashMap<>(store);
+            }
+        }, false);
+    }
+
     /**
      * {@inheritDoc} This implementation obtains the size directly from the map used as data store. So this is a rather
      * efficient implementation.
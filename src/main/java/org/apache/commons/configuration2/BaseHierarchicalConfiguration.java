@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.configuration2.event.ConfigurationEvent;
 import org.apache.commons.configuration2.event.EventListener;
+import org.apache.commons.configuration2.event.EventType;
 import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
 import org.apache.commons.configuration2.interpol.ConfigurationInterpolator;
 import org.apache.commons.configuration2.tree.ConfigurationNodeVisitorAdapter;
@@ -360,6 +361,9 @@ public class BaseHierarchicalConfiguration extends AbstractHierarchicalConfigura
     /** A listener for reacting on changes caused by sub configurations. */
     private final EventListener<ConfigurationEvent> changeListener;
 
+    /** The current snapshot of this configuration; <strong>null</strong> if it has to be created. */
+    private volatile HierarchicalConfigurationSnapshot snapshot;
+
     /**
      * Creates a new instance of {@code BaseHierarchicalConfiguration}.
      */
@@ -600,6 +604,16 @@ public class BaseHierarchicalConfiguration extends AbstractHierarchicalConfigura
         return resolveNodeKey(handler.getRootNode(), key, handler);
     }
 
+    /**
+     * {@inheritDoc} This implementation also discards the current snapshot of this configuration, so that the next call of
+     * {@link #snapshot()} reflects the change.
+     */
+    @Override
+    protected <T extends ConfigurationEvent> void fireEvent(final EventType<T> type, final String propName, final Object propValue, final boolean before) {
+        snapshot = null;
+        super.fireEvent(type, propName, propValue, before);
+    }
+
     /**
      * {@inheritDoc} This implementation returns the {@code InMemoryNodeModel} used by this configuration.
      */
@@ -717,6 +731,35 @@ public class BaseHierarchicalConfiguration extends AbstractHierarchicalConfigura
         return c;
     }
 
+    /**
+     * Returns a read-only snapshot of the current content of this configuration. The snapshot stores the keys and values
+     * of this configuration in a flat map; so queries for properties, keys, or typed values do not have to evaluate keys
+     * against the node structure and do not require any locking. This is useful for configurations which are read
+     * frequently, but rarely changed. The snapshot supports the keys as returned by {@link #getKeys()}, but no keys with
+     * indices or other constructs of the expression language.
+     * <p>
+     * The snapshot is created on first access and then cached. A change on this configuration (indicated by a
+     * {@code ConfigurationEvent}) or on its node model causes a new snapshot to be created on the next invocation of this
+     * method; snapshots obtained before are not affected by changes. Interpolation of values in the snapshot is done based
+     * on the data of the snapshot. The snapshot uses the conversion and list delimiter handlers that were set for this
+     * configuration when it was created.
+     * </p>
+     *
+     * @return A snapshot with the current content of this configuration
+     * @since 2.16.0
+     */
+    public ImmutableConfiguration snapshot() {
+        final HierarchicalConfigurationSnapshot current = snapshot;
+        if (current != null && current.getRootNode() == getModel().getNodeHandler().getRootNode()) {
+            return current;
+        }
+        return syncRead(() -> {
+            final HierarchicalConfigurationSnapshot newSnapshot = new HierarchicalConfigurationSnapshot(this, getModel().getNodeHandler().getRootNode());
+            snapshot = newSnapshot;
+            return newSnapshot;
+        }, false);
+    }
+
     /**
      * This method is always called when a subnode configuration created from this configuration has been modified. This
      * implementation transforms the received event into an event of type {@code SUBNODE_CHANGED} and notifies the
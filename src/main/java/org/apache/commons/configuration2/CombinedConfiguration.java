@@ -65,7 +65,9 @@ import org.apache.commons.lang3.StringUtils;
  * The class works by registering itself as an event listener at all added configurations. So it gets notified whenever
  * one of these configurations is changed and can invalidate its internal node structure. The next time a property is
  * accessed the node structure will be re-constructed using the current state of the managed configurations. Note that,
- * depending on the used {@code NodeCombiner}, this may be a complex operation.
+ * depending on the used {@code NodeCombiner}, this may be a complex operation. To reduce this effort, intermediate
+ * results are cached: if a single child configuration is changed, only this configuration and the ones added after it
+ * are combined again. The public {@link #invalidate()} method discards all cached data.
  * </p>
  * <p>
  * Because of the way a {@code CombinedConfiguration} is working it has more or less view character: it provides a logic
@@ -176,6 +178,14 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
         /** Stores the root node for this child configuration. */
         private ImmutableNode rootNode;
 
+        /** Stores the transformed root node if it is still valid. */
+        private ImmutableNode transformedRoot;
+
+        /**
+         * Stores the combination of the transformed root nodes of all configurations up to and including this one.
+         */
+        private ImmutableNode combinedNode;
+
         /**
          * Creates a new instance of {@code ConfigData} and initializes it.
          *
@@ -208,6 +218,16 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
             return configuration;
         }
 
+        /**
+         * Gets the node resulting from the combination of this configuration with all configurations added before. This
+         * node is only valid if neither this configuration nor one of its predecessors has been changed.
+         *
+         * @return The combined node up to this configuration (can be <strong>null</strong>)
+         */
+        ImmutableNode getCombinedNode() {
+            return combinedNode;
+        }
+
         /**
          * Gets the configuration's name.
          *
@@ -252,8 +272,42 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
          * @return The transformed root node
          */
         public ImmutableNode getTransformedRoot() {
-            final ImmutableNode configRoot = getRootNodeOfConfiguration();
-            return atPath == null ? configRoot : prependAtPath(configRoot);
+            if (transformedRoot == null) {
+                final ImmutableNode configRoot = getRootNodeOfConfiguration();
+                transformedRoot = atPath == null ? configRoot : prependAtPath(configRoot);
+            }
+            return transformedRoot;
+        }
+
+        /**
+         * Marks the data of this object as outdated. The root node of the configuration is obtained again and combined with
+         * the other nodes on the next access.
+         */
+        void invalidate() {
+            transformedRoot = null;
+            combinedNode = null;
+        }
+
+        /**
+         * Tests whether the cached nodes of this object can be reused. This is only possible if the configuration has not
+         * been changed since the nodes were obtained. Change events are not sufficient to detect this, because some
+         * manipulations (for example setting a new root node at the node model) do not fire events. Therefore, the cached
+         * nodes are only used for hierarchical configurations whose current root node is still the one the nodes were
+         * created from. For other configurations a new hierarchical representation has to be created anyway, so the cached
+         * nodes are never used.
+         *
+         * @return <strong>true</strong> if the data of this object is up-to-date, <strong>false</strong> otherwise
+         */
+        boolean isValid() {
+            if (combinedNode == null || !(configuration instanceof HierarchicalConfiguration)) {
+                return false;
+            }
+            configuration.lock(LockMode.READ);
+            try {
+                return ((HierarchicalConfiguration<?>) configuration).getNodeModel().getInMemoryRepresentation() == rootNode;
+            } finally {
+                configuration.unlock(LockMode.READ);
+            }
         }
 
         /**
@@ -275,6 +329,15 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
             return result;
         }
 
+        /**
+         * Sets the node resulting from the combination of this configuration with all configurations added before.
+         *
+         * @param node The combined node
+         */
+        void setCombinedNode(final ImmutableNode node) {
+            combinedNode = node;
+        }
+
         /**
          * Prepends the at path to the given node.
          *
@@ -507,7 +570,11 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
     }
 
     /**
-     * Creates the root node of this combined configuration.
+     * Creates the root node of this combined configuration. The nodes of the child configurations are combined in the order
+     * the configurations were added. For each child configuration the result of the combination with its predecessors is
+     * cached. If only some child configurations have been changed, the combination can therefore start with the cached
+     * result of the last unchanged configuration, and only the changed configurations and the ones added after them have
+     * to be combined again.
      *
      * @return The combined root node
      */
@@ -518,10 +585,20 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
             }
             return EMPTY_ROOT;
         }
-        final Iterator<ConfigData> it = configurations.iterator();
-        ImmutableNode node = it.next().getTransformedRoot();
-        while (it.hasNext()) {
-            node = nodeCombiner.combine(node, it.next().getTransformedRoot());
+        ImmutableNode node = null;
+        boolean changed = false;
+        for (final ConfigData cd : configurations) {
+            if (!cd.isValid()) {
+                // the cached nodes are outdated; from here on all nodes have to be combined again
+                cd.invalidate();
+                changed = true;
+            }
+            if (changed) {
+                node = node == null ? cd.getTransformedRoot() : nodeCombiner.combine(node, cd.getTransformedRoot());
+                cd.setCombinedNode(node);
+            } else {
+                node = cd.getCombinedNode();
+            }
         }
         if (getLogger().isDebugEnabled()) {
             final ByteArrayOutputStream os = new ByteArrayOutputStream();
@@ -774,6 +851,43 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
     public void invalidate() {
         beginWrite(true);
         try {
+            invalidateChildren();
+            invalidateInternal();
+        } finally {
+            endWrite();
+        }
+    }
+
+    /**
+     * Marks the cached data of all child configurations as outdated, so that the combined node structure is constructed
+     * from scratch on next access. Note: This implementation expects that an exclusive (write) lock is held on this
+     * instance.
+     */
+    private void invalidateChildren() {
+        configurations.forEach(ConfigData::invalidate);
+    }
+
+    /**
+     * Invalidates this combined configuration because of a change of the given child configuration. Only the cached data
+     * of this child configuration is discarded, so that the nodes of the other child configurations can be reused when the
+     * combined node structure is constructed again. If the source is not a child configuration, all cached data is
+     * discarded.
+     *
+     * @param source The source of a change event
+     */
+    private void invalidateConfiguration(final Object source) {
+        beginWrite(true);
+        try {
+            boolean found = false;
+            for (final ConfigData cd : configurations) {
+                if (cd.getConfiguration() == source) {
+                    cd.invalidate();
+                    found = true;
+                }
+            }
+            if (!found) {
+                invalidateChildren();
+            }
             invalidateInternal();
         } finally {
             endWrite();
@@ -801,14 +915,17 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
 
     /**
      * Event listener call back for configuration update events. This method is called whenever one of the contained
-     * configurations was modified. It invalidates this combined configuration.
+     * configurations was modified. It invalidates this combined configuration. Only the data of the affected child
+     * configuration is discarded; so when the combined node structure is constructed again, the nodes of the other child
+     * configurations can be reused. A child which is itself a combined configuration reports changes of its own children
+     * only by an invalidate event which is fired after the update; so such events are handled, too.
      *
      * @param event The update event
      */
     @Override
     public void onEvent(final ConfigurationEvent event) {
-        if (event.isBeforeUpdate()) {
-            invalidate();
+        if (event.isBeforeUpdate() || COMBINED_INVALIDATE.equals(event.getEventType())) {
+            invalidateConfiguration(event.getSource());
         }
     }
 
@@ -866,6 +983,10 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
             namedConfigurations.remove(cd.getName());
         }
         unregisterListenerAt(cd.getConfiguration());
+        if (index < configurations.size()) {
+            // the configurations after the removed one have to be combined again
+            configurations.get(index).setCombinedNode(null);
+        }
         invalidateInternal();
         return cd.getConfiguration();
     }
@@ -886,6 +1007,7 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
         beginWrite(true);
         try {
             this.conversionExpressionEngine = conversionExpressionEngine;
+            invalidateChildren();
         } finally {
             endWrite();
         }
@@ -906,6 +1028,7 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
         beginWrite(true);
         try {
             this.nodeCombiner = nodeCombiner;
+            invalidateChildren();
             invalidateInternal();
         } finally {
             endWrite();
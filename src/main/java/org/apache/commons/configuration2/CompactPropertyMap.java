@@ -0,0 +1,509 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>
+ * A memory-efficient map implementation used by {@link BaseConfiguration} in compact storage mode.
+ * </p>
+ * <p>
+ * Keys and values are stored in two parallel arrays in insertion order; there are no entry objects. A hash table with
+ * open addressing (linear probing) maps keys to their positions in these arrays; it is a plain {@code int} array. Removed
+ * entries leave a gap in the arrays which is closed when the arrays have to be resized. So this class keeps the
+ * iteration order of a {@code LinkedHashMap} while requiring only a fraction of its memory.
+ * </p>
+ * <p>
+ * Keys must not be <strong>null</strong>. Like the standard map implementations, this class is not thread-safe, and its
+ * iterators are fail-fast.
+ * </p>
+ *
+ * @since 2.16.0
+ */
+final class CompactPropertyMap extends AbstractMap<String, Object> implements Cloneable {
+
+    /**
+     * The iterator base class for the views of this map. It iterates over the positions of the existing entries.
+     *
+     * @param <E> The type of the elements returned by the iterator
+     */
+    private abstract class EntryIterator<E> implements Iterator<E> {
+
+        /** The position of the next entry. */
+        private int next;
+
+        /** The position of the last entry returned by this iterator. */
+        private int current = -1;
+
+        /** The expected modification count. */
+        private int expectedModCount = modCount;
+
+        /**
+         * Creates a new instance of {@code EntryIterator}.
+         */
+        EntryIterator() {
+            next = skipRemoved(0);
+        }
+
+        /**
+         * Creates the element to be returned for the entry at the given position.
+         *
+         * @param index The position of the entry
+         * @return The element for this entry
+         */
+        abstract E element(int index);
+
+        @Override
+        public boolean hasNext() {
+            return next < count;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = skipRemoved(next + 1);
+            return element(current);
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(current);
+            current = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * The entry class returned by the entry set. It accesses the arrays of this map directly.
+     */
+    private final class IndexEntry implements Map.Entry<String, Object> {
+
+        /** The position of this entry. */
+        private final int index;
+
+        /** The key of this entry. */
+        private final String key;
+
+        /**
+         * Creates a new instance of {@code IndexEntry}.
+         *
+         * @param index The position of the entry
+         */
+        IndexEntry(final int index) {
+            this.index = index;
+            this.key = keys[index];
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+            return key.equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return values[index];
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public Object setValue(final Object value) {
+            final Object old = values[index];
+            values[index] = value;
+            return old;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    /** The initial number of entries. */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** The maximum load factor of the hash table (as fraction of 4). */
+    private static final int MAX_LOAD_QUARTERS = 3;
+
+    /**
+     * Returns the hash value for the given key. The higher bits are mixed into the lower ones, as only the lower bits are
+     * used for selecting a slot.
+     *
+     * @param key The key
+     * @return The hash value
+     */
+    private static int hash(final Object key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the size of the hash table for the given number of entries.
+     *
+     * @param capacity The number of entries
+     * @return The size of the hash table (a power of two)
+     */
+    private static int tableSize(final int capacity) {
+        final int minSize = capacity * 4 / MAX_LOAD_QUARTERS + 1;
+        return Integer.highestOneBit(minSize - 1) << 1;
+    }
+
+    /** The keys in insertion order; removed entries are <strong>null</strong>. */
+    private String[] keys;
+
+    /** The values corresponding to the keys. */
+    private Object[] values;
+
+    /** The hash table. It stores the positions of the entries plus 1; 0 marks an empty slot. */
+    private int[] table;
+
+    /** The number of positions used in the arrays for keys and values (including removed entries). */
+    private int count;
+
+    /** The number of entries in this map. */
+    private int size;
+
+    /** The modification count for detecting concurrent modifications. */
+    private int modCount;
+
+    /**
+     * Creates a new, empty instance of {@code CompactPropertyMap}.
+     */
+    CompactPropertyMap() {
+        init(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new instance of {@code CompactPropertyMap} and copies the content of the given map.
+     *
+     * @param map The map to be copied
+     */
+    CompactPropertyMap(final Map<String, ?> map) {
+        init(Math.max(INITIAL_CAPACITY, map.size()));
+        map.forEach(this::put);
+    }
+
+    @Override
+    public void clear() {
+        init(INITIAL_CAPACITY);
+        modCount++;
+    }
+
+    /**
+     * Creates a copy of this map. The copy has its own arrays, but the values are not copied.
+     *
+     * @return The copy of this map
+     */
+    @Override
+    public CompactPropertyMap clone() {
+        try {
+            final CompactPropertyMap copy = (CompactPropertyMap) super.clone();
+            copy.keys = keys.clone();
+            copy.values = values.clone();
+            copy.table = table.clone();
+            copy.modCount = 0;
+            return copy;
+        } catch (final CloneNotSupportedException e) {
+            // should not happen
+            throw new AssertionError(e);
+        }
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        for (int i = 0; i < count; i++) {
+            if (keys[i] != null && Objects.equals(value, values[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Object>>() {
+            @Override
+            public void clear() {
+                CompactPropertyMap.this.clear();
+            }
+
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new EntryIterator<Map.Entry<String, Object>>() {
+                    @Override
+                    Map.Entry<String, Object> element(final int index) {
+                        return new IndexEntry(index);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Object get(final Object key) {
+        final int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    /**
+     * Returns the position of the entry with the given key.
+     *
+     * @param key The key
+     * @return The position of this entry or -1 if the key is not contained in this map
+     */
+    private int indexOf(final Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        final int mask = table.length - 1;
+        for (int slot = hash(key) & mask;; slot = (slot + 1) & mask) {
+            final int entry = table[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            final String k = keys[entry - 1];
+            if (k == key || k.equals(key)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Initializes the arrays of this map for the given capacity.
+     *
+     * @param capacity The number of entries
+     */
+    private void init(final int capacity) {
+        keys = new String[capacity];
+        values = new Object[capacity];
+        table = new int[tableSize(capacity)];
+        count = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the entry at the given position to the hash table.
+     *
+     * @param index The position of the entry
+     */
+    private void insert(final int index) {
+        final int mask = table.length - 1;
+        int slot = hash(keys[index]) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<String>() {
+            @Override
+            public void clear() {
+                CompactPropertyMap.this.clear();
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public Iterator<String> iterator() {
+                return new EntryIterator<String>() {
+                    @Override
+                    String element(final int index) {
+                        return keys[index];
+                    }
+                };
+            }
+
+            @Override
+            public boolean remove(final Object o) {
+                final int index = indexOf(o);
+                if (index >= 0) {
+                    removeAt(index);
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        Objects.requireNonNull(key, "key");
+        final int index = indexOf(key);
+        if (index >= 0) {
+            final Object old = values[index];
+            values[index] = value;
+            return old;
+        }
+
+        if (count == keys.length) {
+            // Reclaim removed entries if there are enough of them; otherwise grow
+            resize(size < count / 2 ? keys.length : keys.length + (keys.length >> 1));
+        }
+        keys[count] = key;
+        values[count] = value;
+        insert(count);
+        count++;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        final int index = indexOf(key);
+        return index >= 0 ? removeAt(index) : null;
+    }
+
+    /**
+     * Removes the entry at the given position. The slot of the entry in the hash table is cleared using backward shift
+     * deletion, so that no tombstones are needed.
+     *
+     * @param index The position of the entry
+     * @return The value of the removed entry
+     */
+    private Object removeAt(final int index) {
+        final int mask = table.length - 1;
+        int hole = hash(keys[index]) & mask;
+        while (table[hole] != index + 1) {
+            hole = (hole + 1) & mask;
+        }
+        for (int next = (hole + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+            final int home = hash(keys[table[next] - 1]) & mask;
+            // The entry can be moved into the hole if its home slot is not cyclically between hole and next
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                hole = next;
+            }
+        }
+        table[hole] = 0;
+
+        final Object old = values[index];
+        keys[index] = null;
+        values[index] = null;
+        if (index == count - 1) {
+            count--;
+        }
+        size--;
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Moves all existing entries into new arrays with the given capacity and rebuilds the hash table.
+     *
+     * @param capacity The new capacity
+     */
+    private void resize(final int capacity) {
+        final String[] oldKeys = keys;
+        final Object[] oldValues = values;
+        final int oldCount = count;
+        keys = new String[capacity];
+        values = new Object[capacity];
+        if (table.length != tableSize(capacity)) {
+            table = new int[tableSize(capacity)];
+        } else {
+            Arrays.fill(table, 0);
+        }
+
+        int pos = 0;
+        for (int i = 0; i < oldCount; i++) {
+            if (oldKeys[i] != null) {
+                keys[pos] = oldKeys[i];
+                values[pos] = oldValues[i];
+                insert(pos++);
+            }
+        }
+        count = pos;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of the first existing entry starting with the given position.
+     *
+     * @param index The start position
+     * @return The position of the next entry or the number of used positions if there is none
+     */
+    private int skipRemoved(final int index) {
+        int pos = index;
+        while (pos < count && keys[pos] == null) {
+            pos++;
+        }
+        return pos;
+    }
+}
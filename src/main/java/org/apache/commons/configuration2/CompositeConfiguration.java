@@ -19,14 +19,22 @@ package org.apache.commons.configuration2;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.configuration2.convert.ListDelimiterHandler;
+import org.apache.commons.configuration2.event.ConfigurationEvent;
+import org.apache.commons.configuration2.event.EventListener;
+import org.apache.commons.configuration2.event.EventSource;
 import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
 
 /**
@@ -58,9 +66,53 @@ import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
  * data delegate to the list of child configurations, the thread-safety of a {@code CompositeConfiguration} object also
  * depends on the {@code Synchronizer} objects used by these children.
  * </p>
+ * <p>
+ * Per default, a property is looked up by asking the child configurations one after the other whether they contain the
+ * key. So the costs of a query grow with the number of child configurations. Optionally, a <em>key index</em> can be
+ * enabled using {@link #setKeyIndexEnabled(boolean)}. It maps each key to the child configuration defining it, so that
+ * {@code getProperty()}, {@code containsKey()}, {@code getSource()}, and {@code getKeys()} do not have to iterate over
+ * the child configurations. The index is constructed from the keys returned by the children's {@code getKeys()} method
+ * and is discarded whenever a child configuration fires a change event. Therefore, it can only be used if all child
+ * configurations are {@link EventSource} objects, and if properties are queried using exactly the keys reported by
+ * their {@code getKeys()} method; keys with special syntax (for example indices in keys of hierarchical
+ * configurations) are not found in the index. If one of the children is not an event source, the index is not used.
+ * </p>
  */
 public class CompositeConfiguration extends AbstractConfiguration implements Cloneable {
 
+    /**
+     * A class holding the data of the key index. An instance is immutable and valid as long as the modification counter
+     * of the owning configuration has not changed.
+     */
+    private static final class KeyIndex {
+
+        /** The value of the modification counter when this index was created. */
+        private final long version;
+
+        /** A map assigning each key to the first child configuration defining it. */
+        private final Map<String, Configuration> sources;
+
+        /** A set with the keys defined by multiple child configurations. */
+        private final Set<String> ambiguousKeys;
+
+        /**
+         * Creates a new instance of {@code KeyIndex} for the given child configurations.
+         *
+         * @param version The current value of the modification counter
+         * @param configurations The child configurations in the order they are queried
+         */
+        KeyIndex(final long version, final List<Configuration> configurations) {
+            this.version = version;
+            sources = new LinkedHashMap<>();
+            ambiguousKeys = new HashSet<>();
+            configurations.forEach(config -> config.getKeys().forEachRemaining(key -> {
+                if (sources.putIfAbsent(key, config) != null) {
+                    ambiguousKeys.add(key);
+                }
+            }));
+        }
+    }
+
     /** List holding all the configuration */
     private List<Configuration> configList = new LinkedList<>();
 
@@ -74,6 +126,18 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
      */
     private boolean inMemoryConfigIsChild;
 
+    /** A flag whether the key index is enabled. */
+    private boolean keyIndexEnabled;
+
+    /** The current key index; it may be outdated. */
+    private volatile KeyIndex keyIndex;
+
+    /** A counter for changes on child configurations which invalidate the key index. */
+    private AtomicLong modificationCount = new AtomicLong();
+
+    /** The listener registered at child configurations to invalidate the key index. */
+    private EventListener<ConfigurationEvent> changeListener = event -> invalidateKeyIndex();
+
     /**
      * Creates an empty CompositeConfiguration object which can then be added some other Configuration files
      */
@@ -162,6 +226,7 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
                 if (config instanceof AbstractConfiguration) {
                     ((AbstractConfiguration) config).setThrowExceptionOnMissing(isThrowExceptionOnMissing());
                 }
+                registerChangeListener(config);
             }
         }, false);
     }
@@ -199,6 +264,7 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
                 if (config instanceof AbstractConfiguration) {
                     ((AbstractConfiguration) config).setThrowExceptionOnMissing(isThrowExceptionOnMissing());
                 }
+                registerChangeListener(config);
             }
         }, false);
     }
@@ -240,6 +306,7 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
      */
     @Override
     protected void clearInternal() {
+        configList.forEach(this::unregisterChangeListener);
         configList.clear();
         // recreate the in memory configuration
         inMemoryConfiguration = new BaseConfiguration();
@@ -247,6 +314,7 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
         ((BaseConfiguration) inMemoryConfiguration).setListDelimiterHandler(getListDelimiterHandler());
         configList.add(inMemoryConfiguration);
         inMemoryConfigIsChild = false;
+        registerChangeListener(inMemoryConfiguration);
     }
 
     @Override
@@ -266,9 +334,13 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
     public Object clone() {
         try {
             final CompositeConfiguration copy = (CompositeConfiguration) super.clone();
+            copy.keyIndex = null;
+            copy.modificationCount = new AtomicLong();
+            copy.changeListener = event -> copy.invalidateKeyIndex();
             copy.configList = new LinkedList<>();
             copy.inMemoryConfiguration = ConfigurationUtils.cloneConfiguration(getInMemoryConfiguration());
             copy.configList.add(copy.inMemoryConfiguration);
+            copy.registerChangeListener(copy.inMemoryConfiguration);
 
             configList.forEach(config -> {
                 if (config != getInMemoryConfiguration()) {
@@ -286,6 +358,10 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
 
     @Override
     protected boolean containsKeyInternal(final String key) {
+        final KeyIndex index = fetchKeyIndex();
+        if (index != null) {
+            return index.sources.containsKey(key);
+        }
         return configList.stream().anyMatch(config -> config.containsKey(key));
     }
 
@@ -300,6 +376,28 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
         return configList.stream().anyMatch(config -> config.containsValue(value));
     }
 
+    /**
+     * Returns the current key index if it is enabled. If necessary, the index is created now. Result is <strong>null</strong>
+     * if the index is disabled or cannot be used because a child configuration does not support event listeners.
+     *
+     * @return The current key index or <strong>null</strong>
+     */
+    private KeyIndex fetchKeyIndex() {
+        if (!keyIndexEnabled) {
+            return null;
+        }
+        KeyIndex index = keyIndex;
+        final long version = modificationCount.get();
+        if (index == null || index.version != version) {
+            if (!configList.stream().allMatch(EventSource.class::isInstance)) {
+                return null;
+            }
+            index = new KeyIndex(version, configList);
+            keyIndex = index;
+        }
+        return index;
+    }
+
     /**
      * Gets the configuration at the specified index.
      *
@@ -321,6 +419,10 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
 
     @Override
     protected Iterator<String> getKeysInternal() {
+        final KeyIndex index = fetchKeyIndex();
+        if (index != null) {
+            return Collections.unmodifiableSet(index.sources.keySet()).iterator();
+        }
         final Set<String> keys = new LinkedHashSet<>();
         configList.forEach(config -> config.getKeys().forEachRemaining(keys::add));
         return keys.iterator();
@@ -388,6 +490,11 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
      */
     @Override
     protected Object getPropertyInternal(final String key) {
+        final KeyIndex index = fetchKeyIndex();
+        if (index != null) {
+            final Configuration source = index.sources.get(key);
+            return source != null ? source.getProperty(key) : null;
+        }
         return configList.stream().filter(config -> config.containsKey(key)).findFirst().map(config -> config.getProperty(key)).orElse(null);
     }
 
@@ -412,6 +519,14 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
             throw new IllegalArgumentException("Key must not be null.");
         }
 
+        final KeyIndex index = fetchKeyIndex();
+        if (index != null) {
+            if (index.ambiguousKeys.contains(key)) {
+                throw new IllegalArgumentException("The key " + key + " is defined by multiple sources.");
+            }
+            return index.sources.get(key);
+        }
+
         Configuration source = null;
         for (final Configuration conf : configList) {
             if (conf.containsKey(key)) {
@@ -439,11 +554,41 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
         return tokens;
     }
 
+    /**
+     * Invalidates the key index. It is constructed anew on next access.
+     */
+    private void invalidateKeyIndex() {
+        modificationCount.incrementAndGet();
+    }
+
     @Override
     protected boolean isEmptyInternal() {
         return configList.stream().allMatch(Configuration::isEmpty);
     }
 
+    /**
+     * Tests whether the key index is enabled.
+     *
+     * @return <strong>true</strong> if the key index is enabled, <strong>false</strong> otherwise
+     * @see #setKeyIndexEnabled(boolean)
+     * @since 2.16.0
+     */
+    public boolean isKeyIndexEnabled() {
+        return syncRead(() -> keyIndexEnabled, false);
+    }
+
+    /**
+     * Registers the listener invalidating the key index at the given child configuration if the index is enabled.
+     *
+     * @param config The child configuration
+     */
+    private void registerChangeListener(final Configuration config) {
+        invalidateKeyIndex();
+        if (keyIndexEnabled && config instanceof EventSource) {
+            ((EventSource) config).addEventListener(ConfigurationEvent.ANY, changeListener);
+        }
+    }
+
     /**
      * Remove a configuration. The in memory configuration cannot be removed.
      *
@@ -453,8 +598,8 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
         syncWrite(() -> {
             // Make sure that you can't remove the inMemoryConfiguration from
             // the CompositeConfiguration object
-            if (!config.equals(inMemoryConfiguration)) {
-                configList.remove(config);
+            if (!config.equals(inMemoryConfiguration) && configList.remove(config)) {
+                unregisterChangeListener(config);
             }
         }, false);
     }
@@ -468,6 +613,7 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
         if (!inMemoryConfigIsChild) {
             // remove current in-memory configuration
             configList.remove(inMemoryConfiguration);
+            unregisterChangeListener(inMemoryConfiguration);
         }
         inMemoryConfiguration = config;
     }
@@ -482,4 +628,35 @@ public class CompositeConfiguration extends AbstractConfiguration implements Clo
         }
         super.setListDelimiterHandler(listDelimiterHandler);
     }
+
+    /**
+     * Enables or disables the key index. If enabled, this configuration keeps a map assigning each key to the child
+     * configuration defining it. This map is created on first access and discarded when one of the child configurations
+     * is changed. See the class comment for the restrictions of the key index.
+     *
+     * @param keyIndexEnabled a flag whether the key index should be used
+     * @since 2.16.0
+     */
+    public void setKeyIndexEnabled(final boolean keyIndexEnabled) {
+        syncWrite(() -> {
+            if (this.keyIndexEnabled != keyIndexEnabled) {
+                configList.forEach(this::unregisterChangeListener);
+                this.keyIndexEnabled = keyIndexEnabled;
+                configList.forEach(this::registerChangeListener);
+                keyIndex = null;
+            }
+        }, false);
+    }
+
+    /**
+     * Removes the listener invalidating the key index from the given child configuration.
+     *
+     * @param config The child configuration
+     */
+    private void unregisterChangeListener(final Configuration config) {
+        invalidateKeyIndex();
+        if (config instanceof EventSource) {
+            ((EventSource) config).removeEventListener(ConfigurationEvent.ANY, changeListener);
+        }
+    }
 }
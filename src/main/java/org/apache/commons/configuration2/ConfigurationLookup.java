@@ -58,6 +58,20 @@ public class ConfigurationLookup implements Lookup {
         return configuration;
     }
 
+    /**
+     * {@inheritDoc} This implementation returns <strong>true</strong>. A configuration notifies its own
+     * {@code ConfigurationInterpolator} about changes of properties, so that cached results depending on a changed
+     * property are discarded. If this lookup refers to another configuration, the result cache of the interpolator has to
+     * be cleared manually when this configuration is changed.
+     *
+     * @see org.apache.commons.configuration2.interpol.ConfigurationInterpolator#clearCache()
+     * @since 2.16.0
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     /**
      * {@inheritDoc} This implementation calls {@code getProperty()} on the associated configuration. The return value is
      * directly returned. Note that this may be a complex object, for example a collection or an array.
@@ -25,8 +25,16 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.sql.DataSource;
 
@@ -36,6 +44,7 @@ import org.apache.commons.configuration2.event.ConfigurationErrorEvent;
 import org.apache.commons.configuration2.event.ConfigurationEvent;
 import org.apache.commons.configuration2.event.EventType;
 import org.apache.commons.configuration2.io.ConfigurationLogger;
+import org.apache.commons.configuration2.reloading.ReloadingDetector;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -110,6 +119,28 @@ import org.apache.commons.lang3.StringUtils;
  * default behavior), it should be ensured that the connections returned by the {@code DataSource} are in auto-commit
  * mode.
  * <p>
+ * Per default, each access to a property results in a database query. If the data is read frequently, a caching mode
+ * can be enabled by setting the {@code cacheEnabled} property. Then all rows of this configuration are loaded with a
+ * single query on first access, and further reads are served from memory. Updates performed through this configuration
+ * are written to the database directly and invalidate the cache. To detect changes made by other parties, a
+ * {@code changeDetectionQuery} can be set; this is an SQL query returning a single value which changes whenever the
+ * configuration data is modified, for example the maximum of a version or timestamp column. The
+ * {@link ReloadingDetector} returned by {@link #createReloadingDetector()} compares the result of this query with the
+ * value obtained when the cache was loaded and refreshes the cache if a reload is performed. It can be used together
+ * with a {@code ReloadingController} and a {@code PeriodicReloadingTrigger}:
+ * </p>
+ *
+ * <pre>
+ * ReloadingController controller = new ReloadingController(config.createReloadingDetector());
+ * controller.addEventListener(ReloadingEvent.ANY, event -&gt; controller.resetReloadingState());
+ * new PeriodicReloadingTrigger(controller, null, 1, TimeUnit.MINUTES).start();
+ * </pre>
+ * <p>
+ * Many updates, for example when importing the data of another configuration, can be grouped using the
+ * {@link #batch(Consumer)} method. The updates are then written using JDBC batches on a single connection in a single
+ * transaction, and only a single {@link ConfigurationEvent#BATCH_UPDATE} event is generated.
+ * </p>
+ * <p>
  * <strong>Note: Like JDBC itself, protection against SQL injection is left to the user.</strong>
  * </p>
  *
@@ -172,16 +203,7 @@ public class DatabaseConfiguration extends AbstractConfiguration {
          * @throws SQLException Thrown if an SQL error occurs
          */
         protected PreparedStatement createStatement(final String sql, final boolean nameCol) throws SQLException {
-            final String statement;
-            if (nameCol && configurationNameColumn != null) {
-                final StringBuilder buf = new StringBuilder(sql);
-                buf.append(" AND ").append(configurationNameColumn).append("=?");
-                statement = buf.toString();
-            } else {
-                statement = sql;
-            }
-
-            preparedStatement = getConnection().prepareStatement(statement);
+            preparedStatement = getConnection().prepareStatement(nameCol ? appendNameCondition(sql) : sql);
             return preparedStatement;
         }
 
@@ -271,6 +293,63 @@ public class DatabaseConfiguration extends AbstractConfiguration {
         protected abstract T performOperation() throws SQLException;
     }
 
+    /**
+     * A write operation recorded during a batch. It consists of an SQL statement and the values of its parameters. An
+     * operation either inserts a row or deletes the rows of a key or - if the key is <strong>null</strong> - all rows.
+     */
+    private static final class BatchOperation {
+
+        /** A flag whether this operation inserts a row. */
+        private final boolean insert;
+
+        /** The affected key; <strong>null</strong> for all keys. */
+        private final String key;
+
+        /** The SQL statement. */
+        private final String sql;
+
+        /** The parameters of the statement. */
+        private final Object[] params;
+
+        /**
+         * Creates a new instance of {@code BatchOperation}.
+         *
+         * @param insert The insert flag
+         * @param key The affected key
+         * @param sql The SQL statement
+         * @param params The parameters of the statement
+         */
+        BatchOperation(final boolean insert, final String key, final String sql, final Object... params) {
+            this.insert = insert;
+            this.key = key;
+            this.sql = sql;
+            this.params = params;
+        }
+    }
+
+    /**
+     * An immutable snapshot of the data of this configuration used in caching mode.
+     */
+    private static final class PropertyCache {
+
+        /** The raw values of all rows, grouped by key. */
+        private final Map<String, List<Object>> data;
+
+        /** The result of the change detection query when the data was loaded. */
+        private final Object changeToken;
+
+        /**
+         * Creates a new instance of {@code PropertyCache}.
+         *
+         * @param data The map with the property values
+         * @param changeToken The change token
+         */
+        PropertyCache(final Map<String, List<Object>> data, final Object changeToken) {
+            this.data = Collections.unmodifiableMap(data);
+            this.changeToken = changeToken;
+        }
+    }
+
     /** Constant for the statement used by getProperty. */
     private static final String SQL_GET_PROPERTY = "SELECT * FROM %s WHERE %s =?";
 
@@ -286,6 +365,9 @@ public class DatabaseConfiguration extends AbstractConfiguration {
     /** Constant for the statement used by getKeys. */
     private static final String SQL_GET_KEYS = "SELECT DISTINCT %s FROM %s WHERE 1 = 1";
 
+    /** Constant for the statement used to load the cache. */
+    private static final String SQL_GET_ALL = "SELECT * FROM %s WHERE 1 = 1";
+
     /**
      * Converts a CLOB to a string.
      *
@@ -319,6 +401,21 @@ public class DatabaseConfiguration extends AbstractConfiguration {
     /** A flag whether commits should be performed by this configuration. */
     private boolean autoCommit;
 
+    /** A flag whether the data of this configuration is cached. */
+    private boolean cacheEnabled;
+
+    /** The query for detecting changes of the configuration data. */
+    private String changeDetectionQuery;
+
+    /** The cached data; <strong>null</strong> if the cache has not been loaded. */
+    private volatile PropertyCache cache;
+
+    /**
+     * The operations recorded by the batch of the current thread; the list is <strong>null</strong> if the current thread
+     * does not run a batch.
+     */
+    private final ThreadLocal<List<BatchOperation>> batchOperations = new ThreadLocal<>();
+
     /**
      * Creates a new instance of {@code DatabaseConfiguration}.
      */
@@ -337,23 +434,17 @@ public class DatabaseConfiguration extends AbstractConfiguration {
      */
     @Override
     protected void addPropertyDirect(final String key, final Object obj) {
+        final List<BatchOperation> operations = batchOperations.get();
+        if (operations != null) {
+            final String sql = createInsertStatement();
+            operations.add(configurationNameColumn != null ? new BatchOperation(true, key, sql, key, String.valueOf(obj), configurationName)
+                : new BatchOperation(true, key, sql, key, String.valueOf(obj)));
+            return;
+        }
         new AbstractJdbcOperation<Void>(ConfigurationErrorEvent.WRITE, ConfigurationEvent.ADD_PROPERTY, key, obj) {
             @Override
             protected Void performOperation() throws SQLException {
-                final StringBuilder query = new StringBuilder("INSERT INTO ");
-                query.append(table).append(" (");
-                query.append(keyColumn).append(", ");
-                query.append(valueColumn);
-                if (configurationNameColumn != null) {
-                    query.append(", ").append(configurationNameColumn);
-                }
-                query.append(") VALUES (?, ?");
-                if (configurationNameColumn != null) {
-                    query.append(", ?");
-                }
-                query.append(")");
-
-                try (PreparedStatement pstmt = initStatement(query.toString(), false, key, String.valueOf(obj))) {
+                try (PreparedStatement pstmt = initStatement(createInsertStatement(), false, key, String.valueOf(obj))) {
                     if (configurationNameColumn != null) {
                         pstmt.setString(3, configurationName);
                     }
@@ -363,6 +454,7 @@ public class DatabaseConfiguration extends AbstractConfiguration {
                 }
             }
         }.execute();
+        invalidateCache();
     }
 
     /**
@@ -386,6 +478,63 @@ public class DatabaseConfiguration extends AbstractConfiguration {
         }
     }
 
+    /**
+     * Appends the condition for the configuration name column to the given SQL statement if this configuration stores its
+     * data in a table with multiple configurations.
+     *
+     * @param sql The SQL statement
+     * @return The statement with the condition for the configuration name
+     */
+    private String appendNameCondition(final String sql) {
+        if (configurationNameColumn != null) {
+            final StringBuilder buf = new StringBuilder(sql);
+            buf.append(" AND ").append(configurationNameColumn).append("=?");
+            return buf.toString();
+        }
+        return sql;
+    }
+
+    /**
+     * Performs multiple updates as a batch. The passed in action is invoked with this configuration. All updates it
+     * performs, i.e. adding, setting, or clearing properties, are recorded and written to the database afterwards on a
+     * single connection using JDBC batches. The updates are executed in a single transaction: if the connection is in
+     * auto-commit mode, auto-commit is disabled for the batch, and a single commit is performed at the end; if a database
+     * error occurs, the transaction is rolled back, and an error event of type {@code WRITE} with the operation type
+     * {@code BATCH_UPDATE} is generated. Instead of events for the single updates, one event of type
+     * {@link ConfigurationEvent#BATCH_UPDATE} is sent before and after the batch.
+     * <p>
+     * Note that updates recorded by the batch are not visible to read operations performed by the action. If the action
+     * throws an exception, no updates are written. Nested calls of this method become part of the outer batch. The batch
+     * is bound to the calling thread: updates performed concurrently by other threads are not recorded, but written
+     * directly as usual.
+     * </p>
+     *
+     * @param action The action performing the updates
+     * @since 2.16.0
+     */
+    public void batch(final Consumer<? super DatabaseConfiguration> action) {
+        beginWrite(false);
+        try {
+            if (batchOperations.get() != null) {
+                action.accept(this);
+                return;
+            }
+            fireEvent(ConfigurationEvent.BATCH_UPDATE, null, null, true);
+            final List<BatchOperation> operations = new ArrayList<>();
+            batchOperations.set(operations);
+            try {
+                action.accept(this);
+            } finally {
+                batchOperations.remove();
+            }
+            executeBatch(operations);
+            invalidateCache();
+            fireEvent(ConfigurationEvent.BATCH_UPDATE, null, null, false);
+        } finally {
+            endWrite();
+        }
+    }
+
     /**
      * Removes all entries from this configuration. If this causes a database error, an error event will be generated of
      * type {@code CLEAR} with the causing exception. Both the event's {@code propertyName} and the {@code propertyValue}
@@ -393,6 +542,12 @@ public class DatabaseConfiguration extends AbstractConfiguration {
      */
     @Override
     protected void clearInternal() {
+        final List<BatchOperation> operations = batchOperations.get();
+        if (operations != null) {
+            final String sql = appendNameCondition(String.format(SQL_CLEAR, table));
+            operations.add(configurationNameColumn != null ? new BatchOperation(false, null, sql, configurationName) : new BatchOperation(false, null, sql));
+            return;
+        }
         new AbstractJdbcOperation<Void>(ConfigurationErrorEvent.WRITE, ConfigurationEvent.CLEAR, null, null) {
             @Override
             protected Void performOperation() throws SQLException {
@@ -402,6 +557,7 @@ public class DatabaseConfiguration extends AbstractConfiguration {
                 return null;
             }
         }.execute();
+        invalidateCache();
     }
 
     /**
@@ -413,6 +569,13 @@ public class DatabaseConfiguration extends AbstractConfiguration {
      */
     @Override
     protected void clearPropertyDirect(final String key) {
+        final List<BatchOperation> operations = batchOperations.get();
+        if (operations != null) {
+            final String sql = appendNameCondition(String.format(SQL_CLEAR_PROPERTY, table, keyColumn));
+            operations.add(configurationNameColumn != null ? new BatchOperation(false, key, sql, key, configurationName)
+                : new BatchOperation(false, key, sql, key));
+            return;
+        }
         new AbstractJdbcOperation<Void>(ConfigurationErrorEvent.WRITE, ConfigurationEvent.CLEAR_PROPERTY, key, null) {
             @Override
             protected Void performOperation() throws SQLException {
@@ -422,6 +585,7 @@ public class DatabaseConfiguration extends AbstractConfiguration {
                 }
             }
         }.execute();
+        invalidateCache();
     }
 
     /**
@@ -467,6 +631,9 @@ public class DatabaseConfiguration extends AbstractConfiguration {
      */
     @Override
     protected boolean containsKeyInternal(final String key) {
+        if (isCacheEnabled()) {
+            return fetchCache().data.containsKey(key);
+        }
         final AbstractJdbcOperation<Boolean> op = new AbstractJdbcOperation<Boolean>(ConfigurationErrorEvent.READ, ConfigurationErrorEvent.READ, key, null) {
             @Override
             protected Boolean performOperation() throws SQLException {
@@ -488,6 +655,10 @@ public class DatabaseConfiguration extends AbstractConfiguration {
      */
     @Override
     protected boolean containsValueInternal(final Object value) {
+        if (isCacheEnabled()) {
+            return fetchCache().data.values().stream().flatMap(List::stream)
+                .anyMatch(v -> Objects.equals(v, value) || v != null && value != null && v.toString().equals(value.toString()));
+        }
         final AbstractJdbcOperation<Boolean> op = new AbstractJdbcOperation<Boolean>(ConfigurationErrorEvent.READ, ConfigurationErrorEvent.READ, null, value) {
             @Override
             protected Boolean performOperation() throws SQLException {
@@ -500,6 +671,143 @@ public class DatabaseConfiguration extends AbstractConfiguration {
         return result != null && result.booleanValue();
     }
 
+    /**
+     * Creates the SQL statement for inserting a property. The parameters of the statement are the key, the value, and - if
+     * defined - the configuration name.
+     *
+     * @return The insert statement
+     */
+    private String createInsertStatement() {
+        final StringBuilder query = new StringBuilder("INSERT INTO ");
+        query.append(table).append(" (");
+        query.append(keyColumn).append(", ");
+        query.append(valueColumn);
+        if (configurationNameColumn != null) {
+            query.append(", ").append(configurationNameColumn);
+        }
+        query.append(") VALUES (?, ?");
+        if (configurationNameColumn != null) {
+            query.append(", ?");
+        }
+        query.append(")");
+        return query.toString();
+    }
+
+    /**
+     * Creates a {@link ReloadingDetector} which detects changes of the data of this configuration in the database. The
+     * detector executes the {@code changeDetectionQuery} and compares its result with the value obtained when the cache was
+     * loaded. If they differ, a reload is required. When the reload is performed, the cache is refreshed. If caching is
+     * disabled, no change detection query is set, or the query fails, the detector reports that no reload is required.
+     *
+     * @return The {@code ReloadingDetector} for this configuration
+     * @since 2.16.0
+     */
+    public ReloadingDetector createReloadingDetector() {
+        return new ReloadingDetector() {
+            @Override
+            public boolean isReloadingRequired() {
+                final PropertyCache currentCache = cache;
+                if (currentCache == null || getChangeDetectionQuery() == null) {
+                    return false;
+                }
+                final Optional<Object> token = new AbstractJdbcOperation<Optional<Object>>(ConfigurationErrorEvent.READ, ConfigurationErrorEvent.READ, null,
+                    null) {
+                    @Override
+                    protected Optional<Object> performOperation() throws SQLException {
+                        return Optional.ofNullable(fetchChangeToken(getConnection()));
+                    }
+                }.execute();
+                return token != null && !Objects.equals(token.orElse(null), currentCache.changeToken);
+            }
+
+            @Override
+            public void reloadingPerformed() {
+                refreshCache();
+            }
+        };
+    }
+
+    /**
+     * Writes the operations recorded by a batch to the database. All operations are executed on a single connection in a
+     * single transaction. To produce large JDBC batches, the operations are split into segments; in each segment, the
+     * deletions are executed before the insertions. A new segment is started if a deletion affects a row inserted in the
+     * current segment.
+     *
+     * @param operations The operations to execute
+     */
+    private void executeBatch(final List<BatchOperation> operations) {
+        if (operations.isEmpty()) {
+            return;
+        }
+        new AbstractJdbcOperation<Void>(ConfigurationErrorEvent.WRITE, ConfigurationEvent.BATCH_UPDATE, null, null) {
+            @Override
+            protected Void performOperation() throws SQLException {
+                final Connection conn = getConnection();
+                final boolean connectionAutoCommit = conn.getAutoCommit();
+                if (connectionAutoCommit) {
+                    conn.setAutoCommit(false);
+                }
+                try {
+                    final List<BatchOperation> deletions = new ArrayList<>();
+                    final List<BatchOperation> insertions = new ArrayList<>();
+                    final Set<String> insertedKeys = new HashSet<>();
+                    for (final BatchOperation operation : operations) {
+                        if (operation.insert) {
+                            insertions.add(operation);
+                            insertedKeys.add(operation.key);
+                        } else {
+                            if (!insertions.isEmpty() && (operation.key == null || insertedKeys.contains(operation.key))) {
+                                executeStatements(conn, deletions);
+                                executeStatements(conn, insertions);
+                                insertedKeys.clear();
+                            }
+                            deletions.add(operation);
+                        }
+                    }
+                    executeStatements(conn, deletions);
+                    executeStatements(conn, insertions);
+                    if (connectionAutoCommit) {
+                        conn.commit();
+                    }
+                } catch (final SQLException e) {
+                    if (connectionAutoCommit || isAutoCommit()) {
+                        conn.rollback();
+                    }
+                    throw e;
+                } finally {
+                    if (connectionAutoCommit) {
+                        conn.setAutoCommit(true);
+                    }
+                }
+                return null;
+            }
+        }.execute();
+    }
+
+    /**
+     * Executes the given operations using one JDBC batch per SQL statement. Afterwards the list is cleared.
+     *
+     * @param conn The database connection
+     * @param operations The operations to execute
+     * @throws SQLException Thrown if an error occurs
+     */
+    private void executeStatements(final Connection conn, final List<BatchOperation> operations) throws SQLException {
+        final Map<String, List<BatchOperation>> statements = new LinkedHashMap<>();
+        operations.forEach(operation -> statements.computeIfAbsent(operation.sql, k -> new ArrayList<>()).add(operation));
+        for (final Map.Entry<String, List<BatchOperation>> e : statements.entrySet()) {
+            try (PreparedStatement ps = conn.prepareStatement(e.getKey())) {
+                for (final BatchOperation operation : e.getValue()) {
+                    for (int i = 0; i < operation.params.length; i++) {
+                        ps.setObject(i + 1, operation.params[i]);
+                    }
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+        operations.clear();
+    }
+
     /**
      * Extracts the value of a property from the given result set. The passed in {@code ResultSet} was created by a SELECT
      * statement on the underlying database table. This implementation reads the value of the column determined by the
@@ -518,6 +826,50 @@ public class DatabaseConfiguration extends AbstractConfiguration {
         return value;
     }
 
+    /**
+     * Returns the cached data of this configuration. The cache is loaded if necessary.
+     *
+     * @return The cached data
+     */
+    private PropertyCache fetchCache() {
+        final PropertyCache currentCache = cache;
+        return currentCache != null ? currentCache : loadCache();
+    }
+
+    /**
+     * Executes the change detection query on the given connection and returns the resulting value.
+     *
+     * @param conn The database connection
+     * @return The current change token (can be <strong>null</strong>)
+     * @throws SQLException Thrown if an error occurs
+     */
+    private Object fetchChangeToken(final Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(getChangeDetectionQuery()); ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getObject(1) : null;
+        }
+    }
+
+    /**
+     * {@inheritDoc} This implementation suppresses the events of single updates performed by the batch of the current
+     * thread.
+     */
+    @Override
+    protected <T extends ConfigurationEvent> void fireEvent(final EventType<T> type, final String propName, final Object propValue, final boolean before) {
+        if (batchOperations.get() == null) {
+            super.fireEvent(type, propName, propValue, before);
+        }
+    }
+
+    /**
+     * Gets the query used for detecting changes of the configuration data.
+     *
+     * @return The change detection query
+     * @since 2.16.0
+     */
+    public String getChangeDetectionQuery() {
+        return changeDetectionQuery;
+    }
+
     /**
      * Gets the name of this configuration instance.
      *
@@ -575,6 +927,9 @@ public class DatabaseConfiguration extends AbstractConfiguration {
      */
     @Override
     protected Iterator<String> getKeysInternal() {
+        if (isCacheEnabled()) {
+            return new ArrayList<>(fetchCache().data.keySet()).iterator();
+        }
         final Collection<String> keys = new ArrayList<>();
         new AbstractJdbcOperation<Collection<String>>(ConfigurationErrorEvent.READ, ConfigurationErrorEvent.READ, null, null) {
             @Override
@@ -601,20 +956,20 @@ public class DatabaseConfiguration extends AbstractConfiguration {
      */
     @Override
     protected Object getPropertyInternal(final String key) {
+        if (isCacheEnabled()) {
+            final List<Object> values = fetchCache().data.get(key);
+            return values != null ? parsePropertyValues(values) : null;
+        }
         final AbstractJdbcOperation<Object> op = new AbstractJdbcOperation<Object>(ConfigurationErrorEvent.READ, ConfigurationErrorEvent.READ, key, null) {
             @Override
             protected Object performOperation() throws SQLException {
-                final List<Object> results = new ArrayList<>();
+                final List<Object> values = new ArrayList<>();
                 try (ResultSet rs = openResultSet(String.format(SQL_GET_PROPERTY, table, keyColumn), true, key)) {
                     while (rs.next()) {
-                        // Split value if it contains the list delimiter
-                        getListDelimiterHandler().parse(extractPropertyValue(rs)).forEach(results::add);
+                        values.add(extractPropertyValue(rs));
                     }
                 }
-                if (!results.isEmpty()) {
-                    return results.size() > 1 ? results : results.get(0);
-                }
-                return null;
+                return parsePropertyValues(values);
             }
         };
 
@@ -639,6 +994,13 @@ public class DatabaseConfiguration extends AbstractConfiguration {
         return valueColumn;
     }
 
+    /**
+     * Drops the cached data, so that it is reloaded on next access.
+     */
+    private void invalidateCache() {
+        cache = null;
+    }
+
     /**
      * Returns a flag whether this configuration performs commits after database updates.
      *
@@ -648,6 +1010,16 @@ public class DatabaseConfiguration extends AbstractConfiguration {
         return autoCommit;
     }
 
+    /**
+     * Returns a flag whether the data of this configuration is cached.
+     *
+     * @return A flag whether caching is enabled
+     * @since 2.16.0
+     */
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
     /**
      * Checks if this configuration is empty. If this causes a database error, an error event will be generated of type
      * {@code READ} with the causing exception. Both the event's {@code propertyName} and {@code propertyValue} will be
@@ -657,6 +1029,9 @@ public class DatabaseConfiguration extends AbstractConfiguration {
      */
     @Override
     protected boolean isEmptyInternal() {
+        if (isCacheEnabled()) {
+            return fetchCache().data.isEmpty();
+        }
         final AbstractJdbcOperation<Integer> op = new AbstractJdbcOperation<Integer>(ConfigurationErrorEvent.READ, ConfigurationErrorEvent.READ, null, null) {
             @Override
             protected Integer performOperation() throws SQLException {
@@ -670,6 +1045,67 @@ public class DatabaseConfiguration extends AbstractConfiguration {
         return count == null || count.intValue() == 0;
     }
 
+    /**
+     * Loads all rows of this configuration with a single query and stores them in the cache. If a change detection query
+     * is defined, it is executed first on the same connection. If this causes a database error, an error event will be
+     * generated of type {@code READ} with the causing exception, and an empty result is returned without being cached.
+     *
+     * @return The loaded data
+     */
+    private PropertyCache loadCache() {
+        final PropertyCache newCache = new AbstractJdbcOperation<PropertyCache>(ConfigurationErrorEvent.READ, ConfigurationErrorEvent.READ, null, null) {
+            @Override
+            protected PropertyCache performOperation() throws SQLException {
+                final Object token = getChangeDetectionQuery() != null ? fetchChangeToken(getConnection()) : null;
+                final Map<String, List<Object>> data = new LinkedHashMap<>();
+                try (ResultSet rs = openResultSet(String.format(SQL_GET_ALL, table), true)) {
+                    while (rs.next()) {
+                        data.computeIfAbsent(rs.getString(keyColumn), k -> new ArrayList<>(1)).add(extractPropertyValue(rs));
+                    }
+                }
+                return new PropertyCache(data, token);
+            }
+        }.execute();
+
+        if (newCache == null) {
+            return new PropertyCache(Collections.emptyMap(), null);
+        }
+        if (isCacheEnabled()) {
+            cache = newCache;
+        }
+        return newCache;
+    }
+
+    /**
+     * Transforms the raw values stored for a key into the value of the property. Values are split if they contain the list
+     * delimiter.
+     *
+     * @param values The raw values read from the database
+     * @return The property value; <strong>null</strong> if there are no values
+     */
+    private Object parsePropertyValues(final Collection<Object> values) {
+        final List<Object> results = new ArrayList<>();
+        values.forEach(value -> getListDelimiterHandler().parse(value).forEach(results::add));
+        if (!results.isEmpty()) {
+            return results.size() > 1 ? results : results.get(0);
+        }
+        return null;
+    }
+
+    /**
+     * Reloads the cached data from the database with a single query. This method can be called to preload the cache or to
+     * make changes in the database visible which were not made through this configuration. If caching is disabled, this
+     * method has no effect.
+     *
+     * @since 2.16.0
+     */
+    public void refreshCache() {
+        invalidateCache();
+        if (isCacheEnabled()) {
+            loadCache();
+        }
+    }
+
     /**
      * Sets the auto commit flag. If set to <strong>true</strong>, this configuration performs a commit after each database update.
      *
@@ -679,6 +1115,33 @@ public class DatabaseConfiguration extends AbstractConfiguration {
         this.autoCommit = autoCommit;
     }
 
+    /**
+     * Enables or disables caching mode. If enabled, all data of this configuration is loaded with a single query on first
+     * access, and read operations are served from memory. Disabling the cache discards the cached data.
+     *
+     * @param cacheEnabled The cache enabled flag
+     * @since 2.16.0
+     */
+    public void setCacheEnabled(final boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+        if (!cacheEnabled) {
+            invalidateCache();
+        }
+    }
+
+    /**
+     * Sets the query used for detecting changes of the configuration data. This must be an SQL query returning a single
+     * value, which changes whenever the data of this configuration is modified, for example
+     * {@code SELECT MAX(version) FROM myconfig}. The query is executed without parameters.
+     *
+     * @param changeDetectionQuery The change detection query
+     * @see #createReloadingDetector()
+     * @since 2.16.0
+     */
+    public void setChangeDetectionQuery(final String changeDetectionQuery) {
+        this.changeDetectionQuery = changeDetectionQuery;
+    }
+
     /**
      * Sets the name of this configuration instance.
      *
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.configuration2.tree.ConfigurationNodeVisitorAdapter;
+import org.apache.commons.configuration2.tree.DefaultExpressionEngine;
+import org.apache.commons.configuration2.tree.DefaultExpressionEngineSymbols;
+import org.apache.commons.configuration2.tree.ExpressionEngine;
+import org.apache.commons.configuration2.tree.ImmutableNode;
+import org.apache.commons.configuration2.tree.NodeHandler;
+import org.apache.commons.configuration2.tree.NodeTreeWalker;
+
+/**
+ * <p>
+ * A read-only configuration storing the content of a hierarchical configuration in a flat map.
+ * </p>
+ * <p>
+ * Instances are created by {@link BaseHierarchicalConfiguration#snapshot()}. On construction, the node structure of the
+ * source configuration is traversed once; the keys of all nodes and attributes with a value (as generated by the
+ * expression engine of the source configuration) are stored in a map together with their values. If a key occurs
+ * multiple times, a list with all values is stored. So {@code getProperty()} and {@code containsKey()} are simple map
+ * lookups, and the keys are available without traversing the node structure again. Keys containing indices or other
+ * constructs of the expression language are not supported.
+ * </p>
+ * <p>
+ * The data of an instance cannot be changed; all methods for manipulating properties throw an
+ * {@code UnsupportedOperationException}. Therefore, no synchronization is required, and instances can be shared between
+ * multiple threads.
+ * </p>
+ *
+ * @since 2.16.0
+ */
+final class HierarchicalConfigurationSnapshot extends AbstractConfiguration {
+
+    /**
+     * A visitor which collects the keys and values of all nodes into a map.
+     */
+    private static final class FlatteningVisitor extends ConfigurationNodeVisitorAdapter<ImmutableNode> {
+
+        /** The map with the collected values. */
+        private final Map<String, Object> values = new LinkedHashMap<>();
+
+        /** A stack with the keys of the parent nodes of the current node. */
+        private final Deque<String> parentKeys = new ArrayDeque<>();
+
+        /** The expression engine for generating keys. */
+        private final ExpressionEngine expressionEngine;
+
+        /**
+         * Creates a new instance of {@code FlatteningVisitor}.
+         *
+         * @param engine The expression engine
+         */
+        FlatteningVisitor(final ExpressionEngine engine) {
+            expressionEngine = engine;
+        }
+
+        /**
+         * Adds a value for the given key. If there already is a value, a list is created.
+         *
+         * @param key The key
+         * @param value The value
+         */
+        private void addValue(final String key, final Object value) {
+            final Object current = values.get(key);
+            if (current == null) {
+                values.put(key, value);
+            } else if (current instanceof MultiValue) {
+                ((MultiValue) current).add(value);
+            } else {
+                final MultiValue list = new MultiValue();
+                list.add(current);
+                list.add(value);
+                values.put(key, list);
+            }
+        }
+
+        /**
+         * Returns the map with the collected values. Lists with multiple values are made unmodifiable.
+         *
+         * @return The map with all keys and values
+         */
+        Map<String, Object> getValues() {
+            values.replaceAll((k, v) -> v instanceof MultiValue ? Collections.unmodifiableList((MultiValue) v) : v);
+            return values;
+        }
+
+        @Override
+        public void visitAfterChildren(final ImmutableNode node, final NodeHandler<ImmutableNode> handler) {
+            parentKeys.pop();
+        }
+
+        @Override
+        public void visitBeforeChildren(final ImmutableNode node, final NodeHandler<ImmutableNode> handler) {
+            final String key = expressionEngine.nodeKey(node, parentKeys.peek(), handler);
+            parentKeys.push(key);
+            if (node.getValue() != null) {
+                addValue(key, node.getValue());
+            }
+            node.getAttributes().forEach((attr, value) -> {
+                if (value != null) {
+                    addValue(expressionEngine.attributeKey(key, attr), value);
+                }
+            });
+        }
+    }
+
+    /**
+     * A list class used for collecting multiple values of a key. It is distinguished from lists that are node values.
+     */
+    private static final class MultiValue extends ArrayList<Object> {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    /** The root node this snapshot was created from. */
+    private final ImmutableNode rootNode;
+
+    /** The map with the keys and values of this snapshot. */
+    private final Map<String, Object> values;
+
+    /** The delimiter for child keys used by getKeys(prefix). */
+    private final String propertyDelimiter;
+
+    /** The start marker of attribute keys used by getKeys(prefix). */
+    private final String attributeStart;
+
+    /**
+     * Creates a new instance of {@code HierarchicalConfigurationSnapshot} for the given configuration and its current root
+     * node. The caller is responsible for proper synchronization of the source configuration.
+     *
+     * @param source The source configuration
+     * @param root The root node of the source configuration
+     */
+    HierarchicalConfigurationSnapshot(final BaseHierarchicalConfiguration source, final ImmutableNode root) {
+        rootNode = root;
+        final FlatteningVisitor visitor = new FlatteningVisitor(source.getExpressionEngine());
+        final NodeHandler<ImmutableNode> handler = source.getModel().getNodeHandler();
+        NodeTreeWalker.INSTANCE.walkDFS(root, visitor, handler);
+        values = visitor.getValues();
+
+        if (source.getExpressionEngine() instanceof DefaultExpressionEngine) {
+            final DefaultExpressionEngineSymbols symbols = ((DefaultExpressionEngine) source.getExpressionEngine()).getSymbols();
+            propertyDelimiter = symbols.getPropertyDelimiter();
+            attributeStart = symbols.getAttributeStart();
+        } else {
+            propertyDelimiter = DELIMITER;
+            attributeStart = null;
+        }
+
+        cloneInterpolator(source);
+        setParentInterpolator(source.getInterpolator().getParentInterpolator());
+        setConversionHandler(source.getConversionHandler());
+        setListDelimiterHandler(source.getListDelimiterHandler());
+        setConfigurationDecoder(source.getConfigurationDecoder());
+        setThrowExceptionOnMissing(source.isThrowExceptionOnMissing());
+    }
+
+    /**
+     * Throws an exception because this configuration cannot be changed.
+     *
+     * @param key The key
+     * @param value The value
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    protected void addPropertyDirect(final String key, final Object value) {
+        throw new UnsupportedOperationException("A configuration snapshot cannot be modified.");
+    }
+
+    /**
+     * Throws an exception because this configuration cannot be changed.
+     *
+     * @param key The key
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    protected void clearPropertyDirect(final String key) {
+        throw new UnsupportedOperationException("A configuration snapshot cannot be modified.");
+    }
+
+    @Override
+    protected boolean containsKeyInternal(final String key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    protected boolean containsValueInternal(final Object value) {
+        return contains(getKeysInternal(), value);
+    }
+
+    @Override
+    protected Iterator<String> getKeysInternal() {
+        return Collections.unmodifiableSet(values.keySet()).iterator();
+    }
+
+    /**
+     * {@inheritDoc} This implementation returns the keys that are equal to the prefix, and the keys of child nodes and
+     * attributes of the nodes selected by the prefix.
+     */
+    @Override
+    protected Iterator<String> getKeysInternal(final String prefix) {
+        final List<String> keys = new ArrayList<>();
+        values.keySet().forEach(key -> {
+            if (key.startsWith(prefix) && (key.length() == prefix.length() || key.startsWith(propertyDelimiter, prefix.length())
+                || attributeStart != null && key.startsWith(attributeStart, prefix.length()))) {
+                keys.add(key);
+            }
+        });
+        return keys.iterator();
+    }
+
+    @Override
+    protected Object getPropertyInternal(final String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Gets the root node of the source configuration this snapshot was created from.
+     *
+     * @return The root node
+     */
+    ImmutableNode getRootNode() {
+        return rootNode;
+    }
+
+    @Override
+    protected boolean isEmptyInternal() {
+        return values.isEmpty();
+    }
+
+    @Override
+    protected int sizeInternal() {
+        return values.size();
+    }
+}
@@ -19,10 +19,14 @@ package org.apache.commons.configuration2;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.naming.Context;
 import javax.naming.InitialContext;
@@ -40,9 +44,44 @@ import org.apache.commons.lang3.StringUtils;
  * This Configuration class allows you to interface with a JNDI datasource. A JNDIConfiguration is read-only, write
  * operations will throw an UnsupportedOperationException. The clear operations are supported but the underlying JNDI
  * data source is not changed.
+ * <p>
+ * Per default, each access to a property results in a JNDI lookup, and {@code getKeys()} traverses the context tree.
+ * If the JNDI tree rarely changes, a cached view can be enabled by setting a positive {@code cacheRefreshDelay}. Then the
+ * whole subtree below the prefix is read into memory on first access, and read operations are served from this
+ * snapshot. When the snapshot is older than the refresh delay (in milliseconds), it is read again on next access.
+ * {@link #refreshCache()} can be used to reload it explicitly.
+ * </p>
  */
 public class JNDIConfiguration extends AbstractConfiguration {
 
+    /**
+     * An immutable snapshot of the JNDI subtree used by the cached view.
+     */
+    private static final class Snapshot {
+
+        /** The objects bound in the subtree, including sub contexts, by key. */
+        private final Map<String, Object> entries;
+
+        /** The keys of all properties, i.e. entries which are not contexts. */
+        private final List<String> keys;
+
+        /** The time when the snapshot was created. */
+        private final long timestamp;
+
+        /**
+         * Creates a new instance of {@code Snapshot}.
+         *
+         * @param entries The map with all entries
+         * @param keys The list with the property keys
+         * @param timestamp The creation time
+         */
+        Snapshot(final Map<String, Object> entries, final List<String> keys, final long timestamp) {
+            this.entries = Collections.unmodifiableMap(entries);
+            this.keys = Collections.unmodifiableList(keys);
+            this.timestamp = timestamp;
+        }
+    }
+
     /** The prefix of the context. */
     private String prefix;
 
@@ -55,6 +94,12 @@ public class JNDIConfiguration extends AbstractConfiguration {
     /** The Set of keys that have been virtually cleared. */
     private final Set<String> clearedProperties = new HashSet<>();
 
+    /** The refresh delay of the cached view in milliseconds; 0 if caching is disabled. */
+    private long cacheRefreshDelay;
+
+    /** The current snapshot of the cached view; <strong>null</strong> if it has not been loaded. */
+    private volatile Snapshot snapshot;
+
     /**
      * Creates a JNDIConfiguration using the default initial context as the root of the properties.
      *
@@ -133,6 +178,9 @@ public class JNDIConfiguration extends AbstractConfiguration {
         if (clearedProperties.contains(key)) {
             return false;
         }
+        if (isCacheEnabled()) {
+            return fetchSnapshot().entries.containsKey(key);
+        }
         key = key.replace('.', '/');
         try {
             // throws a NamingException if JNDI doesn't contain the key.
@@ -158,6 +206,18 @@ public class JNDIConfiguration extends AbstractConfiguration {
         return contains(getKeys(), value);
     }
 
+    /**
+     * Returns the current snapshot of the cached view. The snapshot is loaded if necessary or if it is older than the
+     * refresh delay.
+     *
+     * @return The current snapshot
+     */
+    private Snapshot fetchSnapshot() {
+        final Snapshot current = snapshot;
+        final long now = System.currentTimeMillis();
+        return current != null && now - current.timestamp < getCacheRefreshDelay() ? current : loadSnapshot(now);
+    }
+
     /**
      * Gets the base context with the prefix applied.
      *
@@ -172,6 +232,25 @@ public class JNDIConfiguration extends AbstractConfiguration {
         return baseContext;
     }
 
+    /**
+     * Gets the refresh delay of the cached view in milliseconds.
+     *
+     * @return The refresh delay; 0 if caching is disabled
+     * @since 2.16.0
+     */
+    public long getCacheRefreshDelay() {
+        return cacheRefreshDelay;
+    }
+
+    /**
+     * Returns a flag whether the cached view is enabled.
+     *
+     * @return <strong>true</strong> if a positive refresh delay is set
+     */
+    private boolean isCacheEnabled() {
+        return getCacheRefreshDelay() > 0;
+    }
+
     /**
      * Gets the initial context used by this configuration. This context is independent of the prefix specified.
      *
@@ -242,6 +321,15 @@ public class JNDIConfiguration extends AbstractConfiguration {
      */
     @Override
     protected Iterator<String> getKeysInternal(final String prefix) {
+        if (isCacheEnabled()) {
+            final List<String> keys = fetchSnapshot().keys;
+            if (StringUtils.isEmpty(prefix)) {
+                return keys.iterator();
+            }
+            final String subKeyPrefix = prefix + DELIMITER;
+            return keys.stream().filter(key -> key.equals(prefix) || key.startsWith(subKeyPrefix)).collect(Collectors.toList()).iterator();
+        }
+
         // build the path
         final String[] splitPath = StringUtils.split(prefix, DELIMITER);
 
@@ -254,7 +342,7 @@ public class JNDIConfiguration extends AbstractConfiguration {
             // return all the keys under the context found
             final Set<String> keys = new HashSet<>();
             if (context != null) {
-                recursiveGetKeys(keys, context, prefix, new HashSet<>());
+                recursiveGetKeys(keys, null, context, prefix, new HashSet<>());
             } else if (containsKey(prefix)) {
                 // add the prefix if it matches exactly a property key
                 keys.add(prefix);
@@ -290,6 +378,9 @@ public class JNDIConfiguration extends AbstractConfiguration {
         if (clearedProperties.contains(key)) {
             return null;
         }
+        if (isCacheEnabled()) {
+            return fetchSnapshot().entries.get(key);
+        }
 
         try {
             key = key.replace('.', '/');
@@ -310,6 +401,9 @@ public class JNDIConfiguration extends AbstractConfiguration {
      */
     @Override
     protected boolean isEmptyInternal() {
+        if (isCacheEnabled()) {
+            return fetchSnapshot().entries.isEmpty();
+        }
         try {
             NamingEnumeration<NameClassPair> enumeration = null;
 
@@ -328,17 +422,46 @@ public class JNDIConfiguration extends AbstractConfiguration {
         }
     }
 
+    /**
+     * Reads the whole subtree below the base context and stores it as the current snapshot. If this causes an error, an
+     * error event will be generated of type {@code READ}, and an empty snapshot is returned without being stored.
+     *
+     * @param now The current time
+     * @return The new snapshot
+     */
+    private Snapshot loadSnapshot(final long now) {
+        final Map<String, Object> entries = new HashMap<>();
+        final Set<String> keys = new HashSet<>();
+        try {
+            recursiveGetKeys(keys, entries, getBaseContext(), "", new HashSet<>());
+        } catch (final NameNotFoundException e) {
+            // expected exception, no need to log it
+            entries.clear();
+            keys.clear();
+        } catch (final NamingException e) {
+            fireError(ConfigurationErrorEvent.READ, ConfigurationErrorEvent.READ, null, null, e);
+            return new Snapshot(Collections.emptyMap(), Collections.emptyList(), now);
+        }
+        final Snapshot newSnapshot = new Snapshot(entries, new ArrayList<>(keys), now);
+        if (isCacheEnabled()) {
+            snapshot = newSnapshot;
+        }
+        return newSnapshot;
+    }
+
     /**
      * This method recursive traverse the JNDI tree, looking for Context objects. When it finds them, it traverses them as
      * well. Otherwise it just adds the values to the list of keys found.
      *
      * @param keys All the keys that have been found.
+     * @param entries A map for storing the objects found by key, including contexts (can be <strong>null</strong>)
      * @param context The parent context
      * @param prefix What prefix we are building on.
      * @param processedCtx A set with the so far processed objects
      * @throws NamingException If JNDI has an issue.
      */
-    private void recursiveGetKeys(final Set<String> keys, final Context context, final String prefix, final Set<Context> processedCtx) throws NamingException {
+    private void recursiveGetKeys(final Set<String> keys, final Map<String, Object> entries, final Context context, final String prefix,
+        final Set<Context> processedCtx) throws NamingException {
         processedCtx.add(context);
         NamingEnumeration<NameClassPair> elements = null;
 
@@ -358,12 +481,15 @@ public class JNDIConfiguration extends AbstractConfiguration {
                     keyBuilder.append(DELIMITER);
                 }
                 keyBuilder.append(name);
+                if (entries != null) {
+                    entries.put(keyBuilder.toString(), object);
+                }
 
                 if (object instanceof Context) {
                     // add the keys of the sub context
                     final Context subcontext = (Context) object;
                     if (!processedCtx.contains(subcontext)) {
-                        recursiveGetKeys(keys, subcontext, keyBuilder.toString(), processedCtx);
+                        recursiveGetKeys(keys, entries, subcontext, keyBuilder.toString(), processedCtx);
                     }
                 } else {
                     // add the key
@@ -378,6 +504,33 @@ public class JNDIConfiguration extends AbstractConfiguration {
         }
     }
 
+    /**
+     * Reads the JNDI subtree of the cached view again. This method can be called to make changes in the JNDI tree visible
+     * before the refresh delay has passed. If caching is disabled, this method has no effect.
+     *
+     * @since 2.16.0
+     */
+    public void refreshCache() {
+        snapshot = null;
+        if (isCacheEnabled()) {
+            loadSnapshot(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Sets the refresh delay of the cached view in milliseconds. If set to a positive value, the JNDI subtree below the
+     * prefix is read into memory, and read operations are served from this snapshot. The snapshot is read again on the
+     * first access after the delay has passed. A value of 0 (which is the default) disables caching, so that all
+     * operations access the JNDI tree directly.
+     *
+     * @param cacheRefreshDelay The refresh delay in milliseconds
+     * @since 2.16.0
+     */
+    public void setCacheRefreshDelay(final long cacheRefreshDelay) {
+        this.cacheRefreshDelay = cacheRefreshDelay;
+        snapshot = null;
+    }
+
     /**
      * Sets the initial context of the configuration.
      *
@@ -389,6 +542,7 @@ public class JNDIConfiguration extends AbstractConfiguration {
 
         // change the context
         this.context = context;
+        snapshot = null;
     }
 
     /**
@@ -401,6 +555,7 @@ public class JNDIConfiguration extends AbstractConfiguration {
 
         // clear the previous baseContext
         baseContext = null;
+        snapshot = null;
     }
 
     /**
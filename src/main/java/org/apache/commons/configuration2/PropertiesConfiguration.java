@@ -25,11 +25,14 @@ import java.io.Reader;
 import java.io.Writer;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -164,6 +167,12 @@ import org.apache.commons.text.translate.UnicodeEscaper;
  * layout object can be set. This should be done before a properties file was loaded.
  * </p>
  * <p>
+ * If a configuration is only loaded and never saved again, keeping track of the layout is unnecessary overhead. In this
+ * case layout tracking can be switched off using {@link #setLayoutEnabled(boolean)}. Properties are then read directly
+ * from the {@code PropertiesReader}, and comments, blank lines, and separators are discarded. Include files are still
+ * processed.
+ * </p>
+ * <p>
  * Like other {@code Configuration} implementations, this class uses a {@code Synchronizer} object to control concurrent
  * access. By choosing a suitable implementation of the {@code Synchronizer} interface, an instance can be made
  * thread-safe or not. Note that access to most of the properties typically set through a builder is not protected by
@@ -1008,6 +1017,348 @@ public class PropertiesConfiguration extends BaseConfiguration implements FileBa
         }
     } // class PropertiesWriter
 
+    /**
+     * <p>
+     * An {@link IOFactory} optimized for loading large properties files.
+     * </p>
+     * <p>
+     * This factory creates a {@link StreamingPropertiesReader}, which produces the same results as the default
+     * {@link PropertiesReader}, but with less overhead. Properties files are written in the same way as by
+     * {@link DefaultIOFactory}.
+     * </p>
+     *
+     * @since 2.16.0
+     */
+    public static class StreamingIOFactory extends DefaultIOFactory {
+
+        /**
+         * Constructs a new instance.
+         */
+        public StreamingIOFactory() {
+            // empty
+        }
+
+        @Override
+        public PropertiesReader createPropertiesReader(final Reader in) {
+            return new StreamingPropertiesReader(in);
+        }
+    }
+
+    /**
+     * <p>
+     * A {@link PropertiesReader} that parses properties directly from a character buffer.
+     * </p>
+     * <p>
+     * The default {@code PropertiesReader} reads each line as a string, concatenates continuation lines, and then splits
+     * the resulting string using a regular expression. This implementation reads the underlying stream into a buffer and
+     * assembles the logical lines in a reusable character array; the key, the separator, and the value are then
+     * determined in a single pass over this array. Only the resulting strings are allocated, and unescaping is skipped for
+     * keys and values that do not contain a backslash. The results are the same as the ones of the default reader.
+     * </p>
+     * <p>
+     * Note that {@link #nextProperty()} neither calls {@link #readProperty()} nor {@link #parseProperty(String)}, and that
+     * the methods for reading characters or lines inherited from {@code LineNumberReader} must not be used together with
+     * this class.
+     * </p>
+     *
+     * @since 2.16.0
+     */
+    public static class StreamingPropertiesReader extends PropertiesReader {
+
+        /** The size of the buffer for reading from the underlying stream. */
+        private static final int BUFFER_SIZE = 8192;
+
+        /** The initial size of the array for the current line. */
+        private static final int INITIAL_LINE_SIZE = 128;
+
+        /**
+         * Tests whether the given character is a line terminator in the sense of regular expressions. Lines containing such
+         * characters are passed to the default parser to obtain exactly the same results.
+         *
+         * @param c The character to test
+         * @return A flag whether this is a line terminator
+         */
+        private static boolean isLineTerminator(final char c) {
+            return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
+
+        /**
+         * Tests whether the given character is a white space character in the sense of regular expressions.
+         *
+         * @param c The character to test
+         * @return A flag whether this is a white space character
+         */
+        private static boolean isWhitespace(final char c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+        }
+
+        /** The underlying reader. */
+        private final Reader source;
+
+        /** The buffer for reading from the underlying reader. */
+        private final char[] buffer = new char[BUFFER_SIZE];
+
+        /** The current position in the buffer. */
+        private int position;
+
+        /** The number of valid characters in the buffer. */
+        private int limit;
+
+        /** A flag whether a line feed has to be skipped because the last line was terminated by a carriage return. */
+        private boolean skipLineFeed;
+
+        /** The characters of the current logical line. */
+        private char[] line = new char[INITIAL_LINE_SIZE];
+
+        /** The number of characters of the current logical line. */
+        private int length;
+
+        /** The number of lines read so far. */
+        private int lineCount;
+
+        /** The separator of the last property; it is reused if the next property has the same one. */
+        private String lastSeparator;
+
+        /**
+         * Constructs a new instance.
+         *
+         * @param reader A Reader.
+         */
+        public StreamingPropertiesReader(final Reader reader) {
+            super(reader);
+            source = reader;
+        }
+
+        /**
+         * Appends characters from the buffer to the current line.
+         *
+         * @param start The start position in the buffer
+         * @param count The number of characters
+         */
+        private void append(final int start, final int count) {
+            if (length + count > line.length) {
+                line = Arrays.copyOf(line, Math.max(line.length * 2, length + count));
+            }
+            System.arraycopy(buffer, start, line, length, count);
+            length += count;
+        }
+
+        /**
+         * Fills the buffer from the underlying reader.
+         *
+         * @return <strong>false</strong> if the end of the stream was reached, <strong>true</strong> otherwise
+         * @throws IOException if an I/O error occurs
+         */
+        private boolean fill() throws IOException {
+            position = 0;
+            do {
+                limit = source.read(buffer, 0, buffer.length);
+            } while (limit == 0);
+            return limit > 0;
+        }
+
+        /**
+         * Returns a string for the given range of the current line. If the range is empty, <strong>null</strong> is returned.
+         * The separator of the last property is reused if possible.
+         *
+         * @param start The start index
+         * @param end The end index
+         * @return The separator string or <strong>null</strong>
+         */
+        private String fetchSeparator(final int start, final int end) {
+            if (start == end) {
+                return null;
+            }
+            final String last = lastSeparator;
+            if (last != null && last.length() == end - start) {
+                boolean same = true;
+                for (int i = start; i < end && same; i++) {
+                    same = line[i] == last.charAt(i - start);
+                }
+                if (same) {
+                    return last;
+                }
+            }
+            lastSeparator = new String(line, start, end - start);
+            return lastSeparator;
+        }
+
+        /**
+         * {@inheritDoc} This implementation reads the next logical line into the internal buffer and determines the key, the
+         * separator, and the value of the property in a single pass.
+         */
+        @Override
+        public boolean nextProperty() throws IOException {
+            if (!readLogicalLine()) {
+                return false;
+            }
+            setLineNumber(lineCount);
+
+            for (int i = 0; i < length; i++) {
+                if (isLineTerminator(line[i])) {
+                    // rare case: use the regular expression
+                    parseProperty(new String(line, 0, length));
+                    return true;
+                }
+            }
+
+            int keyEnd = 0;
+            while (keyEnd < length) {
+                final char c = line[keyEnd];
+                if (c == '\\') {
+                    if (keyEnd + 1 >= length) {
+                        break;
+                    }
+                    keyEnd += 2;
+                } else if (isWhitespace(c) || c == SEPARATORS[0] || c == SEPARATORS[1]) {
+                    break;
+                } else {
+                    keyEnd++;
+                }
+            }
+
+            int separatorEnd = keyEnd;
+            while (separatorEnd < length && isWhitespace(line[separatorEnd])) {
+                separatorEnd++;
+            }
+            if (separatorEnd < length && (line[separatorEnd] == SEPARATORS[0] || line[separatorEnd] == SEPARATORS[1])) {
+                separatorEnd++;
+                while (separatorEnd < length && isWhitespace(line[separatorEnd])) {
+                    separatorEnd++;
+                }
+            }
+
+            initPropertyName(trimmedString(0, keyEnd));
+            initPropertyValue(trimmedString(separatorEnd, length));
+            initPropertySeparator(fetchSeparator(keyEnd, separatorEnd));
+            return true;
+        }
+
+        /**
+         * Reads the next logical line into the internal array. Comment lines and blank lines are added to the list of
+         * comment lines; continuation lines are concatenated. The lines are trimmed in the same way as by the default reader.
+         *
+         * @return <strong>false</strong> if the end of the stream was reached, <strong>true</strong> otherwise
+         * @throws IOException if an I/O error occurs
+         */
+        private boolean readLogicalLine() throws IOException {
+            getCommentLines().clear();
+            length = 0;
+            while (true) {
+                final int start = length;
+                if (!readPhysicalLine()) {
+                    return false;
+                }
+
+                int first = start;
+                int end = length;
+                while (first < end && line[first] <= ' ') {
+                    first++;
+                }
+                while (end > first && line[end - 1] <= ' ') {
+                    end--;
+                }
+                if (first == end || COMMENT_CHARS.indexOf(line[first]) >= 0) {
+                    getCommentLines().add(new String(line, start, length - start));
+                    length = start;
+                    continue;
+                }
+
+                System.arraycopy(line, first, line, start, end - first);
+                length = start + end - first;
+                int backslashes = 0;
+                for (int i = length - 1; i >= start && line[i] == '\\'; i--) {
+                    backslashes++;
+                }
+                if (backslashes % 2 == 0) {
+                    return true;
+                }
+                length--;
+            }
+        }
+
+        /**
+         * Reads a line from the underlying reader and appends it to the current line.
+         *
+         * @return <strong>false</strong> if the end of the stream was reached, <strong>true</strong> otherwise
+         * @throws IOException if an I/O error occurs
+         */
+        private boolean readPhysicalLine() throws IOException {
+            boolean read = false;
+            while (true) {
+                if (position >= limit && !fill()) {
+                    if (read) {
+                        lineCount++;
+                    }
+                    return read;
+                }
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (buffer[position] == '\n') {
+                        position++;
+                        continue;
+                    }
+                }
+
+                for (int i = position; i < limit; i++) {
+                    final char c = buffer[i];
+                    if (c == '\n' || c == '\r') {
+                        append(position, i - position);
+                        position = i + 1;
+                        skipLineFeed = c == '\r';
+                        lineCount++;
+                        return true;
+                    }
+                }
+                if (limit > position) {
+                    append(position, limit - position);
+                    read = true;
+                }
+                position = limit;
+            }
+        }
+
+        @Override
+        public String readProperty() throws IOException {
+            return readLogicalLine() ? new String(line, 0, length) : null;
+        }
+
+        /**
+         * Returns a string for the given range of the current line with leading and trailing white space removed.
+         *
+         * @param start The start index
+         * @param end The end index
+         * @return The trimmed string
+         */
+        private String trimmedString(final int start, final int end) {
+            int first = start;
+            int last = end;
+            while (first < last && line[first] <= ' ') {
+                first++;
+            }
+            while (last > first && line[last - 1] <= ' ') {
+                last--;
+            }
+            return new String(line, first, last - first);
+        }
+
+        /**
+         * {@inheritDoc} Names without escape characters are returned unchanged.
+         */
+        @Override
+        protected String unescapePropertyName(final String name) {
+            return name.indexOf('\\') < 0 ? name : super.unescapePropertyName(name);
+        }
+
+        /**
+         * {@inheritDoc} Values without escape characters are returned unchanged.
+         */
+        @Override
+        protected String unescapePropertyValue(final String value) {
+            return value.indexOf('\\') < 0 ? value : super.unescapePropertyValue(value);
+        }
+    }
+
     /**
      * Defines default error handling for the special {@code "include"} key by throwing the given exception.
      *
@@ -1279,6 +1630,12 @@ public class PropertiesConfiguration extends BaseConfiguration implements FileBa
     /** Allow file inclusion or not */
     private boolean includesAllowed = true;
 
+    /** A flag whether the layout of loaded files is recorded. */
+    private boolean layoutEnabled = true;
+
+    /** The stack of seen include URLs if the layout is disabled. */
+    private Deque<URL> includeStack = new ArrayDeque<>();
+
     /**
      * Creates an empty PropertyConfiguration object which can be used to synthesize a new Properties file by adding values
      * and then saving().
@@ -1295,6 +1652,7 @@ public class PropertiesConfiguration extends BaseConfiguration implements FileBa
     @Override
     public Object clone() {
         final PropertiesConfiguration copy = (PropertiesConfiguration) super.clone();
+        copy.includeStack = new ArrayDeque<>();
         if (layout != null) {
             copy.setLayout(new PropertiesConfigurationLayout(layout));
         }
@@ -1399,7 +1757,9 @@ public class PropertiesConfiguration extends BaseConfiguration implements FileBa
         } else {
             this.layout = layout;
         }
-        addEventListener(ConfigurationEvent.ANY, this.layout);
+        if (layoutEnabled) {
+            addEventListener(ConfigurationEvent.ANY, this.layout);
+        }
     }
 
     /**
@@ -1411,6 +1771,18 @@ public class PropertiesConfiguration extends BaseConfiguration implements FileBa
         return this.includesAllowed;
     }
 
+    /**
+     * Returns a flag whether the layout of loaded properties files is recorded by the associated
+     * {@link PropertiesConfigurationLayout}.
+     *
+     * @return <strong>true</strong> if layout tracking is enabled; <strong>false</strong> otherwise
+     * @see #setLayoutEnabled(boolean)
+     * @since 2.16.0
+     */
+    public boolean isLayoutEnabled() {
+        return layoutEnabled;
+    }
+
     /**
      * Loads an included properties file. This method is called by {@code load()} when an
      * {@code include} property is encountered. It tries to resolve relative file names based on the current base path. If
@@ -1522,15 +1894,36 @@ public class PropertiesConfiguration extends BaseConfiguration implements FileBa
     }
 
     /**
-     * {@inheritDoc} This implementation delegates to the associated layout object which does the actual loading. Note that
-     * this method does not do any synchronization. This lies in the responsibility of the caller. (Typically, the caller is
-     * a {@code FileHandler} object which takes care for proper synchronization.)
+     * {@inheritDoc} This implementation delegates to the associated layout object which does the actual loading. If layout
+     * tracking is disabled, the properties are read directly without involving the layout. Note that this method does not
+     * do any synchronization. This lies in the responsibility of the caller. (Typically, the caller is a
+     * {@code FileHandler} object which takes care for proper synchronization.)
      *
      * @since 2.0
      */
     @Override
     public void read(final Reader in) throws ConfigurationException, IOException {
-        getLayout().load(this, in);
+        if (isLayoutEnabled()) {
+            getLayout().load(this, in);
+        } else {
+            readWithoutLayout(in);
+        }
+    }
+
+    /**
+     * Reads the properties from the given reader without recording any layout information. Special properties like
+     * {@code include} are handled in the same way as by {@link PropertiesConfigurationLayout#load(PropertiesConfiguration, Reader)}.
+     *
+     * @param in The reader
+     * @throws ConfigurationException if an error occurs
+     * @throws IOException if an I/O error occurs
+     */
+    private void readWithoutLayout(final Reader in) throws ConfigurationException, IOException {
+        @SuppressWarnings("resource") // createPropertiesReader wraps the reader.
+        final PropertiesReader propReader = getIOFactory().createPropertiesReader(in);
+        while (propReader.nextProperty()) {
+            propertyLoaded(propReader.getPropertyName(), propReader.getPropertyValue(), includeStack);
+        }
     }
 
     /**
@@ -1607,14 +2000,67 @@ public class PropertiesConfiguration extends BaseConfiguration implements FileBa
     }
 
     /**
-     * {@inheritDoc} This implementation delegates to the associated layout object which does the actual saving. Note that,
-     * analogous to {@link #read(Reader)}, this method does not do any synchronization.
+     * Enables or disables tracking of the layout of loaded properties files. Per default, the associated
+     * {@link PropertiesConfigurationLayout} records comments, blank lines, and separators for each property, so that a
+     * file can be saved with its original format. For configurations which are only read, this can be switched off to
+     * save time and memory when loading. In this mode the layout object is detached from this configuration, and its
+     * content is cleared; saving is still possible, but the resulting file contains no comments and all properties are
+     * written in their natural order. This method should be called before a file is loaded.
+     *
+     * @param layoutEnabled <strong>true</strong> to record the layout; <strong>false</strong> to skip layout tracking
+     * @since 2.16.0
+     */
+    public void setLayoutEnabled(final boolean layoutEnabled) {
+        if (this.layoutEnabled != layoutEnabled) {
+            this.layoutEnabled = layoutEnabled;
+            if (layoutEnabled) {
+                // make the layout aware of the properties added in the meantime
+                getKeysInternal().forEachRemaining(
+                        key -> layout.onEvent(new ConfigurationEvent(this, ConfigurationEvent.SET_PROPERTY, key, null, false)));
+                addEventListener(ConfigurationEvent.ANY, layout);
+            } else {
+                removeEventListener(ConfigurationEvent.ANY, layout);
+                layout.clear();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc} This implementation delegates to the associated layout object which does the actual saving. If layout
+     * tracking is disabled, the properties are written directly without comments. Note that, analogous to
+     * {@link #read(Reader)}, this method does not do any synchronization.
      *
      * @since 2.0
      */
     @Override
     public void write(final Writer out) throws ConfigurationException, IOException {
-        getLayout().save(this, out);
+        if (isLayoutEnabled()) {
+            getLayout().save(this, out);
+        } else {
+            writeWithoutLayout(out);
+        }
+    }
+
+    /**
+     * Writes all properties of this configuration to the given writer without consulting layout information. Only the
+     * global settings of the layout (the separator and the line separator) are taken into account.
+     *
+     * @param out The writer
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeWithoutLayout(final Writer out) throws IOException {
+        @SuppressWarnings("resource") // createPropertiesWriter wraps the writer.
+        final PropertiesWriter propWriter = getIOFactory().createPropertiesWriter(out, getListDelimiterHandler());
+        propWriter.setGlobalSeparator(getLayout().getGlobalSeparator());
+        propWriter.setCurrentSeparator(DEFAULT_SEPARATOR);
+        if (getLayout().getLineSeparator() != null) {
+            propWriter.setLineSeparator(getLayout().getLineSeparator());
+        }
+        for (final Iterator<String> it = getKeysInternal(); it.hasNext();) {
+            final String key = it.next();
+            propWriter.writeProperty(key, getPropertyInternal(key));
+        }
+        propWriter.flush();
     }
 
 }
@@ -440,7 +440,7 @@ public class PropertiesConfigurationLayout implements EventListener<Configuratio
     /**
      * Removes all content from this layout object.
      */
-    private void clear() {
+    void clear() {
         seenStack.clear();
         layoutData.clear();
         setHeaderComment(null);
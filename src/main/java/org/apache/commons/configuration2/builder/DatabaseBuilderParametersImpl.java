@@ -55,6 +55,12 @@ public class DatabaseBuilderParametersImpl extends BasicBuilderParameters implem
     /** Constant for the auto commit property. */
     private static final String PROP_AUTO_COMMIT = "autoCommit";
 
+    /** Constant for the cache enabled property. */
+    private static final String PROP_CACHE_ENABLED = "cacheEnabled";
+
+    /** Constant for the change detection query property. */
+    private static final String PROP_CHANGE_DETECTION_QUERY = "changeDetectionQuery";
+
     /**
      * Constructs a new instance.
      */
@@ -68,6 +74,18 @@ public class DatabaseBuilderParametersImpl extends BasicBuilderParameters implem
         return this;
     }
 
+    @Override
+    public DatabaseBuilderParametersImpl setCacheEnabled(final boolean f) {
+        storeProperty(PROP_CACHE_ENABLED, Boolean.valueOf(f));
+        return this;
+    }
+
+    @Override
+    public DatabaseBuilderParametersImpl setChangeDetectionQuery(final String query) {
+        storeProperty(PROP_CHANGE_DETECTION_QUERY, query);
+        return this;
+    }
+
     @Override
     public DatabaseBuilderParametersImpl setConfigurationName(final String name) {
         storeProperty(PROP_CONFIG_NAME, name);
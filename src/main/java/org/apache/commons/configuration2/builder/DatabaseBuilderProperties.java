@@ -46,6 +46,30 @@ public interface DatabaseBuilderProperties<T> {
      */
     T setAutoCommit(boolean f);
 
+    /**
+     * Enables or disables caching mode. If enabled, the database configuration instance loads all of its data with a single
+     * query and serves read operations from memory.
+     *
+     * @param f The value of the cache enabled flag
+     * @return A reference to this object for method chaining
+     * @since 2.16.0
+     */
+    default T setCacheEnabled(final boolean f) {
+        return (T) this;
+    }
+
+    /**
+     * Sets an SQL query for detecting changes of the configuration data. The query must return a single value which changes
+     * whenever the data is modified. It is used by the reloading detector of the database configuration in caching mode.
+     *
+     * @param query The change detection query
+     * @return A reference to this object for method chaining
+     * @since 2.16.0
+     */
+    default T setChangeDetectionQuery(final String query) {
+        return (T) this;
+    }
+
     /**
      * Sets the name of this configuration instance. This property is needed if a single database table contains the data of
      * multiple configuration instances. Then SQL statements generated by the configuration contain an additional constraint
@@ -37,6 +37,9 @@ import javax.naming.Context;
  */
 public class JndiBuilderParametersImpl extends BasicBuilderParameters implements JndiBuilderProperties<JndiBuilderParametersImpl> {
 
+    /** Constant for the name of the cache refresh delay property. */
+    private static final String PROP_CACHE_REFRESH_DELAY = "cacheRefreshDelay";
+
     /** Constant for the name of the context property. */
     private static final String PROP_CONTEXT = "context";
 
@@ -50,6 +53,12 @@ public class JndiBuilderParametersImpl extends BasicBuilderParameters implements
         // empty
     }
 
+    @Override
+    public JndiBuilderParametersImpl setCacheRefreshDelay(final long delay) {
+        storeProperty(PROP_CACHE_REFRESH_DELAY, Long.valueOf(delay));
+        return this;
+    }
+
     @Override
     public JndiBuilderParametersImpl setContext(final Context ctx) {
         storeProperty(PROP_CONTEXT, ctx);
@@ -35,6 +35,18 @@ import javax.naming.Context;
  */
 public interface JndiBuilderProperties<T> {
 
+    /**
+     * Sets the refresh delay of the cached view in milliseconds. If set to a positive value, the JNDI configuration reads
+     * the subtree below its prefix into memory and serves read operations from this snapshot.
+     *
+     * @param delay The refresh delay in milliseconds; 0 disables caching
+     * @return A reference to this object for method chaining
+     * @since 2.16.0
+     */
+    default T setCacheRefreshDelay(final long delay) {
+        return (T) this;
+    }
+
     /**
      * Sets the JNDI context to be used by the JNDI configuration.
      *
@@ -50,6 +50,9 @@ public class PropertiesBuilderParametersImpl extends FileBasedBuilderParametersI
     /** The key for the layout property. */
     private static final String PROP_LAYOUT = "layout";
 
+    /** The key for the layout enabled property. */
+    private static final String PROP_LAYOUT_ENABLED = "layoutEnabled";
+
     /** The key for the IO factory property. */
     private static final String PROP_IO_FACTORY = "IOFactory";
 
@@ -66,7 +69,7 @@ public class PropertiesBuilderParametersImpl extends FileBasedBuilderParametersI
     @Override
     public void inheritFrom(final Map<String, ?> source) {
         super.inheritFrom(source);
-        copyPropertiesFrom(source, PROP_INCLUDES_ALLOWED, PROP_INCLUDE_LISTENER, PROP_IO_FACTORY);
+        copyPropertiesFrom(source, PROP_INCLUDES_ALLOWED, PROP_INCLUDE_LISTENER, PROP_IO_FACTORY, PROP_LAYOUT_ENABLED);
     }
 
     @Override
@@ -92,4 +95,10 @@ public class PropertiesBuilderParametersImpl extends FileBasedBuilderParametersI
         storeProperty(PROP_LAYOUT, layout);
         return this;
     }
+
+    @Override
+    public PropertiesBuilderParametersImpl setLayoutEnabled(final boolean f) {
+        storeProperty(PROP_LAYOUT_ENABLED, Boolean.valueOf(f));
+        return this;
+    }
 }
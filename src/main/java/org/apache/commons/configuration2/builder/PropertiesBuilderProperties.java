@@ -77,4 +77,17 @@ public interface PropertiesBuilderProperties<T> {
      * @return A reference to this object for method chaining
      */
     T setLayout(PropertiesConfigurationLayout layout);
+
+    /**
+     * Sets a flag whether the properties configuration object records the layout of loaded files. If set to
+     * <strong>false</strong>, comments, blank lines, and separators are not tracked; this makes loading cheaper for
+     * configurations that are never saved. Include files are processed in either case.
+     *
+     * @param f The value of the flag
+     * @return A reference to this object for method chaining
+     * @since 2.16.0
+     */
+    default T setLayoutEnabled(final boolean f) {
+        return (T) this;
+    }
 }
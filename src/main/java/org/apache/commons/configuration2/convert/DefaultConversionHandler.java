@@ -17,9 +17,13 @@
 package org.apache.commons.configuration2.convert;
 
 import java.lang.reflect.Array;
+import java.util.Calendar;
 import java.util.Collection;
+import java.util.Date;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.configuration2.ex.ConversionException;
 import org.apache.commons.configuration2.interpol.ConfigurationInterpolator;
@@ -41,11 +45,59 @@ import org.apache.commons.lang3.ClassUtils;
  * implementation provided by this class tries to extract the first child element and then delegates to
  * {@code convertValue()} which does the actual conversion.
  * </p>
+ * <p>
+ * Optionally, the results of conversions of string values can be cached (see {@link #setCacheEnabled(boolean)}). The
+ * cache is keyed by the identity of the string to be converted and the target class, so repeated typed reads of an
+ * unchanged property do not have to parse the value again. Only strings which are not changed by interpolation are
+ * cached; the results of interpolation are new strings each time, so they would never be found in the cache. As an instance of this class may be shared between multiple
+ * configurations, the cache is disabled by default; it should only be enabled for handlers owned by a single
+ * configuration.
+ * </p>
  *
  * @since 2.0
  */
 public class DefaultConversionHandler implements ConversionHandler {
 
+    /**
+     * The key for cached conversion results. It compares the source value by identity.
+     */
+    private static final class ConversionKey {
+
+        /** The source value of the conversion. */
+        private final String value;
+
+        /** The target class of the conversion. */
+        private final Class<?> targetClass;
+
+        /**
+         * Creates a new instance of {@code ConversionKey}.
+         *
+         * @param value The source value
+         * @param targetClass The target class
+         */
+        ConversionKey(final String value, final Class<?> targetClass) {
+            this.value = value;
+            this.targetClass = targetClass;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ConversionKey)) {
+                return false;
+            }
+            final ConversionKey other = (ConversionKey) obj;
+            return value == other.value && targetClass == other.targetClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value) * 31 + targetClass.hashCode();
+        }
+    }
+
     /**
      * A default instance of this class. Because an instance of this class can be shared between arbitrary objects it is
      * possible to make use of this default instance anywhere.
@@ -68,6 +120,26 @@ public class DefaultConversionHandler implements ConversionHandler {
     /** The default {@link ListDelimiterHandler} used for extracting values from complex objects. */
     static final ListDelimiterHandler LIST_DELIMITER_HANDLER = DisabledListDelimiterHandler.INSTANCE;
 
+    /** The maximum number of conversion results stored in the cache. */
+    private static final int MAX_CACHED_CONVERSIONS = 4096;
+
+    /**
+     * Returns a copy of the given conversion result if it is mutable. This is necessary for results taken from the cache,
+     * so that callers cannot change the cached objects.
+     *
+     * @param result The conversion result
+     * @return The object to be returned to the caller
+     */
+    private static Object copyIfMutable(final Object result) {
+        if (result instanceof Date) {
+            return ((Date) result).clone();
+        }
+        if (result instanceof Calendar) {
+            return ((Calendar) result).clone();
+        }
+        return result;
+    }
+
     /**
      * Obtains a {@code ConfigurationInterpolator}. If the passed in one is not <strong>null</strong>, it is used. Otherwise, a
      * default one is returned.
@@ -85,6 +157,12 @@ public class DefaultConversionHandler implements ConversionHandler {
     /** The default {@link ListDelimiterHandler} used for extracting values from complex objects. */
     private volatile ListDelimiterHandler listDelimiterHandler = DisabledListDelimiterHandler.INSTANCE;
 
+    /** A flag whether conversion results are cached. */
+    private volatile boolean cacheEnabled;
+
+    /** The cache for conversion results. */
+    private final Map<ConversionKey, Object> conversionCache = new ConcurrentHashMap<>();
+
     /**
      * Constructs a new instance.
      */
@@ -92,6 +170,16 @@ public class DefaultConversionHandler implements ConversionHandler {
         // empty
     }
 
+    /**
+     * Removes all conversion results from the cache. This method is called automatically by configurations using this
+     * handler when they are changed, so that results for values no longer in use can be freed.
+     *
+     * @since 2.16.0
+     */
+    public void clearCache() {
+        conversionCache.clear();
+    }
+
     /**
      * Performs the conversion from the passed in source object to the specified target class. This method is called for
      * each conversion to be done. The source object has already been passed to the {@link ConfigurationInterpolator}, so
@@ -145,13 +233,45 @@ public class DefaultConversionHandler implements ConversionHandler {
             return null;
         }
 
+        final Object converted = PropertyConverter.to(targetCls, src, this);
         // This is a safe cast because PropertyConverter either returns an
         // object of the correct class or throws an exception.
         @SuppressWarnings("unchecked")
-        final T result = (T) PropertyConverter.to(targetCls, src, this);
+        final T result = (T) converted;
         return result;
     }
 
+    /**
+     * Converts a string value to the specified target class using the cache. If the value has already been converted to
+     * this class, the cached result is returned. Otherwise, the conversion is done and its result is stored in the cache.
+     * The caller has to ensure that the value is not changed by interpolation; otherwise, the cached result would become
+     * outdated when the values of the referenced variables change.
+     *
+     * @param <T> The desired target type of the conversion
+     * @param src The string to be converted
+     * @param targetCls The target class of the conversion
+     * @param ci The {@code ConfigurationInterpolator}
+     * @return The converted value
+     * @throws ConversionException if conversion is not possible
+     */
+    private <T> T convertCached(final String src, final Class<T> targetCls, final ConfigurationInterpolator ci) {
+        final ConversionKey key = new ConversionKey(src, targetCls);
+        Object result = conversionCache.get(key);
+        if (result == null) {
+            result = convert(src, targetCls, ci);
+            if (result != null) {
+                if (conversionCache.size() >= MAX_CACHED_CONVERSIONS) {
+                    conversionCache.clear();
+                }
+                conversionCache.put(key, result);
+            }
+        }
+        // This is a safe cast because the cached objects are results of conversions to the target class.
+        @SuppressWarnings("unchecked")
+        final T copy = (T) copyIfMutable(result);
+        return copy;
+    }
+
     /**
      * Extracts a single value from a complex object. This method is called by {@code convert()} if the source object is
      * complex. This implementation extracts the first value from the complex object and returns it.
@@ -208,6 +328,16 @@ public class DefaultConversionHandler implements ConversionHandler {
         return listDelimiterHandler;
     }
 
+    /**
+     * Tests whether the results of conversions are cached.
+     *
+     * @return <strong>true</strong> if the conversion cache is enabled, <strong>false</strong> otherwise
+     * @since 2.16.0
+     */
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
     /**
      * Tests whether the passed in object is complex (which means that it contains multiple values). This method is called
      * by {@link #convert(Object, Class, ConfigurationInterpolator)} to figure out whether a actions are required to extract
@@ -238,6 +368,21 @@ public class DefaultConversionHandler implements ConversionHandler {
         return src instanceof CharSequence && ((CharSequence) src).length() == 0;
     }
 
+    /**
+     * Sets a flag whether the results of conversions of string values are cached. If enabled, a string value that has
+     * already been converted to a specific target class is not parsed again; the cached result is returned instead.
+     * (Results of a mutable type like {@code Date} or {@code Calendar} are copied.) Disabling the cache also clears it.
+     *
+     * @param cacheEnabled The flag whether the conversion cache is enabled
+     * @since 2.16.0
+     */
+    public void setCacheEnabled(final boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+        if (!cacheEnabled) {
+            clearCache();
+        }
+    }
+
     /**
      * Sets the date format to be used by this conversion handler. This format is applied by conversions to {@code Date} or
      * {@code Calendar} objects. The string is passed to the {@link java.text.SimpleDateFormat} class, so it must be
@@ -248,6 +393,7 @@ public class DefaultConversionHandler implements ConversionHandler {
      */
     public void setDateFormat(final String dateFormat) {
         this.dateFormat = dateFormat;
+        clearCache();
     }
 
     /**
@@ -264,7 +410,12 @@ public class DefaultConversionHandler implements ConversionHandler {
     @Override
     public <T> T to(final Object src, final Class<T> targetCls, final ConfigurationInterpolator ci) {
         final ConfigurationInterpolator interpolator = fetchInterpolator(ci);
-        return convert(interpolator.interpolate(src), targetCls, interpolator);
+        final Object value = interpolator.interpolate(src);
+        if (cacheEnabled && value instanceof String && value == src) {
+            // only values not affected by interpolation can be cached by their identity
+            return convertCached((String) value, targetCls, interpolator);
+        }
+        return convert(value, targetCls, interpolator);
     }
 
     /**
@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.event;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>
+ * An event listener implementation which delivers events asynchronously to another listener.
+ * </p>
+ * <p>
+ * Event sources like configurations invoke their listeners synchronously, often while holding a lock on their data. So
+ * a slow listener stalls all threads updating the configuration. An instance of this class can be registered instead of
+ * such a listener. It just stores the events it receives in a queue and returns immediately. The events are then passed
+ * to the wrapped listener by a task running on an {@code Executor}:
+ * </p>
+ *
+ * <pre>
+ * config.addEventListener(ConfigurationEvent.ANY, new AsynchronousEventListener&lt;&gt;(listener, executor));
+ * </pre>
+ * <p>
+ * The following rules apply for the delivery of events:
+ * </p>
+ * <ul>
+ * <li>The wrapped listener receives the events in the order they have been fired, and it is never called concurrently.
+ * At most one task is submitted to the executor at a time.</li>
+ * <li>If a {@link ConfigurationEvent#SET_PROPERTY} event arrives while an event of the same type for the same property
+ * of the same source is still waiting for delivery, the pending event is dropped; the new event is added at the end of
+ * the queue. (Events sent before and after the update are treated separately.) So a listener interested in the current
+ * state of properties is not flooded with events for frequently changing values.</li>
+ * <li>The queue has a bounded capacity. If it is full, new events are discarded, and the number of discarded events can
+ * be queried using {@link #getDiscardedEventCount()}. Blocking the firing thread instead could cause a deadlock if the
+ * wrapped listener accesses the event source.</li>
+ * <li>If the wrapped listener throws an exception, the delivery task terminates with this exception. The remaining
+ * events are delivered by a new task.</li>
+ * </ul>
+ * <p>
+ * Implementation note: This class is thread-safe. The same instance can be registered at multiple event sources.
+ * </p>
+ *
+ * @param <T> The type of events processed by this listener
+ * @since 2.16.0
+ */
+public class AsynchronousEventListener<T extends Event> implements EventListener<T> {
+
+    /**
+     * The key under which a coalescing event is stored in the queue.
+     */
+    private static final class CoalescingKey {
+
+        /** The event source. */
+        private final Object source;
+
+        /** The name of the property. */
+        private final String propertyName;
+
+        /** The before update flag. */
+        private final boolean before;
+
+        /**
+         * Creates a new instance of {@code CoalescingKey} for the given event.
+         *
+         * @param event The event
+         */
+        CoalescingKey(final ConfigurationEvent event) {
+            source = event.getSource();
+            propertyName = event.getPropertyName();
+            before = event.isBeforeUpdate();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CoalescingKey)) {
+                return false;
+            }
+            final CoalescingKey other = (CoalescingKey) obj;
+            return source == other.source && before == other.before && Objects.equals(propertyName, other.propertyName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(source), propertyName, before);
+        }
+    }
+
+    /** Constant for the default capacity of the event queue. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Returns the key under which the given event is stored in the queue. For events that can be coalesced, this is a key
+     * derived from the event's properties; otherwise, it is the event itself.
+     *
+     * @param event The event
+     * @return The key for this event
+     */
+    private static Object queueKey(final Event event) {
+        if (event.getEventType() == ConfigurationEvent.SET_PROPERTY && event instanceof ConfigurationEvent) {
+            return new CoalescingKey((ConfigurationEvent) event);
+        }
+        return event;
+    }
+
+    /** The wrapped listener. */
+    private final EventListener<? super T> listener;
+
+    /** The executor for delivering events. */
+    private final Executor executor;
+
+    /** The maximum number of pending events. */
+    private final int capacity;
+
+    /** The queue with pending events. Entries are accessed by their queue key for coalescing. */
+    private final Map<Object, T> pendingEvents;
+
+    /** A flag whether a delivery task has been submitted to the executor. */
+    private boolean deliveryScheduled;
+
+    /** The number of events discarded because the queue was full. */
+    private long discardedEventCount;
+
+    /**
+     * Creates a new instance of {@code AsynchronousEventListener} with the default queue capacity.
+     *
+     * @param listener The listener to receive the events (must not be <strong>null</strong>)
+     * @param executor The executor for delivering events (must not be <strong>null</strong>)
+     * @throws IllegalArgumentException if a required parameter is missing
+     */
+    public AsynchronousEventListener(final EventListener<? super T> listener, final Executor executor) {
+        this(listener, executor, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new instance of {@code AsynchronousEventListener} with the given queue capacity.
+     *
+     * @param listener The listener to receive the events (must not be <strong>null</strong>)
+     * @param executor The executor for delivering events (must not be <strong>null</strong>)
+     * @param capacity The maximum number of pending events (must be greater than 0)
+     * @throws IllegalArgumentException if a required parameter is missing or the capacity is invalid
+     */
+    public AsynchronousEventListener(final EventListener<? super T> listener, final Executor executor, final int capacity) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Event listener must not be null.");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must not be null.");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0: " + capacity);
+        }
+        this.listener = listener;
+        this.executor = executor;
+        this.capacity = capacity;
+        pendingEvents = new LinkedHashMap<>();
+    }
+
+    /**
+     * Delivers all pending events to the wrapped listener. This method is executed by the delivery task.
+     */
+    private void deliverEvents() {
+        T event;
+        while ((event = nextEvent()) != null) {
+            try {
+                listener.onEvent(event);
+            } catch (final RuntimeException e) {
+                synchronized (pendingEvents) {
+                    deliveryScheduled = false;
+                    try {
+                        scheduleDelivery();
+                    } catch (final RuntimeException rex) {
+                        e.addSuppressed(rex);
+                    }
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Gets the maximum number of pending events.
+     *
+     * @return The capacity of the event queue
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of events which have been discarded because the queue was full.
+     *
+     * @return The number of discarded events
+     */
+    public long getDiscardedEventCount() {
+        synchronized (pendingEvents) {
+            return discardedEventCount;
+        }
+    }
+
+    /**
+     * Gets the executor used for delivering events.
+     *
+     * @return The executor
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets the listener which receives the events.
+     *
+     * @return The wrapped listener
+     */
+    public EventListener<? super T> getListener() {
+        return listener;
+    }
+
+    /**
+     * Gets the number of events waiting for delivery.
+     *
+     * @return The number of pending events
+     */
+    public int getPendingEventCount() {
+        synchronized (pendingEvents) {
+            return pendingEvents.size();
+        }
+    }
+
+    /**
+     * Removes the next event from the queue. If the queue is empty, the delivery task is finished.
+     *
+     * @return The next event or <strong>null</strong> if there are no more pending events
+     */
+    private T nextEvent() {
+        synchronized (pendingEvents) {
+            final Iterator<T> it = pendingEvents.values().iterator();
+            if (!it.hasNext()) {
+                deliveryScheduled = false;
+                return null;
+            }
+            final T event = it.next();
+            it.remove();
+            return event;
+        }
+    }
+
+    /**
+     * {@inheritDoc} This implementation adds the event to the queue and makes sure that a delivery task is scheduled.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the executor does not accept the delivery task
+     */
+    @Override
+    public void onEvent(final T event) {
+        final Object key = queueKey(event);
+        synchronized (pendingEvents) {
+            if (pendingEvents.remove(key) == null && pendingEvents.size() >= capacity) {
+                discardedEventCount++;
+                return;
+            }
+            pendingEvents.put(key, event);
+            scheduleDelivery();
+        }
+    }
+
+    /**
+     * Submits a delivery task to the executor if necessary. Caller must hold the lock on the queue.
+     */
+    private void scheduleDelivery() {
+        if (!deliveryScheduled && !pendingEvents.isEmpty()) {
+            deliveryScheduled = true;
+            try {
+                executor.execute(this::deliverEvents);
+            } catch (final RuntimeException e) {
+                deliveryScheduled = false;
+                throw e;
+            }
+        }
+    }
+}
@@ -180,12 +180,8 @@ public class BaseEventSource implements EventSource {
      */
     public <T extends ConfigurationErrorEvent> void fireError(final EventType<T> eventType, final EventType<?> operationType, final String propertyName,
         final Object propertyValue, final Throwable cause) {
-        final EventListenerList.EventListenerIterator<T> iterator = eventListeners.getEventListenerIterator(eventType);
-        if (iterator.hasNext()) {
-            final ConfigurationErrorEvent event = createErrorEvent(eventType, operationType, propertyName, propertyValue, cause);
-            while (iterator.hasNext()) {
-                iterator.invokeNext(event);
-            }
+        if (eventListeners.hasEventListeners(eventType)) {
+            eventListeners.fire(createErrorEvent(eventType, operationType, propertyName, propertyValue, cause));
         }
     }
 
@@ -200,14 +196,8 @@ public class BaseEventSource implements EventSource {
      * @param <T> The type of the event to be fired
      */
     protected <T extends ConfigurationEvent> void fireEvent(final EventType<T> type, final String propName, final Object propValue, final boolean before) {
-        if (checkDetailEvents(-1)) {
-            final EventListenerList.EventListenerIterator<T> it = eventListeners.getEventListenerIterator(type);
-            if (it.hasNext()) {
-                final ConfigurationEvent event = createEvent(type, propName, propValue, before);
-                while (it.hasNext()) {
-                    it.invokeNext(event);
-                }
-            }
+        if (checkDetailEvents(-1) && eventListeners.hasEventListeners(type)) {
+            eventListeners.fire(createEvent(type, propName, propValue, before));
         }
     }
 
@@ -97,6 +97,14 @@ public class ConfigurationEvent extends Event {
      */
     public static final EventType<ConfigurationEvent> CLEAR = new EventType<>(ANY, "CLEAR");
 
+    /**
+     * Constant for the event type for a batch update. An event of this type is generated instead of the events for the
+     * single operations if a configuration applies multiple updates at once.
+     *
+     * @since 2.16.0
+     */
+    public static final EventType<ConfigurationEvent> BATCH_UPDATE = new EventType<>(ANY, "BATCH_UPDATE");
+
     /**
      * Constant for the common base event type for all hierarchical update events. Events derived from this type are
      * generated by some specific methods of hierarchical configurations.
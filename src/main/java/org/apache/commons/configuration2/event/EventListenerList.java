@@ -16,6 +16,7 @@
  */
 package org.apache.commons.configuration2.event;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -24,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -43,13 +45,72 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * multiple times for different event types.
  * </p>
  * <p>
- * Implementation note: This class is thread-safe.
+ * Implementation note: This class is thread-safe. For firing events, an immutable dispatch table is used which stores
+ * the listeners to be invoked per event type. It is recreated when the registered listeners change, and the listeners
+ * for a specific event type are determined on first use. So firing an event does not have to evaluate the event type
+ * hierarchy again.
  * </p>
  *
  * @since 2.0
  */
 public class EventListenerList {
 
+    /**
+     * An immutable snapshot of the registered listeners used for firing events. The listeners matching a specific event
+     * type are determined lazily and then cached.
+     */
+    private static final class DispatchTable {
+
+        /** Constant for an empty array of listeners. */
+        private static final EventListener<?>[] NO_LISTENERS = {};
+
+        /** The listener registrations this table is based on. */
+        private final EventListenerRegistrationData<?>[] registrations;
+
+        /** The map with the listeners to be invoked per event type. */
+        private final Map<EventType<?>, EventListener<?>[]> listenersByType = new ConcurrentHashMap<>();
+
+        /**
+         * Creates a new instance of {@code DispatchTable} for the given listener registrations.
+         *
+         * @param regs The list with listener registrations
+         */
+        DispatchTable(final List<EventListenerRegistrationData<?>> regs) {
+            registrations = regs.toArray(new EventListenerRegistrationData<?>[0]);
+        }
+
+        /**
+         * Determines the listeners which are compatible with the given event type.
+         *
+         * @param eventType The event type
+         * @return An array with the matching listeners
+         */
+        private EventListener<?>[] createListeners(final EventType<?> eventType) {
+            final Set<EventType<?>> acceptedTypes = EventType.fetchSuperEventTypes(eventType);
+            final List<EventListener<?>> result = new ArrayList<>();
+            for (final EventListenerRegistrationData<?> regData : registrations) {
+                if (acceptedTypes.contains(regData.getEventType())) {
+                    result.add(regData.getListener());
+                }
+            }
+            return result.isEmpty() ? NO_LISTENERS : result.toArray(NO_LISTENERS);
+        }
+
+        /**
+         * Gets the listeners to be invoked for an event of the given type.
+         *
+         * @param eventType The event type
+         * @return An array with the matching listeners (must not be modified)
+         */
+        EventListener<?>[] getListeners(final EventType<?> eventType) {
+            if (registrations.length == 0) {
+                return NO_LISTENERS;
+            }
+            final EventListener<?>[] listeners = listenersByType.get(eventType);
+            return listeners != null ? listeners : listenersByType.computeIfAbsent(eventType, this::createListeners);
+        }
+    }
+
     /**
      * A special {@code Iterator} implementation used by the {@code getEventListenerIterator()} method. This iterator
      * returns only listeners compatible with a specified event type. It has a convenience method for invoking the current
@@ -118,16 +179,6 @@ public class EventListenerList {
          */
         public void invokeNext(final Event event) {
             validateEvent(event);
-            invokeNextListenerUnchecked(event);
-        }
-
-        /**
-         * Invokes the next event listener in the iteration without doing a validity check on the event. This method is called
-         * internally to avoid duplicate event checks.
-         *
-         * @param event The event object
-         */
-        private void invokeNextListenerUnchecked(final Event event) {
             callListener(next(), event);
         }
 
@@ -182,11 +233,15 @@ public class EventListenerList {
     /** A list with the listeners added to this object. */
     private final List<EventListenerRegistrationData<?>> listeners;
 
+    /** The current dispatch table used for firing events. */
+    private volatile DispatchTable dispatchTable;
+
     /**
      * Creates a new instance of {@code EventListenerList}.
      */
     public EventListenerList() {
         listeners = new CopyOnWriteArrayList<>();
+        dispatchTable = new DispatchTable(listeners);
     }
 
     /**
@@ -215,6 +270,7 @@ public class EventListenerList {
             throw new IllegalArgumentException("EventListenerRegistrationData must not be null.");
         }
         listeners.add(regData);
+        updateDispatchTable();
     }
 
     /**
@@ -228,6 +284,7 @@ public class EventListenerList {
      */
     public <T extends Event> void addEventListener(final EventType<T> type, final EventListener<? super T> listener) {
         listeners.add(new EventListenerRegistrationData<>(type, listener));
+        updateDispatchTable();
     }
 
     /**
@@ -235,6 +292,7 @@ public class EventListenerList {
      */
     public void clear() {
         listeners.clear();
+        updateDispatchTable();
     }
 
     /**
@@ -248,8 +306,8 @@ public class EventListenerList {
             throw new IllegalArgumentException("Event to be fired must not be null.");
         }
 
-        for (final EventListenerIterator<? extends Event> iterator = getEventListenerIterator(event.getEventType()); iterator.hasNext();) {
-            iterator.invokeNextListenerUnchecked(event);
+        for (final EventListener<?> listener : dispatchTable.getListeners(event.getEventType())) {
+            callListener(listener, event);
         }
     }
 
@@ -315,6 +373,18 @@ public class EventListenerList {
         return results;
     }
 
+    /**
+     * Tests whether there are event listeners compatible with the specified event type. This method can be used to
+     * avoid the creation of event objects if no listener would receive them.
+     *
+     * @param eventType The event type object
+     * @return <strong>true</strong> if at least one listener is registered for this event type or one of its super types
+     * @since 2.16.0
+     */
+    public boolean hasEventListeners(final EventType<?> eventType) {
+        return dispatchTable.getListeners(eventType).length > 0;
+    }
+
     /**
      * Removes the event listener registration defined by the passed in data object. This is an alternative method for
      * removing a listener which expects the event type and the listener in a single data object.
@@ -325,7 +395,11 @@ public class EventListenerList {
      * @see #removeEventListener(EventType, EventListener)
      */
     public <T extends Event> boolean removeEventListener(final EventListenerRegistrationData<T> regData) {
-        return listeners.remove(regData);
+        if (listeners.remove(regData)) {
+            updateDispatchTable();
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -342,4 +416,13 @@ public class EventListenerList {
     public <T extends Event> boolean removeEventListener(final EventType<T> eventType, final EventListener<? super T> listener) {
         return !(listener == null || eventType == null) && removeEventListener(new EventListenerRegistrationData<>(eventType, listener));
     }
+
+    /**
+     * Creates a new dispatch table reflecting the current listener registrations. This method is called after each
+     * change of the registrations. It is synchronized, so that the table created last is always based on the most recent
+     * state of the list.
+     */
+    private synchronized void updateDispatchTable() {
+        dispatchTable = new DispatchTable(listeners);
+    }
 }
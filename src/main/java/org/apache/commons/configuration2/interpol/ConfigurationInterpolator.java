@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +30,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.apache.commons.text.StringSubstitutor;
@@ -81,6 +83,15 @@ import org.apache.commons.text.StringSubstitutor;
  * {@code [1, 2, 3]}, then the string {@code "my value = ${x}"} will by default be interpolated to
  * {@code "my value = 1"}.
  * </p>
+ * <p><strong>Result Cache</strong></p>
+ * <p>
+ * Optionally, the results of {@code interpolate()} can be cached per raw string value; this can be enabled with
+ * {@link #setCacheEnabled(boolean)}. For each cached result, the names of the variables it depends on are recorded. A
+ * result is only cached if all {@code Lookup} objects that were queried to resolve its variables are
+ * {@link Lookup#isCacheable() cacheable}, and if no parent interpolator was involved. When a property of a
+ * configuration is changed, the configuration calls {@link #invalidateCache(String)} on its interpolator, so that all
+ * results depending on this property are discarded. Changes in the set of lookup objects clear the whole cache.
+ * </p>
  * <p>
  * <strong>Implementation note:</strong> This class is thread-safe. Lookup objects can be added or removed at any time
  * concurrent to interpolation operations.
@@ -90,6 +101,136 @@ import org.apache.commons.text.StringSubstitutor;
  */
 public class ConfigurationInterpolator {
 
+    /**
+     * A class storing a cached interpolation result together with the variables it depends on.
+     */
+    private static final class CachedResult {
+
+        /** The interpolated value. */
+        private final Object value;
+
+        /** The names of the variables the value depends on. */
+        private final Set<String> variables;
+
+        /**
+         * Creates a new instance of {@code CachedResult}.
+         *
+         * @param value The interpolated value
+         * @param variables The variables the value depends on
+         */
+        CachedResult(final Object value, final Set<String> variables) {
+            this.value = value;
+            this.variables = variables;
+        }
+
+        /**
+         * Tests whether this result depends on the given key. A dependency is assumed if the key and a variable name are
+         * equal or if one is a prefix of the other; so changes on a parent or child key of a referenced property are
+         * taken into account as well.
+         *
+         * @param key The key of a changed property
+         * @return A flag whether this result is affected by the change
+         */
+        boolean dependsOn(final String key) {
+            return variables.stream().anyMatch(var -> var.startsWith(key) || key.startsWith(var));
+        }
+    }
+
+    /**
+     * A class collecting information about the variables resolved during an interpolation operation.
+     */
+    private static final class ResolutionTracker {
+
+        /** The names of the variables that have been resolved. */
+        private final Set<String> variables = new HashSet<>();
+
+        /** A flag whether the result can be cached. */
+        private boolean cacheable = true;
+
+        /**
+         * Adds the information of another tracker to this one.
+         *
+         * @param other The other tracker
+         */
+        void addAll(final ResolutionTracker other) {
+            variables.addAll(other.variables);
+            cacheable &= other.cacheable;
+        }
+    }
+
+    /**
+     * A class representing a pre-parsed string value to be interpolated. The value is split into literal parts and the
+     * names of the variables between them. Only simple values are handled this way; for values using special features
+     * like escaping, default values, or nested variables, the {@link #COMPLEX} instance is used, which indicates that
+     * interpolation has to be done by the {@code StringSubstitutor}.
+     */
+    private static final class Template {
+
+        /** A template for values which cannot be handled by a template. */
+        static final Template COMPLEX = new Template(null, null);
+
+        /** The escape character for variables. */
+        private static final char ESCAPE = '$';
+
+        /** The separator for default values in variable names. */
+        private static final String DEFAULT_VALUE_SEPARATOR = ":-";
+
+        /**
+         * Parses the given string value and creates a corresponding template.
+         *
+         * @param value The value to be parsed
+         * @return The template for this value
+         */
+        static Template compile(final String value) {
+            final List<String> literals = new ArrayList<>();
+            final List<String> variables = new ArrayList<>();
+            int pos = 0;
+            int start = value.indexOf(VAR_START);
+            while (start >= 0) {
+                final int end = value.indexOf(VAR_END, start + VAR_START_LENGTH);
+                if (end < 0 || start > 0 && value.charAt(start - 1) == ESCAPE) {
+                    return COMPLEX;
+                }
+                final String name = value.substring(start + VAR_START_LENGTH, end);
+                if (name.trim().isEmpty() || name.indexOf(ESCAPE) >= 0 || name.contains(DEFAULT_VALUE_SEPARATOR)) {
+                    return COMPLEX;
+                }
+                literals.add(value.substring(pos, start));
+                variables.add(name);
+                pos = end + VAR_END_LENGTH;
+                start = value.indexOf(VAR_START, pos);
+            }
+            literals.add(value.substring(pos));
+            return new Template(literals.toArray(new String[0]), variables.toArray(new String[0]));
+        }
+
+        /** The literal parts of the value; there is one element more than variables. */
+        private final String[] literals;
+
+        /** The names of the variables in the order they appear in the value. */
+        private final String[] variables;
+
+        /**
+         * Creates a new instance of {@code Template}.
+         *
+         * @param literals The literal parts
+         * @param variables The variable names
+         */
+        private Template(final String[] literals, final String[] variables) {
+            this.literals = literals;
+            this.variables = variables;
+        }
+
+        /**
+         * Tests whether this template consists of a single variable without any literal text.
+         *
+         * @return <strong>true</strong> for a single variable, <strong>false</strong> otherwise
+         */
+        boolean isSingleVariable() {
+            return variables.length == 1 && literals[0].isEmpty() && literals[1].isEmpty();
+        }
+    }
+
     /**
      * Internal class used to construct the default {@link Lookup} map used by
      * {@link ConfigurationInterpolator#getDefaultPrefixLookups()}.
@@ -246,6 +387,12 @@ public class ConfigurationInterpolator {
     public static final String DEFAULT_PREFIX_LOOKUPS_PROPERTY =
             "org.apache.commons.configuration2.interpol.ConfigurationInterpolator.defaultPrefixLookups";
 
+    /** The maximum number of results stored in the result cache. */
+    private static final int MAX_CACHED_RESULTS = 4096;
+
+    /** The maximum number of templates stored in the template cache. */
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+
     /** Constant for the prefix separator. */
     private static final char PREFIX_SEPARATOR = ':';
 
@@ -443,6 +590,21 @@ public class ConfigurationInterpolator {
     /** Function used to convert interpolated values to strings. */
     private volatile Function<Object, String> stringConverter = DefaultStringConverter.INSTANCE;
 
+    /** A flag whether the result cache is enabled. */
+    private volatile boolean cacheEnabled;
+
+    /** The cache for interpolation results. */
+    private final Map<String, CachedResult> resultCache = new ConcurrentHashMap<>();
+
+    /** A counter for invalidations of the result cache. */
+    private final AtomicLong cacheInvalidations = new AtomicLong();
+
+    /** A cache for the templates of the values that have been interpolated. */
+    private final Map<String, Template> templateCache = new ConcurrentHashMap<>();
+
+    /** Tracks the variables resolved by the current thread while a result to be cached is computed. */
+    private final ThreadLocal<ResolutionTracker> resolutionTracker = new ThreadLocal<>();
+
     /**
      * Creates a new instance of {@code ConfigurationInterpolator}.
      */
@@ -462,6 +624,7 @@ public class ConfigurationInterpolator {
      */
     public void addDefaultLookup(final Lookup defaultLookup) {
         defaultLookups.add(defaultLookup);
+        clearCache();
     }
 
     /**
@@ -474,9 +637,22 @@ public class ConfigurationInterpolator {
     public void addDefaultLookups(final Collection<? extends Lookup> lookups) {
         if (lookups != null) {
             defaultLookups.addAll(lookups);
+            clearCache();
         }
     }
 
+    /**
+     * Removes all results from the result cache. This method has to be called if the value of a variable changes in a way
+     * that cannot be detected by this object, for instance if a {@link Lookup} declared as cacheable refers to another
+     * configuration which is changed.
+     *
+     * @since 2.16.0
+     */
+    public void clearCache() {
+        cacheInvalidations.incrementAndGet();
+        resultCache.clear();
+    }
+
     /**
      * Deregisters the {@code Lookup} object for the specified prefix at this instance. It will be removed from this
      * instance.
@@ -485,7 +661,9 @@ public class ConfigurationInterpolator {
      * @return A flag whether for this prefix a lookup object had been registered
      */
     public boolean deregisterLookup(final String prefix) {
-        return prefixLookups.remove(prefix) != null;
+        final boolean removed = prefixLookups.remove(prefix) != null;
+        clearCache();
+        return removed;
     }
 
     /**
@@ -500,6 +678,24 @@ public class ConfigurationInterpolator {
         return nullSafeLookup(prefixLookups.get(prefix));
     }
 
+    /**
+     * Returns the template for the given string value. Templates are cached, so a value has to be parsed only once.
+     *
+     * @param strValue The string value
+     * @return The template for this value
+     */
+    private Template fetchTemplate(final String strValue) {
+        Template template = templateCache.get(strValue);
+        if (template == null) {
+            template = Template.compile(strValue);
+            if (templateCache.size() >= MAX_CACHED_TEMPLATES) {
+                templateCache.clear();
+            }
+            templateCache.put(strValue, template);
+        }
+        return template;
+    }
+
     /**
      * Gets a collection with the default {@code Lookup} objects added to this {@code ConfigurationInterpolator}. These
      * objects are not associated with a variable prefix. The returned list is a snapshot copy of the internal collection of
@@ -580,21 +776,155 @@ public class ConfigurationInterpolator {
     public Object interpolate(final Object value) {
         if (value instanceof String) {
             final String strValue = (String) value;
-            if (isSingleVariable(strValue)) {
-                final Object resolvedValue = resolveSingleVariable(strValue);
-                if (resolvedValue != null && !(resolvedValue instanceof String)) {
-                    // If the value is again a string, it needs no special
-                    // treatment; it may also contain further variables which
-                    // must be resolved; therefore, the default mechanism is
-                    // applied.
-                    return resolvedValue;
-                }
+            if (strValue.indexOf(VAR_START) < 0) {
+                // no variables, so there is nothing to do
+                return strValue;
             }
-            return substitutor.replace(strValue);
+            return cacheEnabled ? interpolateCached(strValue) : interpolateString(strValue);
         }
         return value;
     }
 
+    /**
+     * Performs interpolation of a string value using the result cache. If the cache does not contain a result for this
+     * value, the value is interpolated, and the variables resolved during this operation are recorded. If all involved
+     * lookup objects are cacheable, the result is stored in the cache.
+     *
+     * @param strValue The string to be interpolated
+     * @return The interpolated value
+     */
+    private Object interpolateCached(final String strValue) {
+        final ResolutionTracker outerTracker = resolutionTracker.get();
+        final CachedResult cached = resultCache.get(strValue);
+        if (cached != null) {
+            if (outerTracker != null) {
+                outerTracker.variables.addAll(cached.variables);
+            }
+            return cached.value;
+        }
+
+        final long invalidations = cacheInvalidations.get();
+        final ResolutionTracker tracker = new ResolutionTracker();
+        final Object result;
+        resolutionTracker.set(tracker);
+        try {
+            result = interpolateString(strValue);
+        } finally {
+            if (outerTracker != null) {
+                resolutionTracker.set(outerTracker);
+                outerTracker.addAll(tracker);
+            } else {
+                resolutionTracker.remove();
+            }
+        }
+
+        if (tracker.cacheable && !tracker.variables.isEmpty()) {
+            if (resultCache.size() >= MAX_CACHED_RESULTS) {
+                resultCache.clear();
+            }
+            final CachedResult entry = new CachedResult(result, tracker.variables);
+            resultCache.put(strValue, entry);
+            if (cacheInvalidations.get() != invalidations) {
+                // a concurrent change may have made the result outdated
+                resultCache.remove(strValue, entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Performs interpolation of a string value that cannot be handled by a template. Here the {@code StringSubstitutor}
+     * is used.
+     *
+     * @param strValue The string to be interpolated
+     * @return The interpolated value
+     */
+    private Object interpolateComplex(final String strValue) {
+        if (isSingleVariable(strValue)) {
+            final Object resolvedValue = resolveSingleVariable(strValue);
+            if (resolvedValue != null && !(resolvedValue instanceof String)) {
+                // If the value is again a string, it needs no special
+                // treatment; it may also contain further variables which
+                // must be resolved; therefore, the default mechanism is
+                // applied.
+                return resolvedValue;
+            }
+        }
+        return substitutor.replace(strValue);
+    }
+
+    /**
+     * Performs interpolation of a string value without using the result cache. The value is parsed into a template, which
+     * is then evaluated. If resolved variable values contain variables themselves, or if the value uses special syntax,
+     * interpolation is delegated to the {@code StringSubstitutor}.
+     *
+     * @param strValue The string to be interpolated
+     * @return The interpolated value
+     */
+    private Object interpolateString(final String strValue) {
+        final Template template = fetchTemplate(strValue);
+        if (template == Template.COMPLEX) {
+            return interpolateComplex(strValue);
+        }
+
+        if (template.isSingleVariable()) {
+            final Object resolvedValue = resolve(template.variables[0]);
+            if (resolvedValue == null) {
+                return strValue;
+            }
+            if (!(resolvedValue instanceof String)) {
+                return resolvedValue;
+            }
+            final String strResolved = stringConverter.apply(resolvedValue);
+            if (strResolved == null) {
+                return strValue;
+            }
+            return strResolved.contains(VAR_START) ? substitutor.replace(strValue) : strResolved;
+        }
+
+        final StringBuilder buf = new StringBuilder(strValue.length());
+        for (int i = 0; i < template.variables.length; i++) {
+            buf.append(template.literals[i]);
+            final Object resolvedValue = resolve(template.variables[i]);
+            final String strResolved = resolvedValue != null ? stringConverter.apply(resolvedValue) : null;
+            if (strResolved == null) {
+                buf.append(VAR_START).append(template.variables[i]).append(VAR_END);
+            } else if (strResolved.contains(VAR_START)) {
+                // the value has to be interpolated recursively
+                return substitutor.replace(strValue);
+            } else {
+                buf.append(strResolved);
+            }
+        }
+        return buf.append(template.literals[template.variables.length]).toString();
+    }
+
+    /**
+     * Discards all cached results depending on the given key. This method is called by configurations when one of their
+     * properties has been changed. If the key is <strong>null</strong>, the whole cache is cleared.
+     *
+     * @param key The key of the changed property (can be <strong>null</strong>)
+     * @since 2.16.0
+     */
+    public void invalidateCache(final String key) {
+        if (key == null) {
+            clearCache();
+        } else if (!resultCache.isEmpty()) {
+            cacheInvalidations.incrementAndGet();
+            resultCache.values().removeIf(result -> result.dependsOn(key));
+        }
+    }
+
+    /**
+     * Tests whether the result cache is enabled.
+     *
+     * @return <strong>true</strong> if interpolation results are cached, <strong>false</strong> otherwise
+     * @since 2.16.0
+     */
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
     /**
      * Sets a flag that variable names can contain other variables. If enabled, variable substitution is also done in
      * variable names.
@@ -644,6 +974,7 @@ public class ConfigurationInterpolator {
             throw new IllegalArgumentException("Lookup object must not be null.");
         }
         prefixLookups.put(prefix, lookup);
+        clearCache();
     }
 
     /**
@@ -657,6 +988,7 @@ public class ConfigurationInterpolator {
     public void registerLookups(final Map<String, ? extends Lookup> lookups) {
         if (lookups != null) {
             prefixLookups.putAll(lookups);
+            clearCache();
         }
     }
 
@@ -667,7 +999,9 @@ public class ConfigurationInterpolator {
      * @return A flag whether this {@code Lookup} object actually existed and was removed
      */
     public boolean removeDefaultLookup(final Lookup lookup) {
-        return defaultLookups.remove(lookup);
+        final boolean removed = defaultLookups.remove(lookup);
+        clearCache();
+        return removed;
     }
 
     /**
@@ -684,18 +1018,25 @@ public class ConfigurationInterpolator {
         if (var == null) {
             return null;
         }
+        final ResolutionTracker tracker = cacheEnabled ? resolutionTracker.get() : null;
+        if (tracker != null) {
+            tracker.variables.add(var);
+        }
 
         final int prefixPos = var.indexOf(PREFIX_SEPARATOR);
         if (prefixPos >= 0) {
             final String prefix = var.substring(0, prefixPos);
             final String name = var.substring(prefixPos + 1);
-            final Object value = fetchLookupForPrefix(prefix).lookup(name);
+            final Lookup lookup = fetchLookupForPrefix(prefix);
+            trackLookup(tracker, lookup);
+            final Object value = lookup.lookup(name);
             if (value != null) {
                 return value;
             }
         }
 
         for (final Lookup lookup : defaultLookups) {
+            trackLookup(tracker, lookup);
             final Object value = lookup.lookup(var);
             if (value != null) {
                 return value;
@@ -704,6 +1045,10 @@ public class ConfigurationInterpolator {
 
         final ConfigurationInterpolator parent = getParentInterpolator();
         if (parent != null) {
+            if (tracker != null) {
+                // changes affecting the parent interpolator cannot be detected
+                tracker.cacheable = false;
+            }
             return getParentInterpolator().resolve(var);
         }
         return null;
@@ -719,6 +1064,17 @@ public class ConfigurationInterpolator {
         return resolve(extractVariableName(strValue));
     }
 
+    /**
+     * Enables or disables the result cache. When the cache is disabled, all cached results are discarded.
+     *
+     * @param cacheEnabled a flag whether interpolation results should be cached
+     * @since 2.16.0
+     */
+    public void setCacheEnabled(final boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+        clearCache();
+    }
+
     /**
      * Sets the flag whether variable names can contain other variables. This flag corresponds to the
      * {@code enableSubstitutionInVariables} property of the underlying {@code StringSubstitutor} object.
@@ -727,6 +1083,7 @@ public class ConfigurationInterpolator {
      */
     public void setEnableSubstitutionInVariables(final boolean f) {
         substitutor.setEnableSubstitutionInVariables(f);
+        clearCache();
     }
 
     /**
@@ -737,6 +1094,7 @@ public class ConfigurationInterpolator {
      */
     public void setParentInterpolator(final ConfigurationInterpolator parentInterpolator) {
         this.parentInterpolator = parentInterpolator;
+        clearCache();
     }
 
     /** Sets the function used to convert interpolated values to strings. Pass
@@ -749,5 +1107,19 @@ public class ConfigurationInterpolator {
         this.stringConverter = stringConverter != null
                 ? stringConverter
                 : DefaultStringConverter.INSTANCE;
+        clearCache();
+    }
+
+    /**
+     * Records that the given lookup object is queried while resolving a variable. If it is not cacheable, the current
+     * result must not be cached.
+     *
+     * @param tracker The current tracker (can be <strong>null</strong>)
+     * @param lookup The lookup object
+     */
+    private static void trackLookup(final ResolutionTracker tracker, final Lookup lookup) {
+        if (tracker != null && !lookup.isCacheable()) {
+            tracker.cacheable = false;
+        }
     }
 }
@@ -79,6 +79,14 @@ public class ConstantLookup implements Lookup {
         return ClassUtils.getClass(className);
     }
 
+    /**
+     * {@inheritDoc} This implementation returns <strong>true</strong> because the values of constants do not change.
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     /**
      * Looks up a variable. The passed in variable name is interpreted as the name of a <strong>static final</strong> member field of
      * a class. If the value has already been obtained, it can be retrieved from an internal cache. Otherwise this method
@@ -31,6 +31,11 @@ import org.apache.commons.text.lookup.StringLookupFactory;
  * All the {@code Lookup}s defined here are state-less, thus their instances can be shared between multiple
  * configuration objects. Therefore, it makes sense to keep shared instances in this enumeration class.
  * </p>
+ * <p>
+ * The lookups whose results do not change over time (for instance the decoders and encoders, constants, environment
+ * variables, and Java platform information) are declared {@link Lookup#isCacheable() cacheable}; the others are
+ * evaluated again on each interpolation even if the result cache of the {@link ConfigurationInterpolator} is enabled.
+ * </p>
  *
  * Provides access to lookups defined in Apache Commons Text:
  * <ul>
@@ -63,7 +68,7 @@ public enum DefaultLookups {
      * @see StringLookupFactory#base64DecoderStringLookup()
      * @since 2.4
      */
-    BASE64_DECODER(StringLookupFactory.KEY_BASE64_DECODER, new StringLookupAdapter(StringLookupFactory.INSTANCE.base64DecoderStringLookup())),
+    BASE64_DECODER(StringLookupFactory.KEY_BASE64_DECODER, new StringLookupAdapter(StringLookupFactory.INSTANCE.base64DecoderStringLookup(), true)),
 
     /**
      * The lookup for Base64 encoding, accessed using the prefix {@code "base64Encoder"}.
@@ -71,7 +76,7 @@ public enum DefaultLookups {
      * @see StringLookupFactory#base64EncoderStringLookup()
      * @since 2.4
      */
-    BASE64_ENCODER(StringLookupFactory.KEY_BASE64_ENCODER, new StringLookupAdapter(StringLookupFactory.INSTANCE.base64EncoderStringLookup())),
+    BASE64_ENCODER(StringLookupFactory.KEY_BASE64_ENCODER, new StringLookupAdapter(StringLookupFactory.INSTANCE.base64EncoderStringLookup(), true)),
 
     /**
      * The lookup for Java constants, accessed using the prefix {@code "const"}.
@@ -79,7 +84,7 @@ public enum DefaultLookups {
      * @see StringLookupFactory#constantStringLookup()
      * @since 2.4
      */
-    CONST(StringLookupFactory.KEY_CONST, new StringLookupAdapter(StringLookupFactory.INSTANCE.constantStringLookup())),
+    CONST(StringLookupFactory.KEY_CONST, new StringLookupAdapter(StringLookupFactory.INSTANCE.constantStringLookup(), true)),
 
     /**
      * The lookup for the current date in a specified format, accessed using the prefix {@code "date"}.
@@ -102,7 +107,7 @@ public enum DefaultLookups {
      *
      * @see StringLookupFactory#environmentVariableStringLookup()
      */
-    ENVIRONMENT(StringLookupFactory.KEY_ENV, new StringLookupAdapter(StringLookupFactory.INSTANCE.environmentVariableStringLookup())),
+    ENVIRONMENT(StringLookupFactory.KEY_ENV, new StringLookupAdapter(StringLookupFactory.INSTANCE.environmentVariableStringLookup(), true)),
 
     /**
      * The lookup for file content, accessed using the prefix {@code "file"}.
@@ -118,7 +123,7 @@ public enum DefaultLookups {
      * @see StringLookupFactory#javaPlatformStringLookup()
      * @since 2.4
      */
-    JAVA(StringLookupFactory.KEY_JAVA, new StringLookupAdapter(StringLookupFactory.INSTANCE.javaPlatformStringLookup())),
+    JAVA(StringLookupFactory.KEY_JAVA, new StringLookupAdapter(StringLookupFactory.INSTANCE.javaPlatformStringLookup(), true)),
 
     /**
      * The lookup for localhost information, accessed using the prefix {@code "localhost"}.
@@ -173,7 +178,7 @@ public enum DefaultLookups {
      * @see StringLookupFactory#urlDecoderStringLookup()
      * @since 2.4
      */
-    URL_DECODER(StringLookupFactory.KEY_URL_DECODER, new StringLookupAdapter(StringLookupFactory.INSTANCE.urlDecoderStringLookup())),
+    URL_DECODER(StringLookupFactory.KEY_URL_DECODER, new StringLookupAdapter(StringLookupFactory.INSTANCE.urlDecoderStringLookup(), true)),
 
     /**
      * The lookup for URL encoding, accessed using the prefix {@code "urlEncoder"}.
@@ -181,7 +186,7 @@ public enum DefaultLookups {
      * @see StringLookupFactory#urlEncoderStringLookup()
      * @since 2.4
      */
-    URL_ENCODER(StringLookupFactory.KEY_URL_ENCODER, new StringLookupAdapter(StringLookupFactory.INSTANCE.urlEncoderStringLookup())),
+    URL_ENCODER(StringLookupFactory.KEY_URL_ENCODER, new StringLookupAdapter(StringLookupFactory.INSTANCE.urlEncoderStringLookup(), true)),
 
     /**
      * The lookup for XML content, accessed using the prefix {@code "xml"}.
@@ -36,6 +36,14 @@ public enum DummyLookup implements Lookup {
     /** The single instance of this class. */
     INSTANCE;
 
+    /**
+     * {@inheritDoc} This implementation returns <strong>true</strong> as the result never changes.
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     /**
      * {@inheritDoc} This implementation always returns <strong>null</strong>.
      */
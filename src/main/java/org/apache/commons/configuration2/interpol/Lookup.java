@@ -40,6 +40,21 @@ package org.apache.commons.configuration2.interpol;
  */
 public interface Lookup {
 
+    /**
+     * Tests whether the values returned by this lookup may be cached. If the result cache of a
+     * {@link ConfigurationInterpolator} is enabled, interpolation results are only cached if all {@code Lookup} objects
+     * involved in resolving the variables are cacheable. A lookup should only declare itself as cacheable if its values
+     * do not change over time, or if changes are reported to the interpolator (as is the case for a lookup querying the
+     * configuration owning the interpolator). This default implementation returns <strong>false</strong>.
+     *
+     * @return <strong>true</strong> if the values of this lookup can be cached, <strong>false</strong> otherwise
+     * @see ConfigurationInterpolator#setCacheEnabled(boolean)
+     * @since 2.16.0
+     */
+    default boolean isCacheable() {
+        return false;
+    }
+
     /**
      * Looks up the value of the specified variable. This method is called by {@link ConfigurationInterpolator} with the
      * variable name extracted from the expression to interpolate (i.e. the prefix name has already been removed). A
@@ -32,8 +32,23 @@ final class StringLookupAdapter implements Lookup {
      */
     private final StringLookup stringLookup;
 
+    /**
+     * Whether the values of the delegate can be cached.
+     */
+    private final boolean cacheable;
+
     StringLookupAdapter(final StringLookup stringLookup) {
+        this(stringLookup, false);
+    }
+
+    StringLookupAdapter(final StringLookup stringLookup, final boolean cacheable) {
         this.stringLookup = Objects.requireNonNull(stringLookup, "stringLookup");
+        this.cacheable = cacheable;
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return cacheable;
     }
 
     @Override
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * <p>
+ * A {@code Reader} decoding the remaining bytes of a {@code ByteBuffer}.
+ * </p>
+ * <p>
+ * This class is used by {@link FileHandler} to read memory-mapped files. In contrast to an {@code InputStreamReader},
+ * the bytes are decoded directly from the buffer into the character arrays provided by the caller; there is no
+ * intermediate byte buffer. Like {@code InputStreamReader}, malformed input and unmappable characters are replaced.
+ * </p>
+ *
+ * @since 2.16.0
+ */
+final class ByteBufferReader extends Reader {
+
+    /** Constant for the minimum number of characters to decode in one step, so that surrogate pairs fit in. */
+    private static final int MIN_DECODE_LENGTH = 2;
+
+    /** The underlying buffer. */
+    private final ByteBuffer buffer;
+
+    /** The decoder. */
+    private final CharsetDecoder decoder;
+
+    /** A character decoded, but not yet returned; -1 if there is none. */
+    private int pending = -1;
+
+    /** A flag whether all input bytes have been passed to the decoder. */
+    private boolean endOfInput;
+
+    /** A flag whether the decoder has been flushed. */
+    private boolean finished;
+
+    /**
+     * Creates a new instance of {@code ByteBufferReader}.
+     *
+     * @param buffer The buffer to read from
+     * @param charset The charset for decoding the bytes
+     */
+    ByteBufferReader(final ByteBuffer buffer, final Charset charset) {
+        this.buffer = buffer;
+        decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    public void close() {
+        // nothing to do; the buffer is released by the garbage collector
+    }
+
+    /**
+     * Decodes as many characters as possible into the given buffer.
+     *
+     * @param out The target buffer
+     * @throws IOException if a decoding error occurs
+     */
+    private void decode(final CharBuffer out) throws IOException {
+        while (out.hasRemaining() && !finished) {
+            final CoderResult result = endOfInput ? decoder.flush(out) : decoder.decode(buffer, out, true);
+            if (result.isOverflow()) {
+                break;
+            }
+            if (result.isUnderflow()) {
+                if (endOfInput) {
+                    finished = true;
+                } else {
+                    endOfInput = true;
+                }
+            } else {
+                result.throwException();
+            }
+        }
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (pending >= 0) {
+            cbuf[off] = (char) pending;
+            pending = -1;
+            return 1;
+        }
+
+        if (len < MIN_DECODE_LENGTH) {
+            final char[] chars = new char[MIN_DECODE_LENGTH];
+            final int count = read(chars, 0, MIN_DECODE_LENGTH);
+            if (count > 0) {
+                cbuf[off] = chars[0];
+                if (count > 1) {
+                    pending = chars[1];
+                }
+                return 1;
+            }
+            return count;
+        }
+
+        final CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        decode(out);
+        final int count = out.position() - off;
+        return count == 0 && finished ? -1 : count;
+    }
+}
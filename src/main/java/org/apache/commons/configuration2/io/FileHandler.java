@@ -28,6 +28,12 @@ import java.io.UnsupportedEncodingException;
 import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -97,6 +103,12 @@ import org.apache.commons.logging.LogFactory;
  * multiple save operations in parallel; therefore, by obtaining a write lock, we are on the safe side.)</li>
  * </ul>
  * <p>
+ * Optionally, local files can be loaded using memory mapping (see {@link #setMemoryMappingEnabled(boolean)}). The file
+ * is then mapped into memory via {@code FileChannel.map()}, and its content is decoded directly from the mapped buffer.
+ * This avoids the copying of data between multiple buffers and reduces the load time and the transient heap usage for
+ * large files.
+ * </p>
+ * <p>
  * This class is thread-safe.
  * </p>
  *
@@ -215,6 +227,25 @@ public class FileHandler {
         return FileLocatorUtils.fileLocator().create();
     }
 
+    /**
+     * Returns the {@code Charset} for the given encoding. If the encoding is <strong>null</strong>, the default charset is
+     * returned.
+     *
+     * @param encoding The encoding
+     * @return The corresponding {@code Charset}
+     * @throws ConfigurationException if the encoding is not supported
+     */
+    private static Charset fetchCharset(final String encoding) throws ConfigurationException {
+        if (encoding == null) {
+            return Charset.defaultCharset();
+        }
+        try {
+            return Charset.forName(encoding);
+        } catch (final IllegalCharsetNameException | UnsupportedCharsetException e) {
+            throw new ConfigurationException(e, "The requested encoding %s is not supported, try the default encoding.", encoding);
+        }
+    }
+
     /**
      * Creates a new {@code FileHandler} instance from properties stored in a map. This method tries to extract a
      * {@link FileLocator} from the map. A new {@code FileHandler} is created based on this {@code FileLocator}.
@@ -249,6 +280,9 @@ public class FileHandler {
     /** A collection with the registered listeners. */
     private final List<FileHandlerListener> listeners = new CopyOnWriteArrayList<>();
 
+    /** A flag whether local files are loaded using memory mapping. */
+    private volatile boolean memoryMappingEnabled;
+
     /**
      * Creates a new instance of {@code FileHandler} which is not associated with a {@code FileBased} object and thus does
      * not have a content. Objects of this kind can be used to define a file location, but it is not possible to actually
@@ -273,11 +307,13 @@ public class FileHandler {
      * created. This constructor is a possibility to associate a file location with a {@code FileBased} object.
      *
      * @param obj The {@code FileBased} object to manage
-     * @param c The {@code FileHandler} from which to copy the location (must not be <strong>null</strong>)
+     * @param c The {@code FileHandler} from which to copy the location and the memory mapping flag (must not be
+     *        <strong>null</strong>)
      * @throws IllegalArgumentException if the {@code FileHandler} is <strong>null</strong>
      */
     public FileHandler(final FileBased obj, final FileHandler c) {
         this(obj, checkSourceHandler(c).getFileLocator());
+        memoryMappingEnabled = c.isMemoryMappingEnabled();
     }
 
     /**
@@ -353,6 +389,25 @@ public class FileHandler {
         return FileLocatorUtils.fileLocator(locator).sourceURL(null).fileName(fileName).create();
     }
 
+    /**
+     * Returns the file to be loaded using memory mapping. This is only possible if memory mapping is enabled, and the
+     * URL points to a regular local file which is accessed via the default file system. As a single mapped buffer is
+     * limited to {@code Integer.MAX_VALUE} bytes, larger files cannot be mapped. If these conditions are not met, result
+     * is <strong>null</strong>.
+     *
+     * @param url The URL of the file to be loaded
+     * @param locator The current {@code FileLocator}
+     * @return The file to be mapped or <strong>null</strong>
+     */
+    private File fetchMappableFile(final URL url, final FileLocator locator) {
+        if (!isMemoryMappingEnabled() || locator.getURLConnectionOptions() != null
+            || FileLocatorUtils.getFileSystem(locator).getClass() != DefaultFileSystem.class) {
+            return null;
+        }
+        final File file = FileLocatorUtils.fileFromURL(url);
+        return file != null && file.isFile() && file.length() <= Integer.MAX_VALUE ? file : null;
+    }
+
     /**
      * Obtains a {@code SynchronizerSupport} for the current content. If the content implements this interface, it is
      * returned. Otherwise, result is a dummy object. This method is called before load and save operations. The returned
@@ -564,6 +619,17 @@ public class FileHandler {
         return FileLocatorUtils.isLocationDefined(getFileLocator());
     }
 
+    /**
+     * Tests whether local files are loaded using memory mapping.
+     *
+     * @return <strong>true</strong> if memory mapping is enabled, <strong>false</strong> otherwise
+     * @see #setMemoryMappingEnabled(boolean)
+     * @since 2.16.0
+     */
+    public boolean isMemoryMappingEnabled() {
+        return memoryMappingEnabled;
+    }
+
     /**
      * Loads the associated file from the underlying location. If no location has been set, an exception is thrown.
      *
@@ -639,7 +705,13 @@ public class FileHandler {
      * @throws ConfigurationException if an error occurs during the load operation
      */
     public void load(final Reader in) throws ConfigurationException {
-        checkContent().injectNullFileLocator().loadFromReader(in);
+        final SynchronizerSupport syncSupport = checkContent().fetchSynchronizerSupport();
+        syncSupport.lock(LockMode.WRITE);
+        try {
+            injectNullFileLocator().loadFromReader(in);
+        } finally {
+            syncSupport.unlock(LockMode.WRITE);
+        }
     }
 
     /**
@@ -685,6 +757,12 @@ public class FileHandler {
      * @throws ConfigurationException if an error occurs
      */
     private void load(final URL url, final FileLocator locator) throws ConfigurationException {
+        final File mappableFile = fetchMappableFile(url, locator);
+        if (mappableFile != null) {
+            loadMapped(mappableFile, locator.getEncoding(), url);
+            return;
+        }
+
         InputStream in = null;
         try {
             final FileSystem fileSystem = FileLocatorUtils.getFileSystem(locator);
@@ -700,6 +778,36 @@ public class FileHandler {
         }
     }
 
+    /**
+     * Loads a file using memory mapping. The file is mapped into memory, and its content is passed to the associated
+     * {@code FileBased} object either as stream or - decoded using the given encoding - as reader.
+     *
+     * @param file The file to be loaded
+     * @param encoding The encoding
+     * @param url The URL of the file
+     * @throws ConfigurationException if an error occurs
+     */
+    private void loadMapped(final File file, final String encoding, final URL url) throws ConfigurationException {
+        final SynchronizerSupport syncSupport = checkContent().fetchSynchronizerSupport();
+        final Charset charset = getContent() instanceof InputStreamSupport ? null : fetchCharset(encoding);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            syncSupport.lock(LockMode.WRITE);
+            try {
+                injectFileLocator(url);
+                if (charset == null) {
+                    loadFromStreamDirectly(new ByteBufferInputStream(buffer));
+                } else {
+                    loadFromReader(new ByteBufferReader(buffer, charset));
+                }
+            } finally {
+                syncSupport.unlock(LockMode.WRITE);
+            }
+        } catch (final IOException e) {
+            throw new ConfigurationException(e, "Unable to load the configuration from the URL ", url);
+        }
+    }
+
     /**
      * Internal helper method for loading a file from the given reader.
      *
@@ -1172,6 +1280,20 @@ public class FileHandler {
         }.update();
     }
 
+    /**
+     * Enables or disables memory mapping for loading local files. If enabled, files in the local file system (accessed
+     * via the default {@link FileSystem}) are mapped into memory and parsed directly from the mapped buffer. Other
+     * locations and the {@code load()} methods expecting a stream or a reader are not affected. Note that on some
+     * platforms a mapped file cannot be deleted or written to until the mapping has been released by the garbage
+     * collector.
+     *
+     * @param memoryMappingEnabled a flag whether memory mapping should be used
+     * @since 2.16.0
+     */
+    public void setMemoryMappingEnabled(final boolean memoryMappingEnabled) {
+        this.memoryMappingEnabled = memoryMappingEnabled;
+    }
+
     /**
      * Sets the location of the associated file as a full or relative path name. The passed in path should represent a valid
      * file name on the file system. It must not be used to specify relative paths for files that exist in classpath, either
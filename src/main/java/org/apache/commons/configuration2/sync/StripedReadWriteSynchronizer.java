@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.sync;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <p>
+ * A {@code Synchronizer} implementation optimized for configurations that are read by many threads concurrently and
+ * updated rarely.
+ * </p>
+ * <p>
+ * Like {@link ReadWriteSynchronizer}, this class allows multiple readers in parallel and grants exclusive access to
+ * writers. However, instead of a single lock, it manages an array of {@code ReentrantReadWriteLock} objects, the
+ * so-called <em>stripes</em>. Each thread is assigned one of the stripes, and read operations only acquire the read lock
+ * of this stripe. So readers running on different threads typically do not update the same lock state, which avoids
+ * contention on a single memory location when many cores read a configuration at the same time. A write operation, on
+ * the other hand, has to acquire the write locks of all stripes (always in the same order). Therefore, writes are more
+ * expensive than with a {@code ReadWriteSynchronizer}; this class should only be used if updates are rare.
+ * </p>
+ * <p>
+ * The locks are reentrant in the same way as documented for {@code ReentrantReadWriteLock}: a thread holding the write
+ * lock can also obtain read locks, but a thread holding a read lock must not try to obtain the write lock.
+ * </p>
+ * <p>
+ * Note: The {@code Synchronizer} interface requires that read operations are enclosed by calls of {@code beginRead()}
+ * and {@code endRead()}; there is no way to repeat a read operation if it was interrupted by a concurrent write.
+ * Therefore, optimistic locking schemes as offered by {@code StampedLock} cannot be used here.
+ * </p>
+ *
+ * @since 2.16.0
+ */
+public class StripedReadWriteSynchronizer implements Synchronizer {
+
+    /** The maximum number of stripes created by the default constructor. */
+    private static final int MAX_DEFAULT_STRIPES = 64;
+
+    /** A counter for assigning stripes to threads in a round-robin manner. */
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /** Stores the number assigned to the current thread. */
+    private static final ThreadLocal<Integer> THREAD_NUMBER = ThreadLocal.withInitial(THREAD_COUNTER::getAndIncrement);
+
+    /**
+     * Returns the default number of stripes. This is the number of available processors rounded up to the next power of
+     * two, but at most {@link #MAX_DEFAULT_STRIPES}.
+     *
+     * @return The default number of stripes
+     */
+    private static int defaultStripeCount() {
+        final int processors = Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_STRIPES);
+        return processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+    }
+
+    /** The locks used by this synchronizer. */
+    private final ReentrantReadWriteLock[] stripes;
+
+    /** The mask for selecting a stripe. */
+    private final int mask;
+
+    /**
+     * Creates a new instance of {@code StripedReadWriteSynchronizer} with a default number of stripes derived from the
+     * number of available processors.
+     */
+    public StripedReadWriteSynchronizer() {
+        this(defaultStripeCount());
+    }
+
+    /**
+     * Creates a new instance of {@code StripedReadWriteSynchronizer} with the given number of stripes. The number is
+     * rounded up to the next power of two.
+     *
+     * @param stripeCount The number of stripes (must be greater than 0)
+     * @throws IllegalArgumentException if the number of stripes is not positive
+     */
+    public StripedReadWriteSynchronizer(final int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Number of stripes must be greater than 0: " + stripeCount);
+        }
+        final int count = stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        stripes = new ReentrantReadWriteLock[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new ReentrantReadWriteLock();
+        }
+        mask = count - 1;
+    }
+
+    @Override
+    public void beginRead() {
+        stripe().readLock().lock();
+    }
+
+    @Override
+    public void beginWrite() {
+        for (final ReentrantReadWriteLock lock : stripes) {
+            lock.writeLock().lock();
+        }
+    }
+
+    @Override
+    public void endRead() {
+        stripe().readLock().unlock();
+    }
+
+    @Override
+    public void endWrite() {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            stripes[i].writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of stripes used by this synchronizer.
+     *
+     * @return The number of stripes
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Returns the lock for the current thread.
+     *
+     * @return The stripe assigned to the current thread
+     */
+    private ReentrantReadWriteLock stripe() {
+        return stripes[THREAD_NUMBER.get() & mask];
+    }
+}
@@ -83,9 +83,14 @@ abstract class AbstractImmutableNodeHandler implements NodeHandler<ImmutableNode
 
     /**
      * {@inheritDoc} This implementation returns an immutable list with all child nodes accepted by the specified matcher.
+     * For the {@link NodeNameMatchers#EQUALS} matcher, the children are looked up by name using
+     * {@link ImmutableNode#getChildren(String)}.
      */
     @Override
     public <C> List<ImmutableNode> getMatchingChildren(final ImmutableNode node, final NodeMatcher<C> matcher, final C criterion) {
+        if (matcher == NodeNameMatchers.EQUALS && criterion != null) {
+            return node.getChildren((String) criterion);
+        }
         return Collections.unmodifiableList(node.stream().filter(c -> matcher.matches(c, this, criterion)).collect(Collectors.toList()));
     }
 
@@ -16,7 +16,9 @@
  */
 package org.apache.commons.configuration2.tree;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import org.apache.commons.lang3.StringUtils;
@@ -69,11 +71,27 @@ public class DefaultConfigurationKey {
         /** Stores a flag if the actual property is an attribute. */
         private boolean attribute;
 
+        /** The pre-parsed parts of the key if this iterator replays an already parsed key. */
+        private final KeyPart[] parts;
+
+        /** Stores the position of the next part if this iterator replays an already parsed key. */
+        private int partIndex;
+
         /**
          * Constructs a new instance.
          */
         public KeyIterator() {
-            // empty
+            this(null);
+        }
+
+        /**
+         * Constructs a new instance that replays the given pre-parsed parts of a key. If the array is <strong>null</strong>,
+         * the key of the enclosing object is parsed.
+         *
+         * @param keyParts The pre-parsed parts of the key (may be <strong>null</strong>)
+         */
+        KeyIterator(final KeyPart[] keyParts) {
+            parts = keyParts;
         }
 
         /**
@@ -244,6 +262,9 @@ public class DefaultConfigurationKey {
          */
         @Override
         public boolean hasNext() {
+            if (parts != null) {
+                return partIndex < parts.length;
+            }
             return endIndex < keyBuffer.length();
         }
 
@@ -342,6 +363,15 @@ public class DefaultConfigurationKey {
                 throw new NoSuchElementException("No more key parts.");
             }
 
+            if (parts != null) {
+                final KeyPart part = parts[partIndex++];
+                current = part.key;
+                hasIndex = part.hasIndex;
+                indexValue = part.index;
+                attribute = part.attribute;
+                return currentKey(decorated);
+            }
+
             hasIndex = false;
             indexValue = -1;
             final String key = findNextIndices();
@@ -383,6 +413,38 @@ public class DefaultConfigurationKey {
         }
     }
 
+    /**
+     * A simple data class storing the information about a single part of a key as determined by a {@link KeyIterator}.
+     * Arrays of this class are the pre-parsed form of a key. They are immutable and can therefore be shared between
+     * threads.
+     */
+    static final class KeyPart {
+
+        /** The undecorated key of this part. */
+        private final String key;
+
+        /** The index of this part or -1 if there is none. */
+        private final int index;
+
+        /** A flag whether this part has an index. */
+        private final boolean hasIndex;
+
+        /** A flag whether this part is an attribute. */
+        private final boolean attribute;
+
+        /**
+         * Creates a new instance of {@code KeyPart} from the current state of the given iterator.
+         *
+         * @param it The iterator
+         */
+        private KeyPart(final KeyIterator it) {
+            key = it.current;
+            index = it.indexValue;
+            hasIndex = it.hasIndex;
+            attribute = it.attribute;
+        }
+    }
+
     /** Constant for the initial StringBuffer size. */
     private static final int INITIAL_SIZE = 32;
 
@@ -689,6 +751,17 @@ public class DefaultConfigurationKey {
         return new KeyIterator();
     }
 
+    /**
+     * Returns an iterator which replays the given pre-parsed parts of a key. The iterator behaves in the same way as the
+     * one returned by {@link #iterator()} for the key the parts were obtained from.
+     *
+     * @param parts The pre-parsed parts of the key as returned by {@link #parse()}
+     * @return An iterator over the given parts
+     */
+    KeyIterator iterator(final KeyPart[] parts) {
+        return new KeyIterator(parts);
+    }
+
     /**
      * Returns the actual length of this configuration key.
      *
@@ -698,6 +771,21 @@ public class DefaultConfigurationKey {
         return keyBuffer.length();
     }
 
+    /**
+     * Splits this key into its single parts. The resulting array contains the information obtained from a
+     * {@link KeyIterator} for each part, so that the key does not need to be parsed again when it is iterated over.
+     *
+     * @return An array with the parts of this key
+     */
+    KeyPart[] parse() {
+        final List<KeyPart> result = new ArrayList<>();
+        for (final KeyIterator it = iterator(); it.hasNext();) {
+            it.nextKey();
+            result.add(new KeyPart(it));
+        }
+        return result.toArray(new KeyPart[0]);
+    }
+
     /**
      * Helper method for removing attribute markers from a key.
      *
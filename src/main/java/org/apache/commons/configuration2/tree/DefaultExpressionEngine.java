@@ -19,6 +19,8 @@ package org.apache.commons.configuration2.tree;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -96,6 +98,11 @@ import org.apache.commons.lang3.StringUtils;
  * <p>
  * Instances of this class are thread-safe and can be shared between multiple hierarchical configuration objects.
  * </p>
+ * <p>
+ * Keys passed to the {@code query()} method are parsed only once; the parsed form is kept in a bounded cache, so that
+ * frequently queried keys do not have to be tokenized again. As the symbols of an instance cannot be changed, the
+ * cached data is always consistent with them.
+ * </p>
  *
  * @since 1.3
  */
@@ -106,12 +113,18 @@ public class DefaultExpressionEngine implements ExpressionEngine {
      */
     public static final DefaultExpressionEngine INSTANCE = new DefaultExpressionEngine(DefaultExpressionEngineSymbols.DEFAULT_SYMBOLS);
 
+    /** The maximum number of parsed keys stored in the cache. */
+    private static final int MAX_CACHED_KEYS = 2048;
+
     /** The symbols used by this instance. */
     private final DefaultExpressionEngineSymbols symbols;
 
     /** The matcher for node names. */
     private final NodeMatcher<String> nameMatcher;
 
+    /** A cache for the parsed form of the keys passed to {@code query()}. */
+    private final Map<String, DefaultConfigurationKey.KeyPart[]> keyCache;
+
     /**
      * Creates a new instance of {@code DefaultExpressionEngine} and initializes its symbols.
      *
@@ -138,6 +151,7 @@ public class DefaultExpressionEngine implements ExpressionEngine {
 
         symbols = syms;
         nameMatcher = nodeNameMatcher != null ? nodeNameMatcher : NodeNameMatchers.EQUALS;
+        keyCache = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -147,6 +161,29 @@ public class DefaultExpressionEngine implements ExpressionEngine {
         return key.toString();
     }
 
+    /**
+     * Returns an iterator over the parts of the given key. The key is parsed only once; then its parts are stored in an
+     * internal cache. If the cache is full, it is cleared, so that its size is limited even if there is a large number of
+     * different keys.
+     *
+     * @param key The key
+     * @return An iterator over the parts of this key
+     */
+    private DefaultConfigurationKey.KeyIterator cachedKeyIterator(final String key) {
+        if (key == null) {
+            return new DefaultConfigurationKey(this).iterator();
+        }
+        DefaultConfigurationKey.KeyPart[] parts = keyCache.get(key);
+        if (parts == null) {
+            parts = new DefaultConfigurationKey(this, key).parse();
+            if (keyCache.size() >= MAX_CACHED_KEYS) {
+                keyCache.clear();
+            }
+            keyCache.put(key, parts);
+        }
+        return new DefaultConfigurationKey(this).iterator(parts);
+    }
+
     /**
      * {@inheritDoc} This implementation works similar to {@code nodeKey()}; however, each key returned by this method has
      * an index (except for the root node). The parent key is prepended to the name of the current node in any case and
@@ -391,7 +428,7 @@ public class DefaultExpressionEngine implements ExpressionEngine {
     @Override
     public <T> List<QueryResult<T>> query(final T root, final String key, final NodeHandler<T> handler) {
         final List<QueryResult<T>> results = new LinkedList<>();
-        findNodesForKey(new DefaultConfigurationKey(this, key).iterator(), root, results, handler);
+        findNodesForKey(cachedKeyIterator(key), root, results, handler);
         return results;
     }
 }
@@ -24,6 +24,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -77,11 +78,14 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
         }
 
         /** The direct list of children of the new node. */
-        private final List<ImmutableNode> directChildren;
+        private final PersistentNodeList directChildren;
 
         /** The direct map of attributes of the new node. */
         private final Map<String, Object> directAttributes;
 
+        /** An already constructed index of the direct children by name. */
+        private PersistentNameIndex directChildrenIndex;
+
         /**
          * A list for the children of the new node. This list is populated by the {@code addChild()} method.
          */
@@ -116,20 +120,6 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
             initChildrenCollection(childCount);
         }
 
-        /**
-         * Creates a new instance of {@code Builder} and initializes the attributes of the new node and prepares the collection
-         * for the children. This constructor is used internally by methods of {@code ImmutableNode} which update the node and
-         * change the children. The new number of child nodes can be passed so that the collection for the new children can be
-         * created with an appropriate size.
-         *
-         * @param childCount The expected number of new children
-         * @param dirAttrs The attributes of the new node
-         */
-        private Builder(final int childCount, final Map<String, Object> dirAttrs) {
-            this(null, dirAttrs);
-            initChildrenCollection(childCount);
-        }
-
         /**
          * Creates a new instance of {@code Builder} and initializes the children and attributes of the new node. This
          * constructor is used internally by the {@code ImmutableNode} class for creating instances derived from another node.
@@ -139,7 +129,7 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
          * @param dirChildren The children of the new node
          * @param dirAttrs The attributes of the new node
          */
-        private Builder(final List<ImmutableNode> dirChildren, final Map<String, Object> dirAttrs) {
+        private Builder(final PersistentNodeList dirChildren, final Map<String, Object> dirAttrs) {
             directChildren = dirChildren;
             directAttributes = dirAttrs;
         }
@@ -233,19 +223,20 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
         }
 
         /**
-         * Creates a list with the children of the newly created node. The list returned here is always immutable. It depends on
-         * the way this builder was populated.
+         * Creates a list with the children of the newly created node. The list returned here is always a persistent list,
+         * so that the children of the new node can be updated without copying them. It depends on the way this builder was
+         * populated.
          *
          * @return The list with the children of the new node
          */
-        List<ImmutableNode> createChildren() {
+        PersistentNodeList createChildren() {
             if (directChildren != null) {
                 return directChildren;
             }
             if (children != null) {
-                return Collections.unmodifiableList(children);
+                return PersistentNodeList.of(children);
             }
-            return Collections.emptyList();
+            return PersistentNodeList.EMPTY;
         }
 
         /**
@@ -300,6 +291,12 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
         }
     }
 
+    /**
+     * The minimum number of children for which an index of child nodes by name is created. For smaller nodes, the children
+     * are simply filtered.
+     */
+    private static final int INDEX_THRESHOLD = 16;
+
     /**
      * Checks whether the given child node is not null. This check is done at multiple places to ensure that newly added
      * child nodes are always defined.
@@ -320,11 +317,18 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
     private final Object value;
 
     /** A collection with the child nodes of this node. */
-    private final List<ImmutableNode> children;
+    private final PersistentNodeList children;
 
     /** A map with the attributes of this node. */
     private final Map<String, Object> attributes;
 
+    /**
+     * An index of the child nodes by their names. It is created on demand when children are queried by name; nodes
+     * derived from this node that have the same children share it, nodes with changed children derive their index from
+     * it if possible. As the index is persistent, deriving it does not require copying it.
+     */
+    private volatile PersistentNameIndex childrenIndex;
+
     /**
      * Creates a new instance of {@code ImmutableNode} from the given {@code Builder} object.
      *
@@ -335,6 +339,7 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
         attributes = b.createAttributes();
         nodeName = b.name;
         value = b.value;
+        childrenIndex = b.directChildrenIndex;
     }
 
     /**
@@ -346,9 +351,25 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
      */
     public ImmutableNode addChild(final ImmutableNode child) {
         checkChildNode(child);
-        final Builder builder = new Builder(children.size() + 1, attributes);
-        builder.addChildren(children).addChild(child);
-        return createWithBasicProperties(builder);
+        PersistentNameIndex index = childrenIndex;
+        if (index != null) {
+            final PersistentNodeList namedChildren = index.get(child.getNodeName());
+            index = index.put(child.getNodeName(), (namedChildren != null ? namedChildren : PersistentNodeList.EMPTY).withAdded(child));
+        }
+        return createWithChildren(children.withAdded(child), index);
+    }
+
+    /**
+     * Creates a {@code Builder} for a node derived from this one which has the same children. The index of child nodes is
+     * passed to the new node if it has already been created.
+     *
+     * @param attrs The attributes of the new node (may be <strong>null</strong> if they are set later)
+     * @return The initialized {@code Builder}
+     */
+    private Builder builderWithSameChildren(final Map<String, Object> attrs) {
+        final Builder builder = new Builder(children, attrs);
+        builder.directChildrenIndex = childrenIndex;
+        return builder;
     }
 
     /**
@@ -362,6 +383,20 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
         return builder.name(nodeName).value(value).create();
     }
 
+    /**
+     * Creates a new {@code ImmutableNode} instance with the same properties as this object, but with the given new
+     * children.
+     *
+     * @param newChildren The new children
+     * @param index The index of the new children or <strong>null</strong> if it is created on demand
+     * @return The new node instance
+     */
+    private ImmutableNode createWithChildren(final PersistentNodeList newChildren, final PersistentNameIndex index) {
+        final Builder builder = new Builder(newChildren, attributes);
+        builder.directChildrenIndex = index;
+        return createWithBasicProperties(builder);
+    }
+
     /**
      * Creates a new {@code ImmutableNode} instance with the same properties as this object, but with the given new
      * attributes.
@@ -370,7 +405,7 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
      * @return The new node instance
      */
     private ImmutableNode createWithNewAttributes(final Map<String, Object> newAttrs) {
-        return createWithBasicProperties(new Builder(children, null).addAttributes(newAttrs));
+        return createWithBasicProperties(builderWithSameChildren(null).addAttributes(newAttrs));
     }
 
     /**
@@ -392,16 +427,37 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
     }
 
     /**
-     * Returns a list with the children of this node.
+     * Returns a list with the children of this node that have the given name. This list cannot be modified. For nodes with
+     * many children, the result is obtained from an index which is constructed on first access; so the costs of this
+     * operation do not depend on the number of children.
      *
      * @param name The node name to find
      * @return A list with the child nodes
      */
     public List<ImmutableNode> getChildren(final String name) {
         if (name == null) {
-            return new ArrayList<>();
+            return Collections.emptyList();
+        }
+        if (children.size() < INDEX_THRESHOLD) {
+            return Collections.unmodifiableList(children.stream().filter(in -> name.equals(in.getNodeName())).collect(Collectors.toList()));
+        }
+        final List<ImmutableNode> result = getChildrenIndex().get(name);
+        return result != null ? result : Collections.emptyList();
+    }
+
+    /**
+     * Gets the index of child nodes by their names. The index is created on first access. Concurrent invocations may cause
+     * the index to be created multiple times, which is harmless because the children of this node cannot change.
+     *
+     * @return The index of child nodes
+     */
+    private PersistentNameIndex getChildrenIndex() {
+        PersistentNameIndex index = childrenIndex;
+        if (index == null) {
+            index = PersistentNameIndex.of(children);
+            childrenIndex = index;
         }
-        return children.stream().filter(in -> name.equals(in.getNodeName())).collect(Collectors.toList());
+        return index;
     }
 
     /**
@@ -454,18 +510,21 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
      * @return The new node with the child node removed
      */
     public ImmutableNode removeChild(final ImmutableNode child) {
-        // use same size of children in case the child does not exist
-        final Builder builder = new Builder(children.size(), attributes);
-        boolean foundChild = false;
-        for (final ImmutableNode c : children) {
-            if (c == child) {
-                foundChild = true;
+        final int pos = children.indexOf(child);
+        if (pos < 0) {
+            return this;
+        }
+
+        PersistentNameIndex index = childrenIndex;
+        if (index != null) {
+            final PersistentNodeList namedChildren = index.get(child.getNodeName());
+            if (namedChildren.size() == 1) {
+                index = index.remove(child.getNodeName());
             } else {
-                builder.addChild(c);
+                index = index.put(child.getNodeName(), namedChildren.withRemoved(namedChildren.indexOf(child)));
             }
         }
-
-        return foundChild ? createWithBasicProperties(builder) : this;
+        return createWithChildren(children.withRemoved(pos), index);
     }
 
     /**
@@ -479,18 +538,21 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
      */
     public ImmutableNode replaceChild(final ImmutableNode oldChild, final ImmutableNode newChild) {
         checkChildNode(newChild);
-        final Builder builder = new Builder(children.size(), attributes);
-        boolean foundChild = false;
-        for (final ImmutableNode c : children) {
-            if (c == oldChild) {
-                builder.addChild(newChild);
-                foundChild = true;
-            } else {
-                builder.addChild(c);
-            }
+        final int pos = children.indexOf(oldChild);
+        if (pos < 0) {
+            return this;
         }
 
-        return foundChild ? createWithBasicProperties(builder) : this;
+        // the index can only be derived if the position of the child within the children with this name does not change
+        PersistentNameIndex index = null;
+        if (Objects.equals(oldChild.getNodeName(), newChild.getNodeName())) {
+            index = childrenIndex;
+            if (index != null) {
+                final PersistentNodeList namedChildren = index.get(newChild.getNodeName());
+                index = index.put(newChild.getNodeName(), namedChildren.withReplaced(namedChildren.indexOf(oldChild), newChild));
+            }
+        }
+        return createWithChildren(children.withReplaced(pos, newChild), index);
     }
 
     /**
@@ -548,7 +610,7 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
      * @return The new node with the changed name
      */
     public ImmutableNode setName(final String name) {
-        return new Builder(children, attributes).name(name).value(value).create();
+        return builderWithSameChildren(attributes).name(name).value(value).create();
     }
 
     /**
@@ -559,7 +621,7 @@ public final class ImmutableNode implements Iterable<ImmutableNode> {
      * @return The new node with the changed value
      */
     public ImmutableNode setValue(final Object newValue) {
-        return new Builder(children, attributes).name(nodeName).value(newValue).create();
+        return builderWithSameChildren(attributes).name(nodeName).value(newValue).create();
     }
 
     /**
@@ -25,6 +25,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
 import org.apache.commons.lang3.mutable.Mutable;
@@ -65,12 +66,130 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode> {
         boolean initTransaction(ModelTransaction tx);
     }
 
+    /**
+     * The model passed to the updater of a batch. All update operations are executed on a single transaction in batch
+     * mode, each operation as a separate step. The data of the original model is not touched before the batch is
+     * completed.
+     */
+    private final class BatchUpdate implements NodeModel<ImmutableNode> {
+
+        /** The current data of the batch. */
+        private TreeData data;
+
+        /** The transaction executing the updates; created on demand. */
+        private ModelTransaction transaction;
+
+        /**
+         * Creates a new instance of {@code BatchUpdate} which operates on the given data.
+         *
+         * @param data The initial data
+         */
+        BatchUpdate(final TreeData data) {
+            this.data = data;
+        }
+
+        @Override
+        public void addNodes(final String key, final Collection<? extends ImmutableNode> nodes, final NodeKeyResolver<ImmutableNode> resolver) {
+            if (nodes != null && !nodes.isEmpty()) {
+                update(tx -> initializeAddNodesTransaction(tx, key, nodes, resolver), resolver);
+            }
+        }
+
+        @Override
+        public void addProperty(final String key, final Iterable<?> values, final NodeKeyResolver<ImmutableNode> resolver) {
+            if (valuesNotEmpty(values)) {
+                update(tx -> {
+                    initializeAddTransaction(tx, key, values, resolver);
+                    return true;
+                }, resolver);
+            }
+        }
+
+        @Override
+        public void clear(final NodeKeyResolver<ImmutableNode> resolver) {
+            setRootNode(new ImmutableNode.Builder().name(data.getRootNode().getNodeName()).create());
+        }
+
+        @Override
+        public void clearProperty(final String key, final NodeKeyResolver<ImmutableNode> resolver) {
+            update(tx -> initializeClearTransaction(tx, resolver.resolveKey(tx.getQueryRoot(), key, tx.getCurrentData())), resolver);
+        }
+
+        @Override
+        public List<QueryResult<ImmutableNode>> clearTree(final String key, final NodeKeyResolver<ImmutableNode> resolver) {
+            final List<QueryResult<ImmutableNode>> results = resolver.resolveKey(data.getRootNode(), key, data);
+            if (isRootNodeSelected(results, data)) {
+                clear(resolver);
+            } else {
+                update(tx -> initializeClearTreeTransaction(tx, results), resolver);
+            }
+            return results;
+        }
+
+        /**
+         * Completes the batch and returns the resulting data.
+         *
+         * @return The data produced by this batch
+         */
+        TreeData complete() {
+            return transaction != null ? transaction.completeBatch() : data;
+        }
+
+        @Override
+        public ImmutableNode getInMemoryRepresentation() {
+            return data.getRootNode();
+        }
+
+        @Override
+        public NodeHandler<ImmutableNode> getNodeHandler() {
+            return data;
+        }
+
+        @Override
+        public void setProperty(final String key, final Object value, final NodeKeyResolver<ImmutableNode> resolver) {
+            update(tx -> initializeSetTransaction(tx, key, value, resolver), resolver);
+        }
+
+        @Override
+        public void setRootNode(final ImmutableNode newRoot) {
+            data = createTreeData(initialRootNode(newRoot), data);
+            transaction = null;
+        }
+
+        /**
+         * Executes an update operation as a step of the batch transaction.
+         *
+         * @param txInit The {@code TransactionInitializer}
+         * @param resolver The {@code NodeKeyResolver}
+         */
+        private void update(final TransactionInitializer txInit, final NodeKeyResolver<ImmutableNode> resolver) {
+            if (transaction == null) {
+                transaction = ModelTransaction.createBatch(data, resolver);
+            }
+            if (txInit.initTransaction(transaction)) {
+                data = transaction.executeStep();
+            }
+        }
+    }
+
     /**
      * A dummy node handler instance used in operations which require only a limited functionality.
      */
-    private static final NodeHandler<ImmutableNode> DUMMY_HANDLER = new TreeData(null, Collections.<ImmutableNode, ImmutableNode>emptyMap(),
+    private static final NodeHandler<ImmutableNode> DUMMY_HANDLER = new TreeData(null, PersistentNodeMap.EMPTY,
         Collections.<ImmutableNode, ImmutableNode>emptyMap(), null, new ReferenceTracker());
 
+    /**
+     * Checks whether the root node of the given structure is contained in the passed in query results. In this case, a
+     * clear tree operation clears the whole model.
+     *
+     * @param results The results of a query
+     * @param data The current structure
+     * @return A flag whether the root node is selected
+     */
+    private static boolean isRootNodeSelected(final Collection<QueryResult<ImmutableNode>> results, final TreeData data) {
+        return results.stream().anyMatch(result -> !result.isAttributeResult() && result.getNode() == data.getRootNode());
+    }
+
     /**
      * Handles an add property operation if the property to be added is an attribute.
      *
@@ -272,6 +391,26 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode> {
         return !results.isEmpty();
     }
 
+    /**
+     * Initializes a transaction to remove the elements referenced by the passed in collection of results. The results
+     * must not contain the root node.
+     *
+     * @param tx The transaction to be initialized
+     * @param results A collection with results pointing to the elements to be removed
+     * @return A flag whether there are elements to be removed
+     */
+    private static boolean initializeClearTreeTransaction(final ModelTransaction tx, final Collection<QueryResult<ImmutableNode>> results) {
+        results.forEach(result -> {
+            if (result.isAttributeResult()) {
+                tx.addRemoveAttributeOperation(result.getNode(), result.getAttributeName());
+            } else {
+                tx.addRemoveNodeOperation(tx.getCurrentData().getParent(result.getNode()), result.getNode());
+            }
+        });
+
+        return !results.isEmpty();
+    }
+
     /**
      * Initializes a transaction to change the values of some query results based on the passed in map.
      *
@@ -325,10 +464,10 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode> {
      * children and grand-children of the passed in root node. For each node in the subtree the parent relation is added to
      * the map.
      *
-     * @param parents The map with parent nodes
+     * @param parents The builder for the map with parent nodes
      * @param root The root node of the current tree
      */
-    static void updateParentMapping(final Map<ImmutableNode, ImmutableNode> parents, final ImmutableNode root) {
+    static void updateParentMapping(final PersistentNodeMap.Builder parents, final ImmutableNode root) {
         NodeTreeWalker.INSTANCE.walkBFS(root, new ConfigurationNodeVisitorAdapter<ImmutableNode>() {
             @Override
             public void visitBeforeChildren(final ImmutableNode node, final NodeHandler<ImmutableNode> handler) {
@@ -386,23 +525,7 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode> {
     public void addNodes(final String key, final NodeSelector selector, final Collection<? extends ImmutableNode> nodes,
         final NodeKeyResolver<ImmutableNode> resolver) {
         if (nodes != null && !nodes.isEmpty()) {
-            updateModel(tx -> {
-                final List<QueryResult<ImmutableNode>> results = resolver.resolveKey(tx.getQueryRoot(), key, tx.getCurrentData());
-                if (results.size() == 1) {
-                    if (results.get(0).isAttributeResult()) {
-                        throw attributeKeyException(key);
-                    }
-                    tx.addAddNodesOperation(results.get(0).getNode(), nodes);
-                } else {
-                    final NodeAddData<ImmutableNode> addData = resolver.resolveAddKey(tx.getQueryRoot(), key, tx.getCurrentData());
-                    if (addData.isAttribute()) {
-                        throw attributeKeyException(key);
-                    }
-                    final ImmutableNode newNode = new ImmutableNode.Builder(nodes.size()).name(addData.getNewNodeName()).addChildren(nodes).create();
-                    addNodesByAddData(tx, addData, Collections.singleton(newNode));
-                }
-                return true;
-            }, selector, resolver);
+            updateModel(tx -> initializeAddNodesTransaction(tx, key, nodes, resolver), selector, resolver);
         }
     }
 
@@ -492,25 +615,15 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode> {
     public List<QueryResult<ImmutableNode>> clearTree(final String key, final NodeSelector selector, final NodeKeyResolver<ImmutableNode> resolver) {
         final List<QueryResult<ImmutableNode>> removedElements = new LinkedList<>();
         updateModel(tx -> {
-            boolean changes = false;
-            final TreeData currentStructure = tx.getCurrentData();
-            final List<QueryResult<ImmutableNode>> results = resolver.resolveKey(tx.getQueryRoot(), key, currentStructure);
+            final List<QueryResult<ImmutableNode>> results = resolver.resolveKey(tx.getQueryRoot(), key, tx.getCurrentData());
             removedElements.clear();
             removedElements.addAll(results);
-            for (final QueryResult<ImmutableNode> result : results) {
-                if (result.isAttributeResult()) {
-                    tx.addRemoveAttributeOperation(result.getNode(), result.getAttributeName());
-                } else {
-                    if (result.getNode() == currentStructure.getRootNode()) {
-                        // the whole model is to be cleared
-                        clear(resolver);
-                        return false;
-                    }
-                    tx.addRemoveNodeOperation(currentStructure.getParent(result.getNode()), result.getNode());
-                }
-                changes = true;
+            if (isRootNodeSelected(results, tx.getCurrentData())) {
+                // the whole model is to be cleared
+                clear(resolver);
+                return false;
             }
-            return changes;
+            return initializeClearTreeTransaction(tx, results);
         }, selector, resolver);
 
         return removedElements;
@@ -524,10 +637,10 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode> {
      * @param root The root node of the structure
      * @return The parent node mapping
      */
-    private Map<ImmutableNode, ImmutableNode> createParentMapping(final ImmutableNode root) {
-        final Map<ImmutableNode, ImmutableNode> parents = new HashMap<>();
+    private PersistentNodeMap createParentMapping(final ImmutableNode root) {
+        final PersistentNodeMap.Builder parents = PersistentNodeMap.EMPTY.builder();
         updateParentMapping(parents, root);
-        return parents;
+        return parents.build();
     }
 
     /**
@@ -680,6 +793,34 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode> {
         return structure.get();
     }
 
+    /**
+     * Initializes a transaction for adding new nodes.
+     *
+     * @param tx The transaction to be initialized
+     * @param key The key
+     * @param nodes The collection of new nodes to be added
+     * @param resolver The {@code NodeKeyResolver}
+     * @return A flag whether the transaction should be executed
+     */
+    private boolean initializeAddNodesTransaction(final ModelTransaction tx, final String key, final Collection<? extends ImmutableNode> nodes,
+        final NodeKeyResolver<ImmutableNode> resolver) {
+        final List<QueryResult<ImmutableNode>> results = resolver.resolveKey(tx.getQueryRoot(), key, tx.getCurrentData());
+        if (results.size() == 1) {
+            if (results.get(0).isAttributeResult()) {
+                throw attributeKeyException(key);
+            }
+            tx.addAddNodesOperation(results.get(0).getNode(), nodes);
+        } else {
+            final NodeAddData<ImmutableNode> addData = resolver.resolveAddKey(tx.getQueryRoot(), key, tx.getCurrentData());
+            if (addData.isAttribute()) {
+                throw attributeKeyException(key);
+            }
+            final ImmutableNode newNode = new ImmutableNode.Builder(nodes.size()).name(addData.getNewNodeName()).addChildren(nodes).create();
+            addNodesByAddData(tx, addData, Collections.singleton(newNode));
+        }
+        return true;
+    }
+
     /**
      * Initializes a transaction for an add operation.
      *
@@ -698,6 +839,27 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode> {
         }
     }
 
+    /**
+     * Initializes a transaction for a set property operation.
+     *
+     * @param tx The transaction to be initialized
+     * @param key The key
+     * @param value The new value for this property
+     * @param resolver The {@code NodeKeyResolver}
+     * @return A flag whether the transaction should be executed
+     */
+    private boolean initializeSetTransaction(final ModelTransaction tx, final String key, final Object value, final NodeKeyResolver<ImmutableNode> resolver) {
+        boolean added = false;
+        final NodeUpdateData<ImmutableNode> updateData = resolver.resolveUpdateKey(tx.getQueryRoot(), key, value, tx.getCurrentData());
+        if (!updateData.getNewValues().isEmpty()) {
+            initializeAddTransaction(tx, key, updateData.getNewValues(), resolver);
+            added = true;
+        }
+        final boolean cleared = initializeClearTransaction(tx, updateData.getRemovedNodes());
+        final boolean updated = initializeUpdateTransaction(tx, updateData.getChangedValues());
+        return added || cleared || updated;
+    }
+
     /**
      * Returns a flag whether the specified tracked node is detached. As long as the {@code NodeSelector} associated with
      * that node returns a single instance, the tracked node is said to be <em>life</em>. If now an update of the model
@@ -860,17 +1022,7 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode> {
      * @throws ConfigurationRuntimeException if the selector cannot be resolved
      */
     public void setProperty(final String key, final NodeSelector selector, final Object value, final NodeKeyResolver<ImmutableNode> resolver) {
-        updateModel(tx -> {
-            boolean added = false;
-            final NodeUpdateData<ImmutableNode> updateData = resolver.resolveUpdateKey(tx.getQueryRoot(), key, value, tx.getCurrentData());
-            if (!updateData.getNewValues().isEmpty()) {
-                initializeAddTransaction(tx, key, updateData.getNewValues(), resolver);
-                added = true;
-            }
-            final boolean cleared = initializeClearTransaction(tx, updateData.getRemovedNodes());
-            final boolean updated = initializeUpdateTransaction(tx, updateData.getChangedValues());
-            return added || cleared || updated;
-        }, selector, resolver);
+        updateModel(tx -> initializeSetTransaction(tx, key, value, resolver), selector, resolver);
     }
 
     @Override
@@ -985,6 +1137,24 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode> {
         } while (!done);
     }
 
+    /**
+     * {@inheritDoc} This implementation executes all updates on a single transaction. The updates are applied step by step
+     * on a private copy of the model's data; only the bookkeeping about the parents of nodes is shared between the steps
+     * and rebuilt once at the end. So a large number of updates can be performed without copying this data for each
+     * update. Finally, the resulting structure is installed using an atomic compare-and-set operation. If this fails
+     * because of a concurrent update, the whole batch is repeated.
+     */
+    @Override
+    public void updateBatch(final Consumer<? super NodeModel<ImmutableNode>> updater) {
+        boolean done;
+        do {
+            final TreeData currentData = getTreeData();
+            final BatchUpdate batch = new BatchUpdate(currentData);
+            updater.accept(batch);
+            done = structure.compareAndSet(currentData, batch.complete());
+        } while (!done);
+    }
+
     /**
      * Performs a non-blocking, thread-safe update of this model based on a transaction initialized by the passed in
      * initializer. This method uses the atomic reference for the model's current data to ensure that an update was
@@ -53,6 +53,11 @@ import java.util.TreeMap;
  * in a single transaction, the resulting operation is more efficient.</li>
  * </ul>
  * </p>
+ * <p>
+ * A transaction can also be created in batch mode. Then a sequence of updates is executed in multiple steps; each step
+ * operates on the structure produced by the previous one. The mappings for parent nodes and replaced nodes are shared
+ * between the steps rather than being copied for each update; they are only normalized when the batch is completed.
+ * </p>
  */
 final class ModelTransaction {
 
@@ -217,6 +222,9 @@ final class ModelTransaction {
         protected ImmutableNode apply(final ImmutableNode target, final Operations operations) {
             final Map<ImmutableNode, ImmutableNode> replacements = fetchReplacementMap();
             final Set<ImmutableNode> removals = fetchRemovalSet();
+            if (canApplyIncrementally(replacements, removals)) {
+                return applyIncrementally(target, operations, replacements, removals);
+            }
             final List<ImmutableNode> resultNodes = new LinkedList<>();
 
             for (final ImmutableNode nd : target) {
@@ -236,6 +244,59 @@ final class ModelTransaction {
             return target.replaceChildren(resultNodes);
         }
 
+        /**
+         * Applies the changes of this operation on the target node one by one. This is used for a small number of changes;
+         * then the children of the target node need not be copied.
+         *
+         * @param target The target node
+         * @param operations The current {@code Operations} instance
+         * @param replacements The map with the replacements
+         * @param removals The set with the nodes to be removed
+         * @return The updated target node
+         */
+        private ImmutableNode applyIncrementally(final ImmutableNode target, final Operations operations, final Map<ImmutableNode, ImmutableNode> replacements,
+            final Set<ImmutableNode> removals) {
+            ImmutableNode result = target;
+            for (final Map.Entry<ImmutableNode, ImmutableNode> e : replacements.entrySet()) {
+                final ImmutableNode node = result.replaceChild(e.getKey(), e.getValue());
+                if (node != result) {
+                    replacedNodes.put(e.getKey(), e.getValue());
+                    result = node;
+                }
+            }
+            for (final ImmutableNode nd : removals) {
+                final ImmutableNode node = result.removeChild(nd);
+                if (node != result) {
+                    removedNodes.add(nd);
+                    result = node;
+                }
+            }
+            if (newNodes != null) {
+                for (final ImmutableNode nd : newNodes) {
+                    result = result.addChild(nd);
+                }
+            }
+            operations.newNodesAdded(newNodes);
+            // the operation has to produce a new node, even if nothing was changed
+            return result != target ? result : target.setValue(target.getValue());
+        }
+
+        /**
+         * Checks whether the changes of this operation can be applied one by one. This is the case if there are only a few
+         * changes, and the changes do not affect each other; a replacement node must not be replaced or removed itself,
+         * because the changes refer to the original children of the target node only.
+         *
+         * @param replacements The map with the replacements
+         * @param removals The set with the nodes to be removed
+         * @return a flag whether the changes can be applied one by one
+         */
+        private boolean canApplyIncrementally(final Map<ImmutableNode, ImmutableNode> replacements, final Set<ImmutableNode> removals) {
+            if (replacements.size() + removals.size() + (newNodes != null ? newNodes.size() : 0) > MAX_INCREMENTAL_CHANGES) {
+                return false;
+            }
+            return replacements.values().stream().noneMatch(repl -> replacements.containsKey(repl) || removals.contains(repl));
+        }
+
         /**
          * Adds all operations defined by the specified object to this instance.
          *
@@ -419,13 +480,19 @@ final class ModelTransaction {
     }
 
     /**
-     * Constant for the maximum number of entries in the replacement mapping. If this number is exceeded, the parent mapping
-     * is reconstructed. The number is a bit arbitrary. If it is too low, updates - especially on large node structures -
-     * are expensive because the parent mapping is often rebuild. If it is too big, read access to the model is slowed down
-     * because looking up the parent of a node is more complicated.
+     * Constant for the maximum number of entries in the replacement mapping. If this number is exceeded, the replacements
+     * are resolved in the parent mapping. The number is a bit arbitrary. If it is too low, updates - especially on large
+     * node structures - are expensive because the parent mapping is often updated for the children of replaced nodes. If
+     * it is too big, read access to the model is slowed down because looking up the parent of a node is more complicated.
      */
     private static final int MAX_REPLACEMENTS = 200;
 
+    /**
+     * Constant for the maximum number of changes on the children of a node which are applied one by one. For a larger
+     * number of changes, the list of children is constructed anew.
+     */
+    private static final int MAX_INCREMENTAL_CHANGES = 8;
+
     /** Constant for an unknown level. */
     private static final int LEVEL_UNKNOWN = -1;
 
@@ -529,10 +596,10 @@ final class ModelTransaction {
     }
 
     /** Stores the current tree data of the calling node model. */
-    private final TreeData currentData;
+    private TreeData currentData;
 
     /** The root node for query operations. */
-    private final ImmutableNode queryRoot;
+    private ImmutableNode queryRoot;
 
     /** The selector to the root node of this transaction. */
     private final NodeSelector rootNodeSelector;
@@ -546,8 +613,8 @@ final class ModelTransaction {
     /** The nodes replaced in this transaction. */
     private final Map<ImmutableNode, ImmutableNode> replacedNodes;
 
-    /** A new parent mapping. */
-    private final Map<ImmutableNode, ImmutableNode> parentMapping;
+    /** The builder for the new parent mapping. */
+    private final PersistentNodeMap.Builder parentMapping;
 
     /** A collection with nodes which have been added. */
     private final Collection<ImmutableNode> addedNodes;
@@ -573,6 +640,17 @@ final class ModelTransaction {
     /** The new root node. */
     private ImmutableNode newRoot;
 
+    /**
+     * For a batch: maps nodes of the original structure replaced during the batch to their most recent replacements.
+     */
+    private final Map<ImmutableNode, ImmutableNode> batchReplacedNodes;
+
+    /** For a batch: the inverse of the mapping of replaced nodes. */
+    private final Map<ImmutableNode, ImmutableNode> batchOriginalNodes;
+
+    /** For a batch: the nodes of the original structure removed during the batch. */
+    private final Collection<ImmutableNode> batchRemovedNodes;
+
     /**
      * Creates a new instance of {@code ModelTransaction} for the current tree data.
      *
@@ -582,11 +660,33 @@ final class ModelTransaction {
      * @param resolver The {@code NodeKeyResolver}
      */
     public ModelTransaction(final TreeData treeData, final NodeSelector selector, final NodeKeyResolver<ImmutableNode> resolver) {
+        this(treeData, selector, resolver, false);
+    }
+
+    /**
+     * Creates a new instance of {@code ModelTransaction} which can operate in batch mode.
+     *
+     * @param treeData The current {@code TreeData} structure to operate on
+     * @param selector An optional {@code NodeSelector} defining the target root node for this transaction
+     * @param resolver The {@code NodeKeyResolver}
+     * @param batch A flag whether this transaction executes a batch of updates
+     */
+    private ModelTransaction(final TreeData treeData, final NodeSelector selector, final NodeKeyResolver<ImmutableNode> resolver, final boolean batch) {
         currentData = treeData;
         this.resolver = resolver;
         replacementMapping = getCurrentData().copyReplacementMapping();
+        parentMapping = getCurrentData().getParentMapping().builder();
+        if (batch) {
+            resolveReplacements(treeData.getRootNode());
+            batchReplacedNodes = new HashMap<>();
+            batchOriginalNodes = new HashMap<>();
+            batchRemovedNodes = new LinkedList<>();
+        } else {
+            batchReplacedNodes = null;
+            batchOriginalNodes = null;
+            batchRemovedNodes = null;
+        }
         replacedNodes = new HashMap<>();
-        parentMapping = getCurrentData().copyParentMapping();
         operations = new TreeMap<>();
         addedNodes = new LinkedList<>();
         removedNodes = new LinkedList<>();
@@ -595,6 +695,20 @@ final class ModelTransaction {
         rootNodeSelector = selector;
     }
 
+    /**
+     * Creates a transaction in batch mode for the given tree data. Operations can be added to such a transaction as
+     * usual; they are executed by calling {@link #executeStep()}. Afterwards, further operations can be added which
+     * refer to the updated structure. {@link #completeBatch()} finally produces the resulting {@code TreeData}. A batch
+     * always operates on the root node of the model.
+     *
+     * @param treeData The current {@code TreeData} structure to operate on
+     * @param resolver The {@code NodeKeyResolver}
+     * @return The new transaction
+     */
+    static ModelTransaction createBatch(final TreeData treeData, final NodeKeyResolver<ImmutableNode> resolver) {
+        return new ModelTransaction(treeData, null, resolver, true);
+    }
+
     /**
      * Adds an operation for adding a new child to a given parent node.
      *
@@ -711,6 +825,20 @@ final class ModelTransaction {
         fetchOperations(parent, LEVEL_UNKNOWN).addChildrenOperation(op);
     }
 
+    /**
+     * Completes a batch. The replacements of nodes are resolved in the parent mapping, and the changes performed during
+     * the batch are applied to the reference tracker. The {@code TreeData} returned by this method can then be
+     * used by the calling model.
+     *
+     * @return The resulting {@code TreeData}
+     */
+    TreeData completeBatch() {
+        executeStep();
+        resolveReplacements(currentData.getRootNode());
+        return new TreeData(currentData.getRootNode(), parentMapping.build(), replacementMapping, currentData.getNodeTracker(),
+            currentData.getReferenceTracker().updateReferences(batchReplacedNodes, batchRemovedNodes));
+    }
+
     /**
      * Executes this transaction resulting in a new {@code TreeData} object. The object returned by this method serves as
      * the definition of a new node structure for the calling model.
@@ -720,10 +848,62 @@ final class ModelTransaction {
     public TreeData execute() {
         executeOperations();
         updateParentMapping();
-        return new TreeData(newRoot, parentMapping, replacementMapping,
+        return new TreeData(newRoot, parentMapping.build(), replacementMapping,
             currentData.getNodeTracker().update(newRoot, rootNodeSelector, getResolver(), getCurrentData()), updateReferenceTracker());
     }
 
+    /**
+     * Executes the operations added to a batch since the last step. The resulting structure becomes the current data of
+     * this transaction. Rather than copying the mappings for parent nodes, they are updated in place: The entries of
+     * replaced nodes are moved to their replacements, and references to outdated parent nodes are resolved via the
+     * replacement mapping. Reference objects of replaced or removed nodes are recorded, so that the reference tracker can
+     * be updated once when the batch is completed.
+     *
+     * @return The updated {@code TreeData}
+     */
+    TreeData executeStep() {
+        if (operations.isEmpty()) {
+            return currentData;
+        }
+        executeOperations();
+        replacedNodes.forEach((org, replacement) -> {
+            final ImmutableNode parent = parentMapping.remove(org);
+            if (parent != null) {
+                parentMapping.put(replacement, parent);
+            }
+            replacementMapping.put(org, replacement);
+            final ImmutableNode original = batchOriginalNodes.remove(org);
+            final ImmutableNode key = original != null ? original : org;
+            batchReplacedNodes.put(key, replacement);
+            batchOriginalNodes.put(replacement, key);
+        });
+        updateParentMappingForAddedNodes();
+        updateParentMappingForRemovedNodes();
+        allRemovedNodes.forEach(node -> {
+            final ImmutableNode original = batchOriginalNodes.remove(node);
+            if (original != null) {
+                batchReplacedNodes.remove(original);
+                batchRemovedNodes.add(original);
+            } else {
+                batchRemovedNodes.add(node);
+            }
+        });
+
+        ReferenceTracker refTracker = currentData.getReferenceTracker();
+        if (newReferences != null) {
+            refTracker = refTracker.addReferences(newReferences);
+            newReferences = null;
+        }
+        currentData = TreeData.createForBatch(newRoot, parentMapping.build(), replacementMapping,
+            currentData.getNodeTracker().update(newRoot, rootNodeSelector, getResolver(), getCurrentData()), refTracker);
+        queryRoot = newRoot;
+        replacedNodes.clear();
+        addedNodes.clear();
+        removedNodes.clear();
+        allRemovedNodes.clear();
+        return currentData;
+    }
+
     /**
      * Executes all operations in this transaction.
      */
@@ -828,13 +1008,31 @@ final class ModelTransaction {
     }
 
     /**
-     * Rebuilds the parent mapping from scratch. This method is called if the replacement mapping exceeds its maximum size.
-     * In this case, it is cleared, and a new parent mapping is constructed for the new root node.
+     * Resolves all replacements of nodes in the parent mapping. This method is called if the replacement mapping exceeds
+     * its maximum size. The entries for replaced nodes are removed, and the children of the replacing nodes are assigned
+     * to them directly; so the replacement mapping can be cleared. As all ancestors of a replaced node are replaced, too,
+     * only the part of the structure starting from the root node consisting of replacing nodes has to be visited.
+     *
+     * @param root The current root node
      */
-    private void rebuildParentMapping() {
+    private void resolveReplacements(final ImmutableNode root) {
+        if (replacementMapping.isEmpty()) {
+            return;
+        }
+        final Set<ImmutableNode> replacements = new HashSet<>(replacementMapping.values());
+        replacementMapping.keySet().forEach(parentMapping::remove);
+        final LinkedList<ImmutableNode> pending = new LinkedList<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            final ImmutableNode node = pending.removeFirst();
+            node.forEach(child -> {
+                parentMapping.put(child, node);
+                if (replacements.contains(child)) {
+                    pending.add(child);
+                }
+            });
+        }
         replacementMapping.clear();
-        parentMapping.clear();
-        InMemoryNodeModel.updateParentMapping(parentMapping, newRoot);
     }
 
     /**
@@ -872,11 +1070,10 @@ final class ModelTransaction {
      */
     private void updateParentMapping() {
         replacementMapping.putAll(replacedNodes);
+        updateParentMappingForAddedNodes();
+        updateParentMappingForRemovedNodes();
         if (replacementMapping.size() > MAX_REPLACEMENTS) {
-            rebuildParentMapping();
-        } else {
-            updateParentMappingForAddedNodes();
-            updateParentMappingForRemovedNodes();
+            resolveReplacements(newRoot);
         }
     }
 
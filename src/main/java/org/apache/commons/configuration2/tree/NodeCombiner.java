@@ -16,9 +16,12 @@
  */
 package org.apache.commons.configuration2.tree;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * <p>
@@ -38,11 +41,132 @@ import java.util.Set;
  * should be treated as list nodes. For this purpose the {@code addListNode()} method exists. It can be passed the name
  * of a node, which should be considered a list node.
  * </p>
+ * <p>
+ * Combining large node structures can be expensive. Therefore, the combiners provided by this package support a
+ * parallel mode which is enabled by setting a threshold via {@link #setParallelThreshold(int)}. In this mode, the
+ * combinations of child nodes with large subtrees are performed in separate fork/join tasks. The matching
+ * of child nodes is still done on a single thread, and the combined children are added in their original order; so
+ * the resulting structure is the same as in sequential mode. Note that derived classes then have to be thread-safe;
+ * especially, the set of list nodes must not be changed while a combination is in progress.
+ * </p>
  *
  * @since 1.3
  */
 public abstract class NodeCombiner {
 
+    /**
+     * A task for combining two nodes in the fork/join framework.
+     */
+    private static final class CombineTask extends RecursiveTask<ImmutableNode> {
+
+        private static final long serialVersionUID = 1L;
+
+        /** The combiner. */
+        private final transient NodeCombiner combiner;
+
+        /** The first node. */
+        private final transient ImmutableNode node1;
+
+        /** The second node. */
+        private final transient ImmutableNode node2;
+
+        /**
+         * Creates a new instance of {@code CombineTask}.
+         *
+         * @param combiner The combiner
+         * @param node1 The first node
+         * @param node2 The second node
+         */
+        CombineTask(final NodeCombiner combiner, final ImmutableNode node1, final ImmutableNode node2) {
+            this.combiner = combiner;
+            this.node1 = node1;
+            this.node2 = node2;
+        }
+
+        @Override
+        protected ImmutableNode compute() {
+            return combiner.combine(node1, node2);
+        }
+    }
+
+    /**
+     * A helper class for collecting the children of a combined node. Children can be added directly or as a pair of nodes
+     * to be combined. Depending on the parallel threshold of the combiner, the combination is performed directly or forked
+     * as a separate task. Eventually, all children are added to the builder for the combined node in the order in which
+     * they were passed to this object.
+     */
+    static final class CombinedChildren {
+
+        /** The combiner. */
+        private final NodeCombiner combiner;
+
+        /** The children; either nodes or tasks producing nodes. */
+        private final List<Object> children = new ArrayList<>();
+
+        /**
+         * Creates a new instance of {@code CombinedChildren}.
+         *
+         * @param combiner The combiner
+         */
+        CombinedChildren(final NodeCombiner combiner) {
+            this.combiner = combiner;
+        }
+
+        /**
+         * Adds a child node which does not need to be combined.
+         *
+         * @param child The child node
+         */
+        void add(final ImmutableNode child) {
+            children.add(child);
+        }
+
+        /**
+         * Adds the combination of the given nodes as a child.
+         *
+         * @param node1 The first node
+         * @param node2 The second node
+         */
+        void addCombination(final ImmutableNode node1, final ImmutableNode node2) {
+            final int threshold = combiner.getParallelThreshold();
+            if (threshold > 0 && countNodes(node1, threshold) + countNodes(node2, threshold) >= threshold) {
+                children.add(new CombineTask(combiner, node1, node2).fork());
+            } else {
+                children.add(combiner.combine(node1, node2));
+            }
+        }
+
+        /**
+         * Counts the nodes of the subtree defined by the given node, but stops as soon as the limit is reached. The number of
+         * direct children is no good measure for the work of a combination, since a node with few children can have large
+         * subtrees below them. Counting all nodes of a subtree, on the other hand, would cost as much as combining it. By
+         * stopping at the limit, the costs of a check are bounded by the parallel threshold.
+         *
+         * @param node The root node of the subtree
+         * @param limit The limit
+         * @return The number of nodes in the subtree or a number greater than or equal to the limit
+         */
+        private static int countNodes(final ImmutableNode node, final int limit) {
+            int count = 1;
+            for (final ImmutableNode child : node) {
+                if (count >= limit) {
+                    break;
+                }
+                count += countNodes(child, limit - count);
+            }
+            return count;
+        }
+
+        /**
+         * Adds all children to the given builder. This method waits for the completion of forked tasks.
+         *
+         * @param builder The builder for the combined node
+         */
+        void addTo(final ImmutableNode.Builder builder) {
+            children.forEach(child -> builder.addChild(child instanceof CombineTask ? ((CombineTask) child).join() : (ImmutableNode) child));
+        }
+    }
+
     /**
      * A default handler object for immutable nodes. This object can be used by derived classes for dealing with nodes.
      * However, it provides only limited functionality; it supports only operations on child nodes, but no references to
@@ -73,6 +197,9 @@ public abstract class NodeCombiner {
     /** Stores a list with node names that are known to be list nodes. */
     private final Set<String> listNodes;
 
+    /** The minimum number of nodes in the subtrees for which a combination is performed in a separate task. */
+    private int parallelThreshold;
+
     /**
      * Creates a new instance of {@code NodeCombiner}.
      */
@@ -108,6 +235,16 @@ public abstract class NodeCombiner {
         return Collections.unmodifiableSet(listNodes);
     }
 
+    /**
+     * Gets the threshold for combining nodes in parallel.
+     *
+     * @return The parallel threshold; a value less than or equal to 0 means that parallel combination is disabled
+     * @since 2.16.0
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
     /**
      * Checks if a node is a list node. This implementation tests if the given node name is contained in the set of known
      * list nodes. Derived classes which use different criteria may overload this method.
@@ -118,4 +255,16 @@ public abstract class NodeCombiner {
     public boolean isListNode(final ImmutableNode node) {
         return listNodes.contains(node.getNodeName());
     }
+
+    /**
+     * Sets the threshold for combining nodes in parallel. If the subtrees of a pair of child nodes to be combined contain
+     * at least this number of nodes in total, the combination is performed in a separate fork/join task. A value less than or equal to 0 disables
+     * parallel combination; this is the default.
+     *
+     * @param parallelThreshold The parallel threshold
+     * @since 2.16.0
+     */
+    public void setParallelThreshold(final int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
 }
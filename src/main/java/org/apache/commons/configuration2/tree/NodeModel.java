@@ -17,6 +17,7 @@
 package org.apache.commons.configuration2.tree;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 /**
  * <p>
@@ -128,4 +129,19 @@ public interface NodeModel<T> {
      * @param newRoot The new root node to be set (can be <strong>null</strong>, then an empty root node is set)
      */
     void setRootNode(T newRoot);
+
+    /**
+     * Performs a number of updates as a unit. The passed in updater is invoked with a model on which it can execute
+     * arbitrary update operations; each operation sees the results of the previous ones. Implementations can use this
+     * information to apply the updates more efficiently than a sequence of single update operations. The resulting
+     * structure then becomes visible to other readers of this model at once. The updater may be invoked multiple times if
+     * the model is changed concurrently; so it should not have other side effects. This default implementation just passes
+     * this model to the updater.
+     *
+     * @param updater The object performing the updates
+     * @since 2.16.0
+     */
+    default void updateBatch(final Consumer<? super NodeModel<T>> updater) {
+        updater.accept(this);
+    }
 }
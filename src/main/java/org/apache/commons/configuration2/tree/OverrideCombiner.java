@@ -95,14 +95,20 @@ public class OverrideCombiner extends NodeCombiner {
         result.name(node1.getNodeName());
 
         // Process nodes from the first structure, which override the second
+        final CombinedChildren children = new CombinedChildren(this);
         node1.forEach(child -> {
             final ImmutableNode child2 = canCombine(node1, node2, child);
-            result.addChild(child2 != null ? combine(child, child2) : child);
+            if (child2 != null) {
+                children.addCombination(child, child2);
+            } else {
+                children.add(child);
+            }
         });
 
         // Process nodes from the second structure, which are not contained
         // in the first structure
-        node2.stream().filter(child -> HANDLER.getChildrenCount(node1, child.getNodeName()) < 1).forEach(result::addChild);
+        node2.stream().filter(child -> HANDLER.getChildrenCount(node1, child.getNodeName()) < 1).forEach(children::add);
+        children.addTo(result);
 
         // Handle attributes and value
         addAttributes(result, node1, node2);
@@ -0,0 +1,475 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.tree;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * An internally used persistent map which associates node names with the lists of child nodes having this name. It
+ * stores the index of the children of an {@code ImmutableNode} by name.
+ * </p>
+ * <p>
+ * Like {@link PersistentNodeMap}, the map is implemented as a hash array mapped trie, but keys are node names which are
+ * compared by equality; a <strong>null</strong> name is supported, too. An update does not change an instance, but
+ * produces a new one sharing all unchanged parts with the original map; only the trie nodes on the path to the changed
+ * entry are copied. So the index of a node with many distinct child names can be updated when a child is added,
+ * replaced, or removed without copying it completely.
+ * </p>
+ *
+ * @since 2.16.0
+ */
+final class PersistentNameIndex {
+
+    /**
+     * An inner node of the trie. The entries of the node are selected by a 5 bit chunk of the key hash at the node's
+     * level. A bitmap stores which chunks are present. For each of them, the array contains a pair consisting of a key
+     * and a value, or of <strong>null</strong> and a child node.
+     */
+    private static final class BitmapNode extends TrieNode {
+
+        /** The bitmap with the chunks used by this node. */
+        private int bitmap;
+
+        /** The array with the key value pairs of this node. */
+        private Object[] array;
+
+        /**
+         * Creates a new instance of {@code BitmapNode}.
+         *
+         * @param edit The token of the owning operation or <strong>null</strong>
+         * @param bitmap The bitmap
+         * @param array The array with the entries
+         */
+        BitmapNode(final Object edit, final int bitmap, final Object[] array) {
+            super(edit);
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        /**
+         * Returns an instance of this node which can be changed in place by the given operation.
+         *
+         * @param edit The token of the operation or <strong>null</strong>
+         * @return The editable node
+         */
+        private BitmapNode editable(final Object edit) {
+            return isEditable(edit) ? this : new BitmapNode(edit, bitmap, array.clone());
+        }
+
+        @Override
+        PersistentNodeList get(final int shift, final int hash, final Object key) {
+            final int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            final int idx = index(bit);
+            final Object k = array[idx];
+            if (k == null) {
+                return ((TrieNode) array[idx + 1]).get(shift + BITS, hash, key);
+            }
+            return k.equals(key) ? (PersistentNodeList) array[idx + 1] : null;
+        }
+
+        /**
+         * Returns the index of the key of the pair for the given bit in the array.
+         *
+         * @param bit The bit
+         * @return The index in the array
+         */
+        private int index(final int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        TrieNode put(final Object edit, final int shift, final int hash, final Object key, final PersistentNodeList value) {
+            final int bit = bit(hash, shift);
+            final int idx = index(bit);
+            if ((bitmap & bit) == 0) {
+                final Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, idx);
+                newArray[idx] = key;
+                newArray[idx + 1] = value;
+                System.arraycopy(array, idx, newArray, idx + 2, array.length - idx);
+                if (isEditable(edit)) {
+                    bitmap |= bit;
+                    array = newArray;
+                    return this;
+                }
+                return new BitmapNode(edit, bitmap | bit, newArray);
+            }
+
+            final Object k = array[idx];
+            final Object v = array[idx + 1];
+            final Object newValue;
+            final boolean sameKey = k != null && k.equals(key);
+            if (k == null) {
+                newValue = ((TrieNode) v).put(edit, shift + BITS, hash, key, value);
+            } else if (sameKey) {
+                newValue = value;
+            } else {
+                newValue = createNode(edit, shift + BITS, k, (PersistentNodeList) v, hash, key, value);
+            }
+            if (newValue == v) {
+                return this;
+            }
+            final BitmapNode node = editable(edit);
+            if (k != null && !sameKey) {
+                node.array[idx] = null;
+            }
+            node.array[idx + 1] = newValue;
+            return node;
+        }
+
+        @Override
+        TrieNode remove(final int shift, final int hash, final Object key) {
+            final int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            final int idx = index(bit);
+            final Object k = array[idx];
+            final Object v = array[idx + 1];
+            if (k == null) {
+                final TrieNode child = ((TrieNode) v).remove(shift + BITS, hash, key);
+                if (child == v) {
+                    return this;
+                }
+                if (child != null) {
+                    final Object[] newArray = array.clone();
+                    newArray[idx + 1] = child;
+                    return new BitmapNode(null, bitmap, newArray);
+                }
+            } else if (!k.equals(key)) {
+                return this;
+            }
+
+            if (bitmap == bit) {
+                return null;
+            }
+            final Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, idx);
+            System.arraycopy(array, idx + 2, newArray, idx, array.length - idx - 2);
+            return new BitmapNode(null, bitmap ^ bit, newArray);
+        }
+    }
+
+    /**
+     * A node of the trie storing keys with identical hash codes.
+     */
+    private static final class CollisionNode extends TrieNode {
+
+        /** The hash code of all keys in this node. */
+        private final int hash;
+
+        /** The array with the key value pairs. */
+        private final Object[] array;
+
+        /**
+         * Creates a new instance of {@code CollisionNode}.
+         *
+         * @param edit The token of the owning operation or <strong>null</strong>
+         * @param hash The hash code
+         * @param array The array with the key value pairs
+         */
+        CollisionNode(final Object edit, final int hash, final Object[] array) {
+            super(edit);
+            this.hash = hash;
+            this.array = array;
+        }
+
+        /**
+         * Returns the index of the given key in the array.
+         *
+         * @param key The key
+         * @return The index or -1 if the key is not contained
+         */
+        private int find(final Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        PersistentNodeList get(final int shift, final int hash, final Object key) {
+            final int idx = find(key);
+            return idx < 0 ? null : (PersistentNodeList) array[idx + 1];
+        }
+
+        @Override
+        TrieNode put(final Object edit, final int shift, final int hash, final Object key, final PersistentNodeList value) {
+            if (hash != this.hash) {
+                return new BitmapNode(edit, bit(this.hash, shift), new Object[] {null, this}).put(edit, shift, hash, key, value);
+            }
+            final int idx = find(key);
+            if (idx >= 0) {
+                if (array[idx + 1] == value) {
+                    return this;
+                }
+                if (isEditable(edit)) {
+                    array[idx + 1] = value;
+                    return this;
+                }
+                final Object[] newArray = array.clone();
+                newArray[idx + 1] = value;
+                return new CollisionNode(edit, hash, newArray);
+            }
+            final Object[] newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, array.length);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            return new CollisionNode(edit, hash, newArray);
+        }
+
+        @Override
+        TrieNode remove(final int shift, final int hash, final Object key) {
+            final int idx = find(key);
+            if (idx < 0) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            final Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, idx);
+            System.arraycopy(array, idx + 2, newArray, idx, array.length - idx - 2);
+            return new CollisionNode(null, hash, newArray);
+        }
+    }
+
+    /**
+     * The base class for the nodes of the trie.
+     */
+    private abstract static class TrieNode {
+
+        /** The token of the operation owning this node; <strong>null</strong> if the node is immutable. */
+        private final Object edit;
+
+        /**
+         * Creates a new instance of {@code TrieNode}.
+         *
+         * @param edit The token of the owning operation or <strong>null</strong>
+         */
+        TrieNode(final Object edit) {
+            this.edit = edit;
+        }
+
+        /**
+         * Gets the value for the given key.
+         *
+         * @param shift The shift for the hash chunk of this level
+         * @param hash The hash of the key
+         * @param key The key
+         * @return The value or <strong>null</strong> if the key is not contained
+         */
+        abstract PersistentNodeList get(int shift, int hash, Object key);
+
+        /**
+         * Tests whether this node can be changed in place by the operation with the given token.
+         *
+         * @param edit The token of the operation or <strong>null</strong>
+         * @return A flag whether this node can be changed in place
+         */
+        boolean isEditable(final Object edit) {
+            return edit != null && this.edit == edit;
+        }
+
+        /**
+         * Associates the given key with the given value.
+         *
+         * @param edit The token of the operation or <strong>null</strong>
+         * @param shift The shift for the hash chunk of this level
+         * @param hash The hash of the key
+         * @param key The key
+         * @param value The value
+         * @return The updated node
+         */
+        abstract TrieNode put(Object edit, int shift, int hash, Object key, PersistentNodeList value);
+
+        /**
+         * Removes the given key.
+         *
+         * @param shift The shift for the hash chunk of this level
+         * @param hash The hash of the key
+         * @param key The key
+         * @return The updated node or <strong>null</strong> if the node becomes empty
+         */
+        abstract TrieNode remove(int shift, int hash, Object key);
+    }
+
+    /** The number of hash bits consumed on each level of the trie. */
+    private static final int BITS = 5;
+
+    /** The mask for extracting the hash chunk of a level. */
+    private static final int MASK = (1 << BITS) - 1;
+
+    /** The key used in the trie for the <strong>null</strong> name. */
+    private static final Object NULL_KEY = new Object();
+
+    /** The empty trie node. */
+    private static final TrieNode EMPTY_NODE = new BitmapNode(null, 0, new Object[0]);
+
+    /** An empty index. */
+    static final PersistentNameIndex EMPTY = new PersistentNameIndex(EMPTY_NODE, 0);
+
+    /**
+     * Returns the bit representing the hash chunk of the given level.
+     *
+     * @param hash The hash
+     * @param shift The shift for the level
+     * @return The bit for this hash
+     */
+    private static int bit(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * Creates a trie node containing two entries.
+     *
+     * @param edit The token of the operation or <strong>null</strong>
+     * @param shift The shift for the level of the new node
+     * @param key1 The first key
+     * @param value1 The first value
+     * @param hash2 The hash of the second key
+     * @param key2 The second key
+     * @param value2 The second value
+     * @return The new node
+     */
+    private static TrieNode createNode(final Object edit, final int shift, final Object key1, final PersistentNodeList value1, final int hash2,
+        final Object key2, final PersistentNodeList value2) {
+        final int hash1 = hash(key1);
+        if (hash1 == hash2) {
+            return new CollisionNode(edit, hash1, new Object[] {key1, value1, key2, value2});
+        }
+        return EMPTY_NODE.put(edit, shift, hash1, key1, value1).put(edit, shift, hash2, key2, value2);
+    }
+
+    /**
+     * Returns the hash code of a key. The bits of the hash code of the name are spread, so that names that differ only in
+     * their last characters are distributed over the trie.
+     *
+     * @param key The key
+     * @return The hash code
+     */
+    private static int hash(final Object key) {
+        final int h = key.hashCode();
+        return h ^ h >>> 16;
+    }
+
+    /**
+     * Returns the key used in the trie for the given node name.
+     *
+     * @param name The node name (may be <strong>null</strong>)
+     * @return The key for this name
+     */
+    private static Object key(final String name) {
+        return name != null ? name : NULL_KEY;
+    }
+
+    /**
+     * Creates an index of the given child nodes by their names.
+     *
+     * @param children The child nodes
+     * @return The index of the child nodes
+     */
+    static PersistentNameIndex of(final List<ImmutableNode> children) {
+        final Map<String, List<ImmutableNode>> lists = new HashMap<>();
+        children.forEach(c -> lists.computeIfAbsent(c.getNodeName(), k -> new ArrayList<>(1)).add(c));
+        final Object edit = new Object();
+        TrieNode root = EMPTY_NODE;
+        for (final Map.Entry<String, List<ImmutableNode>> e : lists.entrySet()) {
+            final Object key = key(e.getKey());
+            root = root.put(edit, 0, hash(key), key, PersistentNodeList.of(e.getValue()));
+        }
+        // the edit token is not used any more, so the trie nodes cannot be changed in place afterwards
+        return lists.isEmpty() ? EMPTY : new PersistentNameIndex(root, lists.size());
+    }
+
+    /** The root node of the trie. */
+    private final TrieNode root;
+
+    /** The number of entries. */
+    private final int size;
+
+    /**
+     * Creates a new instance of {@code PersistentNameIndex}.
+     *
+     * @param root The root node of the trie
+     * @param size The number of entries
+     */
+    private PersistentNameIndex(final TrieNode root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Gets the list of child nodes with the given name.
+     *
+     * @param name The node name (may be <strong>null</strong>)
+     * @return The list of child nodes with this name or <strong>null</strong> if there are none
+     */
+    PersistentNodeList get(final String name) {
+        final Object key = key(name);
+        return root.get(0, hash(key), key);
+    }
+
+    /**
+     * Returns an index in which the given name is associated with the given list of child nodes. This index is not
+     * changed.
+     *
+     * @param name The node name (may be <strong>null</strong>)
+     * @param children The list of child nodes with this name (must not be <strong>null</strong>)
+     * @return The updated index
+     */
+    PersistentNameIndex put(final String name, final PersistentNodeList children) {
+        final Object key = key(name);
+        final int hash = hash(key);
+        final int newSize = root.get(0, hash, key) == null ? size + 1 : size;
+        final TrieNode newRoot = root.put(null, 0, hash, key, children);
+        return newRoot == root ? this : new PersistentNameIndex(newRoot, newSize);
+    }
+
+    /**
+     * Returns an index in which the given name is removed. This index is not changed.
+     *
+     * @param name The node name (may be <strong>null</strong>)
+     * @return The updated index
+     */
+    PersistentNameIndex remove(final String name) {
+        final Object key = key(name);
+        final TrieNode newRoot = root.remove(0, hash(key), key);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? EMPTY : new PersistentNameIndex(newRoot, size - 1);
+    }
+
+    /**
+     * Gets the number of distinct names in this index.
+     *
+     * @return The size of this index
+     */
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,453 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.tree;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * <p>
+ * An internally used persistent list of nodes. It stores the children of an {@code ImmutableNode}.
+ * </p>
+ * <p>
+ * The elements are stored in chunks of a limited size which form the leaves of a balanced binary tree. An update does
+ * not change an instance, but produces a new one sharing all unchanged parts with the original list; only the chunk
+ * containing the affected element and the tree nodes on the path to it are copied. So adding, replacing, or removing a
+ * child of a node with many children does not require copying all of them. The list cannot be modified through the
+ * methods of the {@code List} interface.
+ * </p>
+ *
+ * @since 2.16.0
+ */
+final class PersistentNodeList extends AbstractList<ImmutableNode> implements RandomAccess {
+
+    /**
+     * An inner node of the tree. It has always two children. The difference of the heights of the children is at most
+     * one.
+     */
+    private static final class Branch extends Segment {
+
+        /** The left child. */
+        private final Segment left;
+
+        /** The right child. */
+        private final Segment right;
+
+        /** The height of this node. */
+        private final int height;
+
+        /**
+         * Creates a new instance of {@code Branch}.
+         *
+         * @param left The left child
+         * @param right The right child
+         */
+        Branch(final Segment left, final Segment right) {
+            super(left.size + right.size);
+            this.left = left;
+            this.right = right;
+            height = Math.max(left.height(), right.height()) + 1;
+        }
+
+        @Override
+        int height() {
+            return height;
+        }
+    }
+
+    /**
+     * A leaf of the tree storing a chunk of elements.
+     */
+    private static final class Leaf extends Segment {
+
+        /** The elements of this leaf. */
+        private final Object[] elements;
+
+        /**
+         * Creates a new instance of {@code Leaf}.
+         *
+         * @param elements The elements of this leaf (must not be empty)
+         */
+        Leaf(final Object[] elements) {
+            super(elements.length);
+            this.elements = elements;
+        }
+
+        @Override
+        int height() {
+            return 0;
+        }
+    }
+
+    /**
+     * An iterator over the elements of this list. It keeps track of the current leaf, so that the tree has to be
+     * traversed only once per leaf.
+     */
+    private final class NodeIterator implements Iterator<ImmutableNode> {
+
+        /** The index of the next element. */
+        private int index;
+
+        /** The elements of the current leaf. */
+        private Object[] leaf;
+
+        /** The index of the first element of the current leaf. */
+        private int offset;
+
+        @Override
+        public boolean hasNext() {
+            return index < size();
+        }
+
+        @Override
+        public ImmutableNode next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (leaf == null || index - offset >= leaf.length) {
+                offset = index;
+                Segment seg = root;
+                int idx = index;
+                while (seg instanceof Branch) {
+                    final Branch branch = (Branch) seg;
+                    if (idx < branch.left.size) {
+                        seg = branch.left;
+                    } else {
+                        idx -= branch.left.size;
+                        seg = branch.right;
+                    }
+                }
+                offset -= idx;
+                leaf = ((Leaf) seg).elements;
+            }
+            return (ImmutableNode) leaf[index++ - offset];
+        }
+    }
+
+    /**
+     * The base class for the nodes of the tree.
+     */
+    private abstract static class Segment {
+
+        /** The number of elements stored in this segment. */
+        final int size;
+
+        /**
+         * Creates a new instance of {@code Segment}.
+         *
+         * @param size The number of elements
+         */
+        Segment(final int size) {
+            this.size = size;
+        }
+
+        /**
+         * Gets the height of this segment. Leaves have the height 0.
+         *
+         * @return The height
+         */
+        abstract int height();
+    }
+
+    /** The maximum number of elements stored in a leaf. */
+    private static final int CHUNK_SIZE = 32;
+
+    /** An empty list. */
+    static final PersistentNodeList EMPTY = new PersistentNodeList(null);
+
+    /**
+     * Creates a branch from the given segments and restores the balance of the tree if necessary. The heights of the
+     * segments must not differ by more than two.
+     *
+     * @param left The left segment
+     * @param right The right segment
+     * @return The balanced segment
+     */
+    private static Segment balance(final Segment left, final Segment right) {
+        if (left.height() > right.height() + 1) {
+            final Branch b = (Branch) left;
+            if (b.left.height() >= b.right.height()) {
+                return new Branch(b.left, new Branch(b.right, right));
+            }
+            final Branch br = (Branch) b.right;
+            return new Branch(new Branch(b.left, br.left), new Branch(br.right, right));
+        }
+        if (right.height() > left.height() + 1) {
+            final Branch b = (Branch) right;
+            if (b.right.height() >= b.left.height()) {
+                return new Branch(new Branch(left, b.left), b.right);
+            }
+            final Branch bl = (Branch) b.left;
+            return new Branch(new Branch(left, bl.left), new Branch(bl.right, b.right));
+        }
+        return new Branch(left, right);
+    }
+
+    /**
+     * Creates a balanced tree from a range of the given elements.
+     *
+     * @param elements The elements
+     * @param from The index of the first element
+     * @param to The index after the last element
+     * @return The root segment of the tree
+     */
+    private static Segment build(final Object[] elements, final int from, final int to) {
+        final int count = to - from;
+        if (count <= CHUNK_SIZE) {
+            final Object[] chunk = new Object[count];
+            System.arraycopy(elements, from, chunk, 0, count);
+            return new Leaf(chunk);
+        }
+        final int leaves = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final int middle = from + leaves / 2 * CHUNK_SIZE;
+        return new Branch(build(elements, from, middle), build(elements, middle, to));
+    }
+
+    /**
+     * Searches the given element in a segment. Elements are compared by identity.
+     *
+     * @param seg The segment
+     * @param element The element to search
+     * @param offset The index of the first element of the segment
+     * @return The index of the element or -1 if it cannot be found
+     */
+    private static int indexOf(final Segment seg, final Object element, final int offset) {
+        if (seg instanceof Leaf) {
+            final Object[] elements = ((Leaf) seg).elements;
+            for (int i = 0; i < elements.length; i++) {
+                if (elements[i] == element) {
+                    return offset + i;
+                }
+            }
+            return -1;
+        }
+        final Branch branch = (Branch) seg;
+        final int idx = indexOf(branch.left, element, offset);
+        return idx >= 0 ? idx : indexOf(branch.right, element, offset + branch.left.size);
+    }
+
+    /**
+     * Inserts an element into a segment.
+     *
+     * @param seg The segment
+     * @param index The index of the new element in the segment
+     * @param element The element to insert
+     * @return The updated segment
+     */
+    private static Segment insert(final Segment seg, final int index, final Object element) {
+        if (seg instanceof Branch) {
+            final Branch branch = (Branch) seg;
+            if (index < branch.left.size) {
+                return balance(insert(branch.left, index, element), branch.right);
+            }
+            return balance(branch.left, insert(branch.right, index - branch.left.size, element));
+        }
+
+        final Object[] elements = ((Leaf) seg).elements;
+        if (elements.length >= CHUNK_SIZE && index == elements.length) {
+            return new Branch(seg, new Leaf(new Object[] {element}));
+        }
+        final Object[] newElements = new Object[elements.length + 1];
+        System.arraycopy(elements, 0, newElements, 0, index);
+        newElements[index] = element;
+        System.arraycopy(elements, index, newElements, index + 1, elements.length - index);
+        if (newElements.length <= CHUNK_SIZE) {
+            return new Leaf(newElements);
+        }
+        final int half = newElements.length / 2;
+        return new Branch(build(newElements, 0, half), build(newElements, half, newElements.length));
+    }
+
+    /**
+     * Returns a list with the elements of the given collection.
+     *
+     * @param nodes The collection with the elements (must not contain <strong>null</strong> entries)
+     * @return The new list
+     */
+    static PersistentNodeList of(final Collection<? extends ImmutableNode> nodes) {
+        if (nodes instanceof PersistentNodeList) {
+            return (PersistentNodeList) nodes;
+        }
+        if (nodes.isEmpty()) {
+            return EMPTY;
+        }
+        final Object[] elements = nodes.toArray();
+        return new PersistentNodeList(build(elements, 0, elements.length));
+    }
+
+    /**
+     * Removes an element from a segment. Small neighboring leaves are merged.
+     *
+     * @param seg The segment
+     * @param index The index of the element to remove in the segment
+     * @return The updated segment or <strong>null</strong> if the segment becomes empty
+     */
+    private static Segment remove(final Segment seg, final int index) {
+        if (seg instanceof Leaf) {
+            final Object[] elements = ((Leaf) seg).elements;
+            if (elements.length == 1) {
+                return null;
+            }
+            final Object[] newElements = new Object[elements.length - 1];
+            System.arraycopy(elements, 0, newElements, 0, index);
+            System.arraycopy(elements, index + 1, newElements, index, elements.length - index - 1);
+            return new Leaf(newElements);
+        }
+
+        final Branch branch = (Branch) seg;
+        final Segment left;
+        final Segment right;
+        if (index < branch.left.size) {
+            left = remove(branch.left, index);
+            right = branch.right;
+        } else {
+            left = branch.left;
+            right = remove(branch.right, index - branch.left.size);
+        }
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left instanceof Leaf && right instanceof Leaf && left.size + right.size <= CHUNK_SIZE) {
+            final Object[] merged = new Object[left.size + right.size];
+            System.arraycopy(((Leaf) left).elements, 0, merged, 0, left.size);
+            System.arraycopy(((Leaf) right).elements, 0, merged, left.size, right.size);
+            return new Leaf(merged);
+        }
+        return balance(left, right);
+    }
+
+    /**
+     * Replaces an element in a segment.
+     *
+     * @param seg The segment
+     * @param index The index of the element in the segment
+     * @param element The new element
+     * @return The updated segment
+     */
+    private static Segment replace(final Segment seg, final int index, final Object element) {
+        if (seg instanceof Branch) {
+            final Branch branch = (Branch) seg;
+            if (index < branch.left.size) {
+                return new Branch(replace(branch.left, index, element), branch.right);
+            }
+            return new Branch(branch.left, replace(branch.right, index - branch.left.size, element));
+        }
+        final Object[] newElements = ((Leaf) seg).elements.clone();
+        newElements[index] = element;
+        return new Leaf(newElements);
+    }
+
+    /** The root segment of the tree; <strong>null</strong> for an empty list. */
+    private final Segment root;
+
+    /**
+     * Creates a new instance of {@code PersistentNodeList}.
+     *
+     * @param root The root segment
+     */
+    private PersistentNodeList(final Segment root) {
+        this.root = root;
+    }
+
+    /**
+     * Checks whether the given index is valid for this list.
+     *
+     * @param index The index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    @Override
+    public ImmutableNode get(final int index) {
+        checkIndex(index);
+        Segment seg = root;
+        int idx = index;
+        while (seg instanceof Branch) {
+            final Branch branch = (Branch) seg;
+            if (idx < branch.left.size) {
+                seg = branch.left;
+            } else {
+                idx -= branch.left.size;
+                seg = branch.right;
+            }
+        }
+        return (ImmutableNode) ((Leaf) seg).elements[idx];
+    }
+
+    /**
+     * {@inheritDoc} This implementation compares elements by identity, which is consistent with the {@code equals()}
+     * method of {@code ImmutableNode}.
+     */
+    @Override
+    public int indexOf(final Object o) {
+        return root != null ? indexOf(root, o, 0) : -1;
+    }
+
+    @Override
+    public Iterator<ImmutableNode> iterator() {
+        return new NodeIterator();
+    }
+
+    @Override
+    public int size() {
+        return root != null ? root.size : 0;
+    }
+
+    /**
+     * Returns a list with the given element appended. This list is not changed.
+     *
+     * @param node The element to add
+     * @return The updated list
+     */
+    PersistentNodeList withAdded(final ImmutableNode node) {
+        return new PersistentNodeList(root != null ? insert(root, root.size, node) : new Leaf(new Object[] {node}));
+    }
+
+    /**
+     * Returns a list with the element at the given index removed. This list is not changed.
+     *
+     * @param index The index of the element to remove
+     * @return The updated list
+     */
+    PersistentNodeList withRemoved(final int index) {
+        checkIndex(index);
+        final Segment newRoot = remove(root, index);
+        return newRoot != null ? new PersistentNodeList(newRoot) : EMPTY;
+    }
+
+    /**
+     * Returns a list with the element at the given index replaced. This list is not changed.
+     *
+     * @param index The index of the element to replace
+     * @param node The new element
+     * @return The updated list
+     */
+    PersistentNodeList withReplaced(final int index, final ImmutableNode node) {
+        checkIndex(index);
+        return new PersistentNodeList(replace(root, index, node));
+    }
+}
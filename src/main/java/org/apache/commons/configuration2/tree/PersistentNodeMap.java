@@ -0,0 +1,534 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.tree;
+
+/**
+ * <p>
+ * An internally used persistent map which associates nodes with other nodes. It stores the mapping from nodes to their
+ * parents in a {@code TreeData} object.
+ * </p>
+ * <p>
+ * Keys are compared by identity. The map is implemented as a hash array mapped trie: An update does not change an
+ * instance, but produces a new one sharing all unchanged parts with the original map; only the trie nodes on the path
+ * to the changed entry are copied. So the different versions of a node structure can each have their own parent
+ * mapping without copying it completely on every update. For a larger number of updates, a {@link Builder} can be
+ * used; it modifies the trie nodes it has created itself in place.
+ * </p>
+ *
+ * @since 2.16.0
+ */
+final class PersistentNodeMap {
+
+    /**
+     * An inner node of the trie. The entries of the node are selected by a 5 bit chunk of the key hash at the node's
+     * level. A bitmap stores which chunks are present. For each of them, the array contains a pair consisting of a key
+     * and a value, or of <strong>null</strong> and a child node.
+     */
+    private static final class BitmapNode extends TrieNode {
+
+        /** The bitmap with the chunks used by this node. */
+        private int bitmap;
+
+        /** The array with the key value pairs of this node. */
+        private Object[] array;
+
+        /**
+         * Creates a new instance of {@code BitmapNode}.
+         *
+         * @param edit The token of the owning builder or <strong>null</strong>
+         * @param bitmap The bitmap
+         * @param array The array with the entries
+         */
+        BitmapNode(final Object edit, final int bitmap, final Object[] array) {
+            super(edit);
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        /**
+         * Returns an instance of this node which can be changed in place by the given builder.
+         *
+         * @param edit The token of the builder or <strong>null</strong>
+         * @return The editable node
+         */
+        private BitmapNode editable(final Object edit) {
+            return isEditable(edit) ? this : new BitmapNode(edit, bitmap, array.clone());
+        }
+
+        @Override
+        ImmutableNode get(final int shift, final int hash, final ImmutableNode key) {
+            final int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            final int idx = index(bit);
+            final Object k = array[idx];
+            if (k == null) {
+                return ((TrieNode) array[idx + 1]).get(shift + BITS, hash, key);
+            }
+            return k == key ? (ImmutableNode) array[idx + 1] : null;
+        }
+
+        /**
+         * Returns the index of the key of the pair for the given bit in the array.
+         *
+         * @param bit The bit
+         * @return The index in the array
+         */
+        private int index(final int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        TrieNode put(final Object edit, final int shift, final int hash, final ImmutableNode key, final ImmutableNode value) {
+            final int bit = bit(hash, shift);
+            final int idx = index(bit);
+            if ((bitmap & bit) == 0) {
+                final Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, idx);
+                newArray[idx] = key;
+                newArray[idx + 1] = value;
+                System.arraycopy(array, idx, newArray, idx + 2, array.length - idx);
+                if (isEditable(edit)) {
+                    bitmap |= bit;
+                    array = newArray;
+                    return this;
+                }
+                return new BitmapNode(edit, bitmap | bit, newArray);
+            }
+
+            final Object k = array[idx];
+            final Object v = array[idx + 1];
+            final Object newValue;
+            if (k == null) {
+                newValue = ((TrieNode) v).put(edit, shift + BITS, hash, key, value);
+            } else if (k == key) {
+                newValue = value;
+            } else {
+                newValue = createNode(edit, shift + BITS, (ImmutableNode) k, (ImmutableNode) v, hash, key, value);
+            }
+            if (newValue == v) {
+                return this;
+            }
+            final BitmapNode node = editable(edit);
+            if (k != null && k != key) {
+                node.array[idx] = null;
+            }
+            node.array[idx + 1] = newValue;
+            return node;
+        }
+
+        @Override
+        TrieNode remove(final Object edit, final int shift, final int hash, final ImmutableNode key) {
+            final int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            final int idx = index(bit);
+            final Object k = array[idx];
+            final Object v = array[idx + 1];
+            if (k == null) {
+                final TrieNode child = ((TrieNode) v).remove(edit, shift + BITS, hash, key);
+                if (child == v) {
+                    return this;
+                }
+                if (child != null) {
+                    final BitmapNode node = editable(edit);
+                    node.array[idx + 1] = child;
+                    return node;
+                }
+            } else if (k != key) {
+                return this;
+            }
+
+            if (bitmap == bit) {
+                return null;
+            }
+            final Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, idx);
+            System.arraycopy(array, idx + 2, newArray, idx, array.length - idx - 2);
+            if (isEditable(edit)) {
+                bitmap ^= bit;
+                array = newArray;
+                return this;
+            }
+            return new BitmapNode(edit, bitmap ^ bit, newArray);
+        }
+    }
+
+    /**
+     * A builder for creating a new map from an existing one by applying a number of updates. Trie nodes created by the
+     * builder are updated in place until {@link #build()} is called.
+     */
+    static final class Builder {
+
+        /** The token identifying the trie nodes owned by this builder. */
+        private Object edit;
+
+        /** The current root of the trie. */
+        private TrieNode root;
+
+        /** The current number of entries. */
+        private int size;
+
+        /**
+         * Creates a new instance of {@code Builder} initialized with the content of the given map.
+         *
+         * @param map The initial map
+         */
+        private Builder(final PersistentNodeMap map) {
+            edit = new Object();
+            root = map.root;
+            size = map.size;
+        }
+
+        /**
+         * Creates a map with the current content of this builder. The builder can still be used afterwards; then it no
+         * longer modifies the trie nodes shared with the map returned by this method.
+         *
+         * @return The new map
+         */
+        PersistentNodeMap build() {
+            edit = new Object();
+            return size == 0 ? EMPTY : new PersistentNodeMap(root, size);
+        }
+
+        /**
+         * Gets the value associated with the given key.
+         *
+         * @param key The key
+         * @return The associated value or <strong>null</strong> if the key is not contained
+         */
+        ImmutableNode get(final ImmutableNode key) {
+            return root.get(0, hash(key), key);
+        }
+
+        /**
+         * Associates the given key with the given value.
+         *
+         * @param key The key
+         * @param value The value (must not be <strong>null</strong>)
+         */
+        void put(final ImmutableNode key, final ImmutableNode value) {
+            final int hash = hash(key);
+            if (root.get(0, hash, key) == null) {
+                size++;
+            }
+            root = root.put(edit, 0, hash, key, value);
+        }
+
+        /**
+         * Removes the given key from this builder.
+         *
+         * @param key The key
+         * @return The value associated with this key or <strong>null</strong> if the key was not contained
+         */
+        ImmutableNode remove(final ImmutableNode key) {
+            final int hash = hash(key);
+            final ImmutableNode value = root.get(0, hash, key);
+            if (value != null) {
+                size--;
+                root = nonNullRoot(root.remove(edit, 0, hash, key));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * A node of the trie storing keys with identical hash codes.
+     */
+    private static final class CollisionNode extends TrieNode {
+
+        /** The hash code of all keys in this node. */
+        private final int hash;
+
+        /** The array with the key value pairs. */
+        private final Object[] array;
+
+        /**
+         * Creates a new instance of {@code CollisionNode}.
+         *
+         * @param edit The token of the owning builder or <strong>null</strong>
+         * @param hash The hash code
+         * @param array The array with the key value pairs
+         */
+        CollisionNode(final Object edit, final int hash, final Object[] array) {
+            super(edit);
+            this.hash = hash;
+            this.array = array;
+        }
+
+        /**
+         * Returns the index of the given key in the array.
+         *
+         * @param key The key
+         * @return The index or -1 if the key is not contained
+         */
+        private int find(final ImmutableNode key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        ImmutableNode get(final int shift, final int hash, final ImmutableNode key) {
+            final int idx = find(key);
+            return idx < 0 ? null : (ImmutableNode) array[idx + 1];
+        }
+
+        @Override
+        TrieNode put(final Object edit, final int shift, final int hash, final ImmutableNode key, final ImmutableNode value) {
+            if (hash != this.hash) {
+                return new BitmapNode(edit, bit(this.hash, shift), new Object[] {null, this}).put(edit, shift, hash, key, value);
+            }
+            final int idx = find(key);
+            if (idx >= 0) {
+                if (array[idx + 1] == value) {
+                    return this;
+                }
+                if (isEditable(edit)) {
+                    array[idx + 1] = value;
+                    return this;
+                }
+                final Object[] newArray = array.clone();
+                newArray[idx + 1] = value;
+                return new CollisionNode(edit, hash, newArray);
+            }
+            final Object[] newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, array.length);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            return new CollisionNode(edit, hash, newArray);
+        }
+
+        @Override
+        TrieNode remove(final Object edit, final int shift, final int hash, final ImmutableNode key) {
+            final int idx = find(key);
+            if (idx < 0) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            final Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, idx);
+            System.arraycopy(array, idx + 2, newArray, idx, array.length - idx - 2);
+            return new CollisionNode(edit, hash, newArray);
+        }
+    }
+
+    /**
+     * The base class for the nodes of the trie.
+     */
+    private abstract static class TrieNode {
+
+        /** The token of the builder owning this node; <strong>null</strong> if the node is immutable. */
+        private final Object edit;
+
+        /**
+         * Creates a new instance of {@code TrieNode}.
+         *
+         * @param edit The token of the owning builder or <strong>null</strong>
+         */
+        TrieNode(final Object edit) {
+            this.edit = edit;
+        }
+
+        /**
+         * Gets the value for the given key.
+         *
+         * @param shift The shift for the hash chunk of this level
+         * @param hash The hash of the key
+         * @param key The key
+         * @return The value or <strong>null</strong> if the key is not contained
+         */
+        abstract ImmutableNode get(int shift, int hash, ImmutableNode key);
+
+        /**
+         * Tests whether this node can be changed in place by the builder with the given token.
+         *
+         * @param edit The token of the builder or <strong>null</strong>
+         * @return A flag whether this node can be changed in place
+         */
+        boolean isEditable(final Object edit) {
+            return edit != null && this.edit == edit;
+        }
+
+        /**
+         * Associates the given key with the given value.
+         *
+         * @param edit The token of the builder or <strong>null</strong>
+         * @param shift The shift for the hash chunk of this level
+         * @param hash The hash of the key
+         * @param key The key
+         * @param value The value
+         * @return The updated node
+         */
+        abstract TrieNode put(Object edit, int shift, int hash, ImmutableNode key, ImmutableNode value);
+
+        /**
+         * Removes the given key.
+         *
+         * @param edit The token of the builder or <strong>null</strong>
+         * @param shift The shift for the hash chunk of this level
+         * @param hash The hash of the key
+         * @param key The key
+         * @return The updated node or <strong>null</strong> if the node becomes empty
+         */
+        abstract TrieNode remove(Object edit, int shift, int hash, ImmutableNode key);
+    }
+
+    /** The number of hash bits consumed on each level of the trie. */
+    private static final int BITS = 5;
+
+    /** The mask for extracting the hash chunk of a level. */
+    private static final int MASK = (1 << BITS) - 1;
+
+    /** The empty trie node. */
+    private static final TrieNode EMPTY_NODE = new BitmapNode(null, 0, new Object[0]);
+
+    /** An empty map. */
+    static final PersistentNodeMap EMPTY = new PersistentNodeMap(EMPTY_NODE, 0);
+
+    /**
+     * Returns the bit representing the hash chunk of the given level.
+     *
+     * @param hash The hash
+     * @param shift The shift for the level
+     * @return The bit for this hash
+     */
+    private static int bit(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * Creates a trie node containing two entries.
+     *
+     * @param edit The token of the builder or <strong>null</strong>
+     * @param shift The shift for the level of the new node
+     * @param key1 The first key
+     * @param value1 The first value
+     * @param hash2 The hash of the second key
+     * @param key2 The second key
+     * @param value2 The second value
+     * @return The new node
+     */
+    private static TrieNode createNode(final Object edit, final int shift, final ImmutableNode key1, final ImmutableNode value1, final int hash2,
+        final ImmutableNode key2, final ImmutableNode value2) {
+        final int hash1 = hash(key1);
+        if (hash1 == hash2) {
+            return new CollisionNode(edit, hash1, new Object[] {key1, value1, key2, value2});
+        }
+        return EMPTY_NODE.put(edit, shift, hash1, key1, value1).put(edit, shift, hash2, key2, value2);
+    }
+
+    /**
+     * Returns the hash code of a key. As keys are compared by identity, this is the identity hash code.
+     *
+     * @param key The key
+     * @return The hash code
+     */
+    private static int hash(final ImmutableNode key) {
+        return System.identityHashCode(key);
+    }
+
+    /**
+     * Replaces an empty root node by the shared empty node.
+     *
+     * @param root The root node (may be <strong>null</strong>)
+     * @return The root node to be used
+     */
+    private static TrieNode nonNullRoot(final TrieNode root) {
+        return root != null ? root : EMPTY_NODE;
+    }
+
+    /** The root node of the trie. */
+    private final TrieNode root;
+
+    /** The number of entries. */
+    private final int size;
+
+    /**
+     * Creates a new instance of {@code PersistentNodeMap}.
+     *
+     * @param root The root node of the trie
+     * @param size The number of entries
+     */
+    private PersistentNodeMap(final TrieNode root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns a builder for applying updates to this map.
+     *
+     * @return The new builder
+     */
+    Builder builder() {
+        return new Builder(this);
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key The key
+     * @return The associated value or <strong>null</strong> if the key is not contained
+     */
+    ImmutableNode get(final ImmutableNode key) {
+        return root.get(0, hash(key), key);
+    }
+
+    /**
+     * Returns a map in which the given key is associated with the given value. This map is not changed.
+     *
+     * @param key The key
+     * @param value The value (must not be <strong>null</strong>)
+     * @return The updated map
+     */
+    PersistentNodeMap put(final ImmutableNode key, final ImmutableNode value) {
+        final int hash = hash(key);
+        final int newSize = root.get(0, hash, key) == null ? size + 1 : size;
+        final TrieNode newRoot = root.put(null, 0, hash, key, value);
+        return newRoot == root ? this : new PersistentNodeMap(newRoot, newSize);
+    }
+
+    /**
+     * Returns a map in which the given key is removed. This map is not changed.
+     *
+     * @param key The key
+     * @return The updated map
+     */
+    PersistentNodeMap remove(final ImmutableNode key) {
+        final TrieNode newRoot = root.remove(null, 0, hash(key), key);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? EMPTY : new PersistentNodeMap(newRoot, size - 1);
+    }
+
+    /**
+     * Gets the number of entries in this map.
+     *
+     * @return The size of this map
+     */
+    int size() {
+        return size;
+    }
+}
@@ -53,11 +53,27 @@ final class TreeData extends AbstractImmutableNodeHandler implements ReferenceNo
         return node;
     }
 
+    /**
+     * Creates a new instance of {@code TreeData} used by a transaction in batch mode. Here the parent mapping is kept up to
+     * date for replaced nodes; so only the parents of nodes need to be resolved via the replacement mapping.
+     *
+     * @param root The root node of the current tree
+     * @param parentMapping The mapping to parent nodes
+     * @param replacements The map with the nodes that have been replaced
+     * @param tracker The {@code NodeTracker}
+     * @param refTracker The {@code ReferenceTracker}
+     * @return The new instance
+     */
+    static TreeData createForBatch(final ImmutableNode root, final PersistentNodeMap parentMapping,
+        final Map<ImmutableNode, ImmutableNode> replacements, final NodeTracker tracker, final ReferenceTracker refTracker) {
+        return new TreeData(root, parentMapping, replacements, null, tracker, refTracker);
+    }
+
     /** The root node of the tree. */
     private final ImmutableNode root;
 
     /** A map that associates the parent node to each node. */
-    private final Map<ImmutableNode, ImmutableNode> parentMapping;
+    private final PersistentNodeMap parentMapping;
 
     /**
      * Stores information about nodes which have been replaced by manipulations of the structure. This map is used to avoid
@@ -65,7 +81,7 @@ final class TreeData extends AbstractImmutableNodeHandler implements ReferenceNo
      */
     private final Map<ImmutableNode, ImmutableNode> replacementMapping;
 
-    /** An inverse replacement mapping. */
+    /** An inverse replacement mapping; <strong>null</strong> for an instance used by a batch. */
     private final Map<ImmutableNode, ImmutableNode> inverseReplacementMapping;
 
     /** The node tracker. */
@@ -83,23 +99,29 @@ final class TreeData extends AbstractImmutableNodeHandler implements ReferenceNo
      * @param tracker The {@code NodeTracker}
      * @param refTracker The {@code ReferenceTracker}
      */
-    public TreeData(final ImmutableNode root, final Map<ImmutableNode, ImmutableNode> parentMapping, final Map<ImmutableNode, ImmutableNode> replacements,
+    public TreeData(final ImmutableNode root, final PersistentNodeMap parentMapping, final Map<ImmutableNode, ImmutableNode> replacements,
         final NodeTracker tracker, final ReferenceTracker refTracker) {
-        this.root = root;
-        this.parentMapping = parentMapping;
-        replacementMapping = replacements;
-        inverseReplacementMapping = createInverseMapping(replacements);
-        nodeTracker = tracker;
-        referenceTracker = refTracker;
+        this(root, parentMapping, replacements, createInverseMapping(replacements), tracker, refTracker);
     }
 
     /**
-     * Returns a copy of the mapping from nodes to their parents.
+     * Creates a new instance of {@code TreeData} with an already computed inverse replacement mapping.
      *
-     * @return The copy of the parent mapping
+     * @param root The root node of the current tree
+     * @param parentMapping The mapping to parent nodes
+     * @param replacements The map with the nodes that have been replaced
+     * @param inverseReplacements The inverse replacement mapping or <strong>null</strong> for a batch
+     * @param tracker The {@code NodeTracker}
+     * @param refTracker The {@code ReferenceTracker}
      */
-    public Map<ImmutableNode, ImmutableNode> copyParentMapping() {
-        return new HashMap<>(parentMapping);
+    private TreeData(final ImmutableNode root, final PersistentNodeMap parentMapping, final Map<ImmutableNode, ImmutableNode> replacements,
+        final Map<ImmutableNode, ImmutableNode> inverseReplacements, final NodeTracker tracker, final ReferenceTracker refTracker) {
+        this.root = root;
+        this.parentMapping = parentMapping;
+        replacementMapping = replacements;
+        inverseReplacementMapping = inverseReplacements;
+        nodeTracker = tracker;
+        referenceTracker = refTracker;
     }
 
     /**
@@ -117,7 +139,7 @@ final class TreeData extends AbstractImmutableNodeHandler implements ReferenceNo
      * @param replacements The original replacement mapping
      * @return The inverse replacement mapping
      */
-    private Map<ImmutableNode, ImmutableNode> createInverseMapping(final Map<ImmutableNode, ImmutableNode> replacements) {
+    private static Map<ImmutableNode, ImmutableNode> createInverseMapping(final Map<ImmutableNode, ImmutableNode> replacements) {
         return replacements.entrySet().stream().collect(Collectors.toMap(Entry::getValue, Entry::getKey));
     }
 
@@ -130,6 +152,16 @@ final class TreeData extends AbstractImmutableNodeHandler implements ReferenceNo
         return nodeTracker;
     }
 
+    /**
+     * Gets the mapping from nodes to their parents. As the map is persistent, it can be shared with the
+     * {@code TreeData} objects derived from this one.
+     *
+     * @return The parent mapping
+     */
+    public PersistentNodeMap getParentMapping() {
+        return parentMapping;
+    }
+
     /**
      * Gets the parent node of the specified node. Result is <strong>null</strong> for the root node. If the passed in node cannot
      * be resolved, an exception is thrown.
@@ -143,13 +175,13 @@ final class TreeData extends AbstractImmutableNodeHandler implements ReferenceNo
         if (node == getRootNode()) {
             return null;
         }
-        final ImmutableNode org = handleReplacements(node, inverseReplacementMapping);
+        final ImmutableNode org = inverseReplacementMapping != null ? handleReplacements(node, inverseReplacementMapping) : node;
 
         final ImmutableNode parent = parentMapping.get(org);
         if (parent == null) {
             throw new IllegalArgumentException("Cannot determine parent! " + node + " is not part of this model.");
         }
-        return handleReplacements(parent, replacementMapping);
+        return inverseReplacementMapping != null ? handleReplacements(parent, replacementMapping) : resolveReplacements(parent);
     }
 
     /**
@@ -182,6 +214,22 @@ final class TreeData extends AbstractImmutableNodeHandler implements ReferenceNo
         return getReferenceTracker().getRemovedReferences();
     }
 
+    /**
+     * Resolves the current replacement of the given node in batch mode. The chain of replacements is shortened, so that
+     * later calls for nodes with the same outdated parent can be answered directly.
+     *
+     * @param node The node to resolve
+     * @return The node which replaces the given one
+     */
+    private ImmutableNode resolveReplacements(final ImmutableNode node) {
+        final ImmutableNode result = handleReplacements(node, replacementMapping);
+        ImmutableNode current = node;
+        while (current != result) {
+            current = replacementMapping.put(current, result);
+        }
+        return result;
+    }
+
     /**
      * Creates a new instance which uses the specified {@code NodeTracker}. This method is called when there are updates of
      * the state of tracked nodes.
@@ -190,7 +238,7 @@ final class TreeData extends AbstractImmutableNodeHandler implements ReferenceNo
      * @return The updated instance
      */
     public TreeData updateNodeTracker(final NodeTracker newTracker) {
-        return new TreeData(root, parentMapping, replacementMapping, newTracker, referenceTracker);
+        return new TreeData(root, parentMapping, replacementMapping, inverseReplacementMapping, newTracker, referenceTracker);
     }
 
     /**
@@ -201,6 +249,6 @@ final class TreeData extends AbstractImmutableNodeHandler implements ReferenceNo
      * @return The updated instance
      */
     public TreeData updateReferenceTracker(final ReferenceTracker newTracker) {
-        return new TreeData(root, parentMapping, replacementMapping, nodeTracker, newTracker);
+        return new TreeData(root, parentMapping, replacementMapping, inverseReplacementMapping, nodeTracker, newTracker);
     }
 }
@@ -123,18 +123,20 @@ public class UnionCombiner extends NodeCombiner {
 
         // Check if nodes can be combined
         final List<ImmutableNode> children2 = new LinkedList<>(node2.getChildren());
+        final CombinedChildren children = new CombinedChildren(this);
         node1.forEach(child1 -> {
             final ImmutableNode child2 = findCombineNode(node1, node2, child1);
             if (child2 != null) {
-                result.addChild(combine(child1, child2));
+                children.addCombination(child1, child2);
                 children2.remove(child2);
             } else {
-                result.addChild(child1);
+                children.add(child1);
             }
         });
 
         // Add remaining children of node 2
-        children2.forEach(result::addChild);
+        children2.forEach(children::add);
+        children.addTo(result);
 
         return result.create();
     }
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.tree.xpath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.configuration2.tree.NodeHandler;
+import org.apache.commons.configuration2.tree.QueryResult;
+
+/**
+ * <p>
+ * An internally used class representing an XPath expression which can be evaluated by navigating the nodes directly.
+ * </p>
+ * <p>
+ * Many keys passed to {@link XPathExpressionEngine} are simple paths like {@code tables/table[2]/fields/@type}. For such
+ * keys, the full XPath machinery of JXPath is not needed. This class recognizes expressions that consist only of steps
+ * on the child axis with a plain node name and an optional numeric index, optionally followed by a single step on the
+ * attribute axis. The expression may start with a slash. Evaluating such an expression yields the same results as
+ * JXPath, but without creating a context and node pointers. All other expressions are rejected by {@link #parse(String)}
+ * and have to be handled by JXPath.
+ * </p>
+ */
+final class SimpleXPathExpression {
+
+    /**
+     * A class representing a step on the child axis.
+     */
+    private static final class Step {
+
+        /** The name of the selected child nodes. */
+        private final String name;
+
+        /** The 1-based index of the selected child node; 0 if there is no index. */
+        private final int index;
+
+        /**
+         * Creates a new instance of {@code Step}.
+         *
+         * @param name The name of the child nodes
+         * @param index The index or 0
+         */
+        Step(final String name, final int index) {
+            this.name = name;
+            this.index = index;
+        }
+    }
+
+    /** Constant for the path delimiter. */
+    private static final char PATH_DELIMITER = '/';
+
+    /** Constant for the attribute delimiter. */
+    private static final char ATTR_DELIMITER = '@';
+
+    /** Constant for the start of an index expression. */
+    private static final char START_INDEX = '[';
+
+    /** Constant for the end of an index expression. */
+    private static final char END_INDEX = ']';
+
+    /** Constant for the maximum number of digits of an index; this avoids overflows. */
+    private static final int MAX_INDEX_DIGITS = 9;
+
+    /**
+     * Checks whether the given character can be part of a node name.
+     *
+     * @param c The character
+     * @param first a flag whether this is the first character of the name
+     * @return a flag whether this character is allowed
+     */
+    private static boolean isNameChar(final char c, final boolean first) {
+        if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '_') {
+            return true;
+        }
+        return !first && (c >= '0' && c <= '9' || c == '-' || c == '.');
+    }
+
+    /**
+     * Parses the given key. If it is a simple expression which can be handled by this class, a corresponding instance is
+     * returned. Otherwise, result is <strong>null</strong>.
+     *
+     * @param key The key to be parsed
+     * @return The parsed expression or <strong>null</strong> if the key is not a simple expression
+     */
+    static SimpleXPathExpression parse(final String key) {
+        final List<Step> steps = new ArrayList<>();
+        final int length = key.length();
+        int pos = 0;
+        if (pos < length && key.charAt(pos) == PATH_DELIMITER) {
+            pos++;
+        }
+
+        while (pos < length) {
+            final boolean attribute = key.charAt(pos) == ATTR_DELIMITER;
+            if (attribute) {
+                pos++;
+            }
+            final int nameStart = pos;
+            while (pos < length && isNameChar(key.charAt(pos), pos == nameStart)) {
+                pos++;
+            }
+            if (pos == nameStart) {
+                return null;
+            }
+            final String name = key.substring(nameStart, pos);
+            if (attribute) {
+                return pos == length ? new SimpleXPathExpression(steps, name) : null;
+            }
+
+            int index = 0;
+            if (pos < length && key.charAt(pos) == START_INDEX) {
+                final int indexStart = ++pos;
+                while (pos < length && key.charAt(pos) >= '0' && key.charAt(pos) <= '9') {
+                    pos++;
+                }
+                if (pos == indexStart || pos - indexStart > MAX_INDEX_DIGITS || pos >= length || key.charAt(pos) != END_INDEX) {
+                    return null;
+                }
+                index = Integer.parseInt(key.substring(indexStart, pos));
+                if (index < 1) {
+                    return null;
+                }
+                pos++;
+            }
+            steps.add(new Step(name, index));
+
+            if (pos < length) {
+                if (key.charAt(pos) != PATH_DELIMITER || pos == length - 1) {
+                    return null;
+                }
+                pos++;
+            }
+        }
+
+        return steps.isEmpty() ? null : new SimpleXPathExpression(steps, null);
+    }
+
+    /** The steps on the child axis. */
+    private final Step[] steps;
+
+    /** The name of the selected attribute; <strong>null</strong> if the expression selects nodes. */
+    private final String attributeName;
+
+    /**
+     * Creates a new instance of {@code SimpleXPathExpression}.
+     *
+     * @param steps The steps on the child axis
+     * @param attributeName The name of the selected attribute or <strong>null</strong>
+     */
+    private SimpleXPathExpression(final List<Step> steps, final String attributeName) {
+        this.steps = steps.toArray(new Step[0]);
+        this.attributeName = attributeName;
+    }
+
+    /**
+     * Evaluates this expression on the given root node.
+     *
+     * @param root The root node
+     * @param handler The node handler
+     * @param <T> The type of the nodes involved
+     * @return The results of the evaluation
+     */
+    <T> List<QueryResult<T>> evaluate(final T root, final NodeHandler<T> handler) {
+        List<T> nodes = Collections.singletonList(root);
+        for (final Step step : steps) {
+            final List<T> selected = new ArrayList<>();
+            for (final T node : nodes) {
+                final List<T> children = handler.getChildren(node, step.name);
+                if (step.index == 0) {
+                    selected.addAll(children);
+                } else if (step.index <= children.size()) {
+                    selected.add(children.get(step.index - 1));
+                }
+            }
+            if (selected.isEmpty()) {
+                return Collections.emptyList();
+            }
+            nodes = selected;
+        }
+
+        final List<QueryResult<T>> results = new ArrayList<>(nodes.size());
+        for (final T node : nodes) {
+            if (attributeName == null) {
+                results.add(QueryResult.createNodeResult(node));
+            } else if (handler.getAttributeValue(node, attributeName) != null) {
+                results.add(QueryResult.createAttributeResult(node, attributeName));
+            }
+        }
+        return results;
+    }
+}
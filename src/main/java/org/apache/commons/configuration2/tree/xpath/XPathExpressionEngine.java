@@ -17,16 +17,21 @@
 package org.apache.commons.configuration2.tree.xpath;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.commons.configuration2.tree.ExpressionEngine;
 import org.apache.commons.configuration2.tree.NodeAddData;
 import org.apache.commons.configuration2.tree.NodeHandler;
 import org.apache.commons.configuration2.tree.QueryResult;
+import org.apache.commons.jxpath.CompiledExpression;
 import org.apache.commons.jxpath.JXPathContext;
+import org.apache.commons.jxpath.Pointer;
 import org.apache.commons.jxpath.ri.JXPathContextReferenceImpl;
 import org.apache.commons.lang3.StringUtils;
 
@@ -115,11 +120,40 @@ import org.apache.commons.lang3.StringUtils;
  * format because it makes explicit at which position new nodes should be added. For keys without a whitespace delimiter
  * there may be ambiguities.
  * </p>
+ * <p>
+ * Keys passed to the {@code query()} method are parsed only once and then stored in an internal cache. Keys consisting
+ * only of node names, numeric indices, and an optional trailing attribute (for instance
+ * {@code tables/table[1]/fields/field/@type}) are evaluated by navigating the nodes directly, without involving JXPath.
+ * Other keys are compiled into JXPath {@code CompiledExpression} objects.
+ * </p>
  *
  * @since 1.3
  */
 public class XPathExpressionEngine implements ExpressionEngine {
 
+    /**
+     * A class storing the parsed form of a key passed to the {@code query()} method. A key is either a simple expression
+     * which can be evaluated directly or an expression compiled by JXPath.
+     */
+    private static final class ParsedKey {
+
+        /** The simple expression; <strong>null</strong> if the key is not simple. */
+        private final SimpleXPathExpression simpleExpression;
+
+        /** The compiled expression; <strong>null</strong> if the key is simple. */
+        private final CompiledExpression compiledExpression;
+
+        /**
+         * Creates a new instance of {@code ParsedKey} for the given key.
+         *
+         * @param key The key
+         */
+        ParsedKey(final String key) {
+            simpleExpression = SimpleXPathExpression.parse(key);
+            compiledExpression = simpleExpression == null ? JXPathContext.compile(key) : null;
+        }
+    }
+
     /** Constant for the path delimiter. */
     static final String PATH_DELIMITER = "/";
 
@@ -143,6 +177,9 @@ public class XPathExpressionEngine implements ExpressionEngine {
     /** Constant for the end of an index expression. */
     private static final char END_INDEX = ']';
 
+    /** The maximum number of parsed keys stored in the cache. */
+    private static final int MAX_CACHED_KEYS = 2048;
+
     // static initializer: registers the configuration node pointer factory
     static {
         JXPathContextReferenceImpl.addNodePointerFactory(new ConfigurationNodePointerFactory());
@@ -221,6 +258,9 @@ public class XPathExpressionEngine implements ExpressionEngine {
     /** The internally used context factory. */
     private final XPathContextFactory contextFactory;
 
+    /** A cache for the parsed form of the keys passed to {@code query()}. */
+    private final Map<String, ParsedKey> keyCache;
+
     /**
      * Creates a new instance of {@code XPathExpressionEngine} with default settings.
      */
@@ -236,6 +276,7 @@ public class XPathExpressionEngine implements ExpressionEngine {
      */
     XPathExpressionEngine(final XPathContextFactory factory) {
         contextFactory = factory;
+        keyCache = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -283,6 +324,26 @@ public class XPathExpressionEngine implements ExpressionEngine {
         return getContextFactory().createContext(root, handler);
     }
 
+    /**
+     * Returns the parsed form of the given key. The key is parsed only once; then the result is stored in an internal
+     * cache. If the cache is full, it is cleared, so that its size is limited even if there is a large number of
+     * different keys.
+     *
+     * @param key The key
+     * @return The parsed key
+     */
+    private ParsedKey fetchParsedKey(final String key) {
+        ParsedKey parsedKey = keyCache.get(key);
+        if (parsedKey == null) {
+            parsedKey = new ParsedKey(key);
+            if (keyCache.size() >= MAX_CACHED_KEYS) {
+                keyCache.clear();
+            }
+            keyCache.put(key, parsedKey);
+        }
+        return parsedKey;
+    }
+
     /**
      * Creates a {@code NodeAddData} object as a result of a {@code prepareAdd()} operation. This method interprets the
      * passed in path of the new node.
@@ -433,10 +494,14 @@ public class XPathExpressionEngine implements ExpressionEngine {
             final QueryResult<T> result = createResult(root);
             return Collections.singletonList(result);
         }
-        final JXPathContext context = createContext(root, handler);
-        List<?> results = context.selectNodes(key);
-        if (results == null) {
-            results = Collections.emptyList();
+        final ParsedKey parsedKey = fetchParsedKey(key);
+        if (parsedKey.simpleExpression != null) {
+            return parsedKey.simpleExpression.evaluate(root, handler);
+        }
+        final List<Object> results = new LinkedList<>();
+        final Iterator<Pointer> pointers = parsedKey.compiledExpression.iteratePointers(createContext(root, handler));
+        while (pointers.hasNext()) {
+            results.add(pointers.next().getNode());
         }
         return convertResults(results);
     }
@@ -30,12 +30,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.configuration2.convert.DefaultListDelimiterHandler;
 import org.apache.commons.configuration2.event.ConfigurationEvent;
@@ -157,6 +160,18 @@ public class TestAbstractHierarchicalConfiguration {
         assertEquals("creationDate", prop.toString());
     }
 
+    /**
+     * Collects the elements of the given iterator in a list.
+     *
+     * @param it The iterator
+     * @return The list with the elements of the iterator
+     */
+    private static List<String> collect(final Iterator<String> it) {
+        final List<String> list = new ArrayList<>();
+        it.forEachRemaining(list::add);
+        return list;
+    }
+
     /**
      * Creates a {@code DefaultConfigurationKey} object.
      *
@@ -236,6 +251,25 @@ public class TestAbstractHierarchicalConfiguration {
             .setIndexStart("[").setIndexEnd("]").create());
     }
 
+    /**
+     * Performs a number of updates on the given configuration. This is used to compare the results of a batch with single
+     * updates.
+     *
+     * @param c The configuration to be updated
+     */
+    private static void applyUpdates(final HierarchicalConfiguration<ImmutableNode> c) {
+        c.addProperty("new.a", "1");
+        c.addProperty("new.b", "2");
+        c.setProperty("new.a", "3");
+        c.addProperty("new.a[@attr]", "test");
+        c.addProperty("tables.table(0).fields.field(-1).name", "phone");
+        c.clearProperty("tables.table(1).name");
+        c.clearTree("tables.table(0).fields.field(0)");
+        c.addNodes("new", Collections.singleton(NodeStructureHelper.createNode("node", "value")));
+        c.setProperty("new.b", Arrays.asList("4", "5"));
+        c.clearTree("new.a[@attr]");
+    }
+
     /**
      * Convenience method for obtaining the root node of the test configuration.
      *
@@ -362,6 +396,154 @@ public class TestAbstractHierarchicalConfiguration {
         assertEquals("3", config.getString(key + ".elements"));
     }
 
+    /**
+     * Tests that a batch produces the same result as the single updates.
+     */
+    @Test
+    void testBatch() {
+        final AbstractHierarchicalConfigurationTestImpl expected = new AbstractHierarchicalConfigurationTestImpl(new InMemoryNodeModel(getRootNode()));
+        applyUpdates(expected);
+        config.batch(TestAbstractHierarchicalConfiguration::applyUpdates);
+        ConfigurationAssert.assertConfigurationEquals(expected, config);
+        assertEquals(0, config.getMaxIndex("new"));
+        assertEquals("value", config.getString("new.node"));
+    }
+
+    /**
+     * Tests a batch which clears the configuration and adds new data afterwards.
+     */
+    @Test
+    void testBatchClear() {
+        config.batch(c -> {
+            c.addProperty("before", "lost");
+            c.clear();
+            c.addProperty("new.a", "1");
+            c.addProperty("new.b", "2");
+        });
+        assertEquals(Arrays.asList("new.a", "new.b"), ConfigurationAssert.keysToList(config));
+    }
+
+    /**
+     * Tests that a batch generates a single pair of events.
+     */
+    @Test
+    void testBatchEvents() {
+        final EventListenerTestImpl listener = new EventListenerTestImpl(config);
+        config.addEventListener(ConfigurationEvent.ANY, listener);
+        config.batch(TestAbstractHierarchicalConfiguration::applyUpdates);
+        listener.checkEvent(ConfigurationEvent.BATCH_UPDATE, null, null, true);
+        listener.checkEvent(ConfigurationEvent.BATCH_UPDATE, null, null, false);
+        listener.done();
+
+        config.addProperty("after", "batch");
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "after", "batch", true);
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "after", "batch", false);
+        listener.done();
+    }
+
+    /**
+     * Tests that the configuration is not changed if a batch throws an exception.
+     */
+    @Test
+    void testBatchException() {
+        final ImmutableNode root = getRootNode();
+        final IllegalStateException exception = new IllegalStateException("Test exception");
+        assertSame(exception, assertThrows(IllegalStateException.class, () -> config.batch(c -> {
+            c.addProperty("new.a", "1");
+            c.clearTree("tables");
+            throw exception;
+        })));
+        assertSame(root, getRootNode());
+        assertFalse(config.containsKey("new.a"));
+
+        config.addProperty("new.a", "2");
+        assertEquals("2", config.getString("new.a"));
+    }
+
+    /**
+     * Tests a batch with a large number of updates of the same nodes.
+     */
+    @Test
+    void testBatchManyUpdates() {
+        final int count = 500;
+        final AbstractHierarchicalConfigurationTestImpl expected = new AbstractHierarchicalConfigurationTestImpl(new InMemoryNodeModel(getRootNode()));
+        for (int i = 0; i < count; i++) {
+            expected.addProperty("data.group" + i % 10 + ".value", i);
+            expected.setProperty("tables.table(0).fields.field(1).name", i);
+        }
+        config.batch(c -> {
+            for (int i = 0; i < count; i++) {
+                c.addProperty("data.group" + i % 10 + ".value", i);
+                c.setProperty("tables.table(0).fields.field(1).name", i);
+            }
+        });
+        ConfigurationAssert.assertConfigurationEquals(expected, config);
+        assertEquals(count / 10 - 1, config.getMaxIndex("data.group3.value"));
+    }
+
+    /**
+     * Tests that nested batches become part of the outer batch.
+     */
+    @Test
+    void testBatchNested() {
+        final EventListenerTestImpl listener = new EventListenerTestImpl(config);
+        config.addEventListener(ConfigurationEvent.ANY, listener);
+        config.batch(c -> {
+            c.addProperty("new.a", "1");
+            config.batch(c2 -> c2.addProperty("new.b", "2"));
+            c.addProperty("new.c", "3");
+        });
+        assertEquals(Arrays.asList("1", "2", "3"), Arrays.asList(config.getString("new.a"), config.getString("new.b"), config.getString("new.c")));
+        assertEquals(0, config.getMaxIndex("new"));
+        listener.checkEvent(ConfigurationEvent.BATCH_UPDATE, null, null, true);
+        listener.checkEvent(ConfigurationEvent.BATCH_UPDATE, null, null, false);
+        listener.done();
+    }
+
+    /**
+     * Tests that updates performed by other threads while a batch is active are not part of the batch.
+     */
+    @Test
+    void testBatchOtherThread() {
+        final EventListenerTestImpl listener = new EventListenerTestImpl(config);
+        config.addEventListener(ConfigurationEvent.ANY, listener);
+        final AtomicInteger invocations = new AtomicInteger();
+        config.batch(c -> {
+            c.addProperty("new.a", "1");
+            if (invocations.incrementAndGet() == 1) {
+                final Thread thread = new Thread(() -> config.addProperty("other", "2"));
+                thread.start();
+                try {
+                    thread.join();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        // the concurrent update causes the batch to be executed again
+        assertEquals(2, invocations.get());
+        assertEquals("1", config.getString("new.a"));
+        assertEquals("2", config.getString("other"));
+        assertEquals(0, config.getMaxIndex("new.a"));
+        listener.checkEvent(ConfigurationEvent.BATCH_UPDATE, null, null, true);
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "other", "2", true);
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "other", "2", false);
+        listener.checkEvent(ConfigurationEvent.BATCH_UPDATE, null, null, false);
+        listener.done();
+    }
+
+    /**
+     * Tests that read operations within a batch see the state before the batch.
+     */
+    @Test
+    void testBatchReadsStateBeforeBatch() {
+        config.batch(c -> {
+            c.addProperty("new.a", "1");
+            assertFalse(c.containsKey("new.a"));
+        });
+        assertEquals("1", config.getString("new.a"));
+    }
+
     @Test
     void testClear() {
         config.setProperty(null, "value");
@@ -525,6 +707,76 @@ public class TestAbstractHierarchicalConfiguration {
         assertEquals(Arrays.asList("tables.table.name", "tables.table.fields.field.name"), keys);
     }
 
+    /**
+     * Tests that the iterator returned by getKeys() is not affected by later changes of the configuration.
+     */
+    @Test
+    void testGetKeysIteratorUnaffectedByChanges() {
+        final Iterator<String> it = config.getKeys();
+        config.clearTree("tables");
+        config.addProperty("other", "value");
+        assertEquals("tables.table.name", it.next());
+        assertEquals("tables.table.fields.field.name", it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    /**
+     * Tests getKeys() if the key index is enabled.
+     */
+    @Test
+    void testGetKeysKeyIndex() {
+        config.addProperty("tables.table(0)[@type]", "system");
+        config.addProperty("tables.table(1).fields.field(0)[@type]", "int");
+        final List<String> expected = ConfigurationAssert.keysToList(config);
+        config.setKeyIndexEnabled(true);
+        assertTrue(config.isKeyIndexEnabled());
+
+        assertEquals(expected, ConfigurationAssert.keysToList(config));
+        assertEquals(expected, ConfigurationAssert.keysToList(config));
+        assertEquals(expected.size(), config.size());
+    }
+
+    /**
+     * Tests that the key index is updated when the configuration is changed.
+     */
+    @Test
+    void testGetKeysKeyIndexChanges() {
+        config.setKeyIndexEnabled(true);
+        ConfigurationAssert.keysToList(config);
+        config.getKeys("tables.table(0)").next();
+
+        config.addProperty("tables.table(0).size", "42");
+        assertTrue(ConfigurationAssert.keysToSet(config).contains("tables.table.size"));
+        checkKeys("tables.table(0)", new String[] {"name", "fields.field.name", "size"});
+
+        config.getNodeModel().setProperty("tables.table(0).size", "43", config);
+        assertEquals(Collections.singletonList("tables.table(0).size"), collect(config.getKeys("tables.table(0).size")));
+        config.getNodeModel().clearTree("tables.table(0).size", config);
+        assertFalse(ConfigurationAssert.keysToSet(config).contains("tables.table.size"));
+        checkKeys("tables.table(0)", new String[] {"name", "fields.field.name"});
+    }
+
+    /**
+     * Tests getKeys() with a prefix if the key index is enabled.
+     */
+    @Test
+    void testGetKeysKeyIndexPrefix() {
+        config.addProperty("tables.table(0)[@type]", "system");
+        config.addProperty("tables.table(0).size", "42");
+        final String[] prefixes = {"tables", "tables.table(0)", "tables.table(1).fields", "tables.table[@type]", "unknown"};
+        final List<List<String>> expected = new ArrayList<>();
+        for (final String prefix : prefixes) {
+            expected.add(collect(config.getKeys(prefix)));
+        }
+        config.setKeyIndexEnabled(true);
+
+        for (int i = 0; i < prefixes.length; i++) {
+            assertEquals(expected.get(i), collect(config.getKeys(prefixes[i])));
+            assertEquals(expected.get(i), collect(config.getKeys(prefixes[i])));
+        }
+    }
+
     /**
      * Tests whether attribute keys are contained in the iteration of keys.
      */
@@ -706,6 +958,23 @@ public class TestAbstractHierarchicalConfiguration {
         InterpolationTestHelper.testInterpolation(config);
     }
 
+    /**
+     * Tests whether cached interpolation results are discarded when a property is changed using an indexed key.
+     */
+    @Test
+    void testInterpolationCacheIndexedKey() {
+        final BaseHierarchicalConfiguration hc = new BaseHierarchicalConfiguration();
+        hc.getInterpolator().setCacheEnabled(true);
+        hc.addProperty("a.b", "1");
+        hc.addProperty("ref", "${a.b}");
+        assertEquals("1", hc.getString("ref"));
+
+        hc.setProperty("a(0).b", "2");
+        assertEquals("2", hc.getString("ref"));
+        hc.clearTree("a(0).b");
+        assertEquals("${a.b}", hc.getString("ref"));
+    }
+
     /**
      * Tests interpolation with constant values.
      */
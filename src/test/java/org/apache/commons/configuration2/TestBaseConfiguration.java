@@ -40,6 +40,7 @@ import java.util.NoSuchElementException;
 import java.util.Properties;
 import java.util.StringTokenizer;
 
+import org.apache.commons.configuration2.convert.DefaultConversionHandler;
 import org.apache.commons.configuration2.convert.DefaultListDelimiterHandler;
 import org.apache.commons.configuration2.event.ConfigurationEvent;
 import org.apache.commons.configuration2.event.EventListener;
@@ -146,6 +147,23 @@ public class TestBaseConfiguration {
         assertEquals(2, config.getList(key).size());
     }
 
+    /**
+     * Tests typed reads with an enabled conversion cache when properties are changed.
+     */
+    @Test
+    void testConversionCache() {
+        final DefaultConversionHandler handler = new DefaultConversionHandler();
+        handler.setCacheEnabled(true);
+        config.setConversionHandler(handler);
+        config.addProperty("timeout", "PT10S");
+        assertEquals(Duration.ofSeconds(10), config.getDuration("timeout"));
+        assertEquals(Duration.ofSeconds(10), config.getDuration("timeout"));
+        config.setProperty("timeout", "PT20S");
+        assertEquals(Duration.ofSeconds(20), config.getDuration("timeout"));
+        config.setProperty("timeout", "PT10S");
+        assertEquals(Duration.ofSeconds(10), config.getDuration("timeout"));
+    }
+
     /**
      * Tests whether a cloned configuration is decoupled from its original.
      */
@@ -179,6 +197,54 @@ public class TestBaseConfiguration {
         assertEquals("hey, that's a test", config.getString("prop.string"));
     }
 
+    /**
+     * Tests a configuration using the compact storage mode.
+     */
+    @Test
+    void testCompactStorage() {
+        config.addProperty("key1", "value1");
+        config.addProperty("list", "a");
+        assertFalse(config.isCompactStorage());
+        config.setCompactStorage(true);
+        assertTrue(config.isCompactStorage());
+        assertEquals("value1", config.getString("key1"));
+        config.addProperty("list", "b");
+        config.addProperty("list", "c");
+        assertEquals(Arrays.asList("a", "b", "c"), config.getList("list"));
+        config.addProperty("key2", "value2");
+        config.clearProperty("key1");
+        final List<String> keys = new ArrayList<>();
+        config.getKeys().forEachRemaining(keys::add);
+        assertEquals(Arrays.asList("list", "key2"), keys);
+        assertTrue(config.containsValue("value2"));
+
+        config.setCompactStorage(false);
+        assertEquals(Arrays.asList("a", "b", "c"), config.getList("list"));
+        assertEquals("value2", config.getString("key2"));
+        assertEquals(2, config.size());
+    }
+
+    /**
+     * Tests cloning a configuration using the compact storage mode.
+     */
+    @Test
+    void testCompactStorageClone() {
+        config.setCompactStorage(true);
+        config.addProperty("key", "value");
+        config.addProperty("list", "a");
+        config.addProperty("list", "b");
+        final BaseConfiguration copy = (BaseConfiguration) config.clone();
+        assertTrue(copy.isCompactStorage());
+        copy.addProperty("list", "c");
+        copy.clearProperty("key");
+        assertEquals("value", config.getString("key"));
+        assertEquals(Arrays.asList("a", "b"), config.getList("list"));
+        assertEquals(Arrays.asList("a", "b", "c"), copy.getList("list"));
+        config.clear();
+        assertTrue(config.isEmpty());
+        assertFalse(copy.isEmpty());
+    }
+
     @Test
     void testContainsValue() {
         assertFalse(config.containsValue(null));
@@ -565,6 +631,29 @@ public class TestBaseConfiguration {
         InterpolationTestHelper.testInterpolation(config);
     }
 
+    /**
+     * Tests whether cached interpolation results are updated when a referenced property is changed.
+     */
+    @Test
+    void testInterpolationCache() {
+        config.getInterpolator().setCacheEnabled(true);
+        config.addProperty("app.dir", "/opt/app");
+        config.addProperty("log.dir", "${app.dir}/logs");
+        assertEquals("/opt/app/logs", config.getString("log.dir"));
+        assertEquals("/opt/app/logs", config.getString("log.dir"));
+
+        config.setProperty("app.dir", "/srv/app");
+        assertEquals("/srv/app/logs", config.getString("log.dir"));
+        config.clearProperty("app.dir");
+        assertEquals("${app.dir}/logs", config.getString("log.dir"));
+        config.addProperty("app.dir", "/usr/app");
+        assertEquals("/usr/app/logs", config.getString("log.dir"));
+        config.clear();
+        config.addProperty("log.dir", "${app.dir}/log");
+        config.addProperty("app.dir", "/var");
+        assertEquals("/var/log", config.getString("log.dir"));
+    }
+
     /**
      * Tests interpolation of constant values.
      */
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 import java.io.StringReader;
 import java.io.StringWriter;
@@ -93,6 +94,29 @@ public class TestCombinedConfiguration {
         }
     }
 
+    /**
+     * A node combiner which counts the number of combine operations.
+     */
+    private static final class CountingCombiner extends UnionCombiner {
+
+        private final AtomicInteger combineCount = new AtomicInteger();
+
+        @Override
+        public ImmutableNode combine(final ImmutableNode node1, final ImmutableNode node2) {
+            combineCount.incrementAndGet();
+            return super.combine(node1, node2);
+        }
+
+        /**
+         * Returns the number of combine operations and resets the counter.
+         *
+         * @return The number of combine operations since the last call
+         */
+        public int fetchCount() {
+            return combineCount.getAndSet(0);
+        }
+    }
+
     /**
      * A test thread performing reads on a combined configuration. This thread reads a certain property from the
      * configuration. If everything works well, this property should have at least one and at most two values.
@@ -919,6 +943,102 @@ public class TestCombinedConfiguration {
         assertEquals(config, cc.getSource(TEST_KEY));
     }
 
+    /**
+     * Tests whether only the changed child configuration and the ones added after it are combined again.
+     */
+    @Test
+    void testIncrementalRecombination() {
+        final CountingCombiner combiner = new CountingCombiner();
+        config.setNodeCombiner(combiner);
+        final List<BaseHierarchicalConfiguration> children = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final BaseHierarchicalConfiguration child = new BaseHierarchicalConfiguration();
+            child.addProperty("child" + i, i);
+            children.add(child);
+            config.addConfiguration(child);
+        }
+        assertEquals(0, config.getInt("child0"));
+        assertEquals(3, combiner.fetchCount());
+
+        children.get(3).setProperty("child3", 30);
+        assertEquals(30, config.getInt("child3"));
+        assertEquals(1, combiner.fetchCount());
+
+        children.get(2).setProperty("child2", 20);
+        assertEquals(20, config.getInt("child2"));
+        assertEquals(30, config.getInt("child3"));
+        assertEquals(2, combiner.fetchCount());
+
+        config.invalidate();
+        assertEquals(0, config.getInt("child0"));
+        assertEquals(3, combiner.fetchCount());
+    }
+
+    /**
+     * Tests that a change of a child of a nested combined configuration is visible after a sibling of the nested
+     * configuration was changed.
+     */
+    @Test
+    void testIncrementalRecombinationNestedCombined() {
+        final BaseHierarchicalConfiguration innerChild = new BaseHierarchicalConfiguration();
+        innerChild.addProperty("x", "1");
+        final CombinedConfiguration inner = new CombinedConfiguration();
+        inner.addConfiguration(innerChild);
+        final BaseHierarchicalConfiguration sibling = new BaseHierarchicalConfiguration();
+        sibling.addProperty("y", "1");
+        config.addConfiguration(inner);
+        config.addConfiguration(sibling);
+        assertEquals("1", config.getString("x"));
+
+        innerChild.setProperty("x", "2");
+        assertEquals("2", config.getString("x"));
+        innerChild.setProperty("x", "3");
+        sibling.setProperty("y", "2");
+        assertEquals("3", config.getString("x"));
+        assertEquals("2", config.getString("y"));
+    }
+
+    /**
+     * Tests that configurations which are not hierarchical (and do not send change events) are always combined again.
+     * So a change of the last child configuration requires that the preceding configuration is combined again, too.
+     */
+    @Test
+    void testIncrementalRecombinationNoEventSource() {
+        final CountingCombiner combiner = new CountingCombiner();
+        config.setNodeCombiner(combiner);
+        config.addConfiguration(setUpTestConfiguration());
+        config.addConfiguration(mock(Configuration.class));
+        final BaseHierarchicalConfiguration last = new BaseHierarchicalConfiguration();
+        config.addConfiguration(last);
+        assertTrue(config.getBoolean(TEST_KEY));
+        assertEquals(2, combiner.fetchCount());
+
+        last.addProperty("foo", "bar");
+        assertEquals("bar", config.getString("foo"));
+        assertEquals(2, combiner.fetchCount());
+    }
+
+    /**
+     * Tests that a child configuration is combined again if its root node was replaced without firing an event.
+     */
+    @Test
+    void testIncrementalRecombinationSetRootNode() {
+        final BaseHierarchicalConfiguration c1 = new BaseHierarchicalConfiguration();
+        c1.addProperty("x", "1");
+        final BaseHierarchicalConfiguration c2 = new BaseHierarchicalConfiguration();
+        c2.addProperty("y", "1");
+        config.addConfiguration(c1);
+        config.addConfiguration(c2);
+        assertEquals("1", config.getString("x"));
+
+        final BaseHierarchicalConfiguration replacement = new BaseHierarchicalConfiguration();
+        replacement.addProperty("x", "2");
+        c1.getNodeModel().setRootNode(replacement.getNodeModel().getNodeHandler().getRootNode());
+        c2.setProperty("y", "2");
+        assertEquals("2", config.getString("x"));
+        assertEquals("2", config.getString("y"));
+    }
+
     /**
      * Tests accessing a newly created combined configuration.
      */
@@ -996,6 +1116,30 @@ public class TestCombinedConfiguration {
         checkRemoveConfig(c);
     }
 
+    /**
+     * Tests whether the combined node structure is correct after a configuration was removed.
+     */
+    @Test
+    void testRemoveConfigurationAtRecombination() {
+        final BaseHierarchicalConfiguration c1 = new BaseHierarchicalConfiguration();
+        c1.addProperty("key", "c1");
+        final BaseHierarchicalConfiguration c2 = new BaseHierarchicalConfiguration();
+        c2.addProperty("key", "c2");
+        final BaseHierarchicalConfiguration c3 = new BaseHierarchicalConfiguration();
+        c3.addProperty("key", "c3");
+        config.setNodeCombiner(new OverrideCombiner());
+        config.addConfiguration(c1);
+        config.addConfiguration(c2);
+        config.addConfiguration(c3);
+        assertEquals("c1", config.getString("key"));
+        config.removeConfigurationAt(0);
+        assertEquals("c2", config.getString("key"));
+        c3.setProperty("key", "c3a");
+        assertEquals("c2", config.getString("key"));
+        config.removeConfiguration(c2);
+        assertEquals("c3a", config.getString("key"));
+    }
+
     /**
      * Tests removing a configuration by name.
      */
@@ -1088,6 +1232,23 @@ public class TestCombinedConfiguration {
         assertThrows(IllegalArgumentException.class, () -> config.setNodeCombiner(null));
     }
 
+    /**
+     * Tests whether a snapshot of a combined configuration is recreated when a child configuration is changed.
+     */
+    @Test
+    void testSnapshotUpdateContainedConfiguration() {
+        final AbstractConfiguration c = setUpTestConfiguration();
+        config.addConfiguration(c);
+        final ImmutableConfiguration snapshot = config.snapshot();
+        assertSame(snapshot, config.snapshot());
+        assertEquals("This is a test", snapshot.getString("test.comment"));
+        c.setProperty("test.comment", "changed");
+        final ImmutableConfiguration snapshot2 = config.snapshot();
+        assertNotSame(snapshot, snapshot2);
+        assertEquals("changed", snapshot2.getString("test.comment"));
+        assertTrue(snapshot2.getBoolean(TEST_KEY));
+    }
+
     /**
      * Tests whether a sub configuration survives updates of its parent.
      */
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@code CompactPropertyMap}.
+ */
+public class TestCompactPropertyMap {
+
+    /** Constant for the number of keys used by the tests. */
+    private static final int KEY_COUNT = 1000;
+
+    /**
+     * Compares the content and the iteration order of the given maps.
+     *
+     * @param expected The expected map
+     * @param map The map to check
+     */
+    private static void checkMap(final Map<String, Object> expected, final CompactPropertyMap map) {
+        assertEquals(expected.size(), map.size());
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(map.entrySet()));
+        expected.forEach((k, v) -> assertEquals(v, map.get(k), k));
+    }
+
+    /**
+     * Tests that a clone is independent of the original map.
+     */
+    @Test
+    void testClone() {
+        final CompactPropertyMap map = new CompactPropertyMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        final CompactPropertyMap copy = map.clone();
+        copy.put("c", 3);
+        copy.remove("a");
+        assertEquals(2, map.size());
+        assertEquals(1, map.get("a"));
+        assertFalse(map.containsKey("c"));
+        assertEquals(2, copy.size());
+        assertEquals(3, copy.get("c"));
+    }
+
+    /**
+     * Tests the constructor which copies another map.
+     */
+    @Test
+    void testCopyConstructor() {
+        final Map<String, Object> source = new LinkedHashMap<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            source.put("key" + i, i);
+        }
+        checkMap(source, new CompactPropertyMap(source));
+    }
+
+    /**
+     * Tests that iterators detect concurrent modifications.
+     */
+    @Test
+    void testIteratorConcurrentModification() {
+        final CompactPropertyMap map = new CompactPropertyMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        final Iterator<String> it = map.keySet().iterator();
+        it.next();
+        map.put("c", 3);
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    /**
+     * Tests whether entries can be removed using an iterator.
+     */
+    @Test
+    void testIteratorRemove() {
+        final CompactPropertyMap map = new CompactPropertyMap();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            map.put("key" + i, i);
+        }
+        final Iterator<String> it = map.keySet().iterator();
+        int idx = 0;
+        while (it.hasNext()) {
+            it.next();
+            if (idx++ % 2 == 0) {
+                it.remove();
+            }
+        }
+        assertEquals(KEY_COUNT / 2, map.size());
+        for (int i = 0; i < KEY_COUNT; i++) {
+            assertEquals(i % 2 != 0, map.containsKey("key" + i));
+        }
+        final Iterator<Map.Entry<String, Object>> entries = map.entrySet().iterator();
+        while (entries.hasNext()) {
+            entries.next();
+            entries.remove();
+        }
+        assertTrue(map.isEmpty());
+        assertThrows(IllegalStateException.class, entries::remove);
+    }
+
+    /**
+     * Tests that null keys are rejected.
+     */
+    @Test
+    void testNullKey() {
+        final CompactPropertyMap map = new CompactPropertyMap();
+        assertThrows(NullPointerException.class, () -> map.put(null, 1));
+        assertNull(map.get(null));
+        assertFalse(map.containsKey(null));
+    }
+
+    /**
+     * Executes a random sequence of operations and compares the results with a {@code LinkedHashMap}.
+     */
+    @Test
+    void testRandomOperations() {
+        final Random random = new Random(42);
+        final Map<String, Object> expected = new LinkedHashMap<>();
+        final CompactPropertyMap map = new CompactPropertyMap();
+        for (int i = 0; i < KEY_COUNT * 20; i++) {
+            final String key = "key" + random.nextInt(KEY_COUNT);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        checkMap(expected, map);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            final String key = "key" + i;
+            assertEquals(expected.containsKey(key), map.containsKey(key));
+        }
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.keySet().iterator().hasNext());
+    }
+
+    /**
+     * Tests that values can be changed using entries.
+     */
+    @Test
+    void testSetValue() {
+        final CompactPropertyMap map = new CompactPropertyMap();
+        map.put("a", 1);
+        map.entrySet().iterator().next().setValue(2);
+        assertEquals(2, map.get("a"));
+        assertTrue(map.containsValue(2));
+        assertFalse(map.containsValue(1));
+        final List<Object> values = new ArrayList<>(map.values());
+        assertEquals(1, values.size());
+    }
+}
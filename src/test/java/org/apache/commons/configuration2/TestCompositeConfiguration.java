@@ -28,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -622,6 +623,94 @@ public class TestCompositeConfiguration {
         assertEquals("one", cc.getString("property.one.ref"));
     }
 
+    /**
+     * Tests whether the key index produces the same results as the default lookup.
+     */
+    @Test
+    void testKeyIndex() {
+        setUpSourceTest();
+        cc.addConfiguration(xmlConf);
+        final List<String> expectedKeys = new ArrayList<>();
+        cc.getKeys().forEachRemaining(expectedKeys::add);
+
+        cc.setKeyIndexEnabled(true);
+        assertTrue(cc.isKeyIndexEnabled());
+        final List<String> keys = new ArrayList<>();
+        cc.getKeys().forEachRemaining(keys::add);
+        assertEquals(expectedKeys, keys);
+        assertEquals("test.properties", cc.getString("propertyInOrder"));
+        assertTrue(cc.containsKey("test.short"));
+        assertFalse(cc.containsKey("bogus.property"));
+        assertThrows(NoSuchElementException.class, () -> cc.getString("bogus.property"));
+    }
+
+    /**
+     * Tests whether the key index is updated when a child configuration is changed.
+     */
+    @Test
+    void testKeyIndexChildConfigurationChanged() {
+        setUpSourceTest();
+        cc.setKeyIndexEnabled(true);
+        assertNull(cc.getSource(TEST_PROPERTY));
+
+        conf2.addProperty(TEST_PROPERTY, "conf2");
+        assertEquals("conf2", cc.getString(TEST_PROPERTY));
+        assertSame(conf2, cc.getSource(TEST_PROPERTY));
+
+        conf1.addProperty(TEST_PROPERTY, "conf1");
+        assertEquals("conf1", cc.getString(TEST_PROPERTY));
+        assertThrows(IllegalArgumentException.class, () -> cc.getSource(TEST_PROPERTY));
+
+        cc.addProperty("test.inMemory", "yes");
+        assertSame(cc.getInMemoryConfiguration(), cc.getSource("test.inMemory"));
+    }
+
+    /**
+     * Tests whether a clone uses its own key index.
+     */
+    @Test
+    void testKeyIndexClone() {
+        setUpSourceTest();
+        cc.setKeyIndexEnabled(true);
+        final CompositeConfiguration copy = (CompositeConfiguration) cc.clone();
+        assertTrue(copy.isKeyIndexEnabled());
+        assertFalse(copy.containsKey(TEST_PROPERTY));
+        copy.addProperty(TEST_PROPERTY, "copy");
+        assertEquals("copy", copy.getString(TEST_PROPERTY));
+        assertFalse(cc.containsKey(TEST_PROPERTY));
+    }
+
+    /**
+     * Tests that the key index is not used if a child configuration does not support event listeners.
+     */
+    @Test
+    void testKeyIndexNoEventSource() {
+        final Configuration child = mock(Configuration.class);
+        cc.addConfiguration(child);
+        cc.setKeyIndexEnabled(true);
+        assertFalse(cc.containsKey(TEST_PROPERTY));
+        when(child.containsKey(TEST_PROPERTY)).thenReturn(Boolean.TRUE);
+        when(child.getProperty(TEST_PROPERTY)).thenReturn("value");
+        assertEquals("value", cc.getString(TEST_PROPERTY));
+    }
+
+    /**
+     * Tests whether the listeners of the key index are removed when child configurations are removed or the index is
+     * disabled.
+     */
+    @Test
+    void testKeyIndexRemoveListeners() {
+        final int listenerCount = conf1.getEventListeners(ConfigurationEvent.ANY).size();
+        setUpSourceTest();
+        cc.setKeyIndexEnabled(true);
+        assertEquals(listenerCount + 1, conf1.getEventListeners(ConfigurationEvent.ANY).size());
+        cc.removeConfiguration(conf1);
+        assertEquals(listenerCount, conf1.getEventListeners(ConfigurationEvent.ANY).size());
+        cc.setKeyIndexEnabled(false);
+        assertEquals(listenerCount, conf2.getEventListeners(ConfigurationEvent.ANY).size());
+        assertFalse(cc.isKeyIndexEnabled());
+    }
+
     /**
      * Tests {@code List} parsing.
      */
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -33,6 +34,7 @@ import java.sql.Clob;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -43,8 +45,12 @@ import org.apache.commons.configuration2.convert.DefaultListDelimiterHandler;
 import org.apache.commons.configuration2.event.ConfigurationErrorEvent;
 import org.apache.commons.configuration2.event.ConfigurationEvent;
 import org.apache.commons.configuration2.event.ErrorListenerTestImpl;
+import org.apache.commons.configuration2.event.EventListenerTestImpl;
 import org.apache.commons.configuration2.event.EventType;
 import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.reloading.ReloadingController;
+import org.apache.commons.configuration2.reloading.ReloadingDetector;
+import org.apache.commons.configuration2.reloading.ReloadingEvent;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -130,6 +136,18 @@ public class TestDatabaseConfiguration {
         helper.setUp();
     }
 
+    /**
+     * Creates a database configuration with default values in caching mode.
+     *
+     * @param changeDetectionQuery The change detection query (can be <strong>null</strong>)
+     * @return The configuration
+     * @throws ConfigurationException if an error occurs
+     */
+    private PotentialErrorDatabaseConfiguration setUpCachedConfig(final String changeDetectionQuery) throws ConfigurationException {
+        return helper.createConfiguration(PotentialErrorDatabaseConfiguration.class,
+            helper.setUpDefaultParameters().setCacheEnabled(true).setChangeDetectionQuery(changeDetectionQuery));
+    }
+
     /**
      * Creates a database configuration with default values.
      *
@@ -231,6 +249,241 @@ public class TestDatabaseConfiguration {
         assertArrayEquals(new String[] {"1", "2", "3"}, values);
     }
 
+    /**
+     * Tests a batch with different update operations. Only a single event should be generated.
+     */
+    @Test
+    void testBatch() throws ConfigurationException {
+        final DatabaseConfiguration config = helper.setUpMultiConfig();
+        helper.setUpMultiConfig(DatabaseConfiguration.class, CONFIG_NAME2).addProperty("key1", "otherValue");
+        final EventListenerTestImpl eventListener = new EventListenerTestImpl(config);
+        config.addEventListener(ConfigurationEvent.ANY, eventListener);
+        config.batch(c -> {
+            c.addProperty("key3", "value3");
+            c.addProperty("key4", "value4");
+            c.setProperty("key1", "newValue");
+            c.clearProperty("key2");
+        });
+        eventListener.checkEvent(ConfigurationEvent.BATCH_UPDATE, null, null, true);
+        eventListener.checkEvent(ConfigurationEvent.BATCH_UPDATE, null, null, false);
+        eventListener.done();
+
+        final Configuration check = helper.setUpMultiConfig();
+        assertEquals("value3", check.getString("key3"));
+        assertEquals("value4", check.getString("key4"));
+        assertEquals("newValue", check.getString("key1"));
+        assertFalse(check.containsKey("key2"));
+        assertEquals("otherValue", helper.setUpMultiConfig(DatabaseConfiguration.class, CONFIG_NAME2).getString("key1"));
+    }
+
+    /**
+     * Tests a batch which clears the configuration. Only the data of this configuration must be removed.
+     */
+    @Test
+    void testBatchClear() throws ConfigurationException {
+        final DatabaseConfiguration config = helper.setUpMultiConfig();
+        helper.setUpMultiConfig(DatabaseConfiguration.class, CONFIG_NAME2).addProperty("key1", "otherValue");
+        config.batch(c -> {
+            c.clear();
+            c.addProperty("key3", "value3");
+        });
+        assertEquals(Collections.singletonList("key3"), ConfigurationAssert.keysToList(helper.setUpMultiConfig()));
+        assertFalse(helper.setUpMultiConfig(DatabaseConfiguration.class, CONFIG_NAME2).isEmpty());
+    }
+
+    /**
+     * Tests a batch if the configuration performs commits.
+     */
+    @Test
+    void testBatchCommit() throws ConfigurationException {
+        helper.setAutoCommit(true);
+        final DatabaseConfiguration config = helper.setUpConfig();
+        config.batch(c -> c.addProperty("key3", "value3"));
+        assertEquals("value3", helper.setUpConfig().getString("key3"));
+    }
+
+    /**
+     * Tests whether the data of another configuration can be copied efficiently using a batch.
+     */
+    @Test
+    void testBatchCopy() throws ConfigurationException {
+        final BaseConfiguration source = new BaseConfiguration();
+        for (int i = 0; i < 1000; i++) {
+            source.addProperty("copy.key" + i, "value" + i);
+        }
+        final DatabaseConfiguration config = helper.setUpConfig();
+        config.batch(c -> c.copy(source));
+        final DatabaseConfiguration check = helper.setUpConfig();
+        assertEquals("value999", check.getString("copy.key999"));
+        assertEquals(source.size() + 3, check.size());
+    }
+
+    /**
+     * Tests handling of errors in batch().
+     */
+    @Test
+    void testBatchError() throws ConfigurationException {
+        setUpErrorConfig().batch(c -> c.addProperty("key1", "value"));
+        checkErrorListener(ConfigurationErrorEvent.WRITE, ConfigurationEvent.BATCH_UPDATE, null, null);
+    }
+
+    /**
+     * Tests that the order of dependent operations in a batch is preserved.
+     */
+    @Test
+    void testBatchOrder() throws ConfigurationException {
+        final DatabaseConfiguration config = helper.setUpConfig();
+        config.batch(c -> {
+            c.addProperty("key3", "value3");
+            c.clearProperty("key3");
+            c.addProperty("key3", "newValue3");
+            c.addProperty("key4", "value4");
+            c.clear();
+            c.addProperty("key5", "value5");
+            c.setProperty("key5", "newValue5");
+        });
+        final Configuration check = helper.setUpConfig();
+        assertEquals(Collections.singletonList("key5"), ConfigurationAssert.keysToList(check));
+        assertEquals("newValue5", check.getString("key5"));
+
+        config.batch(c -> {
+            c.addProperty("key3", "value3");
+            c.clearProperty("key3");
+            c.addProperty("key3", "newValue3");
+        });
+        assertEquals("newValue3", check.getString("key3"));
+    }
+
+    /**
+     * Tests that updates performed by other threads while a batch is active are not recorded by the batch.
+     */
+    @Test
+    void testBatchOtherThread() throws ConfigurationException {
+        final DatabaseConfiguration config = helper.setUpConfig();
+        final EventListenerTestImpl eventListener = new EventListenerTestImpl(config);
+        config.addEventListener(ConfigurationEvent.ANY, eventListener);
+        assertThrows(IllegalStateException.class, () -> config.batch(c -> {
+            c.addProperty("key3", "value3");
+            final Thread thread = new Thread(() -> config.addProperty("key4", "value4"));
+            thread.start();
+            try {
+                thread.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("Test exception");
+        }));
+        eventListener.checkEvent(ConfigurationEvent.BATCH_UPDATE, null, null, true);
+        eventListener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "key4", "value4", true);
+        eventListener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "key4", "value4", false);
+        eventListener.done();
+
+        final Configuration check = helper.setUpConfig();
+        assertEquals("value4", check.getString("key4"));
+        assertFalse(check.containsKey("key3"));
+    }
+
+    /**
+     * Tests that a failing statement rolls back the whole batch.
+     */
+    @Test
+    void testBatchRollback() throws ConfigurationException {
+        final DatabaseConfiguration config = helper.setUpConfig();
+        config.clearErrorListeners();
+        final ErrorListenerTestImpl errorListener = new ErrorListenerTestImpl(config);
+        config.addEventListener(ConfigurationErrorEvent.ANY, errorListener);
+        config.batch(c -> {
+            c.addProperty("key3", "value3");
+            // violates the primary key
+            c.addProperty("key1", "value");
+        });
+        errorListener.checkEvent(ConfigurationErrorEvent.WRITE, ConfigurationEvent.BATCH_UPDATE, null, null);
+        errorListener.done();
+        assertFalse(helper.setUpConfig().containsKey("key3"));
+    }
+
+    /**
+     * Tests that no updates are written if the batch action throws an exception.
+     */
+    @Test
+    void testBatchRuntimeException() throws ConfigurationException {
+        final DatabaseConfiguration config = helper.setUpConfig();
+        assertThrows(IllegalStateException.class, () -> config.batch(c -> {
+            c.addProperty("key3", "value3");
+            throw new IllegalStateException("Test exception");
+        }));
+        assertFalse(config.containsKey("key3"));
+        config.addProperty("key4", "value4");
+        assertEquals("value4", config.getString("key4"));
+    }
+
+    /**
+     * Tests that in caching mode all data is loaded at once and read operations do not access the database.
+     */
+    @Test
+    void testCacheEnabled() throws ConfigurationException {
+        final PotentialErrorDatabaseConfiguration config = setUpCachedConfig(null);
+        config.setListDelimiterHandler(new DefaultListDelimiterHandler(';'));
+        assertTrue(config.isCacheEnabled());
+        config.refreshCache();
+        setUpErrorListener(config);
+
+        assertEquals("value1", config.getProperty("key1"));
+        assertEquals(Arrays.asList("a", "b", "c"), config.getList("keyMulti"));
+        assertNull(config.getProperty("key3"));
+        assertTrue(config.containsKey("key2"));
+        assertFalse(config.containsKey("key3"));
+        assertTrue(config.containsValue("value2"));
+        assertFalse(config.containsValue("value3"));
+        assertFalse(config.isEmpty());
+        assertEquals(Arrays.asList("key1", "key2", "keyMulti"), ConfigurationAssert.keysToList(config));
+    }
+
+    /**
+     * Tests that data which could not be loaded because of a database error is not cached.
+     */
+    @Test
+    void testCacheError() throws ConfigurationException {
+        final PotentialErrorDatabaseConfiguration config = setUpCachedConfig(null);
+        setUpErrorListener(config);
+        assertNull(config.getProperty("key1"));
+        checkErrorListener(ConfigurationErrorEvent.READ, ConfigurationErrorEvent.READ, null, null);
+
+        config.failOnConnect = false;
+        assertEquals("value1", config.getProperty("key1"));
+    }
+
+    /**
+     * Tests that changes made by another party only become visible after the cache was refreshed.
+     */
+    @Test
+    void testCacheExternalChange() throws ConfigurationException {
+        final DatabaseConfiguration config = setUpCachedConfig(null);
+        assertFalse(config.containsKey("key3"));
+        helper.setUpConfig().addProperty("key3", "value3");
+        assertFalse(config.containsKey("key3"));
+
+        config.refreshCache();
+        assertEquals("value3", config.getString("key3"));
+    }
+
+    /**
+     * Tests that updates performed through a configuration in caching mode are visible immediately.
+     */
+    @Test
+    void testCacheUpdates() throws ConfigurationException {
+        final DatabaseConfiguration config = setUpCachedConfig(null);
+        assertFalse(config.containsKey("key3"));
+        config.addProperty("key3", "value3");
+        assertEquals("value3", config.getString("key3"));
+        config.setProperty("key1", "newValue");
+        assertEquals("newValue", config.getString("key1"));
+        config.clearProperty("key2");
+        assertFalse(config.containsKey("key2"));
+        config.clear();
+        assertTrue(config.isEmpty());
+    }
+
     /**
      * Tests whether a commit is performed after a clear operation.
      */
@@ -359,6 +612,37 @@ public class TestDatabaseConfiguration {
         assertFalse(config.containsValue("test9999"));
     }
 
+    /**
+     * Tests the reloading detector which uses the change detection query.
+     */
+    @Test
+    void testCreateReloadingDetector() throws ConfigurationException {
+        final DatabaseConfiguration config = setUpCachedConfig("SELECT COUNT(*) FROM " + DatabaseConfigurationTestHelper.TABLE);
+        final ReloadingController controller = new ReloadingController(config.createReloadingDetector());
+        controller.addEventListener(ReloadingEvent.ANY, event -> controller.resetReloadingState());
+        assertFalse(controller.checkForReloading(null));
+        assertEquals("value1", config.getString("key1"));
+        assertFalse(controller.checkForReloading(null));
+
+        helper.setUpConfig().addProperty("key3", "value3");
+        assertNull(config.getString("key3"));
+        assertTrue(controller.checkForReloading(null));
+        assertEquals("value3", config.getString("key3"));
+        assertFalse(controller.checkForReloading(null));
+    }
+
+    /**
+     * Tests that the reloading detector never reports a change if no change detection query is set.
+     */
+    @Test
+    void testCreateReloadingDetectorNoQuery() throws ConfigurationException {
+        final DatabaseConfiguration config = setUpCachedConfig(null);
+        final ReloadingDetector detector = config.createReloadingDetector();
+        config.refreshCache();
+        helper.setUpConfig().addProperty("key3", "value3");
+        assertFalse(detector.isReloadingRequired());
+    }
+
     /**
      * Tests whether a CLOB as a property value is handled correctly.
      */
@@ -17,13 +17,17 @@
 package org.apache.commons.configuration2;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 
 import org.apache.commons.configuration2.convert.DefaultListDelimiterHandler;
@@ -462,6 +466,80 @@ public class TestHierarchicalConfiguration {
         assertEquals("value", sub2.getString("[@attr]"));
     }
 
+    /**
+     * Tests that a snapshot contains the same keys and values as the configuration.
+     */
+    @Test
+    void testSnapshot() {
+        config.addProperty("tables.table(0)[@type]", "system");
+        final ImmutableConfiguration snapshot = config.snapshot();
+        final List<String> keys = new ArrayList<>();
+        config.getKeys().forEachRemaining(keys::add);
+        final List<String> snapshotKeys = new ArrayList<>();
+        snapshot.getKeys().forEachRemaining(snapshotKeys::add);
+        assertEquals(keys, snapshotKeys);
+        keys.forEach(key -> assertEquals(config.getProperty(key), snapshot.getProperty(key), key));
+        assertEquals(config.size(), snapshot.size());
+        assertTrue(snapshot.containsKey("tables.table[@type]"));
+        assertFalse(snapshot.containsKey("tables.table(0).name"));
+        assertNull(snapshot.getProperty("non.existing.key"));
+    }
+
+    /**
+     * Tests getKeys() with a prefix on a snapshot.
+     */
+    @Test
+    void testSnapshotGetKeysPrefix() {
+        config.addProperty("tables.table(0)[@type]", "system");
+        config.addProperty("tablesCount", 2);
+        final List<String> keys = new ArrayList<>();
+        config.getKeys("tables.table").forEachRemaining(keys::add);
+        final List<String> snapshotKeys = new ArrayList<>();
+        config.snapshot().getKeys("tables.table").forEachRemaining(snapshotKeys::add);
+        assertEquals(new HashSet<>(keys), new HashSet<>(snapshotKeys));
+        assertEquals(keys.size(), snapshotKeys.size());
+    }
+
+    /**
+     * Tests that a snapshot is cached and recreated after a change.
+     */
+    @Test
+    void testSnapshotInvalidatedOnChange() {
+        final ImmutableConfiguration snapshot = config.snapshot();
+        assertSame(snapshot, config.snapshot());
+        config.setProperty("tables.table(0).name", NEW_NAME);
+        final ImmutableConfiguration snapshot2 = config.snapshot();
+        assertNotSame(snapshot, snapshot2);
+        assertEquals(NEW_NAME, snapshot2.getList("tables.table.name").get(0));
+        assertEquals(NodeStructureHelper.table(0), snapshot.getList("tables.table.name").get(0));
+
+        config.getNodeModel().setRootNode(new ImmutableNode.Builder().addChild(new ImmutableNode.Builder().name("key").value("value").create()).create());
+        assertEquals("value", config.snapshot().getString("key"));
+    }
+
+    /**
+     * Tests interpolation and data conversion on a snapshot.
+     */
+    @Test
+    void testSnapshotInterpolation() {
+        config.addProperty("var", "42");
+        config.addProperty("ref", "${var}");
+        config.addProperty("sys", "${sys:user.home}");
+        final ImmutableConfiguration snapshot = config.snapshot();
+        assertEquals(42, snapshot.getInt("ref"));
+        assertEquals(System.getProperty("user.home"), snapshot.getString("sys"));
+    }
+
+    /**
+     * Tests that a snapshot cannot be modified.
+     */
+    @Test
+    void testSnapshotReadOnly() {
+        final Configuration snapshot = (Configuration) config.snapshot();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.addProperty("key", "value"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.clearProperty("tables.table.name"));
+    }
+
     @Test
     void testSubset() {
         // test the subset on the first table
@@ -25,9 +25,11 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.Properties;
+import java.util.Set;
 
 import javax.naming.Context;
 import javax.naming.InitialContext;
@@ -164,6 +166,99 @@ public class TestJNDIConfiguration {
         nonStringTestHolder.testByte();
     }
 
+    /**
+     * Tests that the cached view is discarded when the prefix is changed.
+     */
+    @Test
+    void testCacheChangePrefix() {
+        conf.setCacheRefreshDelay(Long.MAX_VALUE);
+        assertEquals("true", conf.getString("test.boolean"));
+        assertNull(conf.getString("boolean"));
+
+        conf.setPrefix("test");
+        assertNull(conf.getString("test.boolean"));
+        assertEquals("true", conf.getString("boolean"));
+    }
+
+    /**
+     * Tests getKeys() with a prefix if the cached view is enabled.
+     */
+    @Test
+    void testCacheGetKeysPrefix() {
+        conf.setCacheRefreshDelay(Long.MAX_VALUE);
+        final Set<String> keys = new HashSet<>();
+        conf.getKeys("test").forEachRemaining(keys::add);
+        assertEquals(10, keys.size());
+        assertTrue(keys.contains("test.key"));
+        assertTrue(keys.contains("test.onlyinjndi"));
+
+        final Iterator<String> it = conf.getKeys("test.key");
+        assertEquals("test.key", it.next());
+        assertFalse(it.hasNext());
+        assertFalse(conf.getKeys("test.k").hasNext());
+    }
+
+    /**
+     * Tests the cached view if no data is found. This should not cause a problem and not notify the error listeners.
+     */
+    @Test
+    void testCacheNoData() {
+        conf.setCacheRefreshDelay(Long.MAX_VALUE);
+        conf.installException(new NameNotFoundException("Test exception"));
+        assertTrue(conf.isEmpty());
+        assertFalse(conf.getKeys().hasNext());
+        assertNull(conf.getProperty("test.key"));
+        listener.done();
+    }
+
+    /**
+     * Tests that read operations are served from the cached view without accessing the JNDI tree.
+     */
+    @Test
+    void testCacheRead() {
+        conf.setCacheRefreshDelay(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, conf.getCacheRefreshDelay());
+        assertEquals("true", conf.getString("test.boolean"));
+        conf.installException();
+
+        assertEquals("jndivalue", conf.getString("test.key"));
+        assertTrue(conf.containsKey("test.onlyinjndi"));
+        assertFalse(conf.containsKey("test.imaginarykey"));
+        assertFalse(conf.isEmpty());
+        final Set<String> keys = new HashSet<>();
+        conf.getKeys().forEachRemaining(keys::add);
+        assertEquals(10, keys.size());
+        assertTrue(keys.contains("test.boolean"));
+
+        conf.clearProperty("test.key");
+        assertFalse(conf.containsKey("test.key"));
+        assertNull(conf.getProperty("test.key"));
+    }
+
+    /**
+     * Tests whether the cached view can be refreshed explicitly.
+     */
+    @Test
+    void testCacheRefresh() {
+        conf.setCacheRefreshDelay(Long.MAX_VALUE);
+        assertEquals("true", conf.getString("test.boolean"));
+        setUpErrorConfig().refreshCache();
+        checkErrorListener(ConfigurationErrorEvent.READ, ConfigurationErrorEvent.READ, null, null);
+    }
+
+    /**
+     * Tests that the cached view is read again after the refresh delay has passed.
+     */
+    @Test
+    void testCacheRefreshDelayExpired() throws InterruptedException {
+        conf.setCacheRefreshDelay(1);
+        assertEquals("true", conf.getString("test.boolean"));
+        setUpErrorConfig();
+        Thread.sleep(10);
+        assertNull(conf.getProperty("test.boolean"));
+        checkErrorListener(ConfigurationErrorEvent.READ, ConfigurationErrorEvent.READ, null, null);
+    }
+
     @Test
     void testChangePrefix() {
         assertEquals("true", conf.getString("test.boolean"));
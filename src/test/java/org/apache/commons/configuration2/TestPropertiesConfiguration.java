@@ -348,6 +348,24 @@ public class TestPropertiesConfiguration {
         return checkConfig;
     }
 
+    /**
+     * Reads all properties from the given reader and returns a list with string representations of their names, values,
+     * separators, and comments.
+     *
+     * @param reader The reader
+     * @return A list with the properties read
+     * @throws IOException if an error occurs
+     */
+    private static List<String> readProperties(final PropertiesConfiguration.PropertiesReader reader) throws IOException {
+        final List<String> result = new ArrayList<>();
+        while (reader.nextProperty()) {
+            result.add(reader.getPropertyName() + '|' + reader.getPropertyValue() + '|' + reader.getPropertySeparator() + '|'
+                + reader.getCommentLines());
+        }
+        result.add(String.valueOf(reader.getCommentLines()));
+        return result;
+    }
+
     private void reinitLocationStrategy() {
         conf.initFileLocator(FileLocatorUtils.fileLocator(conf.getLocator()).locationStrategy(FileLocatorUtils.newDefaultLocationStrategy()).create());
     }
@@ -1022,6 +1040,21 @@ public class TestPropertiesConfiguration {
         checkSavedConfig();
     }
 
+    /**
+     * Tests that cached interpolation results are discarded when data is loaded into the configuration.
+     */
+    @Test
+    void testInterpolationCacheLoad() throws ConfigurationException {
+        conf = new PropertiesConfiguration();
+        conf.getInterpolator().setCacheEnabled(true);
+        final FileHandler handler = new FileHandler(conf);
+        handler.load(new StringReader("ref = ${a}" + CR));
+        assertEquals("${a}", conf.getString("ref"));
+
+        handler.load(new StringReader("a = 1" + CR));
+        assertEquals("1", conf.getString("ref"));
+    }
+
     /**
      * Tests whether comment lines are correctly detected.
      */
@@ -1203,6 +1236,45 @@ public class TestPropertiesConfiguration {
         assertEquals("", conf.getString(key));
     }
 
+    /**
+     * Tests loading a configuration with layout tracking disabled. The properties, including those of included files, must
+     * be the same as with a layout, but no layout information is recorded.
+     */
+    @Test
+    void testLayoutDisabled() throws ConfigurationException {
+        final PropertiesConfiguration noLayoutConf = new PropertiesConfiguration();
+        noLayoutConf.setListDelimiterHandler(new LegacyListDelimiterHandler(','));
+        noLayoutConf.setLayoutEnabled(false);
+        assertFalse(noLayoutConf.isLayoutEnabled());
+        load(noLayoutConf, TEST_PROPERTIES);
+        ConfigurationAssert.assertConfigurationEquals(conf, noLayoutConf);
+        assertEquals("true", noLayoutConf.getString("include.loaded"));
+        assertTrue(noLayoutConf.getLayout().getKeys().isEmpty());
+        assertNull(noLayoutConf.getHeader());
+        assertNull(noLayoutConf.getFooter());
+        noLayoutConf.addProperty("new.property", "value");
+        assertTrue(noLayoutConf.getLayout().getKeys().isEmpty());
+    }
+
+    /**
+     * Tests that a configuration loaded without layout can still be saved and that layout tracking can be enabled again.
+     */
+    @Test
+    void testLayoutDisabledSave() throws ConfigurationException {
+        conf.setLayoutEnabled(false);
+        assertTrue(conf.getLayout().getKeys().isEmpty());
+        final StringWriter out = new StringWriter();
+        new FileHandler(conf).save(out);
+        final PropertiesConfiguration copy = new PropertiesConfiguration();
+        copy.setListDelimiterHandler(new LegacyListDelimiterHandler(','));
+        new FileHandler(copy).load(new StringReader(out.toString()));
+        ConfigurationAssert.assertConfigurationEquals(conf, copy);
+
+        conf.setLayoutEnabled(true);
+        conf.addProperty("new.property", "value");
+        assertTrue(conf.getLayout().getKeys().contains("new.property"));
+    }
+
     /**
      * Tests whether the correct line separator is used.
      */
@@ -1717,6 +1789,51 @@ public class TestPropertiesConfiguration {
         assertTrue(s.contains(PROP_NAME + " = http://www.apache.org"));
     }
 
+    /**
+     * Tests that a configuration loaded with the {@code StreamingIOFactory} is equal to one loaded with the default
+     * factory, including its layout.
+     */
+    @Test
+    void testStreamingIOFactory() throws ConfigurationException {
+        final PropertiesConfiguration streamingConf = new PropertiesConfiguration();
+        streamingConf.setListDelimiterHandler(new LegacyListDelimiterHandler(','));
+        streamingConf.setIOFactory(new PropertiesConfiguration.StreamingIOFactory());
+        load(streamingConf, TEST_PROPERTIES);
+        ConfigurationAssert.assertConfigurationEquals(conf, streamingConf);
+        assertEquals(conf.getLayout().getKeys(), streamingConf.getLayout().getKeys());
+        for (final String key : conf.getLayout().getKeys()) {
+            assertEquals(conf.getLayout().getComment(key), streamingConf.getLayout().getComment(key), key);
+            assertEquals(conf.getLayout().getSeparator(key), streamingConf.getLayout().getSeparator(key), key);
+            assertEquals(conf.getLayout().getBlankLinesBefore(key), streamingConf.getLayout().getBlankLinesBefore(key), key);
+        }
+        assertEquals(conf.getLayout().getHeaderComment(), streamingConf.getLayout().getHeaderComment());
+        assertEquals(conf.getLayout().getFooterComment(), streamingConf.getLayout().getFooterComment());
+    }
+
+    /**
+     * Tests that the {@code StreamingPropertiesReader} produces the same results as the default reader for special cases.
+     */
+    @Test
+    void testStreamingPropertiesReader() throws IOException {
+        final StringBuilder longLine = new StringBuilder("long.key = ");
+        while (longLine.length() < 10000) {
+            longLine.append("value ");
+        }
+        final StringBuilder boundary = new StringBuilder("boundary=");
+        while (boundary.length() < 8191) {
+            boundary.append('x');
+        }
+        final String text = String.join("\n", "# header", "", "simple=value", "  spaces   =   value with spaces  ",
+            "colon:value", "ws value", "tab\tvalue", "noValue", "noValue2 =", "key\\ with\\ spaces = v", "key\\=eq = v",
+            "=noKey", "escapes = a\\tb\\u0041\\\\c\\,d", "cont = first \\", "   second \\", "# comment within", "   third",
+            "even = backslashes\\\\", "trailing.backslash\\", "! bang comment", "sep = \u2028 = special", longLine.toString(),
+            "crlf = 1\r\ncr = 2\rlf = 3", boundary + "\r\nafter.boundary = 4", "# footer", "") + "last.line = no terminator";
+
+        final List<String> expected = readProperties(new PropertiesConfiguration.PropertiesReader(new StringReader(text)));
+        final List<String> actual = readProperties(new PropertiesConfiguration.StreamingPropertiesReader(new StringReader(text)));
+        assertEquals(expected, actual);
+    }
+
     /**
      * Tests whether special characters in a property value are un-escaped. This test is related to CONFIGURATION-640.
      */
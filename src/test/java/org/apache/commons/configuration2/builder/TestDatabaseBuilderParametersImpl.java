@@ -62,6 +62,25 @@ public class TestDatabaseBuilderParametersImpl {
         assertEquals(Boolean.TRUE, params.getParameters().get("autoCommit"));
     }
 
+    /**
+     * Tests whether the cache enabled flag can be set.
+     */
+    @Test
+    void testSetCacheEnabled() {
+        assertSame(params, params.setCacheEnabled(true));
+        assertEquals(Boolean.TRUE, params.getParameters().get("cacheEnabled"));
+    }
+
+    /**
+     * Tests whether the change detection query can be set.
+     */
+    @Test
+    void testSetChangeDetectionQuery() {
+        final String query = "SELECT MAX(version) FROM config";
+        assertSame(params, params.setChangeDetectionQuery(query));
+        assertEquals(query, params.getParameters().get("changeDetectionQuery"));
+    }
+
     /**
      * Tests whether the configuration name can be set.
      */
@@ -66,6 +66,16 @@ public class TestJndiBuilderParametersImpl {
         assertEquals(prefix, paramsMap.get("prefix"));
     }
 
+    /**
+     * Tests whether the refresh delay of the cached view can be set.
+     */
+    @Test
+    void testSetCacheRefreshDelay() {
+        assertSame(params, params.setCacheRefreshDelay(1000));
+        final Map<String, Object> paramsMap = params.getParameters();
+        assertEquals(Long.valueOf(1000), paramsMap.get("cacheRefreshDelay"));
+    }
+
     /**
      * Tests whether a JNDI context can be set.
      */
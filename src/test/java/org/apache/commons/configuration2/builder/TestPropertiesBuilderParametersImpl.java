@@ -17,6 +17,7 @@
 package org.apache.commons.configuration2.builder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
@@ -68,7 +69,7 @@ public class TestPropertiesBuilderParametersImpl {
         @SuppressWarnings("unchecked")
         final ConfigurationConsumer<ConfigurationException> includeListener = mock(ConfigurationConsumer.class);
         params.setIOFactory(factory).setIncludeListener(includeListener).setIncludesAllowed(false).setLayout(new PropertiesConfigurationLayout())
-            .setThrowExceptionOnMissing(true);
+            .setLayoutEnabled(false).setThrowExceptionOnMissing(true);
         final PropertiesBuilderParametersImpl params2 = new PropertiesBuilderParametersImpl();
 
         params2.inheritFrom(params.getParameters());
@@ -78,6 +79,7 @@ public class TestPropertiesBuilderParametersImpl {
         assertEquals(factory, parameters.get("IOFactory"));
         assertEquals(Boolean.FALSE, parameters.get("includesAllowed"));
         assertNull(parameters.get("layout"));
+        assertEquals(Boolean.FALSE, parameters.get("layoutEnabled"));
     }
 
     /**
@@ -145,4 +147,25 @@ public class TestPropertiesBuilderParametersImpl {
         assertSame(params, params.setLayout(layout));
         assertSame(layout, params.getParameters().get("layout"));
     }
+
+    /**
+     * Tests whether the layout enabled flag can be set.
+     */
+    @Test
+    void testSetLayoutEnabled() {
+        assertSame(params, params.setLayoutEnabled(false));
+        assertEquals(Boolean.FALSE, params.getParameters().get("layoutEnabled"));
+    }
+
+    /**
+     * Tests whether the layout enabled flag is passed to the configuration created by a builder.
+     */
+    @Test
+    void testSetLayoutEnabledProperty() throws ConfigurationException {
+        final ConfigurationBuilder<PropertiesConfiguration> builder = new FileBasedConfigurationBuilder<>(PropertiesConfiguration.class)
+            .configure(params.setLayoutEnabled(false));
+
+        final PropertiesConfiguration config = builder.getConfiguration();
+        assertFalse(config.isLayoutEnabled());
+    }
 }
@@ -18,10 +18,14 @@ package org.apache.commons.configuration2.convert;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -29,6 +33,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.apache.commons.configuration2.ex.ConversionException;
 import org.apache.commons.configuration2.interpol.ConfigurationInterpolator;
@@ -81,6 +86,88 @@ public class TestDefaultConversionHandler {
         handler = new DefaultConversionHandler();
     }
 
+    /**
+     * Tests whether conversion results are cached if this is enabled.
+     */
+    @Test
+    void testConversionCache() {
+        handler.setCacheEnabled(true);
+        final String value = "PT5M";
+        final Duration duration = handler.to(value, Duration.class, null);
+        assertEquals(Duration.ofMinutes(5), duration);
+        assertSame(duration, handler.to(value, Duration.class, null));
+        final String regex = "[a-z]+";
+        assertSame(handler.to(regex, Pattern.class, null), handler.to(regex, Pattern.class, null));
+        assertEquals(Integer.valueOf(1000), handler.to("1000", Integer.class, null));
+        assertEquals(Long.valueOf(1000), handler.to("1000", Long.class, null));
+    }
+
+    /**
+     * Tests that the cache is keyed by the identity of the values to be converted.
+     */
+    @Test
+    void testConversionCacheByIdentity() {
+        handler.setCacheEnabled(true);
+        final String regex = "[0-9]+";
+        final Pattern pattern = handler.to(regex, Pattern.class, null);
+        assertNotSame(pattern, handler.to(new String(regex), Pattern.class, null));
+        assertSame(pattern, handler.to(regex, Pattern.class, null));
+        handler.clearCache();
+        assertNotSame(pattern, handler.to(regex, Pattern.class, null));
+    }
+
+    /**
+     * Tests that cached dates are copied, and that the cache is cleared when the date format is changed.
+     */
+    @Test
+    void testConversionCacheDate() {
+        handler.setCacheEnabled(true);
+        final String value = "01.02.2024";
+        handler.setDateFormat("dd.MM.yyyy");
+        final Date date = handler.to(value, Date.class, null);
+        date.setTime(0);
+        final Date date2 = handler.to(value, Date.class, null);
+        assertNotSame(date, date2);
+        final Calendar cal = Calendar.getInstance();
+        cal.setTime(date2);
+        assertEquals(Calendar.FEBRUARY, cal.get(Calendar.MONTH));
+
+        handler.setDateFormat("MM.dd.yyyy");
+        cal.setTime(handler.to(value, Date.class, null));
+        assertEquals(Calendar.JANUARY, cal.get(Calendar.MONTH));
+    }
+
+    /**
+     * Tests that conversion results are not cached by default.
+     */
+    @Test
+    void testConversionCacheDisabled() {
+        assertFalse(handler.isCacheEnabled());
+        final String regex = "[a-z]+";
+        assertNotSame(handler.to(regex, Pattern.class, null), handler.to(regex, Pattern.class, null));
+        handler.setCacheEnabled(true);
+        final Pattern pattern = handler.to(regex, Pattern.class, null);
+        handler.setCacheEnabled(false);
+        assertNotSame(pattern, handler.to(regex, Pattern.class, null));
+    }
+
+    /**
+     * Tests that values changed by interpolation are not cached.
+     */
+    @Test
+    void testConversionCacheInterpolatedValue() {
+        final String regex = "[0-9]+";
+        final ConfigurationInterpolator ci = new ConfigurationInterpolator() {
+            @Override
+            public Object interpolate(final Object value) {
+                return VAR.equals(value) ? new String(regex) : value;
+            }
+        };
+        handler.setCacheEnabled(true);
+        assertNotSame(handler.to(VAR, Pattern.class, ci), handler.to(VAR, Pattern.class, ci));
+        assertSame(handler.to(regex, Pattern.class, ci), handler.to(regex, Pattern.class, ci));
+    }
+
     /**
      * Tests whether the default date format is used if no format has been set.
      */
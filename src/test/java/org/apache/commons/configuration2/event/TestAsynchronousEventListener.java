@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@code AsynchronousEventListener}.
+ */
+public class TestAsynchronousEventListener {
+
+    /** A list with the tasks passed to the test executor. */
+    private List<Runnable> tasks;
+
+    /** The configuration serving as event source. */
+    private BaseConfiguration config;
+
+    /** The listener receiving the events. */
+    private EventListenerTestImpl listener;
+
+    /**
+     * Runs all tasks passed to the test executor so far, including tasks submitted while running them.
+     */
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        tasks = new LinkedList<>();
+        config = new BaseConfiguration();
+        listener = new EventListenerTestImpl(config);
+    }
+
+    /**
+     * Tests that repeated SET_PROPERTY events for the same property are coalesced.
+     */
+    @Test
+    void testCoalesceSetPropertyEvents() {
+        config.addEventListener(ConfigurationEvent.ANY, new AsynchronousEventListener<>(listener, tasks::add));
+        config.setProperty("key", "v1");
+        config.clearProperty("key");
+        config.setProperty("other", "o1");
+        config.setProperty("key", "v2");
+        config.setProperty("key", "v3");
+        runTasks();
+
+        listener.checkEvent(ConfigurationEvent.CLEAR_PROPERTY, "key", null, true);
+        listener.checkEvent(ConfigurationEvent.CLEAR_PROPERTY, "key", null, false);
+        listener.checkEvent(ConfigurationEvent.SET_PROPERTY, "other", "o1", true);
+        listener.checkEvent(ConfigurationEvent.SET_PROPERTY, "other", "o1", false);
+        listener.checkEvent(ConfigurationEvent.SET_PROPERTY, "key", "v3", true);
+        listener.checkEvent(ConfigurationEvent.SET_PROPERTY, "key", "v3", false);
+        listener.done();
+    }
+
+    /**
+     * Tests that SET_PROPERTY events of different sources are not coalesced.
+     */
+    @Test
+    void testCoalesceSetPropertyEventsDifferentSources() {
+        final EventListenerTestImpl l = new EventListenerTestImpl(null);
+        final AsynchronousEventListener<ConfigurationEvent> asyncListener = new AsynchronousEventListener<>(l, tasks::add);
+        final BaseConfiguration config2 = new BaseConfiguration();
+        config.addEventListener(ConfigurationEvent.SET_PROPERTY, asyncListener);
+        config2.addEventListener(ConfigurationEvent.SET_PROPERTY, asyncListener);
+        config.setProperty("key", "v1");
+        config2.setProperty("key", "v2");
+        assertEquals(4, asyncListener.getPendingEventCount());
+        runTasks();
+
+        assertSame(config, l.nextEvent(ConfigurationEvent.SET_PROPERTY).getSource());
+        assertSame(config, l.nextEvent(ConfigurationEvent.SET_PROPERTY).getSource());
+        assertSame(config2, l.nextEvent(ConfigurationEvent.SET_PROPERTY).getSource());
+        assertSame(config2, l.nextEvent(ConfigurationEvent.SET_PROPERTY).getSource());
+        l.done();
+    }
+
+    /**
+     * Tests that the constructor checks the capacity.
+     */
+    @Test
+    void testConstructorInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new AsynchronousEventListener<>(listener, tasks::add, 0));
+    }
+
+    /**
+     * Tests that the constructor checks the executor.
+     */
+    @Test
+    void testConstructorNullExecutor() {
+        assertThrows(IllegalArgumentException.class, () -> new AsynchronousEventListener<>(listener, null));
+    }
+
+    /**
+     * Tests that the constructor checks the listener.
+     */
+    @Test
+    void testConstructorNullListener() {
+        assertThrows(IllegalArgumentException.class, () -> new AsynchronousEventListener<ConfigurationEvent>(null, tasks::add));
+    }
+
+    /**
+     * Tests that events are delivered in order by a single task.
+     */
+    @Test
+    void testDeliverEvents() {
+        final AsynchronousEventListener<ConfigurationEvent> asyncListener = new AsynchronousEventListener<>(listener, tasks::add);
+        config.addEventListener(ConfigurationEvent.ANY, asyncListener);
+        config.addProperty("key", "v1");
+        config.addProperty("key", "v2");
+        listener.done();
+        assertEquals(1, tasks.size());
+        assertEquals(4, asyncListener.getPendingEventCount());
+
+        runTasks();
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "key", "v1", true);
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "key", "v1", false);
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "key", "v2", true);
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "key", "v2", false);
+        listener.done();
+        assertEquals(0, asyncListener.getPendingEventCount());
+
+        config.clearProperty("key");
+        assertEquals(1, tasks.size());
+    }
+
+    /**
+     * Tests event delivery with a real executor.
+     */
+    @Test
+    void testDeliverEventsExecutorService() throws InterruptedException {
+        final int count = 100;
+        final CountDownLatch latch = new CountDownLatch(count);
+        final List<Object> values = new LinkedList<>();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            config.addEventListener(ConfigurationEvent.ADD_PROPERTY, new AsynchronousEventListener<>(event -> {
+                if (!event.isBeforeUpdate()) {
+                    values.add(event.getPropertyValue());
+                    latch.countDown();
+                }
+            }, executor));
+            for (int i = 0; i < count; i++) {
+                config.addProperty("key", i);
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(config.getList("key"), values);
+    }
+
+    /**
+     * Tests that events are discarded if the queue is full.
+     */
+    @Test
+    void testDiscardEventsQueueFull() {
+        final AsynchronousEventListener<ConfigurationEvent> asyncListener = new AsynchronousEventListener<>(listener, tasks::add, 2);
+        config.addEventListener(ConfigurationEvent.ANY, asyncListener);
+        config.addProperty("key", "v1");
+        config.addProperty("key", "v2");
+        config.setProperty("other", "o1");
+        assertEquals(2, asyncListener.getPendingEventCount());
+        assertEquals(4, asyncListener.getDiscardedEventCount());
+
+        runTasks();
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "key", "v1", true);
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "key", "v1", false);
+        listener.done();
+    }
+
+    /**
+     * Tests that delivery continues after the listener has thrown an exception.
+     */
+    @Test
+    void testListenerException() {
+        final AsynchronousEventListener<ConfigurationEvent> asyncListener = new AsynchronousEventListener<>(event -> {
+            listener.onEvent(event);
+            if ("error".equals(event.getPropertyValue())) {
+                throw new IllegalStateException("Test exception");
+            }
+        }, tasks::add);
+        config.addEventListener(ConfigurationEvent.ADD_PROPERTY, asyncListener);
+        config.addProperty("key", "error");
+        config.addProperty("key", "ok");
+
+        assertThrows(IllegalStateException.class, () -> tasks.remove(0).run());
+        assertEquals(1, tasks.size());
+        assertThrows(IllegalStateException.class, () -> tasks.remove(0).run());
+        runTasks();
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "key", "error", true);
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "key", "error", false);
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "key", "ok", true);
+        listener.checkEvent(ConfigurationEvent.ADD_PROPERTY, "key", "ok", false);
+        listener.done();
+    }
+
+    /**
+     * Tests the behavior if the executor rejects the delivery task.
+     */
+    @Test
+    void testRejectedExecution() {
+        final AsynchronousEventListener<ConfigurationEvent> asyncListener = new AsynchronousEventListener<>(listener, task -> {
+            throw new RejectedExecutionException("Test exception");
+        });
+        final ConfigurationEvent event = new ConfigurationEvent(config, ConfigurationEvent.ADD_PROPERTY, "key", "v", true);
+        assertThrows(RejectedExecutionException.class, () -> asyncListener.onEvent(event));
+        assertEquals(1, asyncListener.getPendingEventCount());
+    }
+}
@@ -239,6 +239,66 @@ public class TestEventListenerList {
         assertThrows(IllegalArgumentException.class, () -> iterator.invokeNext(event));
     }
 
+    /**
+     * Tests that listeners are no longer invoked after the list has been cleared.
+     */
+    @Test
+    void testFireAfterClear() {
+        final ListenerTestImpl listener = new ListenerTestImpl();
+        list.addEventListener(typeBase, listener);
+        list.fire(new EventSub2(this, typeSub2, MESSAGE));
+        listener.assertEvent(this, typeSub2, MESSAGE);
+
+        list.clear();
+        list.fire(new EventSub2(this, typeSub2, MESSAGE));
+    }
+
+    /**
+     * Tests that a listener added after an event of the same type has been fired receives further events.
+     */
+    @Test
+    void testFireListenerAddedAfterFire() {
+        final ListenerTestImpl listener1 = new ListenerTestImpl();
+        final ListenerTestImpl listener2 = new ListenerTestImpl();
+        list.addEventListener(typeSub2, listener1);
+        list.fire(new EventSub1(this, typeSub1, MESSAGE));
+
+        list.addEventListener(typeBase, listener2);
+        list.fire(new EventSub1(this, typeSub1, MESSAGE));
+        listener1.assertNoEvent();
+        listener2.assertEvent(this, typeSub1, MESSAGE);
+    }
+
+    /**
+     * Tests that a listener registered while an event is fired does not receive this event.
+     */
+    @Test
+    void testFireListenerAddedDuringFire() {
+        final ListenerTestImpl listener = new ListenerTestImpl();
+        list.addEventListener(typeBase, event -> list.addEventListener(typeBase, listener));
+
+        list.fire(new EventSub1(this, typeSub1, MESSAGE));
+        listener.assertNoEvent();
+        assertEquals(2, list.getRegistrations().size());
+    }
+
+    /**
+     * Tests that a listener removed after an event of the same type has been fired does not receive further events.
+     */
+    @Test
+    void testFireListenerRemovedAfterFire() {
+        final ListenerTestImpl listener1 = new ListenerTestImpl();
+        final ListenerTestImpl listener2 = new ListenerTestImpl();
+        list.addEventListener(typeSub1, listener1);
+        list.addEventListener(typeSub2, listener2);
+        list.fire(new EventSub1(this, typeSub1, MESSAGE));
+        listener1.assertEvent(this, typeSub1, MESSAGE);
+
+        assertTrue(list.removeEventListener(typeSub1, listener1));
+        list.fire(new EventSub1(this, typeSub1, MESSAGE));
+        listener2.assertNoEvent();
+    }
+
     /**
      * Tests that a null event is rejected by fire().
      */
@@ -360,6 +420,22 @@ public class TestEventListenerList {
         assertThrows(UnsupportedOperationException.class, () -> registrations.add(registrationData));
     }
 
+    /**
+     * Tests whether the existence of listeners for an event type can be queried.
+     */
+    @Test
+    void testHasEventListeners() {
+        assertFalse(list.hasEventListeners(typeSub1));
+        final ListenerTestImpl listener = new ListenerTestImpl();
+        list.addEventListener(typeSub1, listener);
+        assertTrue(list.hasEventListeners(typeSub1));
+        assertFalse(list.hasEventListeners(typeSub2));
+        assertFalse(list.hasEventListeners(typeBase));
+
+        list.removeEventListener(typeSub1, listener);
+        assertFalse(list.hasEventListeners(typeSub1));
+    }
+
     /**
      * Tests whether an event listener can be registered via a registration data object.
      */
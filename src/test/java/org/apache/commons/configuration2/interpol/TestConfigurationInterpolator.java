@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -146,6 +147,105 @@ public class TestConfigurationInterpolator {
         assertEquals(lookups, lookups2);
     }
 
+    /**
+     * Tests that results of cacheable lookups are cached and that invalidation only affects dependent results.
+     */
+    @Test
+    void testCacheEnabled() {
+        final Lookup lookup = mock(Lookup.class);
+        when(lookup.isCacheable()).thenReturn(Boolean.TRUE);
+        when(lookup.lookup("a")).thenReturn("1");
+        when(lookup.lookup("b")).thenReturn("2");
+        interpolator.addDefaultLookup(lookup);
+        interpolator.setCacheEnabled(true);
+        assertTrue(interpolator.isCacheEnabled());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("1/2", interpolator.interpolate("${a}/${b}"));
+            assertEquals("b=2", interpolator.interpolate("b=${b}"));
+        }
+        verify(lookup, times(1)).lookup("a");
+        verify(lookup, times(2)).lookup("b");
+
+        when(lookup.lookup("a")).thenReturn("10");
+        interpolator.invalidateCache("a");
+        assertEquals("10/2", interpolator.interpolate("${a}/${b}"));
+        assertEquals("b=2", interpolator.interpolate("b=${b}"));
+        verify(lookup, times(2)).lookup("a");
+        verify(lookup, times(3)).lookup("b");
+    }
+
+    /**
+     * Tests that the cache is cleared when the lookups are changed.
+     */
+    @Test
+    void testCacheEnabledLookupsChanged() {
+        final Lookup lookup = setUpTestLookup();
+        when(lookup.isCacheable()).thenReturn(Boolean.TRUE);
+        interpolator.registerLookup(TEST_PREFIX, lookup);
+        interpolator.setCacheEnabled(true);
+        final String var = "${" + TEST_PREFIX + ":" + TEST_NAME + "}";
+        assertEquals(TEST_VALUE, interpolator.interpolate(var));
+        interpolator.registerLookup(TEST_PREFIX, setUpTestLookup(TEST_NAME, "other"));
+        assertEquals("other", interpolator.interpolate(var));
+    }
+
+    /**
+     * Tests that nested interpolations inherit the dependencies of their inner results.
+     */
+    @Test
+    void testCacheEnabledNestedVariables() {
+        final Map<String, Object> values = new HashMap<>();
+        values.put("outer", "${inner}!");
+        values.put("inner", "x");
+        final Lookup lookup = new Lookup() {
+            @Override
+            public boolean isCacheable() {
+                return true;
+            }
+
+            @Override
+            public Object lookup(final String variable) {
+                return values.get(variable);
+            }
+        };
+        interpolator.addDefaultLookup(lookup);
+        interpolator.setCacheEnabled(true);
+        assertEquals("x!", interpolator.interpolate("${outer}"));
+        values.put("inner", "y");
+        interpolator.invalidateCache("inner");
+        assertEquals("y!", interpolator.interpolate("${outer}"));
+    }
+
+    /**
+     * Tests that results are not cached if a lookup is not cacheable.
+     */
+    @Test
+    void testCacheEnabledNonCacheableLookup() {
+        final Lookup lookup = setUpTestLookup();
+        interpolator.addDefaultLookup(lookup);
+        interpolator.setCacheEnabled(true);
+        assertEquals(TEST_VALUE + "!", interpolator.interpolate("${" + TEST_NAME + "}!"));
+        assertEquals(TEST_VALUE + "!", interpolator.interpolate("${" + TEST_NAME + "}!"));
+        verify(lookup, times(2)).lookup(TEST_NAME);
+    }
+
+    /**
+     * Tests that results are not cached if a variable is resolved by the parent interpolator.
+     */
+    @Test
+    void testCacheEnabledParentInterpolator() {
+        final Lookup lookup = setUpTestLookup();
+        when(lookup.isCacheable()).thenReturn(Boolean.TRUE);
+        final ConfigurationInterpolator parent = new ConfigurationInterpolator();
+        parent.addDefaultLookup(lookup);
+        interpolator.setParentInterpolator(parent);
+        interpolator.setCacheEnabled(true);
+        assertEquals(TEST_VALUE + "!", interpolator.interpolate("${" + TEST_NAME + "}!"));
+        assertEquals(TEST_VALUE + "!", interpolator.interpolate("${" + TEST_NAME + "}!"));
+        verify(lookup, times(2)).lookup(TEST_NAME);
+    }
+
     /**
      * Tests whether a null collection of default lookups is handled correctly.
      */
@@ -440,6 +540,15 @@ public class TestConfigurationInterpolator {
         assertSame(value, interpolator.interpolate(value));
     }
 
+    /**
+     * Tests that a string without variables is returned unchanged.
+     */
+    @Test
+    void testInterpolateNoVariables() {
+        final String value = "a plain $ value {with} braces";
+        assertSame(value, interpolator.interpolate(value));
+    }
+
     /**
      * Tests a successful interpolation of a string value.
      */
@@ -516,6 +625,15 @@ public class TestConfigurationInterpolator {
         assertEquals(valueStr, interpolator.interpolate("${" + TEST_NAME + ":-123}"));
     }
 
+    /**
+     * Tests that escaped variables are not resolved.
+     */
+    @Test
+    void testInterpolationEscapedVariable() {
+        interpolator.addDefaultLookup(setUpTestLookup());
+        assertEquals("${" + TEST_NAME + "} = " + TEST_VALUE, interpolator.interpolate("$${" + TEST_NAME + "} = ${" + TEST_NAME + "}"));
+    }
+
     /**
      * Tests interpolation with multiple variables containing arrays.
      */
@@ -576,6 +694,32 @@ public class TestConfigurationInterpolator {
         assertEquals("The quick brown fox jumps over the lazy dog.", interpolator.interpolate(value));
     }
 
+    /**
+     * Tests interpolation of a variable whose value references another variable.
+     */
+    @Test
+    void testInterpolationNestedVariables() {
+        final Map<String, Object> values = new HashMap<>();
+        values.put("a", "${b}-${c}");
+        values.put("b", "x");
+        values.put("c", 1);
+        interpolator.addDefaultLookup(values::get);
+        assertEquals("x-1", interpolator.interpolate("${a}"));
+        assertEquals("[x-1]", interpolator.interpolate("[${a}]"));
+        assertEquals("[${unknown}/x]", interpolator.interpolate("[${unknown}/${b}]"));
+    }
+
+    /**
+     * Tests that a value consisting of a single variable is resolved only once.
+     */
+    @Test
+    void testInterpolationResolvedOnce() {
+        final Lookup lookup = setUpTestLookup();
+        interpolator.addDefaultLookup(lookup);
+        assertEquals(TEST_VALUE, interpolator.interpolate("${" + TEST_NAME + "}"));
+        verify(lookup).lookup(TEST_NAME);
+    }
+
     /**
      * Tests an interpolation that consists of a single array variable only. The variable's value
      * should be returned verbatim.
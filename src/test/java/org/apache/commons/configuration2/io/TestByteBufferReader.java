@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@code ByteBufferReader}.
+ */
+public class TestByteBufferReader {
+
+    /** A test text with characters outside the ASCII range and a surrogate pair. */
+    private static final String TEXT = "Gr\u00fc\u00dfe \ud83d\ude00 from the test!";
+
+    /**
+     * Creates a reader for the given bytes.
+     *
+     * @param bytes The bytes to read
+     * @return The reader
+     */
+    private static Reader createReader(final byte[] bytes) {
+        return new ByteBufferReader(ByteBuffer.wrap(bytes), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Tests reading the text using a large buffer.
+     */
+    @Test
+    void testReadBulk() throws IOException {
+        final char[] buf = new char[100];
+        try (Reader reader = createReader(TEXT.getBytes(StandardCharsets.UTF_8))) {
+            final int count = reader.read(buf, 0, buf.length);
+            assertEquals(TEXT, new String(buf, 0, count));
+            assertEquals(-1, reader.read(buf, 0, buf.length));
+        }
+    }
+
+    /**
+     * Tests that malformed input is replaced in the same way as by {@code InputStreamReader}.
+     */
+    @Test
+    void testReadMalformedInput() throws IOException {
+        final byte[] bytes = {'a', (byte) 0xC3, 'b', (byte) 0xFF, (byte) 0xE2, (byte) 0x82};
+        final String expected = IOUtils.toString(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+        assertEquals(expected, IOUtils.toString(createReader(bytes)));
+    }
+
+    /**
+     * Tests reading the text character by character.
+     */
+    @Test
+    void testReadSingleCharacters() throws IOException {
+        final StringBuilder buf = new StringBuilder();
+        try (Reader reader = createReader(TEXT.getBytes(StandardCharsets.UTF_8))) {
+            int c;
+            while ((c = reader.read()) != -1) {
+                buf.append((char) c);
+            }
+        }
+        assertEquals(TEXT, buf.toString());
+    }
+}
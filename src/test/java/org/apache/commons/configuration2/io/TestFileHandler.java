@@ -21,6 +21,7 @@ import static org.apache.commons.configuration2.TempDirUtils.newFolder;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -40,6 +41,7 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
@@ -744,6 +746,71 @@ public class TestFileHandler {
         verifyNoMoreInteractions(content);
     }
 
+    /**
+     * Tests loading a file using memory mapping.
+     */
+    @Test
+    void testLoadMemoryMapped() throws ConfigurationException, IOException {
+        final File file = newFile(tempFolder);
+        final String text = "Gr\u00fc\u00dfe \ud83d\ude00 " + CONTENT;
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        final FileBasedFileLocatorAwareTestImpl content = new FileBasedFileLocatorAwareTestImpl();
+        final FileHandler handler = new FileHandler(content);
+        assertFalse(handler.isMemoryMappingEnabled());
+        handler.setMemoryMappingEnabled(true);
+        handler.setEncoding(StandardCharsets.UTF_8.name());
+        handler.setFile(file);
+        handler.load();
+        assertEquals(file.toURI().toURL() + ": " + text, content.getContent());
+        assertTrue(new FileHandler(content, handler).isMemoryMappingEnabled());
+    }
+
+    /**
+     * Tests loading a file using memory mapping if the content supports reading from streams.
+     */
+    @Test
+    void testLoadMemoryMappedInputStreamSupport() throws ConfigurationException {
+        final FileBasedInputStreamSupportTestImpl content = new FileBasedInputStreamSupportTestImpl();
+        final FileHandler handler = new FileHandler(content);
+        handler.setMemoryMappingEnabled(true);
+        handler.load(createTestFile());
+        assertEquals("InputStream = " + CONTENT, content.getContent());
+    }
+
+    /**
+     * Tests that a file which is too large to be mapped into memory is loaded from a stream.
+     */
+    @Test
+    void testLoadMemoryMappedLargeFile() throws ConfigurationException, IOException {
+        final File file = newFile(tempFolder);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(Integer.MAX_VALUE + 1L);
+        }
+        final FileBasedInputStreamSupportTestImpl content = new FileBasedInputStreamSupportTestImpl() {
+            @Override
+            public void read(final InputStream in) {
+                setContent(in.getClass().getName());
+            }
+        };
+        final FileHandler handler = new FileHandler(content);
+        handler.setMemoryMappingEnabled(true);
+        handler.load(file);
+        assertNotEquals(ByteBufferInputStream.class.getName(), content.getContent());
+    }
+
+    /**
+     * Tests loading a file using memory mapping with an unsupported encoding.
+     */
+    @Test
+    void testLoadMemoryMappedUnsupportedEncoding() {
+        final FileHandler handler = new FileHandler(new FileBasedTestImpl());
+        handler.setMemoryMappingEnabled(true);
+        handler.setEncoding("unknown encoding");
+        final File file = createTestFile();
+        final ConfigurationException cex = assertThrows(ConfigurationException.class, () -> handler.load(file));
+        assertTrue(cex.getMessage().contains("unknown encoding"));
+    }
+
     /**
      * Tries to call a load() method if no content object is available.
      */
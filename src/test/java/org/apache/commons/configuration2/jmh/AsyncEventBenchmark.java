@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.event.AsynchronousEventListener;
+import org.apache.commons.configuration2.event.ConfigurationEvent;
+import org.apache.commons.configuration2.event.EventListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the latency of {@code setProperty()} on a configuration with a slow event listener, which is either invoked
+ * synchronously or through an {@code AsynchronousEventListener}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=AsyncEventBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AsyncEventBenchmark {
+
+    /** The number of CPU tokens consumed by the listener per event. */
+    private static final long LISTENER_WORK = 2000;
+
+    @Param({"false", "true"})
+    public boolean async;
+
+    private BaseConfiguration config;
+
+    private ExecutorService executor;
+
+    private String[] keys;
+
+    private int position;
+
+    @Benchmark
+    public void setProperty() {
+        final String key = keys[position];
+        position = (position + 1) % keys.length;
+        config.setProperty(key, key);
+    }
+
+    @Setup
+    public void setUp() {
+        config = new BaseConfiguration();
+        final EventListener<ConfigurationEvent> listener = event -> Blackhole.consumeCPU(LISTENER_WORK);
+        if (async) {
+            executor = Executors.newSingleThreadExecutor();
+            config.addEventListener(ConfigurationEvent.ANY, new AsynchronousEventListener<>(listener, executor));
+        } else {
+            config.addEventListener(ConfigurationEvent.ANY, listener);
+        }
+        keys = BenchmarkData.sampleKeys(1000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
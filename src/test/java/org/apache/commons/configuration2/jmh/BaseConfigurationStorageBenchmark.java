@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the default map based storage of {@code BaseConfiguration} with the compact storage mode.
+ * <p>
+ * The {@code footprint} benchmark fills a new configuration and reports the heap retained by its data structures in the
+ * secondary result {@code retainedBytes}. Keys and values are created in advance, so only the storage overhead is
+ * measured. Every third key has multiple values. The {@code getProperty} benchmark measures read access.
+ * </p>
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=BaseConfigurationStorageBenchmark}.
+ * </p>
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BaseConfigurationStorageBenchmark {
+
+    /**
+     * Holds the memory consumption measured by the {@code footprint} benchmark.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        /** The number of bytes retained by the configuration. */
+        public long retainedBytes;
+    }
+
+    /** The number of values stored for keys with multiple values. */
+    private static final int MULTI_VALUE_COUNT = 3;
+
+    /**
+     * Returns the heap memory currently in use after a garbage collection.
+     *
+     * @return The used heap memory
+     */
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Param({"false", "true"})
+    public boolean compact;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private String[] allKeys;
+
+    private String[] allValues;
+
+    private BaseConfiguration config;
+
+    private String[] keys;
+
+    private int position;
+
+    /**
+     * Creates and fills a configuration with the prepared keys and values.
+     *
+     * @return The configuration
+     */
+    private BaseConfiguration createConfiguration() {
+        final BaseConfiguration c = new BaseConfiguration();
+        c.setCompactStorage(compact);
+        for (int i = 0; i < allKeys.length; i++) {
+            if (i % MULTI_VALUE_COUNT == 0) {
+                for (int j = 0; j < MULTI_VALUE_COUNT; j++) {
+                    c.addProperty(allKeys[i], allValues[i]);
+                }
+            } else {
+                c.addProperty(allKeys[i], allValues[i]);
+            }
+        }
+        return c;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 5, batchSize = 1)
+    @Warmup(iterations = 1, batchSize = 1)
+    public BaseConfiguration footprint(final Footprint footprint) {
+        final long before = usedMemory();
+        final BaseConfiguration c = createConfiguration();
+        footprint.retainedBytes = usedMemory() - before;
+        return c;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Object getProperty() {
+        final String key = keys[position];
+        position = (position + 1) % keys.length;
+        return config.getProperty(key);
+    }
+
+    @Setup
+    public void setUp() {
+        allKeys = new String[size];
+        allValues = new String[size];
+        for (int i = 0; i < size; i++) {
+            allKeys[i] = BenchmarkData.key(i);
+            allValues[i] = String.valueOf(i);
+        }
+        keys = BenchmarkData.sampleKeys(size);
+        config = createConfiguration();
+    }
+}
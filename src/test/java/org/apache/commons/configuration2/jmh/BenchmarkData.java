@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.io.StringReader;
+import java.util.Random;
+
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.BaseHierarchicalConfiguration;
+import org.apache.commons.configuration2.CombinedConfiguration;
+import org.apache.commons.configuration2.CompositeConfiguration;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.configuration2.PropertiesConfiguration;
+import org.apache.commons.configuration2.XMLConfiguration;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.io.FileHandler;
+import org.apache.commons.configuration2.tree.ImmutableNode;
+
+/**
+ * A helper class for the benchmarks in this package. It generates test configurations of the different flavors with a
+ * given number of keys. All configurations generated for the same size contain the same keys and values.
+ * <p>
+ * Keys have the form {@code section<s>.group<g>.key<k>}; there are at most 100 sections, 100 groups per section, and
+ * 100 keys per group. The value of each key is its (numeric) index, so that it can be read with typed getters.
+ * </p>
+ */
+public final class BenchmarkData {
+
+    /**
+     * An enumeration for the configuration flavors supported by the benchmarks.
+     */
+    public enum Flavor {
+        BASE, PROPERTIES, XML, COMBINED, COMPOSITE
+    }
+
+    /** The number of children on each level of the generated key structure. */
+    static final int FAN_OUT = 100;
+
+    /** The number of child configurations used for combined and composite configurations. */
+    static final int CHILD_COUNT = 4;
+
+    /** The number of keys sampled for the lookup benchmarks. */
+    static final int SAMPLE_SIZE = 1024;
+
+    /** The key of a property whose value references another property. */
+    static final String INTERPOLATED_KEY = "interpolated";
+
+    /** The prefix for the {@code getKeys(prefix)} benchmarks. */
+    static final String PREFIX = "section0.group0";
+
+    /**
+     * Creates a configuration of the given flavor.
+     *
+     * @param flavor the flavor
+     * @param size the number of keys
+     * @return the configuration
+     * @throws ConfigurationException if an error occurs
+     */
+    public static Configuration createConfiguration(final Flavor flavor, final int size) throws ConfigurationException {
+        final Configuration config;
+        switch (flavor) {
+        case BASE:
+            config = createBaseConfiguration(size, 0, 1);
+            break;
+        case PROPERTIES:
+            final PropertiesConfiguration props = new PropertiesConfiguration();
+            new FileHandler(props).load(new StringReader(createPropertiesText(size)));
+            config = props;
+            break;
+        case XML:
+            final XMLConfiguration xml = new XMLConfiguration();
+            new FileHandler(xml).load(new StringReader(createXmlText(size)));
+            config = xml;
+            break;
+        case COMBINED:
+            final CombinedConfiguration cc = new CombinedConfiguration();
+            for (int i = 0; i < CHILD_COUNT; i++) {
+                cc.addConfiguration(createHierarchicalConfiguration(size, i, CHILD_COUNT));
+            }
+            config = cc;
+            break;
+        default:
+            final CompositeConfiguration composite = new CompositeConfiguration();
+            for (int i = 0; i < CHILD_COUNT; i++) {
+                composite.addConfiguration(createBaseConfiguration(size, i, CHILD_COUNT));
+            }
+            config = composite;
+            break;
+        }
+        if (flavor != Flavor.COMBINED && flavor != Flavor.COMPOSITE) {
+            config.addProperty(INTERPOLATED_KEY, "${" + key(0) + "}/${" + key(size - 1) + "}/logs");
+        } else {
+            // combined configurations do not support adding properties to their children
+            final Configuration first = flavor == Flavor.COMBINED ? ((CombinedConfiguration) config).getConfiguration(0)
+                : ((CompositeConfiguration) config).getConfiguration(0);
+            first.addProperty(INTERPOLATED_KEY, "${" + key(0) + "}/${" + key(size - 1) + "}/logs");
+        }
+        return config;
+    }
+
+    /**
+     * Creates a {@code BaseConfiguration} with all keys whose index modulo {@code step} equals {@code offset}.
+     *
+     * @param size the number of keys
+     * @param offset the offset
+     * @param step the step
+     * @return the configuration
+     */
+    static BaseConfiguration createBaseConfiguration(final int size, final int offset, final int step) {
+        final BaseConfiguration config = new BaseConfiguration();
+        for (int i = offset; i < size; i += step) {
+            config.addProperty(key(i), String.valueOf(i));
+        }
+        return config;
+    }
+
+    /**
+     * Creates a {@code BaseHierarchicalConfiguration} with all keys whose index modulo {@code step} equals
+     * {@code offset}. The node structure is constructed directly, so that this method is also fast for large sizes.
+     *
+     * @param size the number of keys
+     * @param offset the offset
+     * @param step the step
+     * @return the configuration
+     */
+    static BaseHierarchicalConfiguration createHierarchicalConfiguration(final int size, final int offset, final int step) {
+        final BaseHierarchicalConfiguration config = new BaseHierarchicalConfiguration();
+        config.getNodeModel().setRootNode(createTree(size, offset, step));
+        return config;
+    }
+
+    /**
+     * Creates the properties text for the given number of keys.
+     *
+     * @param size the number of keys
+     * @return the properties text
+     */
+    static String createPropertiesText(final int size) {
+        final StringBuilder buf = new StringBuilder(size * 32);
+        for (int i = 0; i < size; i++) {
+            buf.append(key(i)).append(" = ").append(i).append('\n');
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Creates a root node with all keys whose index modulo {@code step} equals {@code offset}.
+     *
+     * @param size the number of keys
+     * @param offset the offset
+     * @param step the step
+     * @return the root node
+     */
+    static ImmutableNode createTree(final int size, final int offset, final int step) {
+        final ImmutableNode.Builder root = new ImmutableNode.Builder();
+        final int groupSize = FAN_OUT;
+        final int sectionSize = FAN_OUT * FAN_OUT;
+        for (int s = 0; s * sectionSize < size; s++) {
+            final ImmutableNode.Builder section = new ImmutableNode.Builder().name("section" + s);
+            for (int g = 0; g < FAN_OUT && s * sectionSize + g * groupSize < size; g++) {
+                final ImmutableNode.Builder group = new ImmutableNode.Builder().name("group" + g);
+                for (int k = 0; k < FAN_OUT; k++) {
+                    final int idx = s * sectionSize + g * groupSize + k;
+                    if (idx < size && idx % step == offset) {
+                        group.addChild(new ImmutableNode.Builder().name("key" + k).value(String.valueOf(idx)).create());
+                    }
+                }
+                section.addChild(group.create());
+            }
+            root.addChild(section.create());
+        }
+        return root.create();
+    }
+
+    /**
+     * Creates the XML text for the given number of keys.
+     *
+     * @param size the number of keys
+     * @return the XML document
+     */
+    static String createXmlText(final int size) {
+        final StringBuilder buf = new StringBuilder(size * 32);
+        buf.append("<config>");
+        final int sectionSize = FAN_OUT * FAN_OUT;
+        for (int s = 0; s * sectionSize < size; s++) {
+            buf.append("<section").append(s).append('>');
+            for (int g = 0; g < FAN_OUT && s * sectionSize + g * FAN_OUT < size; g++) {
+                buf.append("<group").append(g).append('>');
+                for (int k = 0; k < FAN_OUT; k++) {
+                    final int idx = s * sectionSize + g * FAN_OUT + k;
+                    if (idx < size) {
+                        buf.append("<key").append(k).append('>').append(idx).append("</key").append(k).append('>');
+                    }
+                }
+                buf.append("</group").append(g).append('>');
+            }
+            buf.append("</section").append(s).append('>');
+        }
+        return buf.append("</config>").toString();
+    }
+
+    /**
+     * Returns the key with the given index.
+     *
+     * @param idx the index
+     * @return the key
+     */
+    static String key(final int idx) {
+        return "section" + idx / (FAN_OUT * FAN_OUT) + ".group" + idx / FAN_OUT % FAN_OUT + ".key" + idx % FAN_OUT;
+    }
+
+    /**
+     * Returns an array with randomly selected existing keys. A fixed seed is used, so that the same keys are selected in
+     * each run.
+     *
+     * @param size the number of keys
+     * @return the sampled keys
+     */
+    static String[] sampleKeys(final int size) {
+        final Random random = new Random(size);
+        final String[] keys = new String[SAMPLE_SIZE];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key(random.nextInt(size));
+        }
+        return keys;
+    }
+
+    private BenchmarkData() {
+        // utility class
+    }
+}
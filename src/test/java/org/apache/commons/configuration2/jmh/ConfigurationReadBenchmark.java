@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the read paths of the different configuration flavors.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=ConfigurationReadBenchmark}; results are written as JSON to
+ * {@code target/jmh-result.<benchmark>.json}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConfigurationReadBenchmark {
+
+    @Param({"BASE", "PROPERTIES", "XML", "COMBINED", "COMPOSITE"})
+    public BenchmarkData.Flavor flavor;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Configuration config;
+
+    private String[] keys;
+
+    private int position;
+
+    @Benchmark
+    public int getInt() {
+        return config.getInt(nextKey());
+    }
+
+    @Benchmark
+    public void getKeysPrefix(final Blackhole bh) {
+        for (final Iterator<String> it = config.getKeys(BenchmarkData.PREFIX); it.hasNext();) {
+            bh.consume(it.next());
+        }
+    }
+
+    @Benchmark
+    public Object getProperty() {
+        return config.getProperty(nextKey());
+    }
+
+    @Benchmark
+    public Object getPropertyMissing() {
+        return config.getProperty("section0.group0.missing");
+    }
+
+    @Benchmark
+    public String getString() {
+        return config.getString(nextKey());
+    }
+
+    @Benchmark
+    public String getStringInterpolated() {
+        return config.getString(BenchmarkData.INTERPOLATED_KEY);
+    }
+
+    /**
+     * Returns the next key from the sample in a round-robin fashion.
+     *
+     * @return the next key
+     */
+    private String nextKey() {
+        position = (position + 1) % keys.length;
+        return keys[position];
+    }
+
+    @Setup
+    public void setUp() throws ConfigurationException {
+        config = BenchmarkData.createConfiguration(flavor, size);
+        keys = BenchmarkData.sampleKeys(size);
+        // trigger lazy initialization, for example of the combined node structure
+        config.getProperty(keys[0]);
+    }
+}
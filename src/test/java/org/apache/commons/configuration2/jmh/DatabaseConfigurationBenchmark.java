@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.DatabaseConfiguration;
+import org.apache.commons.configuration2.DatabaseConfigurationTestHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for reading properties from a {@code DatabaseConfiguration} backed by the embedded test database, with and
+ * without caching.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=DatabaseConfigurationBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DatabaseConfigurationBenchmark {
+
+    /** The keys queried by the benchmark. */
+    private static final String[] KEYS = {"key1", "key2", "keyMulti", "missing"};
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private DatabaseConfiguration config;
+
+    private DatabaseConfigurationTestHelper helper;
+
+    private int position;
+
+    @Benchmark
+    public Object getProperty() {
+        final String key = KEYS[position];
+        position = (position + 1) % KEYS.length;
+        return config.getProperty(key);
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        helper = new DatabaseConfigurationTestHelper();
+        helper.setUp();
+        config = helper.createConfiguration(DatabaseConfiguration.class, helper.setUpDefaultParameters().setCacheEnabled(cached));
+        config.refreshCache();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        helper.tearDown();
+    }
+}
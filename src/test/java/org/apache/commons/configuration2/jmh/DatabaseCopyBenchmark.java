@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.DatabaseConfiguration;
+import org.apache.commons.configuration2.DatabaseConfigurationTestHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for copying a configuration into a {@code DatabaseConfiguration} backed by the embedded test database, with
+ * single statements per property and as a batch.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=DatabaseCopyBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, batchSize = 1)
+@Measurement(iterations = 5, batchSize = 1)
+public class DatabaseCopyBenchmark {
+
+    @Param({"false", "true"})
+    public boolean batch;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private DatabaseConfiguration config;
+
+    private DatabaseConfigurationTestHelper helper;
+
+    private BaseConfiguration source;
+
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        config.clear();
+    }
+
+    @Benchmark
+    public DatabaseConfiguration copy() {
+        if (batch) {
+            config.batch(c -> c.copy(source));
+        } else {
+            config.copy(source);
+        }
+        return config;
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        helper = new DatabaseConfigurationTestHelper();
+        helper.setUp();
+        config = helper.setUpConfig();
+        source = BenchmarkData.createBaseConfiguration(size, 0, 1);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        helper.tearDown();
+    }
+}
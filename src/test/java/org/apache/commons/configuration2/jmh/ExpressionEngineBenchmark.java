@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.tree.DefaultExpressionEngine;
+import org.apache.commons.configuration2.tree.ImmutableNode;
+import org.apache.commons.configuration2.tree.InMemoryNodeModel;
+import org.apache.commons.configuration2.tree.NodeHandler;
+import org.apache.commons.configuration2.tree.QueryResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link DefaultExpressionEngine#query(Object, String, NodeHandler)} on node structures of different
+ * sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExpressionEngineBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private ImmutableNode root;
+
+    private NodeHandler<ImmutableNode> handler;
+
+    private String[] keys;
+
+    private int position;
+
+    @Benchmark
+    public List<QueryResult<ImmutableNode>> query() {
+        position = (position + 1) % keys.length;
+        return DefaultExpressionEngine.INSTANCE.query(root, keys[position], handler);
+    }
+
+    @Benchmark
+    public List<QueryResult<ImmutableNode>> queryIndexed() {
+        return DefaultExpressionEngine.INSTANCE.query(root, "section0(0).group0(0).key1(0)", handler);
+    }
+
+    @Setup
+    public void setUp() {
+        final InMemoryNodeModel model = new InMemoryNodeModel(BenchmarkData.createTree(size, 0, 1));
+        root = model.getRootNode();
+        handler = model.getNodeHandler();
+        keys = BenchmarkData.sampleKeys(size);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.PropertiesConfiguration;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.io.FileHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for loading a local properties file with and without memory mapping.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=FileLoadBenchmark}; add {@code -prof gc} to the JMH options to see the
+ * allocation rates.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FileLoadBenchmark {
+
+    @Param({"false", "true"})
+    public boolean mapped;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private File file;
+
+    @Benchmark
+    public PropertiesConfiguration load() throws ConfigurationException {
+        final PropertiesConfiguration config = new PropertiesConfiguration();
+        config.setIOFactory(new PropertiesConfiguration.StreamingIOFactory());
+        final FileHandler handler = new FileHandler(config);
+        handler.setMemoryMappingEnabled(mapped);
+        handler.setEncoding(StandardCharsets.ISO_8859_1.name());
+        handler.load(file);
+        return config;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        file = File.createTempFile("FileLoadBenchmark", ".properties");
+        Files.write(file.toPath(), BenchmarkData.createPropertiesText(size).getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.deleteOnExit();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.BaseHierarchicalConfiguration;
+import org.apache.commons.configuration2.HierarchicalConfiguration;
+import org.apache.commons.configuration2.tree.ImmutableNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a sequence of single updates of a large hierarchical configuration with the same updates performed as a
+ * batch.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=HierarchicalBatchBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HierarchicalBatchBenchmark {
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    @Param({"100", "1000"})
+    public int updates;
+
+    private ImmutableNode root;
+
+    private BaseHierarchicalConfiguration config;
+
+    @Benchmark
+    public BaseHierarchicalConfiguration batch() {
+        config.batch(this::update);
+        return config;
+    }
+
+    @Setup(Level.Invocation)
+    public void resetConfiguration() {
+        config = new BaseHierarchicalConfiguration();
+        config.getNodeModel().setRootNode(root);
+    }
+
+    @Setup
+    public void setUp() {
+        final BaseHierarchicalConfiguration c = new BaseHierarchicalConfiguration();
+        c.batch(b -> {
+            for (int i = 0; i < size; i++) {
+                b.addProperty(BenchmarkData.key(i), i);
+            }
+        });
+        root = c.getNodeModel().getRootNode();
+    }
+
+    @Benchmark
+    public BaseHierarchicalConfiguration singleUpdates() {
+        update(config);
+        return config;
+    }
+
+    /**
+     * Performs the updates measured by this benchmark.
+     *
+     * @param c The configuration to update
+     */
+    private void update(final HierarchicalConfiguration<ImmutableNode> c) {
+        for (int i = 0; i < updates; i++) {
+            c.setProperty(BenchmarkData.key(i), -i);
+            c.addProperty("batch.key" + i, i);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.BaseHierarchicalConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the iteration over the keys of a hierarchical configuration with and without the key index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HierarchicalKeysBenchmark {
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean keyIndex;
+
+    private BaseHierarchicalConfiguration config;
+
+    @Benchmark
+    public String firstKey() {
+        return config.getKeys().next();
+    }
+
+    @Benchmark
+    public void keys(final Blackhole blackhole) {
+        config.getKeys().forEachRemaining(blackhole::consume);
+    }
+
+    @Benchmark
+    public void keysWithPrefix(final Blackhole blackhole) {
+        final Iterator<String> it = config.getKeys("section0.group1");
+        it.forEachRemaining(blackhole::consume);
+    }
+
+    @Setup
+    public void setUp() {
+        config = BenchmarkData.createHierarchicalConfiguration(size, 0, 1);
+        config.setKeyIndexEnabled(keyIndex);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.BaseHierarchicalConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures single write operations on a large hierarchical configuration. The cost of such an operation should depend
+ * on the path to the changed node rather than on the size of the whole node structure.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=HierarchicalUpdateBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HierarchicalUpdateBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private BaseHierarchicalConfiguration config;
+
+    private String[] keys;
+
+    private int position;
+
+    @Setup
+    public void setUp() {
+        config = new BaseHierarchicalConfiguration();
+        config.batch(c -> {
+            for (int i = 0; i < size; i++) {
+                c.addProperty(BenchmarkData.key(i), i);
+            }
+        });
+        keys = BenchmarkData.sampleKeys(size);
+    }
+
+    @Benchmark
+    public BaseHierarchicalConfiguration setProperty() {
+        final String key = keys[position];
+        position = (position + 1) % keys.length;
+        config.setProperty(key, position);
+        return config;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.Context;
+import javax.naming.NamingException;
+
+import org.apache.commons.configuration2.JNDIConfiguration;
+import org.apache.commons.configuration2.MockInitialContextFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares direct JNDI access of {@code JNDIConfiguration} with the cached view. The JNDI tree is provided by the mock
+ * context of the unit tests.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=JndiConfigurationBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JndiConfigurationBenchmark {
+
+    @Param({"0", "60000"})
+    public long cacheRefreshDelay;
+
+    private JNDIConfiguration config;
+
+    @Benchmark
+    public int getKeys() {
+        int count = 0;
+        for (final Iterator<String> it = config.getKeys(); it.hasNext(); it.next()) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public Object getProperty() {
+        return config.getProperty("test.key");
+    }
+
+    @Setup
+    public void setUp() throws NamingException {
+        final Context ctx = new MockInitialContextFactory().getInitialContext(new Hashtable<>());
+        config = new JNDIConfiguration(ctx);
+        config.setCacheRefreshDelay(cacheRefreshDelay);
+    }
+}
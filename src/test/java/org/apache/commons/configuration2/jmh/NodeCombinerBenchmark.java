@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.tree.ImmutableNode;
+import org.apache.commons.configuration2.tree.MergeCombiner;
+import org.apache.commons.configuration2.tree.NodeCombiner;
+import org.apache.commons.configuration2.tree.OverrideCombiner;
+import org.apache.commons.configuration2.tree.UnionCombiner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the combination of a number of large node structures, as done by a {@code CombinedConfiguration}, with the
+ * different node combiners in sequential and parallel mode. The parallel threshold is the minimum number of nodes in
+ * the subtrees of a pair of children for which their combination is forked. Parallel mode can only pay off on a machine
+ * with multiple cores.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=NodeCombinerBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NodeCombinerBenchmark {
+
+    /** The number of node structures to be combined. */
+    private static final int STRUCTURE_COUNT = 8;
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"override", "union", "merge"})
+    public String combinerType;
+
+    @Param({"0", "64", "4096"})
+    public int parallelThreshold;
+
+    private NodeCombiner combiner;
+
+    private ImmutableNode[] roots;
+
+    @Benchmark
+    public ImmutableNode combine() {
+        ImmutableNode result = roots[0];
+        for (int i = 1; i < roots.length; i++) {
+            result = combiner.combine(result, roots[i]);
+        }
+        return result;
+    }
+
+    @Setup
+    public void setUp() {
+        switch (combinerType) {
+        case "override":
+            combiner = new OverrideCombiner();
+            break;
+        case "union":
+            combiner = new UnionCombiner();
+            break;
+        default:
+            combiner = new MergeCombiner();
+            break;
+        }
+        combiner.setParallelThreshold(parallelThreshold);
+        roots = new ImmutableNode[STRUCTURE_COUNT];
+        for (int i = 0; i < STRUCTURE_COUNT; i++) {
+            roots[i] = BenchmarkData.createTree(size, i, STRUCTURE_COUNT);
+        }
+    }
+}
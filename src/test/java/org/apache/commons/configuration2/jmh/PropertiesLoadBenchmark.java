@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.PropertiesConfiguration;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.io.FileHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for loading properties files with the different {@code IOFactory} implementations, with and without layout
+ * tracking.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=PropertiesLoadBenchmark}; add {@code -prof gc} to the JMH options to see
+ * the allocation rates.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PropertiesLoadBenchmark {
+
+    /**
+     * The IO factories to compare.
+     */
+    public enum Factory {
+        DEFAULT, JUP, STREAMING;
+
+        PropertiesConfiguration.IOFactory create() {
+            switch (this) {
+            case JUP:
+                return new PropertiesConfiguration.JupIOFactory();
+            case STREAMING:
+                return new PropertiesConfiguration.StreamingIOFactory();
+            default:
+                return new PropertiesConfiguration.DefaultIOFactory();
+            }
+        }
+    }
+
+    /** Every n-th property is preceded by a comment and uses escapes and a continuation line. */
+    private static final int SPECIAL_INTERVAL = 10;
+
+    @Param({"DEFAULT", "JUP", "STREAMING"})
+    public Factory factory;
+
+    @Param({"true", "false"})
+    public boolean layout;
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    private String text;
+
+    @Benchmark
+    public PropertiesConfiguration load() throws ConfigurationException {
+        final PropertiesConfiguration config = new PropertiesConfiguration();
+        config.setIOFactory(factory.create());
+        config.setLayoutEnabled(layout);
+        new FileHandler(config).load(new StringReader(text));
+        return config;
+    }
+
+    @Setup
+    public void setUp() {
+        final StringBuilder buf = new StringBuilder(size * 48);
+        for (int i = 0; i < size; i++) {
+            if (i % SPECIAL_INTERVAL == 0) {
+                buf.append("# Comment for property ").append(i).append('\n');
+                buf.append(BenchmarkData.key(i)).append(" = C:\\\\path\\\\to\\\\file").append(i).append(", \\\n");
+                buf.append("    continued\n");
+            } else {
+                buf.append(BenchmarkData.key(i)).append(" = ").append(i).append('\n');
+            }
+        }
+        text = buf.toString();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.sync.NoOpSynchronizer;
+import org.apache.commons.configuration2.sync.ReadWriteSynchronizer;
+import org.apache.commons.configuration2.sync.StripedReadWriteSynchronizer;
+import org.apache.commons.configuration2.sync.Synchronizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for concurrent reads of a configuration protected by the different {@code Synchronizer} implementations.
+ * <p>
+ * The {@code read*} benchmarks only read the configuration using the given number of threads. The {@code mixed} group
+ * runs 31 reader threads against a single writer thread; as concurrent updates are not safe without synchronization,
+ * the writer does nothing for {@code NOOP}.
+ * </p>
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=SynchronizerBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SynchronizerBenchmark {
+
+    /**
+     * The synchronizer implementations to compare.
+     */
+    public enum SynchronizerType {
+        NOOP, READ_WRITE, STRIPED;
+
+        Synchronizer create() {
+            switch (this) {
+            case READ_WRITE:
+                return new ReadWriteSynchronizer();
+            case STRIPED:
+                return new StripedReadWriteSynchronizer();
+            default:
+                return NoOpSynchronizer.INSTANCE;
+            }
+        }
+    }
+
+    @Param({"NOOP", "READ_WRITE", "STRIPED"})
+    public SynchronizerType synchronizer;
+
+    @Param({"1000"})
+    public int size;
+
+    private BaseConfiguration config;
+
+    private String[] keys;
+
+    private Object read() {
+        return config.getProperty(keys[ThreadLocalRandom.current().nextInt(keys.length)]);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(31)
+    public Object mixedRead() {
+        return read();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void mixedWrite() {
+        if (synchronizer == SynchronizerType.NOOP) {
+            return;
+        }
+        config.setProperty(BenchmarkData.key(ThreadLocalRandom.current().nextInt(size)), "updated");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object read001() {
+        return read();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object read004() {
+        return read();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object read016() {
+        return read();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Object read064() {
+        return read();
+    }
+
+    @Benchmark
+    @Threads(128)
+    public Object read128() {
+        return read();
+    }
+
+    @Setup
+    public void setUp() {
+        config = BenchmarkData.createBaseConfiguration(size, 0, 1);
+        config.setSynchronizer(synchronizer.create());
+        keys = BenchmarkData.sampleKeys(size);
+    }
+}
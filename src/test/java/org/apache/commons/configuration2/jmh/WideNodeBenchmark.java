@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.XMLConfiguration;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.io.FileHandler;
+import org.apache.commons.configuration2.tree.ImmutableNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures updates of a wide XML document, i.e. a document whose root element has a large number of child elements.
+ * The costs of changing a single child should not depend on the number of its siblings. The children either all have
+ * the same name or each have a distinct name; in the latter case, the index of children by name has as many entries as
+ * there are children.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=WideNodeBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx4G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WideNodeBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"same", "distinct"})
+    public String names;
+
+    private XMLConfiguration config;
+
+    private ImmutableNode root;
+
+    private int position;
+
+    @Benchmark
+    public ImmutableNode addAndRemoveChild() {
+        final ImmutableNode child = new ImmutableNode.Builder().name(childName(position)).value(position).create();
+        position = (position + 1) % size;
+        return root.addChild(child).removeChild(child);
+    }
+
+    /**
+     * Returns the name of the child at the given position.
+     *
+     * @param pos The position
+     * @return The name of this child
+     */
+    private String childName(final int pos) {
+        return "distinct".equals(names) ? "item" + pos : "item";
+    }
+
+    /**
+     * Returns the index of the next child to be updated.
+     *
+     * @return The index
+     */
+    private int nextPosition() {
+        position = (position + BenchmarkData.FAN_OUT + 1) % size;
+        return position;
+    }
+
+    @Benchmark
+    public ImmutableNode replaceChild() {
+        final ImmutableNode child = root.getChildren().get(nextPosition());
+        return root.replaceChild(child, child.setValue(position));
+    }
+
+    @Benchmark
+    public XMLConfiguration setProperty() {
+        final int pos = nextPosition();
+        config.setProperty("distinct".equals(names) ? childName(pos) : "item(" + pos + ")", position);
+        return config;
+    }
+
+    @Setup
+    public void setUp() throws ConfigurationException {
+        final StringBuilder buf = new StringBuilder(size * 32);
+        buf.append("<config>");
+        for (int i = 0; i < size; i++) {
+            final String name = childName(i);
+            buf.append('<').append(name).append('>').append(i).append("</").append(name).append('>');
+        }
+        buf.append("</config>");
+        config = new XMLConfiguration();
+        new FileHandler(config).load(new StringReader(buf.toString()));
+        root = config.getNodeModel().getNodeHandler().getRootNode();
+        // create the index of children by name
+        root.getChildren(childName(0));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@code StripedReadWriteSynchronizer}.
+ */
+public class TestStripedReadWriteSynchronizer {
+
+    /**
+     * A simple data object with two values which must always be equal when accessed with a read lock.
+     */
+    private static final class Pair {
+
+        /** The first value. */
+        private long value1;
+
+        /** The second value. */
+        private long value2;
+    }
+
+    /** Constant for the number of operations executed by a test thread. */
+    private static final int OPERATION_COUNT = 10000;
+
+    /**
+     * Tests whether the synchronizer is reentrant.
+     */
+    @Test
+    void testReentrance() {
+        final Synchronizer sync = new StripedReadWriteSynchronizer(4);
+        sync.beginWrite();
+        sync.beginRead();
+        sync.beginRead();
+        sync.endRead();
+        sync.endRead();
+        sync.beginWrite();
+        sync.endWrite();
+        sync.endWrite();
+    }
+
+    /**
+     * Tests that the number of stripes is rounded to a power of two.
+     */
+    @Test
+    void testStripeCount() {
+        assertEquals(1, new StripedReadWriteSynchronizer(1).getStripeCount());
+        assertEquals(4, new StripedReadWriteSynchronizer(3).getStripeCount());
+        assertEquals(8, new StripedReadWriteSynchronizer(8).getStripeCount());
+        final int defaultCount = new StripedReadWriteSynchronizer().getStripeCount();
+        assertEquals(1, Integer.bitCount(defaultCount));
+    }
+
+    /**
+     * Tests that an invalid number of stripes is rejected.
+     */
+    @Test
+    void testStripeCountInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedReadWriteSynchronizer(0));
+    }
+
+    /**
+     * Tests the synchronizer with multiple readers and writers. Readers must never see inconsistent data.
+     */
+    @Test
+    void testSynchronizerInAction() throws InterruptedException {
+        final Synchronizer sync = new StripedReadWriteSynchronizer(8);
+        final Pair pair = new Pair();
+        final AtomicInteger errors = new AtomicInteger();
+        final Thread[] threads = new Thread[6];
+        for (int i = 0; i < threads.length; i++) {
+            if (i % 3 == 0) {
+                threads[i] = new Thread(() -> {
+                    for (int j = 0; j < OPERATION_COUNT; j++) {
+                        sync.beginWrite();
+                        pair.value1++;
+                        pair.value2++;
+                        sync.endWrite();
+                    }
+                });
+            } else {
+                threads[i] = new Thread(() -> {
+                    for (int j = 0; j < OPERATION_COUNT; j++) {
+                        sync.beginRead();
+                        if (pair.value1 != pair.value2) {
+                            errors.incrementAndGet();
+                        }
+                        sync.endRead();
+                    }
+                });
+            }
+            threads[i].start();
+        }
+        for (final Thread t : threads) {
+            t.join();
+        }
+        assertEquals(0, errors.get());
+        sync.beginRead();
+        assertEquals(2L * OPERATION_COUNT, pair.value1);
+        sync.endRead();
+    }
+
+    /**
+     * Tests that a writer has to wait until a reader on another thread has finished.
+     */
+    @Test
+    void testWriterWaitsForReader() throws InterruptedException {
+        final Synchronizer sync = new StripedReadWriteSynchronizer(4);
+        final CountDownLatch readLocked = new CountDownLatch(1);
+        final CountDownLatch readFinish = new CountDownLatch(1);
+        final Thread reader = new Thread(() -> {
+            sync.beginRead();
+            readLocked.countDown();
+            try {
+                readFinish.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                sync.endRead();
+            }
+        });
+        reader.start();
+        assertTrue(readLocked.await(1, TimeUnit.MINUTES));
+
+        final CountDownLatch written = new CountDownLatch(1);
+        final Thread writer = new Thread(() -> {
+            sync.beginWrite();
+            sync.endWrite();
+            written.countDown();
+        });
+        writer.start();
+        assertFalse(written.await(100, TimeUnit.MILLISECONDS));
+        readFinish.countDown();
+        assertTrue(written.await(1, TimeUnit.MINUTES));
+        reader.join();
+        writer.join();
+    }
+}
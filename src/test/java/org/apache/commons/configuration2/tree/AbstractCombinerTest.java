@@ -16,10 +16,13 @@
  */
 package org.apache.commons.configuration2.tree;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.apache.commons.configuration2.BaseHierarchicalConfiguration;
 import org.apache.commons.configuration2.ConfigurationAssert;
@@ -44,6 +47,46 @@ public abstract class AbstractCombinerTest {
     /** The combiner to be tested. */
     protected NodeCombiner combiner;
 
+    /**
+     * Checks whether two node structures are equal.
+     *
+     * @param expected The expected node structure
+     * @param actual The actual node structure
+     */
+    private static void assertNodesEqual(final ImmutableNode expected, final ImmutableNode actual) {
+        assertEquals(expected.getNodeName(), actual.getNodeName());
+        assertEquals(expected.getValue(), actual.getValue());
+        assertEquals(expected.getAttributes(), actual.getAttributes());
+        assertEquals(expected.getChildren().size(), actual.getChildren().size(), "Wrong number of children of " + expected.getNodeName());
+        for (int i = 0; i < expected.getChildren().size(); i++) {
+            assertNodesEqual(expected.getChildren().get(i), actual.getChildren().get(i));
+        }
+    }
+
+    /**
+     * Creates a node structure for testing combinations of larger structures. The structure has three levels; the
+     * sections on the first level are named based on the given offset, so that different structures partially overlap.
+     *
+     * @param offset The offset for the section names
+     * @return The root node of the structure
+     */
+    private static ImmutableNode createLargeStructure(final int offset) {
+        final int count = 20;
+        final ImmutableNode.Builder root = new ImmutableNode.Builder().name("config");
+        for (int s = offset; s < offset + count; s++) {
+            final ImmutableNode.Builder section = new ImmutableNode.Builder().name("section" + s).addAttribute("offset", offset);
+            for (int g = 0; g < count; g++) {
+                final ImmutableNode.Builder group = new ImmutableNode.Builder().name("group" + g);
+                for (int k = 0; k < count; k++) {
+                    group.addChild(new ImmutableNode.Builder().name(k % 2 == 0 ? "key" + k : "list").value(offset + k).create());
+                }
+                section.addChild(group.create());
+            }
+            root.addChild(section.create());
+        }
+        return root.create();
+    }
+
     /**
      * Constructs a union configuration based on the source configurations.
      *
@@ -76,11 +119,42 @@ public abstract class AbstractCombinerTest {
         combiner = createCombiner();
     }
 
+    /**
+     * Tests that a parallel combination produces the same result as a sequential one.
+     */
+    @Test
+    void testCombineParallel() {
+        final ImmutableNode node1 = createLargeStructure(0);
+        final ImmutableNode node2 = createLargeStructure(10);
+        final ImmutableNode expected = combiner.combine(node1, node2);
+
+        combiner.setParallelThreshold(1);
+        assertNodesEqual(expected, combiner.combine(node1, node2));
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertNodesEqual(expected, pool.invoke(ForkJoinTask.adapt(() -> combiner.combine(node1, node2))));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that a parallel combination of the test configurations produces the same result as a sequential one.
+     */
+    @Test
+    void testCombineParallelTestConfigurations() throws ConfigurationException {
+        final ImmutableNode expected = createCombinedConfiguration().getNodeModel().getNodeHandler().getRootNode();
+
+        combiner.setParallelThreshold(1);
+        assertNodesEqual(expected, createCombinedConfiguration().getNodeModel().getNodeHandler().getRootNode());
+    }
+
     /**
      * Tests a newly created combiner.
      */
     @Test
     void testInit() {
+        assertEquals(0, combiner.getParallelThreshold());
         assertTrue(combiner.getListNodes().isEmpty());
         assertFalse(combiner.isListNode(NodeStructureHelper.createNode("test", null)));
     }
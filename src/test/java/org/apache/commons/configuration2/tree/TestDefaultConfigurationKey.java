@@ -475,6 +475,42 @@ public class TestDefaultConfigurationKey {
         assertThrows(UnsupportedOperationException.class, it::remove);
     }
 
+    /**
+     * Tests that an iterator over a parsed key produces the same results as an iterator parsing the key.
+     */
+    @Test
+    void testIterateParsedKey() {
+        checkParsedKey(TESTKEY);
+        checkParsedKey("my..elem.trailing..dot..");
+        checkParsedKey("strange.key(x).with(.dots");
+        checkParsedKey("..key..");
+        checkParsedKey("");
+        expressionEngine = new DefaultExpressionEngine(
+            symbols().setAttributeEnd(null).setAttributeStart(DefaultExpressionEngineSymbols.DEFAULT_PROPERTY_DELIMITER).create());
+        checkParsedKey("this.isa.key");
+    }
+
+    /**
+     * Checks whether an iterator over the parsed form of the given key behaves like a standard iterator.
+     *
+     * @param k The key to check
+     */
+    private void checkParsedKey(final String k) {
+        final DefaultConfigurationKey.KeyIterator it = key(k).iterator();
+        final DefaultConfigurationKey.KeyIterator itParsed = new DefaultConfigurationKey(expressionEngine).iterator(key(k).parse());
+        while (it.hasNext()) {
+            assertTrue(itParsed.hasNext());
+            assertEquals(it.nextKey(true), itParsed.nextKey(true));
+            assertEquals(it.currentKey(), itParsed.currentKey());
+            assertEquals(it.hasIndex(), itParsed.hasIndex());
+            assertEquals(it.getIndex(), itParsed.getIndex());
+            assertEquals(it.isAttribute(), itParsed.isAttribute());
+            assertEquals(it.isPropertyKey(), itParsed.isPropertyKey());
+        }
+        assertFalse(itParsed.hasNext());
+        assertThrows(NoSuchElementException.class, itParsed::nextKey);
+    }
+
     /**
      * Tests getting and setting the key's length.
      */
@@ -577,6 +577,19 @@ public class TestDefaultExpressionEngine {
         checkKey("tables.table.type", "type", 2);
     }
 
+    /**
+     * Tests that repeated queries for the same keys yield the same results, also if the cache for parsed keys overflows.
+     */
+    @Test
+    void testQueryCachedKeys() {
+        engine = new DefaultExpressionEngine(DefaultExpressionEngineSymbols.DEFAULT_SYMBOLS);
+        for (int i = 0; i < 5000; i++) {
+            checkKeyValue("tables.table(" + i % TABLES.length + ").name", "name", TABLES[i % TABLES.length]);
+            query("tables.table(" + i + ").name", i < TABLES.length ? 1 : 0);
+            checkAttributeValue("tables.table(1)[@type]", "type", TAB_TYPES[1]);
+        }
+    }
+
     /**
      * Tests querying nodes whose names contain a delimiter.
      */
@@ -270,6 +270,50 @@ public class TestImmutableNode {
         assertTrue(node2.getChildren(null).isEmpty());
     }
 
+    /**
+     * Tests getting named children from a node with many children, for which an index is used.
+     */
+    @Test
+    void testGetChildrenByNameWideNode() {
+        final int childCount = 100;
+        final ImmutableNode.Builder builder = setUpBuilder();
+        for (int i = 0; i < childCount; i++) {
+            builder.addChild(new ImmutableNode.Builder().name("child" + i % 10).value(i).create());
+        }
+        final ImmutableNode node = builder.create();
+        final List<ImmutableNode> children = node.getChildren("child3");
+        assertEquals(childCount / 10, children.size());
+        for (int i = 0; i < children.size(); i++) {
+            assertEquals(i * 10 + 3, children.get(i).getValue());
+        }
+        assertTrue(node.getChildren("NotFound").isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> children.add(null));
+    }
+
+    /**
+     * Tests that the index of children by name is kept consistent when a wide node is updated.
+     */
+    @Test
+    void testGetChildrenByNameWideNodeUpdated() {
+        final int childCount = 50;
+        final ImmutableNode.Builder builder = setUpBuilder();
+        for (int i = 0; i < childCount; i++) {
+            builder.addChild(new ImmutableNode.Builder().name("child").value(i).create());
+        }
+        final ImmutableNode node = builder.create();
+        assertEquals(childCount, node.getChildren("child").size());
+        final ImmutableNode child = node.getChildren("child").get(1);
+
+        final ImmutableNode node2 = node.setValue("newValue").setAttribute(ATTR, ATTR_VALUE);
+        assertSame(node.getChildren("child"), node2.getChildren("child"));
+        final ImmutableNode node3 = node2.removeChild(child);
+        assertEquals(childCount - 1, node3.getChildren("child").size());
+        assertEquals(2, node3.getChildren("child").get(1).getValue());
+        final ImmutableNode node4 = node3.addChild(new ImmutableNode.Builder().name("other").create());
+        assertEquals(1, node4.getChildren("other").size());
+        assertEquals(childCount, node.getChildren("child").size());
+    }
+
     /**
      * Tests whether multiple child nodes can be added to a builder.
      */
@@ -460,6 +504,31 @@ public class TestImmutableNode {
         assertThrows(IllegalArgumentException.class, () -> node.replaceChild(child, null));
     }
 
+    /**
+     * Tests that replacing a child of a wide node keeps the index of children by name consistent.
+     */
+    @Test
+    void testReplaceChildWideNode() {
+        final int childCount = 100;
+        final ImmutableNode.Builder builder = setUpBuilder();
+        for (int i = 0; i < childCount; i++) {
+            builder.addChild(new ImmutableNode.Builder().name("child" + i % 2).value(i).create());
+        }
+        final ImmutableNode node = builder.create();
+        final ImmutableNode child = node.getChildren("child1").get(3);
+
+        final ImmutableNode node2 = node.replaceChild(child, child.setValue("newValue"));
+        assertEquals(childCount, node2.getChildren().size());
+        assertEquals("newValue", node2.getChildren().get(7).getValue());
+        assertEquals("newValue", node2.getChildren("child1").get(3).getValue());
+        assertEquals(childCount / 2, node2.getChildren("child1").size());
+        final ImmutableNode node3 = node2.replaceChild(node2.getChildren().get(7), child.setName("child0"));
+        assertEquals(childCount / 2 + 1, node3.getChildren("child0").size());
+        assertSame(child.getValue(), node3.getChildren("child0").get(4).getValue());
+        assertEquals(childCount / 2 - 1, node3.getChildren("child1").size());
+        assertSame(child, node.getChildren().get(7));
+    }
+
     /**
      * Tests whether all children can be replaced at once.
      */
@@ -151,6 +151,22 @@ public class TestInMemoryNodeModelReferences {
         }
     }
 
+    /**
+     * Tests whether references are updated for nodes replaced multiple times during a batch.
+     */
+    @Test
+    void testQueryReferencesAfterBatch() {
+        model.updateBatch(m -> {
+            m.addProperty("Simmons.Hyperion", Collections.singleton("Lamia"), resolver);
+            m.addProperty("Simmons.Hyperion", Collections.singleton("Kassad"), resolver);
+        });
+        final ReferenceNodeHandler handler = model.getReferenceNodeHandler();
+        assertEquals("Hyperion", handler.getReference(NodeStructureHelper.nodeForKey(model, "Simmons/Hyperion")));
+        assertEquals("Simmons", handler.getReference(NodeStructureHelper.nodeForKey(model, "Simmons")));
+        assertEquals(NodeStructureHelper.ROOT_AUTHORS_TREE.getNodeName(), handler.getReference(handler.getRootNode()));
+        assertTrue(handler.removedReferences().isEmpty());
+    }
+
     /**
      * Tests whether references can be queried after an update operation.
      */
@@ -171,6 +187,22 @@ public class TestInMemoryNodeModelReferences {
         assertNull(handler.getReference(new ImmutableNode.Builder().create()));
     }
 
+    /**
+     * Tests whether the references of nodes removed during a batch can be queried, even if the nodes have been replaced
+     * before.
+     */
+    @Test
+    void testQueryRemovedReferencesAfterBatch() {
+        model.updateBatch(m -> {
+            m.addProperty("Simmons.Hyperion", Collections.singleton("Lamia"), resolver);
+            m.clearTree("Simmons", resolver);
+        });
+        final List<Object> removedRefs = model.getReferenceNodeHandler().removedReferences();
+        assertTrue(removedRefs.contains("Simmons"));
+        assertTrue(removedRefs.contains("Hyperion"));
+        assertEquals(NodeStructureHelper.ROOT_AUTHORS_TREE.getNodeName(), model.getReferenceNodeHandler().getReference(model.getRootNode()));
+    }
+
     /**
      * Tests whether removed references can be queried.
      */
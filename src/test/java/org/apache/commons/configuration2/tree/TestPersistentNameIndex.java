@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@code PersistentNameIndex}.
+ */
+public class TestPersistentNameIndex {
+
+    /** The number of test names. */
+    private static final int NAME_COUNT = 50_000;
+
+    /** An array with test names. It contains names with identical hash codes and the null name. */
+    private static final String[] NAMES = createNames();
+
+    /**
+     * Checks whether the given index has the same content as the expected map.
+     *
+     * @param expected The expected content
+     * @param index The index to check
+     */
+    private static void checkContent(final Map<String, PersistentNodeList> expected, final PersistentNameIndex index) {
+        assertEquals(expected.size(), index.size());
+        for (final String name : NAMES) {
+            assertSame(expected.get(name), index.get(name));
+        }
+    }
+
+    /**
+     * Creates the array with test names.
+     *
+     * @return The test names
+     */
+    private static String[] createNames() {
+        final List<String> names = new ArrayList<>(NAME_COUNT);
+        // "Aa" and "BB" have the same hash code, and so have all combinations of them
+        final String[] parts = {"Aa", "BB"};
+        for (int i = 0; i < 64; i++) {
+            final StringBuilder buf = new StringBuilder();
+            for (int j = 0; j < 6; j++) {
+                buf.append(parts[i >> j & 1]);
+            }
+            names.add(buf.toString());
+        }
+        names.add(null);
+        while (names.size() < NAME_COUNT) {
+            names.add("name" + names.size());
+        }
+        return names.toArray(new String[0]);
+    }
+
+    /**
+     * Creates a list with a single test node.
+     *
+     * @param i The index of the node
+     * @return The list
+     */
+    private static PersistentNodeList list(final int i) {
+        return PersistentNodeList.EMPTY.withAdded(new ImmutableNode.Builder().name("node" + i).create());
+    }
+
+    /**
+     * Tests the properties of an empty index.
+     */
+    @Test
+    void testEmpty() {
+        assertEquals(0, PersistentNameIndex.EMPTY.size());
+        assertNull(PersistentNameIndex.EMPTY.get("test"));
+        assertNull(PersistentNameIndex.EMPTY.get(null));
+        assertSame(PersistentNameIndex.EMPTY, PersistentNameIndex.EMPTY.remove("test"));
+        assertSame(PersistentNameIndex.EMPTY, PersistentNameIndex.of(new ArrayList<>()));
+    }
+
+    /**
+     * Tests whether an index can be created from a list of child nodes.
+     */
+    @Test
+    void testOf() {
+        final List<ImmutableNode> children = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            children.add(new ImmutableNode.Builder().name(NAMES[i % 100]).value(i).create());
+        }
+        final PersistentNameIndex index = PersistentNameIndex.of(children);
+        assertEquals(100, index.size());
+        for (int i = 0; i < 100; i++) {
+            final List<ImmutableNode> expected = new ArrayList<>();
+            for (int j = i; j < children.size(); j += 100) {
+                expected.add(children.get(j));
+            }
+            assertEquals(expected, index.get(NAMES[i]));
+        }
+        assertNull(index.get("unknown"));
+    }
+
+    /**
+     * Tests that updates of an index do not affect older versions.
+     */
+    @Test
+    void testPutAndRemovePersistent() {
+        final Random random = new Random(42);
+        final List<PersistentNameIndex> versions = new ArrayList<>();
+        final List<Map<String, PersistentNodeList>> expectedVersions = new ArrayList<>();
+        PersistentNameIndex index = PersistentNameIndex.EMPTY;
+        final Map<String, PersistentNodeList> expected = new HashMap<>();
+        for (int i = 0; i < 4 * NAME_COUNT; i++) {
+            final String name = NAMES[random.nextInt(NAME_COUNT)];
+            if (random.nextInt(3) == 0) {
+                index = index.remove(name);
+                expected.remove(name);
+            } else {
+                final PersistentNodeList value = list(i);
+                index = index.put(name, value);
+                expected.put(name, value);
+            }
+            if (i % NAME_COUNT == 0) {
+                versions.add(index);
+                expectedVersions.add(new HashMap<>(expected));
+            }
+        }
+        checkContent(expected, index);
+        for (int i = 0; i < versions.size(); i++) {
+            checkContent(expectedVersions.get(i), versions.get(i));
+        }
+    }
+
+    /**
+     * Tests names with identical hash codes.
+     */
+    @Test
+    void testPutAndRemoveSameHash() {
+        PersistentNameIndex index = PersistentNameIndex.EMPTY;
+        final List<String> names = Arrays.asList(NAMES).subList(0, 64);
+        for (int i = 0; i < names.size(); i++) {
+            index = index.put(names.get(i), list(i));
+        }
+        assertEquals(names.size(), index.size());
+        for (int i = 0; i < names.size(); i += 2) {
+            index = index.remove(names.get(i));
+        }
+        assertEquals(names.size() / 2, index.size());
+        for (int i = 0; i < names.size(); i++) {
+            if (i % 2 == 0) {
+                assertNull(index.get(names.get(i)));
+            } else {
+                assertEquals("node" + i, index.get(names.get(i)).get(0).getNodeName());
+            }
+        }
+    }
+
+    /**
+     * Tests that a put operation which does not change the index returns the same instance.
+     */
+    @Test
+    void testPutUnchanged() {
+        final PersistentNodeList value = list(0);
+        final PersistentNameIndex index = PersistentNameIndex.EMPTY.put("test", value);
+        assertSame(index, index.put("test", value));
+        assertSame(index, index.remove("unknown"));
+        assertEquals(1, index.put("test", list(1)).size());
+        assertEquals(2, index.put(null, value).size());
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@code PersistentNodeList}.
+ */
+public class TestPersistentNodeList {
+
+    /** The number of test nodes. */
+    private static final int NODE_COUNT = 5_000;
+
+    /** An array with test nodes. */
+    private static ImmutableNode[] nodes;
+
+    /**
+     * Checks whether the given list has the same content as the expected list.
+     *
+     * @param expected The expected content
+     * @param list The list to check
+     */
+    private static void checkContent(final List<ImmutableNode> expected, final PersistentNodeList list) {
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), list.get(i));
+        }
+        final Iterator<ImmutableNode> it = list.iterator();
+        for (final ImmutableNode node : expected) {
+            assertSame(node, it.next());
+        }
+        assertFalse(it.hasNext());
+        assertEquals(expected, list);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        if (nodes == null) {
+            nodes = new ImmutableNode[NODE_COUNT];
+            for (int i = 0; i < NODE_COUNT; i++) {
+                nodes[i] = new ImmutableNode.Builder().name("node" + i).create();
+            }
+        }
+    }
+
+    /**
+     * Tests that elements can be appended to a list.
+     */
+    @Test
+    void testAdd() {
+        final List<ImmutableNode> expected = new ArrayList<>();
+        PersistentNodeList list = PersistentNodeList.EMPTY;
+        for (final ImmutableNode node : nodes) {
+            list = list.withAdded(node);
+            expected.add(node);
+        }
+        checkContent(expected, list);
+    }
+
+    /**
+     * Tests the properties of an empty list.
+     */
+    @Test
+    void testEmpty() {
+        assertTrue(PersistentNodeList.EMPTY.isEmpty());
+        assertFalse(PersistentNodeList.EMPTY.iterator().hasNext());
+        assertEquals(-1, PersistentNodeList.EMPTY.indexOf(nodes[0]));
+        assertSame(PersistentNodeList.EMPTY, PersistentNodeList.of(new ArrayList<>()));
+        assertSame(PersistentNodeList.EMPTY, PersistentNodeList.EMPTY.withAdded(nodes[0]).withRemoved(0));
+    }
+
+    /**
+     * Tests indexOf() which compares elements by identity.
+     */
+    @Test
+    void testIndexOf() {
+        final PersistentNodeList list = PersistentNodeList.of(Arrays.asList(nodes));
+        for (int i = 0; i < NODE_COUNT; i += 7) {
+            assertEquals(i, list.indexOf(nodes[i]));
+        }
+        assertEquals(-1, list.indexOf(new ImmutableNode.Builder().name("node0").create()));
+        assertEquals(-1, list.indexOf(null));
+    }
+
+    /**
+     * Tests that invalid indices are rejected.
+     */
+    @Test
+    void testInvalidIndex() {
+        final PersistentNodeList list = PersistentNodeList.of(Arrays.asList(nodes));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(NODE_COUNT));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withRemoved(NODE_COUNT));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withReplaced(-1, nodes[0]));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentNodeList.EMPTY.withRemoved(0));
+    }
+
+    /**
+     * Tests that the iterator throws an exception at the end of the list.
+     */
+    @Test
+    void testIteratorNoMoreElements() {
+        final Iterator<ImmutableNode> it = PersistentNodeList.of(Arrays.asList(nodes[0], nodes[1])).iterator();
+        it.next();
+        it.next();
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    /**
+     * Tests that the list cannot be modified through the methods of the {@code List} interface.
+     */
+    @Test
+    void testModifyNotSupported() {
+        final PersistentNodeList list = PersistentNodeList.of(Arrays.asList(nodes));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(nodes[0]));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, nodes[0]));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    /**
+     * Tests creating a list from a collection.
+     */
+    @Test
+    void testOf() {
+        final PersistentNodeList list = PersistentNodeList.of(Arrays.asList(nodes));
+        checkContent(Arrays.asList(nodes), list);
+        assertSame(list, PersistentNodeList.of(list));
+    }
+
+    /**
+     * Tests a random sequence of updates and checks that older versions of the list are not affected.
+     */
+    @Test
+    void testUpdatesPersistent() {
+        final Random random = new Random(42);
+        final List<PersistentNodeList> versions = new ArrayList<>();
+        final List<List<ImmutableNode>> expectedVersions = new ArrayList<>();
+        PersistentNodeList list = PersistentNodeList.of(Arrays.asList(nodes).subList(0, NODE_COUNT / 2));
+        final List<ImmutableNode> expected = new ArrayList<>(list);
+        for (int i = 0; i < NODE_COUNT * 4; i++) {
+            final int op = random.nextInt(3);
+            if (op == 0 || expected.isEmpty()) {
+                list = list.withAdded(nodes[i % NODE_COUNT]);
+                expected.add(nodes[i % NODE_COUNT]);
+            } else {
+                final int index = random.nextInt(expected.size());
+                if (op == 1) {
+                    list = list.withRemoved(index);
+                    expected.remove(index);
+                } else {
+                    list = list.withReplaced(index, nodes[i % NODE_COUNT]);
+                    expected.set(index, nodes[i % NODE_COUNT]);
+                }
+            }
+            if (i % NODE_COUNT == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+        checkContent(expected, list);
+        for (int i = 0; i < versions.size(); i++) {
+            checkContent(expectedVersions.get(i), versions.get(i));
+        }
+    }
+}
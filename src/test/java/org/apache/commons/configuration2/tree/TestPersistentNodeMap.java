@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@code PersistentNodeMap}.
+ */
+public class TestPersistentNodeMap {
+
+    /** The number of test nodes. This is large enough to produce identity hash collisions. */
+    private static final int NODE_COUNT = 200_000;
+
+    /** An array with test nodes. */
+    private static ImmutableNode[] nodes;
+
+    /**
+     * Checks whether the given map has the same content as the expected map.
+     *
+     * @param expected The expected content
+     * @param map The map to check
+     */
+    private static void checkContent(final Map<ImmutableNode, ImmutableNode> expected, final PersistentNodeMap map) {
+        assertEquals(expected.size(), map.size());
+        for (final ImmutableNode node : nodes) {
+            assertSame(expected.get(node), map.get(node));
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        if (nodes == null) {
+            nodes = new ImmutableNode[NODE_COUNT];
+            for (int i = 0; i < NODE_COUNT; i++) {
+                nodes[i] = new ImmutableNode.Builder().name("node" + i).create();
+            }
+        }
+    }
+
+    /**
+     * Tests the builder with a large number of entries.
+     */
+    @Test
+    void testBuilder() {
+        final Map<ImmutableNode, ImmutableNode> expected = new HashMap<>();
+        final PersistentNodeMap.Builder builder = PersistentNodeMap.EMPTY.builder();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            builder.put(nodes[i], nodes[i / 2]);
+            expected.put(nodes[i], nodes[i / 2]);
+        }
+        for (int i = 0; i < NODE_COUNT; i += 3) {
+            assertSame(expected.remove(nodes[i]), builder.remove(nodes[i]));
+        }
+        assertNull(builder.remove(nodes[0]));
+        checkContent(expected, builder.build());
+    }
+
+    /**
+     * Tests that a map created by a builder is not affected by further updates of the builder.
+     */
+    @Test
+    void testBuilderAfterBuild() {
+        final PersistentNodeMap.Builder builder = PersistentNodeMap.EMPTY.builder();
+        final Map<ImmutableNode, ImmutableNode> expected = new HashMap<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            builder.put(nodes[i], nodes[0]);
+            expected.put(nodes[i], nodes[0]);
+        }
+        final PersistentNodeMap map = builder.build();
+        for (int i = 0; i < NODE_COUNT; i += 2) {
+            builder.put(nodes[i], nodes[1]);
+            builder.remove(nodes[i + 1]);
+        }
+        checkContent(expected, map);
+        assertSame(nodes[1], builder.get(nodes[0]));
+        assertNull(builder.get(nodes[1]));
+    }
+
+    /**
+     * Tests the properties of an empty map.
+     */
+    @Test
+    void testEmpty() {
+        assertEquals(0, PersistentNodeMap.EMPTY.size());
+        assertNull(PersistentNodeMap.EMPTY.get(nodes[0]));
+        assertSame(PersistentNodeMap.EMPTY, PersistentNodeMap.EMPTY.remove(nodes[0]));
+        assertSame(PersistentNodeMap.EMPTY, PersistentNodeMap.EMPTY.builder().build());
+    }
+
+    /**
+     * Tests that updates of a map do not affect older versions.
+     */
+    @Test
+    void testPutAndRemovePersistent() {
+        final Random random = new Random(42);
+        final List<PersistentNodeMap> versions = new ArrayList<>();
+        final List<Map<ImmutableNode, ImmutableNode>> expectedVersions = new ArrayList<>();
+        PersistentNodeMap map = PersistentNodeMap.EMPTY;
+        final Map<ImmutableNode, ImmutableNode> expected = new HashMap<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            final ImmutableNode key = nodes[random.nextInt(NODE_COUNT / 10)];
+            if (random.nextInt(3) == 0) {
+                map = map.remove(key);
+                expected.remove(key);
+            } else {
+                map = map.put(key, nodes[i]);
+                expected.put(key, nodes[i]);
+            }
+            if (i % (NODE_COUNT / 4) == 0) {
+                versions.add(map);
+                expectedVersions.add(new HashMap<>(expected));
+            }
+        }
+        checkContent(expected, map);
+        for (int i = 0; i < versions.size(); i++) {
+            checkContent(expectedVersions.get(i), versions.get(i));
+        }
+    }
+
+    /**
+     * Tests that a put operation which does not change the map returns the same instance.
+     */
+    @Test
+    void testPutUnchanged() {
+        final PersistentNodeMap map = PersistentNodeMap.EMPTY.put(nodes[0], nodes[1]);
+        assertSame(map, map.put(nodes[0], nodes[1]));
+        assertEquals(1, map.put(nodes[0], nodes[2]).size());
+    }
+}
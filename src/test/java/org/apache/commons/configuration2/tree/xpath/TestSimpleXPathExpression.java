@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.tree.xpath;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.configuration2.tree.ImmutableNode;
+import org.apache.commons.configuration2.tree.InMemoryNodeModel;
+import org.apache.commons.configuration2.tree.NodeHandler;
+import org.apache.commons.configuration2.tree.QueryResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test class for {@code SimpleXPathExpression}.
+ */
+public class TestSimpleXPathExpression extends AbstractXPathTest {
+
+    /**
+     * Evaluates the given key with JXPath and converts the results to query results.
+     *
+     * @param node The root node
+     * @param nodeHandler The node handler
+     * @param key The key
+     * @return The results produced by JXPath
+     */
+    @SuppressWarnings("unchecked")
+    private static List<QueryResult<ImmutableNode>> queryJXPath(final ImmutableNode node, final NodeHandler<ImmutableNode> nodeHandler, final String key) {
+        final List<?> results = new XPathContextFactory().createContext(node, nodeHandler).selectNodes(key);
+        return results.stream()
+            .map(res -> res instanceof QueryResult ? (QueryResult<ImmutableNode>) res : QueryResult.createNodeResult((ImmutableNode) res))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Checks that the evaluation of the given key yields the same results as JXPath.
+     *
+     * @param node The root node
+     * @param nodeHandler The node handler
+     * @param key The key
+     */
+    private static void checkSameResults(final ImmutableNode node, final NodeHandler<ImmutableNode> nodeHandler, final String key) {
+        final SimpleXPathExpression expr = SimpleXPathExpression.parse(key);
+        assertNotNull(expr, "Not a simple expression: " + key);
+        assertEquals(queryJXPath(node, nodeHandler, key), expr.evaluate(node, nodeHandler), "Wrong results for " + key);
+    }
+
+    /**
+     * Tests that keys which are not simple expressions are rejected.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"", "/", "//subNode", "subNode/", "subNode//childNode", "subNode[last()]", "subNode[0]", "subNode[]", "subNode[1",
+        "subNode[@counter]", "*", "subNode/*", ".", "..", "subNode/..", "@counter/subNode", "@", "subNode@counter", "1node", "child::subNode",
+        "ns:subNode", "subNode | childNode", "count(subNode)", "subNode[1234567890]"})
+    void testParseNotSimple(final String key) {
+        assertNull(SimpleXPathExpression.parse(key));
+    }
+
+    /**
+     * Tests that the evaluation of simple expressions yields the same results as JXPath.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {CHILD_NAME1, "/" + CHILD_NAME1, CHILD_NAME1 + "/" + CHILD_NAME2, CHILD_NAME1 + "[2]/" + CHILD_NAME2,
+        CHILD_NAME1 + "[2]/" + CHILD_NAME2 + "[1]", CHILD_NAME1 + "/" + CHILD_NAME2 + "[2]", CHILD_NAME1 + "[5]", CHILD_NAME1 + "[10]",
+        "@" + ATTR_ROOT, "/@" + ATTR_ROOT, "@" + ATTR_NAME, CHILD_NAME1 + "/@" + ATTR_NAME, CHILD_NAME1 + "/" + CHILD_NAME2 + "/@" + ATTR_NAME,
+        CHILD_NAME1 + "[1]/@" + ATTR_NAME, CHILD_NAME1 + "/@" + ATTR_ROOT, "unknown", CHILD_NAME1 + "/unknown", "unknown/@" + ATTR_NAME})
+    void testEvaluateSameAsJXPath(final String key) {
+        checkSameResults(root, handler, key);
+    }
+
+    /**
+     * Tests that node names which are keywords in XPath are handled in the same way as by JXPath.
+     */
+    @Test
+    void testEvaluateKeywordNames() {
+        final String[] names = {"and", "or", "div", "mod", "text", "node", "last", "count", "a-b", "a.b", "_x"};
+        final ImmutableNode.Builder builder = new ImmutableNode.Builder().name("root");
+        for (final String name : names) {
+            final ImmutableNode child = new ImmutableNode.Builder().name(name).addAttribute(name, name).create();
+            builder.addChild(new ImmutableNode.Builder().name(name).addChild(child).create());
+        }
+        final ImmutableNode testRoot = builder.create();
+        final NodeHandler<ImmutableNode> testHandler = new InMemoryNodeModel(testRoot).getNodeHandler();
+
+        for (final String name : names) {
+            checkSameResults(testRoot, testHandler, name);
+            checkSameResults(testRoot, testHandler, name + "/" + name);
+            checkSameResults(testRoot, testHandler, name + "/" + name + "/@" + name);
+        }
+    }
+}
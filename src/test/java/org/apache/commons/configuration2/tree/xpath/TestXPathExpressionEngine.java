@@ -22,9 +22,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -34,7 +38,9 @@ import org.apache.commons.configuration2.tree.NodeAddData;
 import org.apache.commons.configuration2.tree.NodeHandler;
 import org.apache.commons.configuration2.tree.QueryResult;
 import org.apache.commons.jxpath.JXPathContext;
+import org.apache.commons.jxpath.Pointer;
 import org.apache.commons.jxpath.ri.JXPathContextReferenceImpl;
+import org.apache.commons.jxpath.ri.compiler.Expression;
 import org.apache.commons.jxpath.ri.model.NodePointerFactory;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -44,8 +50,8 @@ import org.junit.jupiter.api.Test;
  */
 public class TestXPathExpressionEngine {
 
-    /** Constant for the valid test key. */
-    private static final String TEST_KEY = "TESTKEY";
+    /** Constant for the valid test key. This key is not handled by the fast path for simple keys. */
+    private static final String TEST_KEY = "TESTKEY[last()]";
 
     /** Constant for the name of the root node. */
     private static final String ROOT_NAME = "testRoot";
@@ -109,9 +115,15 @@ public class TestXPathExpressionEngine {
      * @return The mock context
      */
     private JXPathContext expectSelect(final Object... results) {
-        final JXPathContext ctx = mock(JXPathContext.class);
+        final JXPathContextReferenceImpl ctx = mock(JXPathContextReferenceImpl.class);
+        final List<Pointer> pointers = new ArrayList<>();
+        for (final Object result : results) {
+            final Pointer pointer = mock(Pointer.class);
+            when(pointer.getNode()).thenReturn(result);
+            pointers.add(pointer);
+        }
 
-        when(ctx.selectNodes(TEST_KEY)).thenReturn(Arrays.asList(results));
+        when(ctx.iteratePointers(eq(TEST_KEY), any(Expression.class))).thenReturn(pointers.iterator());
 
         return ctx;
     }
@@ -452,6 +464,25 @@ public class TestXPathExpressionEngine {
         assertFalse(result.get(0).isAttributeResult());
     }
 
+    /**
+     * Tests that simple keys are evaluated without a JXPathContext.
+     */
+    @Test
+    void testQuerySimpleKey() {
+        final ImmutableNode child = new ImmutableNode.Builder().name("child").addAttribute("attr", "value").create();
+        final ImmutableNode testRoot = new ImmutableNode.Builder().name(ROOT_NAME).addChild(child).create();
+        final NodeHandler<ImmutableNode> testHandler = new InMemoryNodeModel(testRoot).getNodeHandler();
+        final XPathContextFactory factory = mock(XPathContextFactory.class);
+        final XPathExpressionEngine engine = new XPathExpressionEngine(factory);
+
+        final List<QueryResult<ImmutableNode>> nodeResult = engine.query(testRoot, "child", testHandler);
+        assertEquals(1, nodeResult.size());
+        assertSame(child, nodeResult.get(0).getNode());
+        final List<QueryResult<ImmutableNode>> attrResult = engine.query(testRoot, "/child[1]/@attr", testHandler);
+        assertEquals(Arrays.asList(QueryResult.createAttributeResult(child, "attr")), attrResult);
+        verifyNoInteractions(factory);
+    }
+
     /**
      * Tests a query with an empty key. This should directly return the root node without invoking the JXPathContext.
      */